@@ -24,6 +24,10 @@ import java.util.function.Function;
  * <p>
  * All methods assume the input array or list is already sorted, either in natural order or using a
  * provided {@link java.util.Comparator}.
+ * <p>
+ * The natural order of {@code float} and {@code double} values is that of
+ * {@link Float#compare(float, float)} and {@link Double#compare(double, double)}; the natural-order
+ * searches compare their {@link SortableBits} as integers, without boxing.
  *
  * <h2>Supported Data Types</h2>
  * <ul>
@@ -830,7 +834,9 @@ public class BinarySearch {
    * is found.
    */
   public static int lastIndexOf(float key, float[] array) {
-    return lastIndexOf(key, array, Comparator.naturalOrder());
+    final int upper = Bounds.bound(array, 0, array.length, key, true);
+    return upper > 0 && SortableBits.of(array[upper - 1]) == SortableBits.of(key) ?
+        upper - 1 : -upper - 1;
   }
 
   /**
@@ -875,7 +881,8 @@ public class BinarySearch {
    * be inserted to maintain the sorted order.
    */
   public static int indexOfGreaterThan(float key, float[] array) {
-    return indexOfGreaterThan(key, array, Comparator.naturalOrder());
+    return Bounds.indexOfGreaterThan(Bounds.bound(array, 0, array.length, key, true),
+        array.length);
   }
 
   /**
@@ -909,7 +916,9 @@ public class BinarySearch {
    * is found.
    */
   public static int firstIndexOf(float key, float[] array) {
-    return firstIndexOf(key, array, Comparator.naturalOrder());
+    final int lower = Bounds.bound(array, 0, array.length, key, false);
+    return lower < array.length && SortableBits.of(array[lower]) == SortableBits.of(key) ?
+        lower : -lower - 1;
   }
 
   /**
@@ -953,7 +962,7 @@ public class BinarySearch {
    * be inserted to maintain the sorted order.
    */
   public static int indexOfLessThan(float key, float[] array) {
-    return indexOfLessThan(key, array, Comparator.naturalOrder());
+    return Bounds.indexOfLessThan(Bounds.bound(array, 0, array.length, key, false));
   }
 
   /**
@@ -985,7 +994,9 @@ public class BinarySearch {
    * is found.
    */
   public static int lastIndexOf(double key, double[] array) {
-    return lastIndexOf(key, array, Comparator.naturalOrder());
+    final int upper = Bounds.bound(array, 0, array.length, key, true);
+    return upper > 0 && SortableBits.of(array[upper - 1]) == SortableBits.of(key) ?
+        upper - 1 : -upper - 1;
   }
 
   /**
@@ -1030,7 +1041,8 @@ public class BinarySearch {
    * be inserted to maintain the sorted order.
    */
   public static int indexOfGreaterThan(double key, double[] array) {
-    return indexOfGreaterThan(key, array, Comparator.naturalOrder());
+    return Bounds.indexOfGreaterThan(Bounds.bound(array, 0, array.length, key, true),
+        array.length);
   }
 
   /**
@@ -1064,7 +1076,9 @@ public class BinarySearch {
    * is found.
    */
   public static int firstIndexOf(double key, double[] array) {
-    return firstIndexOf(key, array, Comparator.naturalOrder());
+    final int lower = Bounds.bound(array, 0, array.length, key, false);
+    return lower < array.length && SortableBits.of(array[lower]) == SortableBits.of(key) ?
+        lower : -lower - 1;
   }
 
   /**
@@ -1108,7 +1122,7 @@ public class BinarySearch {
    * be inserted to maintain the sorted order.
    */
   public static int indexOfLessThan(double key, double[] array) {
-    return indexOfLessThan(key, array, Comparator.naturalOrder());
+    return Bounds.indexOfLessThan(Bounds.bound(array, 0, array.length, key, false));
   }
 
   /**
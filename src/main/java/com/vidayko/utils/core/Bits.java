@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+/**
+ * Internal helper for reading and writing fixed-width bit fields packed into {@code long[]} words,
+ * least significant bit first.
+ */
+final class Bits {
+
+  private Bits() {
+  }
+
+  static long mask(int width) {
+    return width == 64 ? -1L : (1L << width) - 1;
+  }
+
+  static int words(long bitCount) {
+    return Math.toIntExact((bitCount + 63) >>> 6);
+  }
+
+  static long read(long[] words, long bitIndex, int width) {
+    if (width == 0) {
+      return 0;
+    }
+    final int word = (int) (bitIndex >>> 6);
+    final int shift = (int) (bitIndex & 63);
+    long value = words[word] >>> shift;
+    if (shift + width > 64) {
+      value |= words[word + 1] << (64 - shift);
+    }
+    return value & mask(width);
+  }
+
+  static void write(long[] words, long bitIndex, int width, long value) {
+    if (width == 0) {
+      return;
+    }
+    final long mask = mask(width);
+    final int word = (int) (bitIndex >>> 6);
+    final int shift = (int) (bitIndex & 63);
+    value &= mask;
+    words[word] = (words[word] & ~(mask << shift)) | (value << shift);
+    if (shift + width > 64) {
+      final int spill = 64 - shift;
+      words[word + 1] = (words[word + 1] & ~(mask >>> spill)) | (value >>> spill);
+    }
+  }
+
+  /**
+   * Returns the position of the one bit of the specified rank (0-based) within the word.
+   */
+  static int select(long word, int rank) {
+    for (int i = 0; i < rank; i++) {
+      word &= word - 1;
+    }
+    return Long.numberOfTrailingZeros(word);
+  }
+}
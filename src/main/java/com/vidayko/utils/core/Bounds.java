@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.Comparator;
+
+/**
+ * Internal helper translating lower and upper bounds of a key into the results returned by
+ * {@link BinarySearch}.
+ * <p>
+ * The lower bound is the index of the first element not less than the key, and the upper bound is
+ * the index of the first element greater than the key. Both bounds are equal if and only if the
+ * key is absent, in which case they are equal to its insertion point. The bound kernels below
+ * compute them directly over a range of an array, without boxing.
+ */
+final class Bounds {
+
+  private Bounds() {
+  }
+
+  static int firstIndexOf(int lower, int upper) {
+    return lower < upper ? lower : -(lower + 1);
+  }
+
+  static int lastIndexOf(int lower, int upper) {
+    return lower < upper ? upper - 1 : -(upper + 1);
+  }
+
+  static int indexOfGreaterThan(int upper, int size) {
+    return 0 < upper && upper < size ? upper : -upper - 1;
+  }
+
+  static int indexOfLessThan(int lower) {
+    return lower - 1;
+  }
+
+  /**
+   * Returns the index of the first element of {@code array[from, to)} greater than the key if
+   * {@code upper} is set, or not less than the key otherwise.
+   */
+  static int bound(int[] array, int from, int to, int key, boolean upper) {
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      if (array[mid] < key || (upper && array[mid] == key)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  /**
+   * Returns the index of the first element of {@code array[from, to)} greater than the key if
+   * {@code upper} is set, or not less than the key otherwise.
+   */
+  static int bound(long[] array, int from, int to, long key, boolean upper) {
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      if (array[mid] < key || (upper && array[mid] == key)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  /**
+   * Returns the index of the first element of {@code array[from, to)} greater than the key if
+   * {@code upper} is set, or not less than the key otherwise, in the total order of
+   * {@link Float#compare(float, float)}, by comparing {@link SortableBits} as ints.
+   */
+  static int bound(float[] array, int from, int to, float key, boolean upper) {
+    final int bits = SortableBits.of(key);
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      final int value = SortableBits.of(array[mid]);
+      if (value < bits || (upper && value == bits)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  /**
+   * Returns the index of the first element of {@code array[from, to)} greater than the key if
+   * {@code upper} is set, or not less than the key otherwise, in the total order of
+   * {@link Double#compare(double, double)}, by comparing {@link SortableBits} as longs.
+   */
+  static int bound(double[] array, int from, int to, double key, boolean upper) {
+    final long bits = SortableBits.of(key);
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      final long value = SortableBits.of(array[mid]);
+      if (value < bits || (upper && value == bits)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  /**
+   * Returns the index of the first element of {@code array[from, to)} greater than the key if
+   * {@code upper} is set, or not less than the key otherwise, according to the comparator.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> int bound(Object[] array, int from, int to, T key, Comparator<? super T> comparator,
+      boolean upper) {
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      final int cmp = comparator.compare((T) array[mid], key);
+      if (cmp < 0 || (upper && cmp == 0)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+}
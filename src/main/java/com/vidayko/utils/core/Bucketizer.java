@@ -0,0 +1,552 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+/**
+ * Assigns values to the buckets delimited by a sorted array of boundaries, in bulk, for histograms
+ * and partitioning. For k boundaries there are k + 1 buckets: the bucket of a value is the number
+ * of boundaries less than it, which is {@link BinarySearch#indexOfLessThan(long, long[])} plus
+ * one, or, for inclusive bucketizers, the number of boundaries less than or equal to it.
+ * <p>
+ * The boundaries are copied into an Eytzinger layout: a complete binary search tree stored in
+ * breadth-first order, padded to a power of two, which is descended in exactly log2(k + 1) steps
+ * without branching on the comparisons, the next node being {@code 2i} or {@code 2i + 1}. The top
+ * levels of the tree share cache lines, and the loop has no unpredictable branch to mispredict.
+ * <p>
+ * When the boundaries are equally spaced, up to rounding, the bucket is instead estimated
+ * arithmetically from the distance of the value to the first boundary, and corrected by comparing
+ * the value with the boundaries around the estimate, in O(1). The results are exact either way.
+ * <p>
+ * Floating-point values and boundaries are ordered as by {@link Double#compare(double, double)},
+ * so NaN values fall into the last bucket. Bucketizers are immutable and thread-safe.
+ */
+public abstract class Bucketizer {
+
+  /**
+   * The maximal distance, in buckets, between the arithmetic estimate of the bucket of a boundary
+   * and its actual bucket, for the boundaries to be considered equally spaced.
+   */
+  private static final double SPACING_TOLERANCE = 0.25;
+
+  final boolean inclusive;
+
+  Bucketizer(boolean inclusive) {
+    this.inclusive = inclusive;
+  }
+
+  /**
+   * Creates a bucketizer for the specified boundaries.
+   *
+   * @param boundaries the boundaries, sorted in ascending order; copied
+   * @param inclusive  whether a value equal to a boundary falls into the bucket above it, rather
+   *                   than below it
+   * @return the bucketizer
+   * @throws IllegalArgumentException if the boundaries are not sorted
+   */
+  public static OfInt of(int[] boundaries, boolean inclusive) {
+    final double[] values = new double[boundaries.length];
+    for (int i = 0; i < boundaries.length; i++) {
+      if (i > 0 && boundaries[i - 1] > boundaries[i]) {
+        throw unsorted(i);
+      }
+      values[i] = boundaries[i];
+    }
+    return new OfInt(new IntTree(boundaries.clone(), values), inclusive);
+  }
+
+  /**
+   * Creates a bucketizer for the specified boundaries.
+   *
+   * @param boundaries the boundaries, sorted in ascending order; copied
+   * @param inclusive  whether a value equal to a boundary falls into the bucket above it, rather
+   *                   than below it
+   * @return the bucketizer
+   * @throws IllegalArgumentException if the boundaries are not sorted
+   */
+  public static OfLong of(long[] boundaries, boolean inclusive) {
+    final double[] values = new double[boundaries.length];
+    for (int i = 0; i < boundaries.length; i++) {
+      if (i > 0 && boundaries[i - 1] > boundaries[i]) {
+        throw unsorted(i);
+      }
+      values[i] = boundaries[i];
+    }
+    return new OfLong(new LongTree(boundaries.clone(), values), inclusive);
+  }
+
+  /**
+   * Creates a bucketizer for the specified boundaries.
+   *
+   * @param boundaries the boundaries, sorted in ascending order as by {@link Float#compare}; copied
+   * @param inclusive  whether a value equal to a boundary falls into the bucket above it, rather
+   *                   than below it
+   * @return the bucketizer
+   * @throws IllegalArgumentException if the boundaries are not sorted
+   */
+  public static OfFloat of(float[] boundaries, boolean inclusive) {
+    final int[] bits = SortableBits.column(boundaries);
+    final double[] values = new double[boundaries.length];
+    for (int i = 0; i < boundaries.length; i++) {
+      if (i > 0 && bits[i - 1] > bits[i]) {
+        throw unsorted(i);
+      }
+      values[i] = boundaries[i];
+    }
+    return new OfFloat(new IntTree(bits, values), inclusive);
+  }
+
+  /**
+   * Creates a bucketizer for the specified boundaries.
+   *
+   * @param boundaries the boundaries, sorted in ascending order as by {@link Double#compare};
+   *                   copied
+   * @param inclusive  whether a value equal to a boundary falls into the bucket above it, rather
+   *                   than below it
+   * @return the bucketizer
+   * @throws IllegalArgumentException if the boundaries are not sorted
+   */
+  public static OfDouble of(double[] boundaries, boolean inclusive) {
+    final long[] bits = SortableBits.column(boundaries);
+    for (int i = 1; i < boundaries.length; i++) {
+      if (bits[i - 1] > bits[i]) {
+        throw unsorted(i);
+      }
+    }
+    return new OfDouble(new LongTree(bits, boundaries.clone()), inclusive);
+  }
+
+  /**
+   * @return the number of buckets, one more than the number of boundaries
+   */
+  public abstract int bucketCount();
+
+  /**
+   * @return whether the boundaries are equally spaced, and buckets are computed arithmetically
+   */
+  abstract boolean isEquallySpaced();
+
+  private static IllegalArgumentException unsorted(int index) {
+    return new IllegalArgumentException("Boundaries are not sorted at index " + index);
+  }
+
+  private static void checkIds(int length, int idsLength) {
+    if (idsLength < length) {
+      throw new IllegalArgumentException("Output of length " + idsLength + " for " + length
+          + " values");
+    }
+  }
+
+  private static void checkCounts(int bucketCount, int countsLength) {
+    if (countsLength < bucketCount) {
+      throw new IllegalArgumentException("Counts of length " + countsLength + " for "
+          + bucketCount + " buckets");
+    }
+  }
+
+  /**
+   * Returns the factor mapping distances from the first boundary to buckets if all boundaries lie
+   * within the spacing tolerance of the buckets it estimates for them; otherwise, returns 0.
+   */
+  private static double spacingScale(double[] values) {
+    final int n = values.length;
+    if (n < 2) {
+      return 0;
+    }
+    final double scale = (n - 1) / (values[n - 1] - values[0]);
+    if (!(scale > 0 && scale < Double.POSITIVE_INFINITY)) {
+      return 0;
+    }
+    for (int i = 1; i < n; i++) {
+      if (!(Math.abs((values[i] - values[0]) * scale - i) <= SPACING_TOLERANCE)) {
+        return 0;
+      }
+    }
+    return scale;
+  }
+
+  /**
+   * Returns the height of the smallest complete binary tree holding the specified number of nodes.
+   */
+  private static int height(int size) {
+    return 32 - Integer.numberOfLeadingZeros(size);
+  }
+
+  /**
+   * Bucketizer of int values.
+   */
+  public static final class OfInt extends Bucketizer {
+
+    private final IntTree tree;
+
+    private OfInt(IntTree tree, boolean inclusive) {
+      super(inclusive);
+      this.tree = tree;
+    }
+
+    @Override
+    public int bucketCount() {
+      return tree.boundaries.length + 1;
+    }
+
+    @Override
+    boolean isEquallySpaced() {
+      return tree.scale > 0;
+    }
+
+    /**
+     * Returns the bucket of the specified value.
+     *
+     * @param value the value
+     * @return the bucket of the value, between 0 and the number of boundaries inclusive
+     */
+    public int bucket(int value) {
+      if (inclusive && value == Integer.MAX_VALUE) {
+        return tree.boundaries.length;
+      }
+      return tree.bucket(inclusive ? value + 1 : value, value);
+    }
+
+    /**
+     * Assigns the specified values to buckets.
+     *
+     * @param values the values
+     * @param ids    the array receiving the bucket of {@code values[i]} at index {@code i}
+     * @throws IllegalArgumentException if {@code ids} is shorter than {@code values}
+     */
+    public void buckets(int[] values, int[] ids) {
+      checkIds(values.length, ids.length);
+      for (int i = 0; i < values.length; i++) {
+        ids[i] = bucket(values[i]);
+      }
+    }
+
+    /**
+     * Counts the specified values per bucket, adding the number of values falling into bucket
+     * {@code b} to {@code counts[b]}.
+     *
+     * @param values the values
+     * @param counts the counts of the buckets, incremented
+     * @throws IllegalArgumentException if {@code counts} is shorter than the number of buckets
+     */
+    public void count(int[] values, long[] counts) {
+      checkCounts(bucketCount(), counts.length);
+      for (int value : values) {
+        counts[bucket(value)]++;
+      }
+    }
+  }
+
+  /**
+   * Bucketizer of long values.
+   */
+  public static final class OfLong extends Bucketizer {
+
+    private final LongTree tree;
+
+    private OfLong(LongTree tree, boolean inclusive) {
+      super(inclusive);
+      this.tree = tree;
+    }
+
+    @Override
+    public int bucketCount() {
+      return tree.boundaries.length + 1;
+    }
+
+    @Override
+    boolean isEquallySpaced() {
+      return tree.scale > 0;
+    }
+
+    /**
+     * Returns the bucket of the specified value.
+     *
+     * @param value the value
+     * @return the bucket of the value, between 0 and the number of boundaries inclusive
+     */
+    public int bucket(long value) {
+      if (inclusive && value == Long.MAX_VALUE) {
+        return tree.boundaries.length;
+      }
+      return tree.bucket(inclusive ? value + 1 : value, value);
+    }
+
+    /**
+     * Assigns the specified values to buckets.
+     *
+     * @param values the values
+     * @param ids    the array receiving the bucket of {@code values[i]} at index {@code i}
+     * @throws IllegalArgumentException if {@code ids} is shorter than {@code values}
+     */
+    public void buckets(long[] values, int[] ids) {
+      checkIds(values.length, ids.length);
+      for (int i = 0; i < values.length; i++) {
+        ids[i] = bucket(values[i]);
+      }
+    }
+
+    /**
+     * Counts the specified values per bucket, adding the number of values falling into bucket
+     * {@code b} to {@code counts[b]}.
+     *
+     * @param values the values
+     * @param counts the counts of the buckets, incremented
+     * @throws IllegalArgumentException if {@code counts} is shorter than the number of buckets
+     */
+    public void count(long[] values, long[] counts) {
+      checkCounts(bucketCount(), counts.length);
+      for (long value : values) {
+        counts[bucket(value)]++;
+      }
+    }
+  }
+
+  /**
+   * Bucketizer of float values.
+   */
+  public static final class OfFloat extends Bucketizer {
+
+    private final IntTree tree;
+
+    private OfFloat(IntTree tree, boolean inclusive) {
+      super(inclusive);
+      this.tree = tree;
+    }
+
+    @Override
+    public int bucketCount() {
+      return tree.boundaries.length + 1;
+    }
+
+    @Override
+    boolean isEquallySpaced() {
+      return tree.scale > 0;
+    }
+
+    /**
+     * Returns the bucket of the specified value.
+     *
+     * @param value the value
+     * @return the bucket of the value, between 0 and the number of boundaries inclusive
+     */
+    public int bucket(float value) {
+      // sortable bits never reach Integer.MAX_VALUE, the greatest being those of NaN
+      final int bits = SortableBits.of(value);
+      return tree.bucket(inclusive ? bits + 1 : bits, value);
+    }
+
+    /**
+     * Assigns the specified values to buckets.
+     *
+     * @param values the values
+     * @param ids    the array receiving the bucket of {@code values[i]} at index {@code i}
+     * @throws IllegalArgumentException if {@code ids} is shorter than {@code values}
+     */
+    public void buckets(float[] values, int[] ids) {
+      checkIds(values.length, ids.length);
+      for (int i = 0; i < values.length; i++) {
+        ids[i] = bucket(values[i]);
+      }
+    }
+
+    /**
+     * Counts the specified values per bucket, adding the number of values falling into bucket
+     * {@code b} to {@code counts[b]}.
+     *
+     * @param values the values
+     * @param counts the counts of the buckets, incremented
+     * @throws IllegalArgumentException if {@code counts} is shorter than the number of buckets
+     */
+    public void count(float[] values, long[] counts) {
+      checkCounts(bucketCount(), counts.length);
+      for (float value : values) {
+        counts[bucket(value)]++;
+      }
+    }
+  }
+
+  /**
+   * Bucketizer of double values.
+   */
+  public static final class OfDouble extends Bucketizer {
+
+    private final LongTree tree;
+
+    private OfDouble(LongTree tree, boolean inclusive) {
+      super(inclusive);
+      this.tree = tree;
+    }
+
+    @Override
+    public int bucketCount() {
+      return tree.boundaries.length + 1;
+    }
+
+    @Override
+    boolean isEquallySpaced() {
+      return tree.scale > 0;
+    }
+
+    /**
+     * Returns the bucket of the specified value.
+     *
+     * @param value the value
+     * @return the bucket of the value, between 0 and the number of boundaries inclusive
+     */
+    public int bucket(double value) {
+      // sortable bits never reach Long.MAX_VALUE, the greatest being those of NaN
+      final long bits = SortableBits.of(value);
+      return tree.bucket(inclusive ? bits + 1 : bits, value);
+    }
+
+    /**
+     * Assigns the specified values to buckets.
+     *
+     * @param values the values
+     * @param ids    the array receiving the bucket of {@code values[i]} at index {@code i}
+     * @throws IllegalArgumentException if {@code ids} is shorter than {@code values}
+     */
+    public void buckets(double[] values, int[] ids) {
+      checkIds(values.length, ids.length);
+      for (int i = 0; i < values.length; i++) {
+        ids[i] = bucket(values[i]);
+      }
+    }
+
+    /**
+     * Counts the specified values per bucket, adding the number of values falling into bucket
+     * {@code b} to {@code counts[b]}.
+     *
+     * @param values the values
+     * @param counts the counts of the buckets, incremented
+     * @throws IllegalArgumentException if {@code counts} is shorter than the number of buckets
+     */
+    public void count(double[] values, long[] counts) {
+      checkCounts(bucketCount(), counts.length);
+      for (double value : values) {
+        counts[bucket(value)]++;
+      }
+    }
+  }
+
+  /**
+   * Sorted int boundaries, with their Eytzinger tree padded with {@code Integer.MAX_VALUE}, and the
+   * scale of the arithmetic estimate if they are equally spaced. Keys are compared strictly: the
+   * bucket of a key is the number of boundaries less than it.
+   */
+  private static final class IntTree {
+
+    final int[] boundaries;
+    final double scale;
+    private final double origin;
+    private final int[] tree;
+
+    IntTree(int[] boundaries, double[] values) {
+      this.boundaries = boundaries;
+      this.scale = spacingScale(values);
+      this.origin = values.length == 0 ? 0 : values[0];
+      this.tree = new int[1 << height(boundaries.length)];
+      fill(1, 0);
+    }
+
+    private int fill(int node, int next) {
+      if (node < tree.length) {
+        next = fill(2 * node, next);
+        tree[node] = next < boundaries.length ? boundaries[next] : Integer.MAX_VALUE;
+        next = fill(2 * node + 1, next + 1);
+      }
+      return next;
+    }
+
+    /**
+     * Returns the bucket of the key, whose value approximates it for the arithmetic estimate.
+     */
+    int bucket(int key, double value) {
+      if (scale > 0) {
+        final int last = boundaries.length - 1;
+        if (boundaries[0] >= key) {
+          return 0;
+        }
+        if (boundaries[last] < key) {
+          return last + 1;
+        }
+        // boundaries[0] < key <= boundaries[last], so that the corrections stay within bounds
+        int bucket = Math.max(1, Math.min(last, (int) ((value - origin) * scale) + 1));
+        while (boundaries[bucket - 1] >= key) {
+          bucket--;
+        }
+        while (boundaries[bucket] < key) {
+          bucket++;
+        }
+        return bucket;
+      }
+      int node = 1;
+      while (node < tree.length) {
+        node = 2 * node + (tree[node] < key ? 1 : 0);
+      }
+      return node - tree.length;
+    }
+  }
+
+  /**
+   * Sorted long boundaries, with their Eytzinger tree padded with {@code Long.MAX_VALUE}, and the
+   * scale of the arithmetic estimate if they are equally spaced. Keys are compared strictly: the
+   * bucket of a key is the number of boundaries less than it.
+   */
+  private static final class LongTree {
+
+    final long[] boundaries;
+    final double scale;
+    private final double origin;
+    private final long[] tree;
+
+    LongTree(long[] boundaries, double[] values) {
+      this.boundaries = boundaries;
+      this.scale = spacingScale(values);
+      this.origin = values.length == 0 ? 0 : values[0];
+      this.tree = new long[1 << height(boundaries.length)];
+      fill(1, 0);
+    }
+
+    private int fill(int node, int next) {
+      if (node < tree.length) {
+        next = fill(2 * node, next);
+        tree[node] = next < boundaries.length ? boundaries[next] : Long.MAX_VALUE;
+        next = fill(2 * node + 1, next + 1);
+      }
+      return next;
+    }
+
+    /**
+     * Returns the bucket of the key, whose value approximates it for the arithmetic estimate.
+     */
+    int bucket(long key, double value) {
+      if (scale > 0) {
+        final int last = boundaries.length - 1;
+        if (boundaries[0] >= key) {
+          return 0;
+        }
+        if (boundaries[last] < key) {
+          return last + 1;
+        }
+        // boundaries[0] < key <= boundaries[last], so that the corrections stay within bounds
+        int bucket = Math.max(1, Math.min(last, (int) ((value - origin) * scale) + 1));
+        while (boundaries[bucket - 1] >= key) {
+          bucket--;
+        }
+        while (boundaries[bucket] < key) {
+          bucket++;
+        }
+        return bucket;
+      }
+      int node = 1;
+      while (node < tree.length) {
+        node = 2 * node + (tree[node] < key ? 1 : 0);
+      }
+      return node - tree.length;
+    }
+  }
+}
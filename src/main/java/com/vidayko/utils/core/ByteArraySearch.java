@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.nio.*;
+import java.util.*;
+
+/**
+ * Utility class providing extended binary search operations for binary keys, such as UTF-8
+ * encoded strings, row keys or hashes, ordered lexicographically as unsigned bytes. A proper
+ * prefix of a key is less than the key itself.
+ * <p>
+ * Two key layouts are supported:
+ * <ul>
+ *   <li>{@code byte[][]} — one array per key, compared via {@code Arrays.compareUnsigned} when
+ *   running on Java 9 or later (multi-release JAR)</li>
+ *   <li>{@link ByteBuffer} blocks — keys packed one after another, each preceded by its length as
+ *   a 4-byte {@code int} in the byte order of the buffer. Heap and direct (off-heap) buffers are
+ *   supported, and key bytes are compared 8 at a time as big-endian longs</li>
+ * </ul>
+ * <p>
+ * Guarantees O(log n) key comparisons. The results follow the contract of {@link BinarySearch}.
+ */
+public class ByteArraySearch {
+
+  /**
+   * Performs a binary search to find the index of the first occurrence of the specified key in the
+   * sorted array of binary keys. The array must be sorted in unsigned lexicographic order before
+   * calling this method.
+   *
+   * @param key   the value to search for
+   * @param array the sorted array to search
+   * @return the index of the first occurrence of the key if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order. The return value is non-negative if and only if the key
+   * is found.
+   */
+  public static int firstIndexOf(byte[] key, byte[][] array) {
+    return Bounds.firstIndexOf(bound(key, array, false), bound(key, array, true));
+  }
+
+  /**
+   * Performs a binary search to find the index of the last occurrence of the specified key in the
+   * sorted array of binary keys. The array must be sorted in unsigned lexicographic order before
+   * calling this method.
+   *
+   * @param key   the value to search for
+   * @param array the sorted array to search
+   * @return the index of the last occurrence of the key if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order. The return value is non-negative if and only if the key
+   * is found.
+   */
+  public static int lastIndexOf(byte[] key, byte[][] array) {
+    return Bounds.lastIndexOf(bound(key, array, false), bound(key, array, true));
+  }
+
+  /**
+   * Performs a binary search to find the index of the first element greater than the specified key
+   * in a sorted array of binary keys. The array must be sorted in unsigned lexicographic order
+   * before calling this method.
+   *
+   * @param key   the value to compare against
+   * @param array the sorted array to search
+   * @return the index of the first element greater than key, if such an element exists; otherwise,
+   * returns -(insertion point) - 1, where the insertion point is the index at which the key would
+   * be inserted to maintain the sorted order.
+   */
+  public static int indexOfGreaterThan(byte[] key, byte[][] array) {
+    return Bounds.indexOfGreaterThan(bound(key, array, true), array.length);
+  }
+
+  /**
+   * Performs a binary search to find the index of the last element less than the specified key in a
+   * sorted array of binary keys. The array must be sorted in unsigned lexicographic order before
+   * calling this method.
+   *
+   * @param key   the value to compare against
+   * @param array the sorted array to search
+   * @return the index of the last element less than key, if such an element exists; otherwise,
+   * returns -(insertion point) - 1, where the insertion point is the index at which the key could
+   * be inserted to maintain the sorted order.
+   */
+  public static int indexOfLessThan(byte[] key, byte[][] array) {
+    return Bounds.indexOfLessThan(bound(key, array, false));
+  }
+
+  /**
+   * Scans a block of length-prefixed keys from its position to its limit, and returns the offsets
+   * of the keys, which the block search methods take to access keys randomly. The position of the
+   * block is not modified.
+   *
+   * @param block the block of length-prefixed keys
+   * @return the absolute positions of the length prefixes of the keys, in order
+   * @throws IllegalArgumentException if a key exceeds the limit of the block
+   */
+  public static int[] offsetsOf(ByteBuffer block) {
+    int[] offsets = new int[16];
+    int count = 0;
+    int position = block.position();
+    while (position < block.limit()) {
+      if (block.limit() - position < Integer.BYTES) {
+        throw new IllegalArgumentException("Truncated key length at position " + position);
+      }
+      final int length = block.getInt(position);
+      if (length < 0 || length > block.limit() - position - Integer.BYTES) {
+        throw new IllegalArgumentException("Invalid key length at position " + position);
+      }
+      if (count == offsets.length) {
+        offsets = Arrays.copyOf(offsets, count * 2);
+      }
+      offsets[count++] = position;
+      position += Integer.BYTES + length;
+    }
+    return Arrays.copyOf(offsets, count);
+  }
+
+  /**
+   * Performs a binary search to find the index of the first occurrence of the specified key in the
+   * sorted block of length-prefixed keys. The keys must be sorted in unsigned lexicographic order
+   * before calling this method.
+   *
+   * @param key     the value to search for
+   * @param block   the block of length-prefixed keys to search
+   * @param offsets the positions of the keys in the block, as returned by
+   *                {@link #offsetsOf(ByteBuffer)}
+   * @return the index of the first occurrence of the key if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order. The return value is non-negative if and only if the key
+   * is found.
+   */
+  public static int firstIndexOf(byte[] key, ByteBuffer block, int[] offsets) {
+    final ByteBuffer view = bigEndian(block), wrapped = ByteBuffer.wrap(key);
+    return Bounds.firstIndexOf(bound(wrapped, block, view, offsets, false),
+        bound(wrapped, block, view, offsets, true));
+  }
+
+  /**
+   * Performs a binary search to find the index of the last occurrence of the specified key in the
+   * sorted block of length-prefixed keys. The keys must be sorted in unsigned lexicographic order
+   * before calling this method.
+   *
+   * @param key     the value to search for
+   * @param block   the block of length-prefixed keys to search
+   * @param offsets the positions of the keys in the block, as returned by
+   *                {@link #offsetsOf(ByteBuffer)}
+   * @return the index of the last occurrence of the key if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order. The return value is non-negative if and only if the key
+   * is found.
+   */
+  public static int lastIndexOf(byte[] key, ByteBuffer block, int[] offsets) {
+    final ByteBuffer view = bigEndian(block), wrapped = ByteBuffer.wrap(key);
+    return Bounds.lastIndexOf(bound(wrapped, block, view, offsets, false),
+        bound(wrapped, block, view, offsets, true));
+  }
+
+  /**
+   * Performs a binary search to find the index of the first key greater than the specified key in
+   * the sorted block of length-prefixed keys. The keys must be sorted in unsigned lexicographic
+   * order before calling this method.
+   *
+   * @param key     the value to compare against
+   * @param block   the block of length-prefixed keys to search
+   * @param offsets the positions of the keys in the block, as returned by
+   *                {@link #offsetsOf(ByteBuffer)}
+   * @return the index of the first key greater than key, if such a key exists; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order.
+   */
+  public static int indexOfGreaterThan(byte[] key, ByteBuffer block, int[] offsets) {
+    final ByteBuffer view = bigEndian(block), wrapped = ByteBuffer.wrap(key);
+    return Bounds.indexOfGreaterThan(bound(wrapped, block, view, offsets, true), offsets.length);
+  }
+
+  /**
+   * Performs a binary search to find the index of the last key less than the specified key in the
+   * sorted block of length-prefixed keys. The keys must be sorted in unsigned lexicographic order
+   * before calling this method.
+   *
+   * @param key     the value to compare against
+   * @param block   the block of length-prefixed keys to search
+   * @param offsets the positions of the keys in the block, as returned by
+   *                {@link #offsetsOf(ByteBuffer)}
+   * @return the index of the last key less than key, if such a key exists; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key could be
+   * inserted to maintain the sorted order.
+   */
+  public static int indexOfLessThan(byte[] key, ByteBuffer block, int[] offsets) {
+    final ByteBuffer view = bigEndian(block), wrapped = ByteBuffer.wrap(key);
+    return Bounds.indexOfLessThan(bound(wrapped, block, view, offsets, false));
+  }
+
+  private static int bound(byte[] key, byte[][] array, boolean upper) {
+    int left = 0, right = array.length;
+    while (left < right) {
+      final int mid = (left + right) >>> 1;
+      final int cmp = UnsignedBytes.compare(array[mid], key);
+      if (cmp < 0 || (upper && cmp == 0)) {
+        left = mid + 1;
+      } else {
+        right = mid;
+      }
+    }
+    return left;
+  }
+
+  /**
+   * Binary searches the block, reading the length prefixes in the byte order of the block and
+   * comparing the key bytes through a big-endian view of it.
+   */
+  private static int bound(ByteBuffer key, ByteBuffer block, ByteBuffer view, int[] offsets,
+      boolean upper) {
+    int left = 0, right = offsets.length;
+    while (left < right) {
+      final int mid = (left + right) >>> 1;
+      final int offset = offsets[mid];
+      final int cmp = compare(view, offset + Integer.BYTES, block.getInt(offset),
+          key, 0, key.capacity());
+      if (cmp < 0 || (upper && cmp == 0)) {
+        left = mid + 1;
+      } else {
+        right = mid;
+      }
+    }
+    return left;
+  }
+
+  /**
+   * Compares two ranges of big-endian buffers lexicographically as unsigned bytes, 8 bytes at a
+   * time.
+   */
+  private static int compare(ByteBuffer a, int aOffset, int aLength, ByteBuffer b, int bOffset,
+      int bLength) {
+    final int limit = Math.min(aLength, bLength);
+    int i = 0;
+    for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+      final long x = a.getLong(aOffset + i), y = b.getLong(bOffset + i);
+      if (x != y) {
+        return Long.compareUnsigned(x, y);
+      }
+    }
+    for (; i < limit; i++) {
+      final int x = a.get(aOffset + i) & 0xFF, y = b.get(bOffset + i) & 0xFF;
+      if (x != y) {
+        return x - y;
+      }
+    }
+    return aLength - bLength;
+  }
+
+  private static ByteBuffer bigEndian(ByteBuffer block) {
+    return block.order() == ByteOrder.BIG_ENDIAN ? block
+        : block.duplicate().order(ByteOrder.BIG_ENDIAN);
+  }
+}
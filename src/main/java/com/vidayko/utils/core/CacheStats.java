@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+/**
+ * Immutable snapshot of the statistics of a search result cache.
+ */
+public final class CacheStats {
+
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+
+  CacheStats(long hitCount, long missCount, long evictionCount) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+  }
+
+  /**
+   * @return the number of lookups answered from the cache
+   */
+  public long hitCount() {
+    return hitCount;
+  }
+
+  /**
+   * @return the number of lookups that searched the array
+   */
+  public long missCount() {
+    return missCount;
+  }
+
+  /**
+   * @return the number of lookups
+   */
+  public long requestCount() {
+    return hitCount + missCount;
+  }
+
+  /**
+   * @return the number of cached results replaced by more frequent keys
+   */
+  public long evictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * @return the ratio of hits to lookups, or {@code 1.0} if there were no lookups
+   */
+  public double hitRate() {
+    final long requests = requestCount();
+    return requests == 0 ? 1.0 : (double) hitCount / requests;
+  }
+
+  @Override
+  public String toString() {
+    return "CacheStats{hits=" + hitCount + ", misses=" + missCount + ", evictions="
+        + evictionCount + "}";
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Thread-safe binary search over a frozen array sorted by a comparator, memoizing the results for
+ * frequently searched keys in a bounded cache.
+ * <p>
+ * For every cached key, the cache holds its lower and upper bounds in the array, from which all
+ * the {@link BinarySearch} operations are derived, so one entry serves all of them. The cache is
+ * set-associative: a key may only be stored in one of 8 slots chosen by its hash. Each slot
+ * publishes its key and bounds together as one immutable entry, so hits scan the set without
+ * locking, and striped locks are only taken to admit a missed key and evict another.
+ * <p>
+ * Admission follows the TinyLFU policy: all lookups are recorded in a {@link FrequencySketch}, and
+ * a missed key replaces the least frequent key of its set only if it has been searched more often
+ * recently. Under skewed traffic, the cache therefore retains the hot keys and is not flushed by
+ * scans over cold ones.
+ * <p>
+ * Keys are cached by {@link Object#equals(Object)} and {@link Object#hashCode()}, which must be
+ * consistent with the comparator. The array is not copied, and must not be modified while it is
+ * searched.
+ *
+ * @param <T> the type of elements
+ * @see CachedLongSearch
+ */
+public final class CachedSearch<T> {
+
+  private static final int WAYS = 8;
+
+  private final T[] array;
+  private final Comparator<? super T> comparator;
+  private final AtomicReferenceArray<Entry> entries;
+  private final Object[] locks;
+  private final int setMask;
+  private final FrequencySketch sketch;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates a cached search over the specified sorted array.
+   *
+   * @param array      the sorted array to search
+   * @param comparator the comparator by which the array is sorted
+   * @param capacity   the number of keys to cache, rounded up to a power of two of at least 8
+   * @throws IllegalArgumentException if the capacity is not positive or is greater than 2^30
+   */
+  public CachedSearch(T[] array, Comparator<? super T> comparator, int capacity) {
+    if (capacity <= 0 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    }
+    this.array = array;
+    this.comparator = comparator;
+    this.entries = new AtomicReferenceArray<>(
+        Math.max(WAYS, Integer.highestOneBit(Math.max(1, capacity - 1)) << 1));
+    this.setMask = entries.length() / WAYS - 1;
+    this.locks = new Object[Math.min(64, setMask + 1)];
+    for (int i = 0; i < locks.length; i++) {
+      locks[i] = new Object();
+    }
+    this.sketch = new FrequencySketch(entries.length());
+  }
+
+  /**
+   * @return the number of keys the cache can hold
+   */
+  public int capacity() {
+    return entries.length();
+  }
+
+  /**
+   * @return a snapshot of the cache statistics
+   */
+  public CacheStats stats() {
+    return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  /**
+   * Finds the index of the first occurrence of the specified key.
+   *
+   * @param key the value to search for
+   * @return the result of {@link BinarySearch#firstIndexOf(Object, Object[], Comparator)}
+   * on the array
+   */
+  public int firstIndexOf(T key) {
+    final long packed = lookup(key);
+    return Bounds.firstIndexOf(lower(packed), upper(packed));
+  }
+
+  /**
+   * Finds the index of the last occurrence of the specified key.
+   *
+   * @param key the value to search for
+   * @return the result of {@link BinarySearch#lastIndexOf(Object, Object[], Comparator)}
+   * on the array
+   */
+  public int lastIndexOf(T key) {
+    final long packed = lookup(key);
+    return Bounds.lastIndexOf(lower(packed), upper(packed));
+  }
+
+  /**
+   * Finds the index of the first element greater than the specified key.
+   *
+   * @param key the value to compare against
+   * @return the result of {@link BinarySearch#indexOfGreaterThan(Object, Object[], Comparator)}
+   * on the array
+   */
+  public int indexOfGreaterThan(T key) {
+    return Bounds.indexOfGreaterThan(upper(lookup(key)), array.length);
+  }
+
+  /**
+   * Finds the index of the last element less than the specified key.
+   *
+   * @param key the value to compare against
+   * @return the result of {@link BinarySearch#indexOfLessThan(Object, Object[], Comparator)}
+   * on the array
+   */
+  public int indexOfLessThan(T key) {
+    return Bounds.indexOfLessThan(lower(lookup(key)));
+  }
+
+  /**
+   * Finds the range of elements equal to the specified key.
+   *
+   * @param key the value to search for
+   * @return the range of indices of the elements equal to the key; empty and positioned at the
+   * insertion point of the key if it is absent
+   */
+  public IndexRange rangeOf(T key) {
+    final long packed = lookup(key);
+    return IndexRange.of(lower(packed), upper(packed));
+  }
+
+  /**
+   * Returns the lower and upper bounds of the key packed into a long, from the cache if possible.
+   */
+  private long lookup(T key) {
+    final int hash = FrequencySketch.hash(Objects.hashCode(key));
+    sketch.increment(hash);
+    final int set = hash & setMask;
+    final int base = set * WAYS;
+    for (int i = base; i < base + WAYS; i++) {
+      final Entry entry = entries.get(i);
+      if (entry != null && Objects.equals(entry.key, key)) {
+        hits.increment();
+        return entry.bounds;
+      }
+    }
+    misses.increment();
+    final int lower = Bounds.bound(array, 0, array.length, key, comparator, false);
+    final long packed = pack(lower,
+        Bounds.bound(array, lower, array.length, key, comparator, true));
+    final int frequency = sketch.frequency(hash);
+    synchronized (locks[set & (locks.length - 1)]) {
+      int victim = -1, victimFrequency = Integer.MAX_VALUE;
+      for (int i = base; i < base + WAYS; i++) {
+        final Entry entry = entries.get(i);
+        if (entry == null) {
+          victim = i;
+          victimFrequency = -1;
+          break;
+        }
+        if (Objects.equals(entry.key, key)) {
+          return packed;
+        }
+        final int candidate = sketch.frequency(FrequencySketch.hash(Objects.hashCode(entry.key)));
+        if (candidate < victimFrequency) {
+          victim = i;
+          victimFrequency = candidate;
+        }
+      }
+      if (victimFrequency < frequency) {
+        if (victimFrequency >= 0) {
+          evictions.increment();
+        }
+        entries.set(victim, new Entry(key, packed));
+      }
+    }
+    return packed;
+  }
+
+  private static long pack(int lower, int upper) {
+    return (long) lower << 32 | upper;
+  }
+
+  private static int lower(long packed) {
+    return (int) (packed >>> 32);
+  }
+
+  private static int upper(long packed) {
+    return (int) packed;
+  }
+
+  /**
+   * Immutable cache entry, so that a reader never sees the key of one entry with the bounds of
+   * another.
+   */
+  private static final class Entry {
+
+    final Object key;
+    final long bounds;
+
+    Entry(Object key, long bounds) {
+      this.key = key;
+      this.bounds = bounds;
+    }
+  }
+}
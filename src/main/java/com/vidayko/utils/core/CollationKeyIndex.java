@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.text.*;
+import java.util.*;
+
+/**
+ * Immutable search index over an array or list of strings sorted by a {@link Collator}.
+ * <p>
+ * Passing a collator as the comparator to {@link BinarySearch} re-runs the locale-sensitive
+ * collation of both strings on every probe. This index instead precomputes the
+ * {@link CollationKey} bytes of every element once, and converts the search key once per lookup;
+ * probes then compare plain byte arrays as unsigned values, which orders the strings as their
+ * collation keys do. The array must therefore be sorted consistently with
+ * {@link CollationKey#compareTo(CollationKey)}, which the collator defines to be equivalent to
+ * {@link Collator#compare(String, String)}.
+ * <p>
+ * The search operations return indices into the original array or list, identical to the results
+ * of {@link BinarySearch} with the collator as the comparator. Instances are immutable and safe for
+ * concurrent use: collators are not thread-safe, and {@code RuleBasedCollator} serializes key
+ * conversions on the collator itself, so every thread converts search keys with its own clone of
+ * the collator the index was created with.
+ */
+public final class CollationKeyIndex {
+
+  private final ThreadLocal<Collator> collators;
+  private final byte[][] keys;
+
+  private CollationKeyIndex(Collator prototype, byte[][] keys) {
+    this.collators = ThreadLocal.withInitial(() -> (Collator) prototype.clone());
+    this.keys = keys;
+  }
+
+  /**
+   * Creates an index over the specified array of strings, which must be sorted according to the
+   * order induced by the collator. The array is not retained, and the collator is copied.
+   *
+   * @param array    the sorted array to index
+   * @param collator the collator the array is sorted with
+   * @return the index
+   * @throws IllegalArgumentException if the array is not sorted according to the collator
+   */
+  public static CollationKeyIndex of(String[] array, Collator collator) {
+    return of(Arrays.asList(array), collator);
+  }
+
+  /**
+   * Creates an index over the specified list of strings, which must be sorted according to the
+   * order induced by the collator. The list is not retained, and the collator is copied.
+   *
+   * @param list     the sorted list to index
+   * @param collator the collator the list is sorted with
+   * @return the index
+   * @throws IllegalArgumentException if the list is not sorted according to the collator
+   */
+  public static CollationKeyIndex of(List<String> list, Collator collator) {
+    final Collator copy = (Collator) collator.clone();
+    final byte[][] keys = new byte[list.size()][];
+    int index = 0;
+    for (String value : list) {
+      keys[index] = copy.getCollationKey(value).toByteArray();
+      if (index > 0 && UnsignedBytes.compare(keys[index - 1], keys[index]) > 0) {
+        throw new IllegalArgumentException("List is not sorted at index " + index);
+      }
+      index++;
+    }
+    return new CollationKeyIndex(copy, keys);
+  }
+
+  /**
+   * @return the number of indexed strings
+   */
+  public int size() {
+    return keys.length;
+  }
+
+  /**
+   * Finds the index of the first occurrence of a string equal to the specified key according to
+   * the collator.
+   *
+   * @param key the value to search for
+   * @return the index of the first occurrence of the key if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order. The return value is non-negative if and only if the key
+   * is found.
+   */
+  public int firstIndexOf(String key) {
+    final byte[] bytes = collate(key);
+    return Bounds.firstIndexOf(bound(bytes, false), bound(bytes, true));
+  }
+
+  /**
+   * Finds the index of the last occurrence of a string equal to the specified key according to the
+   * collator.
+   *
+   * @param key the value to search for
+   * @return the index of the last occurrence of the key if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order. The return value is non-negative if and only if the key
+   * is found.
+   */
+  public int lastIndexOf(String key) {
+    final byte[] bytes = collate(key);
+    return Bounds.lastIndexOf(bound(bytes, false), bound(bytes, true));
+  }
+
+  /**
+   * Finds the index of the first string greater than the specified key according to the collator.
+   *
+   * @param key the value to compare against
+   * @return the index of the first string greater than key, if such a string exists; otherwise,
+   * returns -(insertion point) - 1, where the insertion point is the index at which the key would
+   * be inserted to maintain the sorted order.
+   */
+  public int indexOfGreaterThan(String key) {
+    final byte[] bytes = collate(key);
+    return Bounds.indexOfGreaterThan(bound(bytes, true), keys.length);
+  }
+
+  /**
+   * Finds the index of the last string less than the specified key according to the collator.
+   *
+   * @param key the value to compare against
+   * @return the index of the last string less than key, if such a string exists; otherwise,
+   * returns -(insertion point) - 1, where the insertion point is the index at which the key could
+   * be inserted to maintain the sorted order.
+   */
+  public int indexOfLessThan(String key) {
+    final byte[] bytes = collate(key);
+    return Bounds.indexOfLessThan(bound(bytes, false));
+  }
+
+  /**
+   * Returns the collation key bytes of the string, computed with the collator of this thread.
+   */
+  private byte[] collate(String key) {
+    return collators.get().getCollationKey(key).toByteArray();
+  }
+
+  /**
+   * Returns the index of the first key greater than the specified bytes if {@code upper} is set,
+   * or not less than them otherwise.
+   */
+  private int bound(byte[] bytes, boolean upper) {
+    int left = 0, right = keys.length;
+    while (left < right) {
+      final int mid = (left + right) >>> 1;
+      final int cmp = UnsignedBytes.compare(keys[mid], bytes);
+      if (cmp < 0 || (upper && cmp == 0)) {
+        left = mid + 1;
+      } else {
+        right = mid;
+      }
+    }
+    return left;
+  }
+}
@@ -0,0 +1,604 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.function.IntToLongFunction;
+
+/**
+ * Binary search over records stored as 2 to 4 parallel primitive columns (struct-of-arrays),
+ * sorted lexicographically by the columns in the order they are given.
+ * <p>
+ * Columns may be {@code byte[]}, {@code short[]}, {@code char[]}, {@code int[]} or
+ * {@code long[]} arrays of equal length; their values are compared as {@code long}s in natural
+ * order. Layouts of two or three {@code int[]} and {@code long[]} columns have typed factories,
+ * checked at compile time; other layouts go through {@link #of(Object...)}. The type of every
+ * column is resolved once, at creation. The columns are referenced, not copied, and must not be
+ * modified while searched.
+ * <p>
+ * Keys are passed as individual {@code long} components. Passing fewer components than there are
+ * columns searches by a prefix of the composite key; for example, with columns
+ * {@code (symbolId, ts, seq)}, {@code firstIndexOf(symbolId)} and {@code lastIndexOf(symbolId)}
+ * locate all rows of one symbol. The search operations follow the contract of
+ * {@link BinarySearch} and allocate no objects, except {@link #rangeOf} for the returned range.
+ */
+public final class CompositeKeySearch {
+
+  private final int size;
+  private final int columnCount;
+  private final IntToLongFunction c0, c1, c2, c3;
+
+  private CompositeKeySearch(int size, IntToLongFunction[] columns) {
+    this.size = size;
+    this.columnCount = columns.length;
+    this.c0 = columns[0];
+    this.c1 = columns[1];
+    this.c2 = columns.length > 2 ? columns[2] : null;
+    this.c3 = columns.length > 3 ? columns[3] : null;
+  }
+
+  /**
+   * Creates a search over the specified parallel columns, which must be sorted lexicographically by
+   * the columns in the given order.
+   *
+   * @param c0 the first column
+   * @param c1 the second column
+   * @return the composite key search
+   * @throws IllegalArgumentException if the columns have different lengths
+   */
+  public static CompositeKeySearch of(int[] c0, int[] c1) {
+    return create(new Object[]{c0, c1});
+  }
+
+  /**
+   * Creates a search over the specified parallel columns, which must be sorted lexicographically by
+   * the columns in the given order.
+   *
+   * @param c0 the first column
+   * @param c1 the second column
+   * @return the composite key search
+   * @throws IllegalArgumentException if the columns have different lengths
+   */
+  public static CompositeKeySearch of(int[] c0, long[] c1) {
+    return create(new Object[]{c0, c1});
+  }
+
+  /**
+   * Creates a search over the specified parallel columns, which must be sorted lexicographically by
+   * the columns in the given order.
+   *
+   * @param c0 the first column
+   * @param c1 the second column
+   * @return the composite key search
+   * @throws IllegalArgumentException if the columns have different lengths
+   */
+  public static CompositeKeySearch of(long[] c0, int[] c1) {
+    return create(new Object[]{c0, c1});
+  }
+
+  /**
+   * Creates a search over the specified parallel columns, which must be sorted lexicographically by
+   * the columns in the given order.
+   *
+   * @param c0 the first column
+   * @param c1 the second column
+   * @return the composite key search
+   * @throws IllegalArgumentException if the columns have different lengths
+   */
+  public static CompositeKeySearch of(long[] c0, long[] c1) {
+    return create(new Object[]{c0, c1});
+  }
+
+  /**
+   * Creates a search over the specified parallel columns, which must be sorted lexicographically by
+   * the columns in the given order.
+   *
+   * @param c0 the first column
+   * @param c1 the second column
+   * @param c2 the third column
+   * @return the composite key search
+   * @throws IllegalArgumentException if the columns have different lengths
+   */
+  public static CompositeKeySearch of(int[] c0, int[] c1, int[] c2) {
+    return create(new Object[]{c0, c1, c2});
+  }
+
+  /**
+   * Creates a search over the specified parallel columns, which must be sorted lexicographically by
+   * the columns in the given order.
+   *
+   * @param c0 the first column
+   * @param c1 the second column
+   * @param c2 the third column
+   * @return the composite key search
+   * @throws IllegalArgumentException if the columns have different lengths
+   */
+  public static CompositeKeySearch of(int[] c0, int[] c1, long[] c2) {
+    return create(new Object[]{c0, c1, c2});
+  }
+
+  /**
+   * Creates a search over the specified parallel columns, which must be sorted lexicographically by
+   * the columns in the given order.
+   *
+   * @param c0 the first column
+   * @param c1 the second column
+   * @param c2 the third column
+   * @return the composite key search
+   * @throws IllegalArgumentException if the columns have different lengths
+   */
+  public static CompositeKeySearch of(int[] c0, long[] c1, int[] c2) {
+    return create(new Object[]{c0, c1, c2});
+  }
+
+  /**
+   * Creates a search over the specified parallel columns, which must be sorted lexicographically by
+   * the columns in the given order.
+   *
+   * @param c0 the first column
+   * @param c1 the second column
+   * @param c2 the third column
+   * @return the composite key search
+   * @throws IllegalArgumentException if the columns have different lengths
+   */
+  public static CompositeKeySearch of(int[] c0, long[] c1, long[] c2) {
+    return create(new Object[]{c0, c1, c2});
+  }
+
+  /**
+   * Creates a search over the specified parallel columns, which must be sorted lexicographically by
+   * the columns in the given order.
+   *
+   * @param c0 the first column
+   * @param c1 the second column
+   * @param c2 the third column
+   * @return the composite key search
+   * @throws IllegalArgumentException if the columns have different lengths
+   */
+  public static CompositeKeySearch of(long[] c0, int[] c1, int[] c2) {
+    return create(new Object[]{c0, c1, c2});
+  }
+
+  /**
+   * Creates a search over the specified parallel columns, which must be sorted lexicographically by
+   * the columns in the given order.
+   *
+   * @param c0 the first column
+   * @param c1 the second column
+   * @param c2 the third column
+   * @return the composite key search
+   * @throws IllegalArgumentException if the columns have different lengths
+   */
+  public static CompositeKeySearch of(long[] c0, int[] c1, long[] c2) {
+    return create(new Object[]{c0, c1, c2});
+  }
+
+  /**
+   * Creates a search over the specified parallel columns, which must be sorted lexicographically by
+   * the columns in the given order.
+   *
+   * @param c0 the first column
+   * @param c1 the second column
+   * @param c2 the third column
+   * @return the composite key search
+   * @throws IllegalArgumentException if the columns have different lengths
+   */
+  public static CompositeKeySearch of(long[] c0, long[] c1, int[] c2) {
+    return create(new Object[]{c0, c1, c2});
+  }
+
+  /**
+   * Creates a search over the specified parallel columns, which must be sorted lexicographically by
+   * the columns in the given order.
+   *
+   * @param c0 the first column
+   * @param c1 the second column
+   * @param c2 the third column
+   * @return the composite key search
+   * @throws IllegalArgumentException if the columns have different lengths
+   */
+  public static CompositeKeySearch of(long[] c0, long[] c1, long[] c2) {
+    return create(new Object[]{c0, c1, c2});
+  }
+
+  /**
+   * Creates a search over the specified parallel columns, which must be sorted lexicographically by
+   * the columns in the given order. Unlike the typed factories, the column types are only checked
+   * at run time; this factory serves the layouts with {@code byte[]}, {@code short[]} or
+   * {@code char[]} columns, or with four columns.
+   *
+   * @param columns 2 to 4 arrays of type {@code byte[]}, {@code short[]}, {@code char[]},
+   *                {@code int[]} or {@code long[]}, all of the same length
+   * @return the composite key search
+   * @throws IllegalArgumentException if the number, types or lengths of the columns are invalid
+   */
+  public static CompositeKeySearch of(Object... columns) {
+    return create(columns.clone());
+  }
+
+  /**
+   * Resolves the type of every column once into an accessor reading its values as longs, so that
+   * comparisons do not dispatch on the column types.
+   */
+  private static CompositeKeySearch create(Object[] columns) {
+    if (columns.length < 2 || columns.length > 4) {
+      throw new IllegalArgumentException("Expected 2 to 4 columns, got " + columns.length);
+    }
+    final IntToLongFunction[] accessors = new IntToLongFunction[columns.length];
+    int size = -1;
+    for (int i = 0; i < columns.length; i++) {
+      final Object column = columns[i];
+      final int length;
+      if (column instanceof byte[]) {
+        final byte[] values = (byte[]) column;
+        accessors[i] = row -> values[row];
+        length = values.length;
+      } else if (column instanceof short[]) {
+        final short[] values = (short[]) column;
+        accessors[i] = row -> values[row];
+        length = values.length;
+      } else if (column instanceof char[]) {
+        final char[] values = (char[]) column;
+        accessors[i] = row -> values[row];
+        length = values.length;
+      } else if (column instanceof int[]) {
+        final int[] values = (int[]) column;
+        accessors[i] = row -> values[row];
+        length = values.length;
+      } else if (column instanceof long[]) {
+        final long[] values = (long[]) column;
+        accessors[i] = row -> values[row];
+        length = values.length;
+      } else {
+        throw new IllegalArgumentException("Unsupported column type at index " + i + ": "
+            + (column == null ? null : column.getClass().getSimpleName()));
+      }
+      if (size >= 0 && length != size) {
+        throw new IllegalArgumentException("Column " + i + " has length " + length
+            + ", expected " + size);
+      }
+      size = length;
+    }
+    return new CompositeKeySearch(size, accessors);
+  }
+
+  /**
+   * @return the number of rows
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return the number of columns
+   */
+  public int columnCount() {
+    return columnCount;
+  }
+
+  /**
+   * Finds the index of the first row whose first key column equals the specified component.
+   *
+   * @param k0 the value of the first column
+   * @return the index of the first matching row if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order.
+   */
+  public int firstIndexOf(long k0) {
+    return firstIndexOf(1, k0, 0, 0, 0);
+  }
+
+  /**
+   * Finds the index of the first row whose first two key columns equal the specified components.
+   *
+   * @param k0 the value of the first column
+   * @param k1 the value of the second column
+   * @return the index of the first matching row if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order.
+   */
+  public int firstIndexOf(long k0, long k1) {
+    return firstIndexOf(2, k0, k1, 0, 0);
+  }
+
+  /**
+   * Finds the index of the first row whose first three key columns equal the specified components.
+   *
+   * @param k0 the value of the first column
+   * @param k1 the value of the second column
+   * @param k2 the value of the third column
+   * @return the index of the first matching row if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order.
+   * @throws IllegalArgumentException if there are fewer than three columns
+   */
+  public int firstIndexOf(long k0, long k1, long k2) {
+    return firstIndexOf(3, k0, k1, k2, 0);
+  }
+
+  /**
+   * Finds the index of the first row whose four key columns equal the specified components.
+   *
+   * @param k0 the value of the first column
+   * @param k1 the value of the second column
+   * @param k2 the value of the third column
+   * @param k3 the value of the fourth column
+   * @return the index of the first matching row if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order.
+   * @throws IllegalArgumentException if there are fewer than four columns
+   */
+  public int firstIndexOf(long k0, long k1, long k2, long k3) {
+    return firstIndexOf(4, k0, k1, k2, k3);
+  }
+
+  /**
+   * Finds the index of the last row whose first key column equals the specified component.
+   *
+   * @param k0 the value of the first column
+   * @return the index of the last matching row if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order.
+   */
+  public int lastIndexOf(long k0) {
+    return lastIndexOf(1, k0, 0, 0, 0);
+  }
+
+  /**
+   * Finds the index of the last row whose first two key columns equal the specified components.
+   *
+   * @param k0 the value of the first column
+   * @param k1 the value of the second column
+   * @return the index of the last matching row if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order.
+   */
+  public int lastIndexOf(long k0, long k1) {
+    return lastIndexOf(2, k0, k1, 0, 0);
+  }
+
+  /**
+   * Finds the index of the last row whose first three key columns equal the specified components.
+   *
+   * @param k0 the value of the first column
+   * @param k1 the value of the second column
+   * @param k2 the value of the third column
+   * @return the index of the last matching row if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order.
+   * @throws IllegalArgumentException if there are fewer than three columns
+   */
+  public int lastIndexOf(long k0, long k1, long k2) {
+    return lastIndexOf(3, k0, k1, k2, 0);
+  }
+
+  /**
+   * Finds the index of the last row whose four key columns equal the specified components.
+   *
+   * @param k0 the value of the first column
+   * @param k1 the value of the second column
+   * @param k2 the value of the third column
+   * @param k3 the value of the fourth column
+   * @return the index of the last matching row if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order.
+   * @throws IllegalArgumentException if there are fewer than four columns
+   */
+  public int lastIndexOf(long k0, long k1, long k2, long k3) {
+    return lastIndexOf(4, k0, k1, k2, k3);
+  }
+
+  /**
+   * Finds the index of the first row whose first key column is greater than the specified
+   * component.
+   *
+   * @param k0 the value of the first column
+   * @return the index of the first greater row, if such a row exists; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order.
+   */
+  public int indexOfGreaterThan(long k0) {
+    return Bounds.indexOfGreaterThan(bound(true, 1, k0, 0, 0, 0), size);
+  }
+
+  /**
+   * Finds the index of the first row whose first two key columns are greater than the specified
+   * components.
+   *
+   * @param k0 the value of the first column
+   * @param k1 the value of the second column
+   * @return the index of the first greater row, if such a row exists; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order.
+   */
+  public int indexOfGreaterThan(long k0, long k1) {
+    return Bounds.indexOfGreaterThan(bound(true, 2, k0, k1, 0, 0), size);
+  }
+
+  /**
+   * Finds the index of the first row whose first three key columns are greater than the specified
+   * components.
+   *
+   * @param k0 the value of the first column
+   * @param k1 the value of the second column
+   * @param k2 the value of the third column
+   * @return the index of the first greater row, if such a row exists; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order.
+   * @throws IllegalArgumentException if there are fewer than three columns
+   */
+  public int indexOfGreaterThan(long k0, long k1, long k2) {
+    return Bounds.indexOfGreaterThan(bound(true, 3, k0, k1, k2, 0), size);
+  }
+
+  /**
+   * Finds the index of the first row whose four key columns are greater than the specified
+   * components.
+   *
+   * @param k0 the value of the first column
+   * @param k1 the value of the second column
+   * @param k2 the value of the third column
+   * @param k3 the value of the fourth column
+   * @return the index of the first greater row, if such a row exists; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order.
+   * @throws IllegalArgumentException if there are fewer than four columns
+   */
+  public int indexOfGreaterThan(long k0, long k1, long k2, long k3) {
+    return Bounds.indexOfGreaterThan(bound(true, 4, k0, k1, k2, k3), size);
+  }
+
+  /**
+   * Finds the index of the last row whose first key column is less than the specified component.
+   *
+   * @param k0 the value of the first column
+   * @return the index of the last lesser row, if such a row exists; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key could be
+   * inserted to maintain the sorted order.
+   */
+  public int indexOfLessThan(long k0) {
+    return Bounds.indexOfLessThan(bound(false, 1, k0, 0, 0, 0));
+  }
+
+  /**
+   * Finds the index of the last row whose first two key columns are less than the specified
+   * components.
+   *
+   * @param k0 the value of the first column
+   * @param k1 the value of the second column
+   * @return the index of the last lesser row, if such a row exists; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key could be
+   * inserted to maintain the sorted order.
+   */
+  public int indexOfLessThan(long k0, long k1) {
+    return Bounds.indexOfLessThan(bound(false, 2, k0, k1, 0, 0));
+  }
+
+  /**
+   * Finds the index of the last row whose first three key columns are less than the specified
+   * components.
+   *
+   * @param k0 the value of the first column
+   * @param k1 the value of the second column
+   * @param k2 the value of the third column
+   * @return the index of the last lesser row, if such a row exists; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key could be
+   * inserted to maintain the sorted order.
+   * @throws IllegalArgumentException if there are fewer than three columns
+   */
+  public int indexOfLessThan(long k0, long k1, long k2) {
+    return Bounds.indexOfLessThan(bound(false, 3, k0, k1, k2, 0));
+  }
+
+  /**
+   * Finds the index of the last row whose four key columns are less than the specified
+   * components.
+   *
+   * @param k0 the value of the first column
+   * @param k1 the value of the second column
+   * @param k2 the value of the third column
+   * @param k3 the value of the fourth column
+   * @return the index of the last lesser row, if such a row exists; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key could be
+   * inserted to maintain the sorted order.
+   * @throws IllegalArgumentException if there are fewer than four columns
+   */
+  public int indexOfLessThan(long k0, long k1, long k2, long k3) {
+    return Bounds.indexOfLessThan(bound(false, 4, k0, k1, k2, k3));
+  }
+
+  /**
+   * Finds the range of rows whose first key column equals the specified component.
+   *
+   * @param k0 the value of the first column
+   * @return the range of indices of the matching rows; empty and positioned at the insertion point
+   * of the key if no row matches
+   */
+  public IndexRange rangeOf(long k0) {
+    return IndexRange.of(bound(false, 1, k0, 0, 0, 0), bound(true, 1, k0, 0, 0, 0));
+  }
+
+  /**
+   * Finds the range of rows whose first two key columns equal the specified components.
+   *
+   * @param k0 the value of the first column
+   * @param k1 the value of the second column
+   * @return the range of indices of the matching rows; empty and positioned at the insertion point
+   * of the key if no row matches
+   */
+  public IndexRange rangeOf(long k0, long k1) {
+    return IndexRange.of(bound(false, 2, k0, k1, 0, 0), bound(true, 2, k0, k1, 0, 0));
+  }
+
+  /**
+   * Finds the range of rows whose first three key columns equal the specified components.
+   *
+   * @param k0 the value of the first column
+   * @param k1 the value of the second column
+   * @param k2 the value of the third column
+   * @return the range of indices of the matching rows; empty and positioned at the insertion point
+   * of the key if no row matches
+   * @throws IllegalArgumentException if there are fewer than three columns
+   */
+  public IndexRange rangeOf(long k0, long k1, long k2) {
+    return IndexRange.of(bound(false, 3, k0, k1, k2, 0), bound(true, 3, k0, k1, k2, 0));
+  }
+
+  /**
+   * Finds the range of rows whose four key columns equal the specified components.
+   *
+   * @param k0 the value of the first column
+   * @param k1 the value of the second column
+   * @param k2 the value of the third column
+   * @param k3 the value of the fourth column
+   * @return the range of indices of the matching rows; empty and positioned at the insertion point
+   * of the key if no row matches
+   * @throws IllegalArgumentException if there are fewer than four columns
+   */
+  public IndexRange rangeOf(long k0, long k1, long k2, long k3) {
+    return IndexRange.of(bound(false, 4, k0, k1, k2, k3), bound(true, 4, k0, k1, k2, k3));
+  }
+
+  private int firstIndexOf(int components, long k0, long k1, long k2, long k3) {
+    return Bounds.firstIndexOf(bound(false, components, k0, k1, k2, k3),
+        bound(true, components, k0, k1, k2, k3));
+  }
+
+  private int lastIndexOf(int components, long k0, long k1, long k2, long k3) {
+    return Bounds.lastIndexOf(bound(false, components, k0, k1, k2, k3),
+        bound(true, components, k0, k1, k2, k3));
+  }
+
+  /**
+   * Returns the index of the first row greater than the key if {@code upper} is set, or not less
+   * than the key otherwise, comparing the specified number of leading columns only.
+   */
+  private int bound(boolean upper, int components, long k0, long k1, long k2, long k3) {
+    if (components > columnCount) {
+      throw new IllegalArgumentException("Expected at most " + columnCount
+          + " key components, got " + components);
+    }
+    int left = 0, right = size;
+    while (left < right) {
+      final int mid = (left + right) >>> 1;
+      int cmp = Long.compare(c0.applyAsLong(mid), k0);
+      if (cmp == 0 && components > 1) {
+        cmp = Long.compare(c1.applyAsLong(mid), k1);
+        if (cmp == 0 && components > 2) {
+          cmp = Long.compare(c2.applyAsLong(mid), k2);
+          if (cmp == 0 && components > 3) {
+            cmp = Long.compare(c3.applyAsLong(mid), k3);
+          }
+        }
+      }
+      if (cmp < 0 || (upper && cmp == 0)) {
+        left = mid + 1;
+      } else {
+        right = mid;
+      }
+    }
+    return left;
+  }
+}
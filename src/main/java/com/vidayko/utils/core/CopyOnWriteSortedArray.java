@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe sorted multiset of objects, ordered by a comparator, for read-mostly workloads,
+ * following the read-copy-update pattern.
+ * <p>
+ * The elements are kept in an immutable sorted array, published through a single volatile field.
+ * Readers take the current array with one volatile read and search it without locking, so they
+ * never contend with each other or with writers. Writers serialize on a private lock, merge their
+ * batch with the current array into a new array in O(n + m log m), and publish it; readers still
+ * holding an older snapshot keep using it until they drop it, after which it is reclaimed by the
+ * garbage collector.
+ * <p>
+ * The search methods of this class search the snapshot current at the time of the call. Sequences
+ * of reads that must be consistent with each other, such as a search followed by {@code get},
+ * should be made on a single {@link #snapshot()}. Updates are cheapest when batched. Elements
+ * comparing equal keep the order in which they were added.
+ *
+ * @param <T> the type of elements
+ * @see CopyOnWriteSortedLongArray
+ */
+public final class CopyOnWriteSortedArray<T> {
+
+  private final Comparator<? super T> comparator;
+  private final Object writeLock = new Object();
+  private volatile Snapshot<T> snapshot;
+
+  /**
+   * Creates an empty array ordered by the specified comparator.
+   *
+   * @param comparator the comparator defining the order of the elements
+   */
+  public CopyOnWriteSortedArray(Comparator<? super T> comparator) {
+    this.comparator = comparator;
+    this.snapshot = new Snapshot<>(new Object[0], comparator);
+  }
+
+  /**
+   * Returns the current immutable snapshot, which all reads on it are consistent with.
+   *
+   * @return the current snapshot
+   */
+  public Snapshot<T> snapshot() {
+    return snapshot;
+  }
+
+  /**
+   * @return the number of elements in the current snapshot
+   */
+  public int size() {
+    return snapshot.size();
+  }
+
+  /**
+   * Checks whether the current snapshot contains the specified value.
+   *
+   * @param value the value to look up
+   * @return {@code true} if the value is present
+   */
+  public boolean contains(T value) {
+    return snapshot.firstIndexOf(value) >= 0;
+  }
+
+  /**
+   * Finds the index of the first occurrence of the specified key in the current snapshot.
+   *
+   * @param key the value to search for
+   * @return the result of {@link Snapshot#firstIndexOf(Object)} on the current snapshot
+   */
+  public int firstIndexOf(T key) {
+    return snapshot.firstIndexOf(key);
+  }
+
+  /**
+   * Finds the index of the last occurrence of the specified key in the current snapshot.
+   *
+   * @param key the value to search for
+   * @return the result of {@link Snapshot#lastIndexOf(Object)} on the current snapshot
+   */
+  public int lastIndexOf(T key) {
+    return snapshot.lastIndexOf(key);
+  }
+
+  /**
+   * Finds the index of the first element greater than the specified key in the current snapshot.
+   *
+   * @param key the value to compare against
+   * @return the result of {@link Snapshot#indexOfGreaterThan(Object)} on the current snapshot
+   */
+  public int indexOfGreaterThan(T key) {
+    return snapshot.indexOfGreaterThan(key);
+  }
+
+  /**
+   * Finds the index of the last element less than the specified key in the current snapshot.
+   *
+   * @param key the value to compare against
+   * @return the result of {@link Snapshot#indexOfLessThan(Object)} on the current snapshot
+   */
+  public int indexOfLessThan(T key) {
+    return snapshot.indexOfLessThan(key);
+  }
+
+  /**
+   * Adds the specified value.
+   *
+   * @param value the value to add
+   */
+  public void add(T value) {
+    addAll(Collections.singletonList(value));
+  }
+
+  /**
+   * Adds the specified values, in any order, publishing a single new snapshot.
+   *
+   * @param values the values to add
+   */
+  @SuppressWarnings("unchecked")
+  public void addAll(Collection<? extends T> values) {
+    if (values.isEmpty()) {
+      return;
+    }
+    final Object[] batch = values.toArray();
+    Arrays.sort(batch, (a, b) -> comparator.compare((T) a, (T) b));
+    synchronized (writeLock) {
+      final Object[] current = snapshot.array;
+      final Object[] next = new Object[current.length + batch.length];
+      int i = 0, j = 0, k = 0;
+      while (i < current.length && j < batch.length) {
+        next[k++] = comparator.compare((T) current[i], (T) batch[j]) <= 0 ? current[i++]
+            : batch[j++];
+      }
+      System.arraycopy(current, i, next, k, current.length - i);
+      System.arraycopy(batch, j, next, k + current.length - i, batch.length - j);
+      snapshot = new Snapshot<>(next, comparator);
+    }
+  }
+
+  /**
+   * Removes all occurrences of the specified value.
+   *
+   * @param value the value to remove
+   * @return {@code true} if any element was removed
+   */
+  public boolean remove(T value) {
+    return removeAll(Collections.singletonList(value)) > 0;
+  }
+
+  /**
+   * Removes all elements comparing equal to any of the specified values, publishing a single new
+   * snapshot if any element was removed.
+   *
+   * @param values the values to remove, in any order
+   * @return the number of elements removed
+   */
+  @SuppressWarnings("unchecked")
+  public int removeAll(Collection<? extends T> values) {
+    final Object[] batch = values.toArray();
+    Arrays.sort(batch, (a, b) -> comparator.compare((T) a, (T) b));
+    synchronized (writeLock) {
+      final Object[] current = snapshot.array;
+      final Object[] next = new Object[current.length];
+      int length = 0;
+      for (int i = 0, j = 0; i < current.length; i++) {
+        while (j < batch.length && comparator.compare((T) batch[j], (T) current[i]) < 0) {
+          j++;
+        }
+        if (j == batch.length || comparator.compare((T) batch[j], (T) current[i]) != 0) {
+          next[length++] = current[i];
+        }
+      }
+      if (length < current.length) {
+        snapshot = new Snapshot<>(Arrays.copyOf(next, length), comparator);
+      }
+      return current.length - length;
+    }
+  }
+
+  /**
+   * Removes all elements.
+   */
+  public void clear() {
+    synchronized (writeLock) {
+      snapshot = new Snapshot<>(new Object[0], comparator);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return snapshot.toString();
+  }
+
+  /**
+   * Immutable sorted view of the elements at one point in time.
+   *
+   * @param <T> the type of elements
+   */
+  public static final class Snapshot<T> {
+
+    private final Object[] array;
+    private final Comparator<? super T> comparator;
+
+    private Snapshot(Object[] array, Comparator<? super T> comparator) {
+      this.array = array;
+      this.comparator = comparator;
+    }
+
+    /**
+     * @return the number of elements
+     */
+    public int size() {
+      return array.length;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param index the index of the element
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+      return (T) array[index];
+    }
+
+    /**
+     * Finds the index of the first occurrence of the specified key.
+     *
+     * @param key the value to search for
+     * @return the index of the first occurrence of the key if it is found; otherwise, returns
+     * -(insertion point) - 1, where the insertion point is the index at which the key would be
+     * inserted to maintain the sorted order. The return value is non-negative if and only if the
+     * key is found.
+     */
+    public int firstIndexOf(T key) {
+      return Bounds.firstIndexOf(Bounds.bound(array, 0, array.length, key, comparator, false),
+          Bounds.bound(array, 0, array.length, key, comparator, true));
+    }
+
+    /**
+     * Finds the index of the last occurrence of the specified key.
+     *
+     * @param key the value to search for
+     * @return the index of the last occurrence of the key if it is found; otherwise, returns
+     * -(insertion point) - 1, where the insertion point is the index at which the key would be
+     * inserted to maintain the sorted order. The return value is non-negative if and only if the
+     * key is found.
+     */
+    public int lastIndexOf(T key) {
+      return Bounds.lastIndexOf(Bounds.bound(array, 0, array.length, key, comparator, false),
+          Bounds.bound(array, 0, array.length, key, comparator, true));
+    }
+
+    /**
+     * Finds the index of the first element greater than the specified key.
+     *
+     * @param key the value to compare against
+     * @return the index of the first element greater than key, if such an element exists;
+     * otherwise, returns -(insertion point) - 1, where the insertion point is the index at which
+     * the key would be inserted to maintain the sorted order.
+     */
+    public int indexOfGreaterThan(T key) {
+      return Bounds.indexOfGreaterThan(Bounds.bound(array, 0, array.length, key, comparator, true),
+          array.length);
+    }
+
+    /**
+     * Finds the index of the last element less than the specified key.
+     *
+     * @param key the value to compare against
+     * @return the index of the last element less than key, if such an element exists; otherwise,
+     * returns -(insertion point) - 1, where the insertion point is the index at which the key
+     * could be inserted to maintain the sorted order.
+     */
+    public int indexOfLessThan(T key) {
+      return Bounds.indexOfLessThan(Bounds.bound(array, 0, array.length, key, comparator, false));
+    }
+
+    /**
+     * Finds the range of elements equal to the specified key.
+     *
+     * @param key the value to search for
+     * @return the range of indices of the elements equal to the key; empty and positioned at the
+     * insertion point of the key if it is absent
+     */
+    public IndexRange rangeOf(T key) {
+      return IndexRange.of(Bounds.bound(array, 0, array.length, key, comparator, false),
+          Bounds.bound(array, 0, array.length, key, comparator, true));
+    }
+
+    /**
+     * Performs the given action for each element in sorted order.
+     *
+     * @param action the action to perform
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+      for (Object value : array) {
+        action.accept((T) value);
+      }
+    }
+
+    /**
+     * @return an unmodifiable list view of the elements in sorted order
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> asList() {
+      return (List<T>) Collections.unmodifiableList(Arrays.asList(array));
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(array);
+    }
+  }
+}
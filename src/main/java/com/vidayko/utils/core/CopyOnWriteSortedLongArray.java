@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import java.util.function.LongConsumer;
+
+/**
+ * Thread-safe sorted multiset of longs for read-mostly workloads, following the read-copy-update
+ * pattern.
+ * <p>
+ * The elements are kept in an immutable sorted array, published through a single volatile field.
+ * Readers take the current array with one volatile read and search it without locking, so they
+ * never contend with each other or with writers. Writers serialize on a private lock, merge their
+ * batch with the current array into a new array in O(n + m log m), and publish it; readers still
+ * holding an older snapshot keep using it until they drop it, after which it is reclaimed by the
+ * garbage collector.
+ * <p>
+ * The search methods of this class search the snapshot current at the time of the call. Sequences
+ * of reads that must be consistent with each other, such as a search followed by {@code get},
+ * should be made on a single {@link #snapshot()}. Updates are cheapest when batched.
+ */
+public final class CopyOnWriteSortedLongArray {
+
+  private final Object writeLock = new Object();
+  private volatile Snapshot snapshot;
+
+  /**
+   * Creates an empty array.
+   */
+  public CopyOnWriteSortedLongArray() {
+    this.snapshot = new Snapshot(new long[0]);
+  }
+
+  /**
+   * Creates an array holding the specified values, in any order. The values are copied.
+   *
+   * @param values the initial values
+   * @return the copy-on-write array
+   */
+  public static CopyOnWriteSortedLongArray of(long... values) {
+    final CopyOnWriteSortedLongArray array = new CopyOnWriteSortedLongArray();
+    array.addAll(values);
+    return array;
+  }
+
+  /**
+   * Returns the current immutable snapshot, which all reads on it are consistent with.
+   *
+   * @return the current snapshot
+   */
+  public Snapshot snapshot() {
+    return snapshot;
+  }
+
+  /**
+   * @return the number of elements in the current snapshot
+   */
+  public int size() {
+    return snapshot.size();
+  }
+
+  /**
+   * Checks whether the current snapshot contains the specified value.
+   *
+   * @param value the value to look up
+   * @return {@code true} if the value is present
+   */
+  public boolean contains(long value) {
+    return snapshot.firstIndexOf(value) >= 0;
+  }
+
+  /**
+   * Finds the index of the first occurrence of the specified key in the current snapshot.
+   *
+   * @param key the value to search for
+   * @return the result of {@link Snapshot#firstIndexOf(long)} on the current snapshot
+   */
+  public int firstIndexOf(long key) {
+    return snapshot.firstIndexOf(key);
+  }
+
+  /**
+   * Finds the index of the last occurrence of the specified key in the current snapshot.
+   *
+   * @param key the value to search for
+   * @return the result of {@link Snapshot#lastIndexOf(long)} on the current snapshot
+   */
+  public int lastIndexOf(long key) {
+    return snapshot.lastIndexOf(key);
+  }
+
+  /**
+   * Finds the index of the first element greater than the specified key in the current snapshot.
+   *
+   * @param key the value to compare against
+   * @return the result of {@link Snapshot#indexOfGreaterThan(long)} on the current snapshot
+   */
+  public int indexOfGreaterThan(long key) {
+    return snapshot.indexOfGreaterThan(key);
+  }
+
+  /**
+   * Finds the index of the last element less than the specified key in the current snapshot.
+   *
+   * @param key the value to compare against
+   * @return the result of {@link Snapshot#indexOfLessThan(long)} on the current snapshot
+   */
+  public int indexOfLessThan(long key) {
+    return snapshot.indexOfLessThan(key);
+  }
+
+  /**
+   * Adds the specified value.
+   *
+   * @param value the value to add
+   */
+  public void add(long value) {
+    addAll(value);
+  }
+
+  /**
+   * Adds the specified values, in any order, publishing a single new snapshot.
+   *
+   * @param values the values to add
+   */
+  public void addAll(long... values) {
+    if (values.length == 0) {
+      return;
+    }
+    final long[] batch = values.clone();
+    Arrays.sort(batch);
+    synchronized (writeLock) {
+      final long[] current = snapshot.array;
+      final long[] next = new long[current.length + batch.length];
+      int i = 0, j = 0, k = 0;
+      while (i < current.length && j < batch.length) {
+        next[k++] = current[i] <= batch[j] ? current[i++] : batch[j++];
+      }
+      System.arraycopy(current, i, next, k, current.length - i);
+      System.arraycopy(batch, j, next, k + current.length - i, batch.length - j);
+      snapshot = new Snapshot(next);
+    }
+  }
+
+  /**
+   * Removes all occurrences of the specified value.
+   *
+   * @param value the value to remove
+   * @return {@code true} if any element was removed
+   */
+  public boolean remove(long value) {
+    return removeAll(value) > 0;
+  }
+
+  /**
+   * Removes all occurrences of the specified values, publishing a single new snapshot if any
+   * element was removed.
+   *
+   * @param values the values to remove, in any order
+   * @return the number of elements removed
+   */
+  public int removeAll(long... values) {
+    final long[] batch = values.clone();
+    Arrays.sort(batch);
+    synchronized (writeLock) {
+      final long[] current = snapshot.array;
+      final long[] next = new long[current.length];
+      int length = 0;
+      for (int i = 0, j = 0; i < current.length; i++) {
+        while (j < batch.length && batch[j] < current[i]) {
+          j++;
+        }
+        if (j == batch.length || batch[j] != current[i]) {
+          next[length++] = current[i];
+        }
+      }
+      if (length < current.length) {
+        snapshot = new Snapshot(Arrays.copyOf(next, length));
+      }
+      return current.length - length;
+    }
+  }
+
+  /**
+   * Removes all elements.
+   */
+  public void clear() {
+    synchronized (writeLock) {
+      snapshot = new Snapshot(new long[0]);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return snapshot.toString();
+  }
+
+  /**
+   * Immutable sorted view of the elements at one point in time.
+   */
+  public static final class Snapshot {
+
+    private final long[] array;
+
+    private Snapshot(long[] array) {
+      this.array = array;
+    }
+
+    /**
+     * @return the number of elements
+     */
+    public int size() {
+      return array.length;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param index the index of the element
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long get(int index) {
+      return array[index];
+    }
+
+    /**
+     * Finds the index of the first occurrence of the specified key.
+     *
+     * @param key the value to search for
+     * @return the index of the first occurrence of the key if it is found; otherwise, returns
+     * -(insertion point) - 1, where the insertion point is the index at which the key would be
+     * inserted to maintain the sorted order. The return value is non-negative if and only if the
+     * key is found.
+     */
+    public int firstIndexOf(long key) {
+      return Bounds.firstIndexOf(Bounds.bound(array, 0, array.length, key, false),
+          Bounds.bound(array, 0, array.length, key, true));
+    }
+
+    /**
+     * Finds the index of the last occurrence of the specified key.
+     *
+     * @param key the value to search for
+     * @return the index of the last occurrence of the key if it is found; otherwise, returns
+     * -(insertion point) - 1, where the insertion point is the index at which the key would be
+     * inserted to maintain the sorted order. The return value is non-negative if and only if the
+     * key is found.
+     */
+    public int lastIndexOf(long key) {
+      return Bounds.lastIndexOf(Bounds.bound(array, 0, array.length, key, false),
+          Bounds.bound(array, 0, array.length, key, true));
+    }
+
+    /**
+     * Finds the index of the first element greater than the specified key.
+     *
+     * @param key the value to compare against
+     * @return the index of the first element greater than key, if such an element exists;
+     * otherwise, returns -(insertion point) - 1, where the insertion point is the index at which
+     * the key would be inserted to maintain the sorted order.
+     */
+    public int indexOfGreaterThan(long key) {
+      return Bounds.indexOfGreaterThan(Bounds.bound(array, 0, array.length, key, true),
+          array.length);
+    }
+
+    /**
+     * Finds the index of the last element less than the specified key.
+     *
+     * @param key the value to compare against
+     * @return the index of the last element less than key, if such an element exists; otherwise,
+     * returns -(insertion point) - 1, where the insertion point is the index at which the key
+     * could be inserted to maintain the sorted order.
+     */
+    public int indexOfLessThan(long key) {
+      return Bounds.indexOfLessThan(Bounds.bound(array, 0, array.length, key, false));
+    }
+
+    /**
+     * Finds the range of elements equal to the specified key.
+     *
+     * @param key the value to search for
+     * @return the range of indices of the elements equal to the key; empty and positioned at the
+     * insertion point of the key if it is absent
+     */
+    public IndexRange rangeOf(long key) {
+      return IndexRange.of(Bounds.bound(array, 0, array.length, key, false),
+          Bounds.bound(array, 0, array.length, key, true));
+    }
+
+    /**
+     * Performs the given action for each element in sorted order.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(LongConsumer action) {
+      for (long value : array) {
+        action.accept(value);
+      }
+    }
+
+    /**
+     * @return a new array holding the elements in sorted order
+     */
+    public long[] toArray() {
+      return array.clone();
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(array);
+    }
+  }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+/**
+ * Immutable Elias-Fano encoded monotone (non-decreasing) sequence of longs.
+ * <p>
+ * Every value is offset by the sequence minimum and split into {@code l = floor(log2(u / n))} low
+ * bits, stored verbatim, and the remaining high bits, stored in unary as a bit vector of
+ * {@code n + (u >>> l) + 1} bits, where {@code u} is the difference between the maximum and the
+ * minimum value and {@code n} is the number of values. The sequence therefore takes about
+ * {@code 2 + log2(u / n)} bits per element, plus sampled select directories of about half a bit
+ * per element, instead of 64 bits of a {@code long[]}.
+ * <p>
+ * Positional access is answered in O(1) via the sampled select directory over the high bits. The
+ * search operations mirror {@link BinarySearch} on the equivalent sorted {@code long[]} and return
+ * identical results: the high bits of the key select a bucket in O(1), and only the low bits of
+ * that bucket are binary searched.
+ * <p>
+ * Instances are immutable and safe for concurrent use.
+ */
+public final class EliasFanoSequence {
+
+  private static final int SAMPLE_SHIFT = 8;
+  private static final int SAMPLE_MASK = (1 << SAMPLE_SHIFT) - 1;
+
+  private final int size;
+  private final long min;
+  private final long universe;
+  private final int lowWidth;
+  private final long[] lowBits;
+  private final long[] highBits;
+  private final long[] oneSamples;
+  private final long[] zeroSamples;
+
+  private EliasFanoSequence(int size, long min, long universe, int lowWidth, long[] lowBits,
+      long[] highBits, long[] oneSamples, long[] zeroSamples) {
+    this.size = size;
+    this.min = min;
+    this.universe = universe;
+    this.lowWidth = lowWidth;
+    this.lowBits = lowBits;
+    this.highBits = highBits;
+    this.oneSamples = oneSamples;
+    this.zeroSamples = zeroSamples;
+  }
+
+  /**
+   * Encodes the specified array of longs, which must be sorted in natural order. The array is not
+   * retained.
+   *
+   * @param array the sorted array to encode
+   * @return the encoded sequence
+   * @throws IllegalArgumentException if the array is not sorted in natural order
+   */
+  public static EliasFanoSequence of(long[] array) {
+    final int size = array.length;
+    for (int i = 1; i < size; i++) {
+      if (array[i - 1] > array[i]) {
+        throw new IllegalArgumentException("Array is not sorted at index " + i);
+      }
+    }
+    if (size == 0) {
+      return new EliasFanoSequence(0, 0, 0, 0, new long[0], new long[0], new long[0],
+          new long[0]);
+    }
+
+    final long min = array[0];
+    final long universe = array[size - 1] - min;
+    final long ratio = Long.divideUnsigned(universe, size);
+    final int lowWidth = ratio == 0 ? 0 : 63 - Long.numberOfLeadingZeros(ratio);
+    final long lowMask = Bits.mask(lowWidth);
+    final long highLength = size + (universe >>> lowWidth) + 1;
+
+    final long[] lowBits = new long[Bits.words((long) size * lowWidth)];
+    final long[] highBits = new long[Bits.words(highLength)];
+    for (int i = 0; i < size; i++) {
+      final long value = array[i] - min;
+      Bits.write(lowBits, (long) i * lowWidth, lowWidth, value & lowMask);
+      final long position = (value >>> lowWidth) + i;
+      highBits[(int) (position >>> 6)] |= 1L << position;
+    }
+
+    final long zeros = highLength - size;
+    final long[] oneSamples = new long[(size + SAMPLE_MASK) >>> SAMPLE_SHIFT];
+    final long[] zeroSamples = new long[(int) ((zeros + SAMPLE_MASK) >>> SAMPLE_SHIFT)];
+    long ones = 0, nextOne = 0, seenZeros = 0, nextZero = 0;
+    for (int word = 0; word < highBits.length; word++) {
+      final int valid = (int) Math.min(64, highLength - ((long) word << 6));
+      final long oneBits = highBits[word];
+      final long zeroBits = ~oneBits & Bits.mask(valid);
+      final int oneCount = Long.bitCount(oneBits);
+      final int zeroCount = Long.bitCount(zeroBits);
+      while (nextOne < ones + oneCount) {
+        oneSamples[(int) (nextOne >>> SAMPLE_SHIFT)] =
+            ((long) word << 6) + Bits.select(oneBits, (int) (nextOne - ones));
+        nextOne += 1 << SAMPLE_SHIFT;
+      }
+      while (nextZero < seenZeros + zeroCount) {
+        zeroSamples[(int) (nextZero >>> SAMPLE_SHIFT)] =
+            ((long) word << 6) + Bits.select(zeroBits, (int) (nextZero - seenZeros));
+        nextZero += 1 << SAMPLE_SHIFT;
+      }
+      ones += oneCount;
+      seenZeros += zeroCount;
+    }
+    return new EliasFanoSequence(size, min, universe, lowWidth, lowBits, highBits, oneSamples,
+        zeroSamples);
+  }
+
+  /**
+   * @return the number of values in the sequence
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the value at the specified index in O(1) time.
+   *
+   * @param index the index of the value
+   * @return the value at the specified index
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public long get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    final long high = select(index, oneSamples, false) - index;
+    return min + ((high << lowWidth) | low(index));
+  }
+
+  /**
+   * Decodes the whole sequence into a new array.
+   *
+   * @return the sorted array of values
+   */
+  public long[] toArray() {
+    final long[] array = new long[size];
+    long high = 0;
+    int index = 0;
+    for (int word = 0; word < highBits.length && index < size; word++) {
+      long bits = highBits[word];
+      while (bits != 0) {
+        final long position = ((long) word << 6) + Long.numberOfTrailingZeros(bits);
+        high = position - index;
+        array[index] = min + ((high << lowWidth) | low(index));
+        index++;
+        bits &= bits - 1;
+      }
+    }
+    return array;
+  }
+
+  /**
+   * @return the approximate number of bytes occupied by the encoded sequence
+   */
+  public long sizeInBytes() {
+    return 8L * (lowBits.length + highBits.length + oneSamples.length + zeroSamples.length);
+  }
+
+  /**
+   * Finds the index of the first occurrence of the specified key in the sequence.
+   *
+   * @param key the value to search for
+   * @return the index of the first occurrence of the key if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order. The return value is non-negative if and only if the key
+   * is found.
+   */
+  public int firstIndexOf(long key) {
+    return Bounds.firstIndexOf(lowerBound(key), upperBound(key));
+  }
+
+  /**
+   * Finds the index of the last occurrence of the specified key in the sequence.
+   *
+   * @param key the value to search for
+   * @return the index of the last occurrence of the key if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order. The return value is non-negative if and only if the key
+   * is found.
+   */
+  public int lastIndexOf(long key) {
+    return Bounds.lastIndexOf(lowerBound(key), upperBound(key));
+  }
+
+  /**
+   * Finds the index of the first value greater than the specified key, i.e. its successor.
+   *
+   * @param key the value to compare against
+   * @return the index of the first value greater than key, if such a value exists; otherwise,
+   * returns -(insertion point) - 1, where the insertion point is the index at which the key would
+   * be inserted to maintain the sorted order.
+   */
+  public int indexOfGreaterThan(long key) {
+    return Bounds.indexOfGreaterThan(upperBound(key), size);
+  }
+
+  /**
+   * Finds the index of the last value less than the specified key, i.e. its predecessor.
+   *
+   * @param key the value to compare against
+   * @return the index of the last value less than key, if such a value exists; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key could be
+   * inserted to maintain the sorted order.
+   */
+  public int indexOfLessThan(long key) {
+    return Bounds.indexOfLessThan(lowerBound(key));
+  }
+
+  /**
+   * Finds the range of indices of all values equal to the specified key.
+   *
+   * @param key the value to search for
+   * @return the range of indices of the values equal to the key; empty and positioned at the
+   * insertion point of the key if the key is not found
+   */
+  public IndexRange equalRange(long key) {
+    return IndexRange.of(lowerBound(key), upperBound(key));
+  }
+
+  private int lowerBound(long key) {
+    if (size == 0 || key <= min) {
+      return 0;
+    }
+    final long value = key - min;
+    if (Long.compareUnsigned(value, universe) > 0) {
+      return size;
+    }
+    final long high = value >>> lowWidth;
+    final long low = value & Bits.mask(lowWidth);
+    int left = bucketStart(high), right = bucketEnd(high);
+    while (left < right) {
+      final int mid = (left + right) >>> 1;
+      if (low(mid) < low) {
+        left = mid + 1;
+      } else {
+        right = mid;
+      }
+    }
+    return left;
+  }
+
+  private int upperBound(long key) {
+    if (size == 0 || key < min) {
+      return 0;
+    }
+    final long value = key - min;
+    if (Long.compareUnsigned(value, universe) >= 0) {
+      return size;
+    }
+    final long high = value >>> lowWidth;
+    final long low = value & Bits.mask(lowWidth);
+    int left = bucketStart(high), right = bucketEnd(high);
+    while (left < right) {
+      final int mid = (left + right) >>> 1;
+      if (low(mid) <= low) {
+        left = mid + 1;
+      } else {
+        right = mid;
+      }
+    }
+    return left;
+  }
+
+  /**
+   * Returns the number of values whose high bits are less than the specified high bits.
+   */
+  private int bucketStart(long high) {
+    return high == 0 ? 0 : (int) (select(high - 1, zeroSamples, true) - (high - 1));
+  }
+
+  /**
+   * Returns the number of values whose high bits are less than or equal to the specified high
+   * bits.
+   */
+  private int bucketEnd(long high) {
+    return (int) (select(high, zeroSamples, true) - high);
+  }
+
+  private long low(int index) {
+    return Bits.read(lowBits, (long) index * lowWidth, lowWidth);
+  }
+
+  /**
+   * Returns the position of the one (or zero) bit of the specified rank in the high bits.
+   */
+  private long select(long rank, long[] samples, boolean zeros) {
+    final long position = samples[(int) (rank >>> SAMPLE_SHIFT)];
+    long remaining = rank & SAMPLE_MASK;
+    int word = (int) (position >>> 6);
+    long bits = (zeros ? ~highBits[word] : highBits[word]) & (-1L << position);
+    while (true) {
+      final int count = Long.bitCount(bits);
+      if (remaining < count) {
+        return ((long) word << 6) + Bits.select(bits, (int) remaining);
+      }
+      remaining -= count;
+      word++;
+      bits = zeros ? ~highBits[word] : highBits[word];
+    }
+  }
+}
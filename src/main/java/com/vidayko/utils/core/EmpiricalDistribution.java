@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+/**
+ * Empirical distribution of a sorted sample of doubles, evaluating its cumulative distribution
+ * function and its quantiles, one at a time or in batches.
+ * <p>
+ * The rank of a value is the number of sample elements not greater than it, which is the insertion
+ * point reported by {@link BinarySearch#indexOfGreaterThan(double, double[])}, or the number of
+ * elements less than it, the insertion point reported by
+ * {@link BinarySearch#indexOfLessThan(double, double[])}. Values are ordered as by
+ * {@link Double#compare(double, double)}, so {@code -0.0} ranks below {@code 0.0}.
+ * <p>
+ * Batch evaluation merges the queries into the sample: a query following a lesser or equal one is
+ * first looked up in a small window after the rank of its predecessor, and bisected within that
+ * window if it falls there, or within the rest of the sample past the window otherwise, so sorted
+ * queries are ranked in a single forward pass, touching few cache lines each when they are dense.
+ * Other queries are ranked by binary searches over the whole sample, whose first probes stay
+ * cached from one search to the next. Large batches can be split into chunks evaluated
+ * in parallel on the common fork-join pool.
+ * <p>
+ * Quantiles are computed by one of the {@link QuantileMethod}s of Hyndman and Fan. The sample is
+ * not copied, and must not be modified while the distribution is used.
+ */
+public final class EmpiricalDistribution {
+
+  private static final int MERGE_WINDOW = 1 << 6;
+
+  private final double[] sample;
+
+  /**
+   * Creates the empirical distribution of the specified sample.
+   *
+   * @param sample the sample, sorted in ascending order
+   * @throws IllegalArgumentException if the sample is empty or contains NaN
+   */
+  public EmpiricalDistribution(double[] sample) {
+    if (sample.length == 0) {
+      throw new IllegalArgumentException("Empty sample");
+    }
+    if (Double.isNaN(sample[sample.length - 1])) {
+      throw new IllegalArgumentException("Sample contains NaN");
+    }
+    this.sample = sample;
+  }
+
+  /**
+   * Creates the empirical distribution of a sorted copy of the specified sample.
+   *
+   * @param sample the sample, in any order
+   * @return the empirical distribution of the sample
+   * @throws IllegalArgumentException if the sample is empty or contains NaN
+   */
+  public static EmpiricalDistribution ofUnsorted(double[] sample) {
+    final double[] sorted = sample.clone();
+    RadixSort.sort(sorted);
+    return new EmpiricalDistribution(sorted);
+  }
+
+  /**
+   * @return the number of elements in the sample
+   */
+  public int size() {
+    return sample.length;
+  }
+
+  /**
+   * Counts the sample elements not greater than the specified value.
+   *
+   * @param x the value
+   * @return the number of elements less than or equal to the value
+   */
+  public int rank(double x) {
+    return Bounds.bound(sample, 0, sample.length, x, true);
+  }
+
+  /**
+   * Counts the sample elements less than the specified value.
+   *
+   * @param x the value
+   * @return the number of elements less than the value
+   */
+  public int rankBelow(double x) {
+    return Bounds.bound(sample, 0, sample.length, x, false);
+  }
+
+  /**
+   * Evaluates the cumulative distribution function at the specified value.
+   *
+   * @param x the value
+   * @return the fraction of the sample not greater than the value
+   */
+  public double cdf(double x) {
+    return (double) rank(x) / sample.length;
+  }
+
+  /**
+   * Ranks all the specified values, counting the sample elements not greater than each of them if
+   * {@code inclusive} is set, or less than each of them otherwise.
+   *
+   * @param xs        the values
+   * @param ranks     the array receiving the rank of {@code xs[i]} at index {@code i}
+   * @param inclusive whether elements equal to a value count towards its rank
+   * @param parallel  whether to split large batches into chunks ranked in parallel
+   * @throws IllegalArgumentException if {@code ranks} is shorter than {@code xs}
+   */
+  public void ranks(double[] xs, int[] ranks, boolean inclusive, boolean parallel) {
+    checkOutput(xs.length, ranks.length);
+    forEachChunk(xs.length, parallel, (from, to) -> {
+      final long[] cursor = {Long.MAX_VALUE, 0};
+      for (int i = from; i < to; i++) {
+        ranks[i] = merge(xs[i], cursor, inclusive);
+      }
+    });
+  }
+
+  /**
+   * Evaluates the cumulative distribution function at all the specified values.
+   *
+   * @param xs       the values
+   * @param cdf      the array receiving the function value at {@code xs[i]} at index {@code i};
+   *                 may be {@code xs} itself
+   * @param parallel whether to split large batches into chunks evaluated in parallel
+   * @throws IllegalArgumentException if {@code cdf} is shorter than {@code xs}
+   */
+  public void cdf(double[] xs, double[] cdf, boolean parallel) {
+    checkOutput(xs.length, cdf.length);
+    final double n = sample.length;
+    forEachChunk(xs.length, parallel, (from, to) -> {
+      final long[] cursor = {Long.MAX_VALUE, 0};
+      for (int i = from; i < to; i++) {
+        cdf[i] = merge(xs[i], cursor, true) / n;
+      }
+    });
+  }
+
+  /**
+   * Computes the quantile of the sample for the specified probability.
+   *
+   * @param p      the probability, between 0 and 1 inclusive
+   * @param method the quantile method
+   * @return the quantile
+   * @throws IllegalArgumentException if the probability is not between 0 and 1
+   */
+  public double quantile(double p, QuantileMethod method) {
+    if (!(p >= 0 && p <= 1)) {
+      throw new IllegalArgumentException("Invalid probability: " + p);
+    }
+    final double position = Math.min(Math.max(method.position(p, sample.length), 0),
+        sample.length - 1);
+    final int index = (int) position;
+    final double fraction = position - index;
+    if (fraction == 0) {
+      return sample[index];
+    }
+    final double a = sample[index], b = sample[index + 1];
+    final double value = a + fraction * (b - a);
+    // the difference of infinite bounds is not finite, while their weighted sum is
+    return Double.isNaN(value) ? (1 - fraction) * a + fraction * b : value;
+  }
+
+  /**
+   * Computes the quantiles of the sample for all the specified probabilities.
+   *
+   * @param ps        the probabilities, between 0 and 1 inclusive
+   * @param method    the quantile method
+   * @param quantiles the array receiving the quantile for {@code ps[i]} at index {@code i}; may be
+   *                  {@code ps} itself
+   * @param parallel  whether to split large batches into chunks computed in parallel
+   * @throws IllegalArgumentException if a probability is not between 0 and 1, or if
+   *                                  {@code quantiles} is shorter than {@code ps}
+   */
+  public void quantiles(double[] ps, QuantileMethod method, double[] quantiles, boolean parallel) {
+    checkOutput(ps.length, quantiles.length);
+    forEachChunk(ps.length, parallel, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        quantiles[i] = quantile(ps[i], method);
+      }
+    });
+  }
+
+  /**
+   * Ranks the value. If it is not less than the previous value of the batch, only the window
+   * following the rank of that value is searched, or the rest of the sample past the window if the
+   * value lies beyond it, so that ascending batches never search the prefix again. The cursor holds
+   * the sortable bits and the rank of the previous value.
+   */
+  private int merge(double x, long[] cursor, boolean inclusive) {
+    final long bits = SortableBits.of(x);
+    int from = 0, to = sample.length;
+    if (cursor[0] <= bits) {
+      final int limit = (int) cursor[1] + MERGE_WINDOW;
+      if (limit >= to) {
+        from = (int) cursor[1];
+      } else {
+        final long value = SortableBits.of(sample[limit]);
+        if (value < bits || (inclusive && value == bits)) {
+          from = limit + 1;
+        } else {
+          from = (int) cursor[1];
+          to = limit;
+        }
+      }
+    }
+    final int rank = Bounds.bound(sample, from, to, x, inclusive);
+    cursor[0] = bits;
+    cursor[1] = rank;
+    return rank;
+  }
+
+  private static void forEachChunk(int n, boolean parallel, RadixSort.ChunkAction action) {
+    if (parallel) {
+      RadixSort.forEachChunk(n, action);
+    } else {
+      action.run(0, n);
+    }
+  }
+
+  private static void checkOutput(int length, int outputLength) {
+    if (outputLength < length) {
+      throw new IllegalArgumentException("Output of length " + outputLength + " for " + length
+          + " values");
+    }
+  }
+
+  /**
+   * Methods for estimating quantiles from a sample, as classified by Hyndman and Fan, "Sample
+   * Quantiles in Statistical Packages" (1996). Each method places the quantile for a probability
+   * {@code p} at a fractional position of the sorted sample, clamped to its bounds, and
+   * interpolates linearly between the two elements around it.
+   */
+  public enum QuantileMethod {
+
+    /**
+     * The smallest element at which the empirical distribution function reaches {@code p}
+     * (Hyndman and Fan type 1).
+     */
+    INVERTED_CDF {
+      @Override
+      double position(double p, int n) {
+        return Math.ceil(n * p) - 1;
+      }
+    },
+
+    /**
+     * The element below or at the position of {@link #LINEAR}.
+     */
+    LOWER {
+      @Override
+      double position(double p, int n) {
+        return Math.floor((n - 1) * p);
+      }
+    },
+
+    /**
+     * The element above or at the position of {@link #LINEAR}.
+     */
+    HIGHER {
+      @Override
+      double position(double p, int n) {
+        return Math.ceil((n - 1) * p);
+      }
+    },
+
+    /**
+     * The element nearest to the position of {@link #LINEAR}, the even one on ties.
+     */
+    NEAREST {
+      @Override
+      double position(double p, int n) {
+        return Math.rint((n - 1) * p);
+      }
+    },
+
+    /**
+     * The mean of {@link #LOWER} and {@link #HIGHER}.
+     */
+    MIDPOINT {
+      @Override
+      double position(double p, int n) {
+        final double position = (n - 1) * p;
+        return (Math.floor(position) + Math.ceil(position)) / 2;
+      }
+    },
+
+    /**
+     * Linear interpolation of the modes, at position {@code (n - 1)p} (Hyndman and Fan type 7,
+     * the default of R, NumPy and spreadsheets).
+     */
+    LINEAR {
+      @Override
+      double position(double p, int n) {
+        return (n - 1) * p;
+      }
+    },
+
+    /**
+     * Piecewise linear interpolation at position {@code np - 1/2} (Hyndman and Fan type 5).
+     */
+    HAZEN {
+      @Override
+      double position(double p, int n) {
+        return n * p - 0.5;
+      }
+    },
+
+    /**
+     * Linear interpolation of the expectations of order statistics, at position
+     * {@code (n + 1)p - 1} (Hyndman and Fan type 6).
+     */
+    WEIBULL {
+      @Override
+      double position(double p, int n) {
+        return (n + 1) * p - 1;
+      }
+    },
+
+    /**
+     * Approximately median-unbiased, at position {@code (n + 1/3)p - 2/3} (Hyndman and Fan type 8,
+     * recommended by them).
+     */
+    MEDIAN_UNBIASED {
+      @Override
+      double position(double p, int n) {
+        return (n + 1.0 / 3) * p - 2.0 / 3;
+      }
+    },
+
+    /**
+     * Approximately unbiased for normally distributed samples, at position
+     * {@code (n + 1/4)p - 5/8} (Hyndman and Fan type 9).
+     */
+    NORMAL_UNBIASED {
+      @Override
+      double position(double p, int n) {
+        return (n + 0.25) * p - 0.625;
+      }
+    };
+
+    /**
+     * Returns the zero-based fractional position of the quantile in a sample of size n.
+     */
+    abstract double position(double p, int n);
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * Internal thread-safe count-min sketch estimating the recent access frequency of keys, as used by
+ * the TinyLFU admission policy.
+ * <p>
+ * Every key maps to four 4-bit counters, one per hash function, packed sixteen to a {@code long};
+ * its frequency is the minimum of them, saturating at 15. Once the number of increments reaches
+ * ten times the table size, all counters are halved, so that the estimates follow the recent
+ * popularity of keys. Counters are updated by compare-and-set, so concurrent increments are never
+ * lost. Only the periodic halving is not atomic as a whole: an increment racing with it may be
+ * halved or not depending on which word it lands in, and increments counted between the halving
+ * and the reset of the sample count are dropped from that count, which slightly skews the next
+ * aging period.
+ */
+final class FrequencySketch {
+
+  private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L,
+      0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+  private static final long RESET_MASK = 0x7777777777777777L;
+
+  private final AtomicLongArray table;
+  private final int mask;
+  private final int sampleSize;
+  private final AtomicInteger samples = new AtomicInteger();
+
+  /**
+   * Creates a sketch sized for the specified number of cached keys.
+   */
+  FrequencySketch(int capacity) {
+    final int length = Math.max(8, Integer.highestOneBit(Math.max(1, capacity - 1)) << 1);
+    this.table = new AtomicLongArray(length);
+    this.mask = length - 1;
+    this.sampleSize = 10 * length;
+  }
+
+  /**
+   * Spreads the bits of a key into a well-mixed hash.
+   */
+  static int hash(long key) {
+    final long h = key * 0x9e3779b97f4a7c15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  /**
+   * Returns the estimated number of recent occurrences of the hash, at most 15.
+   */
+  int frequency(int hash) {
+    int frequency = 15;
+    for (int i = 0; i < 4; i++) {
+      final int shift = offset(hash, i) << 2;
+      frequency = Math.min(frequency, (int) ((table.get(index(hash, i)) >>> shift) & 15));
+    }
+    return frequency;
+  }
+
+  /**
+   * Records an occurrence of the hash, aging all counters periodically.
+   */
+  void increment(int hash) {
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      added |= increment(index(hash, i), offset(hash, i) << 2);
+    }
+    if (added && samples.incrementAndGet() == sampleSize) {
+      for (int i = 0; i <= mask; i++) {
+        long word;
+        do {
+          word = table.get(i);
+        } while (!table.compareAndSet(i, word, (word >>> 1) & RESET_MASK));
+      }
+      samples.set(sampleSize / 2);
+    }
+  }
+
+  private boolean increment(int index, int shift) {
+    while (true) {
+      final long word = table.get(index);
+      if (((word >>> shift) & 15) == 15) {
+        return false;
+      }
+      if (table.compareAndSet(index, word, word + (1L << shift))) {
+        return true;
+      }
+    }
+  }
+
+  private int index(int hash, int i) {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    h += h >>> 32;
+    return (int) h & mask;
+  }
+
+  /**
+   * Returns the counter within the word, so that each hash function uses a distinct counter.
+   */
+  private static int offset(int hash, int i) {
+    return ((hash & 3) << 2) + i;
+  }
+}
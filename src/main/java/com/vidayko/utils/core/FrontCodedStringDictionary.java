@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+
+/**
+ * Immutable front-coded (prefix-compressed) dictionary of sorted strings, stored in a single
+ * {@code char[]}.
+ * <p>
+ * Strings are split into buckets of {@value #BUCKET_SIZE}. The first string of every bucket (the
+ * bucket header) is stored in full, and every following string is stored as the length of the
+ * prefix it shares with its predecessor, followed by the remaining suffix. Lengths take one
+ * {@code char}, or two for lengths of 32768 and above.
+ * <p>
+ * Strings are compared by their UTF-16 code units, as by {@link String#compareTo(String)}. The
+ * search operations mirror {@link BinarySearch} on the equivalent sorted {@code String[]} and
+ * return identical results: the bucket headers are binary searched first, then the single
+ * candidate bucket is scanned by tracking the common prefix of the key with every entry, without
+ * decoding the entries into strings.
+ * <p>
+ * Instances are immutable and safe for concurrent use.
+ */
+public final class FrontCodedStringDictionary {
+
+  /**
+   * The number of strings per bucket.
+   */
+  public static final int BUCKET_SIZE = 16;
+
+  private static final int BUCKET_SHIFT = 4;
+  private static final int LONG_LENGTH = 0x8000;
+
+  private final int size;
+  private final int[] offsets;
+  private final char[] data;
+
+  private FrontCodedStringDictionary(int size, int[] offsets, char[] data) {
+    this.size = size;
+    this.offsets = offsets;
+    this.data = data;
+  }
+
+  /**
+   * Encodes the specified array of strings, which must be sorted in natural order. The array is
+   * not retained.
+   *
+   * @param array the sorted array to encode
+   * @return the encoded dictionary
+   * @throws IllegalArgumentException if the array is not sorted in natural order
+   */
+  public static FrontCodedStringDictionary of(String[] array) {
+    return of(Arrays.asList(array));
+  }
+
+  /**
+   * Encodes the specified list of strings, which must be sorted in natural order. The list is not
+   * retained.
+   *
+   * @param list the sorted list to encode
+   * @return the encoded dictionary
+   * @throws IllegalArgumentException if the list is not sorted in natural order
+   */
+  public static FrontCodedStringDictionary of(List<String> list) {
+    final int size = list.size();
+    final int[] offsets = new int[(size + BUCKET_SIZE - 1) >>> BUCKET_SHIFT];
+    char[] data = new char[16];
+    int length = 0;
+    String previous = null;
+    int index = 0;
+    for (String value : list) {
+      if (previous != null && previous.compareTo(value) > 0) {
+        throw new IllegalArgumentException("List is not sorted at index " + index);
+      }
+      int shared = 0;
+      if ((index & (BUCKET_SIZE - 1)) == 0) {
+        offsets[index >>> BUCKET_SHIFT] = length;
+      } else {
+        final int limit = Math.min(previous.length(), value.length());
+        while (shared < limit && previous.charAt(shared) == value.charAt(shared)) {
+          shared++;
+        }
+      }
+      final int required = length + 4 + value.length() - shared;
+      if (required < 0) {
+        throw new IllegalArgumentException("Dictionary exceeds maximum capacity");
+      }
+      if (required > data.length) {
+        data = Arrays.copyOf(data, Math.max(required, (int) Math.min(Integer.MAX_VALUE - 8,
+            2L * data.length)));
+      }
+      if ((index & (BUCKET_SIZE - 1)) != 0) {
+        length = writeLength(data, length, shared);
+      }
+      length = writeLength(data, length, value.length() - shared);
+      value.getChars(shared, value.length(), data, length);
+      length += value.length() - shared;
+      previous = value;
+      index++;
+    }
+    return new FrontCodedStringDictionary(size, offsets, Arrays.copyOf(data, length));
+  }
+
+  /**
+   * @return the number of strings in the dictionary
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Decodes the string with the specified index (id).
+   *
+   * @param index the index of the string
+   * @return the string at the specified index
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public String get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    final StringBuilder builder = new StringBuilder();
+    int position = offsets[index >>> BUCKET_SHIFT];
+    for (int i = 0; i <= (index & (BUCKET_SIZE - 1)); i++) {
+      if (i > 0) {
+        int shared = data[position++];
+        if (shared >= LONG_LENGTH) {
+          shared = ((shared & (LONG_LENGTH - 1)) << 16) | data[position++];
+        }
+        builder.setLength(shared);
+      }
+      int length = data[position++];
+      if (length >= LONG_LENGTH) {
+        length = ((length & (LONG_LENGTH - 1)) << 16) | data[position++];
+      }
+      builder.append(data, position, length);
+      position += length;
+    }
+    return builder.toString();
+  }
+
+  /**
+   * @return the approximate number of bytes occupied by the encoded dictionary
+   */
+  public long sizeInBytes() {
+    return 2L * data.length + 4L * offsets.length;
+  }
+
+  /**
+   * Finds the index of the first occurrence of the specified key in the dictionary.
+   *
+   * @param key the value to search for
+   * @return the index of the first occurrence of the key if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order. The return value is non-negative if and only if the key
+   * is found.
+   */
+  public int firstIndexOf(CharSequence key) {
+    return Bounds.firstIndexOf(bound(key, false), bound(key, true));
+  }
+
+  /**
+   * Finds the index of the last occurrence of the specified key in the dictionary.
+   *
+   * @param key the value to search for
+   * @return the index of the last occurrence of the key if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order. The return value is non-negative if and only if the key
+   * is found.
+   */
+  public int lastIndexOf(CharSequence key) {
+    return Bounds.lastIndexOf(bound(key, false), bound(key, true));
+  }
+
+  /**
+   * Finds the index of the first string greater than the specified key in the dictionary.
+   *
+   * @param key the value to compare against
+   * @return the index of the first string greater than key, if such a string exists; otherwise,
+   * returns -(insertion point) - 1, where the insertion point is the index at which the key would
+   * be inserted to maintain the sorted order.
+   */
+  public int indexOfGreaterThan(CharSequence key) {
+    return Bounds.indexOfGreaterThan(bound(key, true), size);
+  }
+
+  /**
+   * Finds the index of the last string less than the specified key in the dictionary.
+   *
+   * @param key the value to compare against
+   * @return the index of the last string less than key, if such a string exists; otherwise,
+   * returns -(insertion point) - 1, where the insertion point is the index at which the key could
+   * be inserted to maintain the sorted order.
+   */
+  public int indexOfLessThan(CharSequence key) {
+    return Bounds.indexOfLessThan(bound(key, false));
+  }
+
+  /**
+   * Returns the index of the first string greater than the key if {@code upper} is set, or not
+   * less than the key otherwise.
+   */
+  private int bound(CharSequence key, boolean upper) {
+    int left = 0, right = offsets.length;
+    while (left < right) {
+      final int mid = (left + right) >>> 1;
+      final int cmp = compareHeader(mid, key);
+      if (cmp < 0 || (upper && cmp == 0)) {
+        left = mid + 1;
+      } else {
+        right = mid;
+      }
+    }
+    if (left == 0) {
+      return 0;
+    }
+
+    // The header of the bucket precedes the bound; scan the rest of the bucket tracking the
+    // length of the common prefix of the key and the current entry.
+    final int bucket = left - 1;
+    final int from = bucket << BUCKET_SHIFT, to = Math.min(size, from + BUCKET_SIZE);
+    final int keyLength = key.length();
+    int position = offsets[bucket];
+    int length = data[position++];
+    if (length >= LONG_LENGTH) {
+      length = ((length & (LONG_LENGTH - 1)) << 16) | data[position++];
+    }
+    int common = 0;
+    while (common < length && common < keyLength
+        && data[position + common] == key.charAt(common)) {
+      common++;
+    }
+    int cmp = common < length && common < keyLength ?
+        data[position + common] - key.charAt(common) : length - keyLength;
+    position += length;
+
+    for (int i = from + 1; i < to; i++) {
+      int shared = data[position++];
+      if (shared >= LONG_LENGTH) {
+        shared = ((shared & (LONG_LENGTH - 1)) << 16) | data[position++];
+      }
+      int suffix = data[position++];
+      if (suffix >= LONG_LENGTH) {
+        suffix = ((suffix & (LONG_LENGTH - 1)) << 16) | data[position++];
+      }
+      if (shared < common) {
+        // The entry diverges from its predecessor at a position where the predecessor still
+        // matches the key, hence it is greater than the key.
+        common = shared;
+        cmp = 1;
+      } else if (shared == common) {
+        int matched = 0;
+        while (matched < suffix && common + matched < keyLength
+            && data[position + matched] == key.charAt(common + matched)) {
+          matched++;
+        }
+        cmp = matched < suffix && common + matched < keyLength ?
+            data[position + matched] - key.charAt(common + matched)
+            : shared + suffix - keyLength;
+        common += matched;
+      }
+      if (cmp > 0 || (!upper && cmp == 0)) {
+        return i;
+      }
+      position += suffix;
+    }
+    return to;
+  }
+
+  private int compareHeader(int bucket, CharSequence key) {
+    int position = offsets[bucket];
+    int length = data[position++];
+    if (length >= LONG_LENGTH) {
+      length = ((length & (LONG_LENGTH - 1)) << 16) | data[position++];
+    }
+    final int limit = Math.min(length, key.length());
+    for (int i = 0; i < limit; i++) {
+      final char c = data[position + i];
+      final char k = key.charAt(i);
+      if (c != k) {
+        return c - k;
+      }
+    }
+    return length - key.length();
+  }
+
+  private static int writeLength(char[] data, int position, int length) {
+    if (length >= LONG_LENGTH) {
+      data[position++] = (char) (LONG_LENGTH | (length >>> 16));
+    }
+    data[position++] = (char) length;
+    return position;
+  }
+}
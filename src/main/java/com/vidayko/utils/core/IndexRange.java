@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+/**
+ * Immutable half-open range of indices {@code [from, to)} within a sorted array, list or sequence.
+ * <p>
+ * An empty range has {@code from == to}, both being equal to the insertion point of the searched
+ * key.
+ */
+public final class IndexRange {
+
+  private final int from;
+  private final int to;
+
+  private IndexRange(int from, int to) {
+    this.from = from;
+    this.to = to;
+  }
+
+  /**
+   * Creates a range of indices {@code [from, to)}.
+   *
+   * @param from the first index of the range, inclusive
+   * @param to   the last index of the range, exclusive
+   * @return the range of indices
+   * @throws IllegalArgumentException if {@code from} is negative or greater than {@code to}
+   */
+  public static IndexRange of(int from, int to) {
+    if (from < 0 || from > to) {
+      throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ")");
+    }
+    return new IndexRange(from, to);
+  }
+
+  /**
+   * @return the first index of the range, inclusive
+   */
+  public int from() {
+    return from;
+  }
+
+  /**
+   * @return the last index of the range, exclusive
+   */
+  public int to() {
+    return to;
+  }
+
+  /**
+   * @return the number of indices in the range
+   */
+  public int size() {
+    return to - from;
+  }
+
+  /**
+   * @return {@code true} if the range contains no indices
+   */
+  public boolean isEmpty() {
+    return from == to;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof IndexRange)) {
+      return false;
+    }
+    final IndexRange that = (IndexRange) o;
+    return from == that.from && to == that.to;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * from + to;
+  }
+
+  @Override
+  public String toString() {
+    return "[" + from + ", " + to + ")";
+  }
+}
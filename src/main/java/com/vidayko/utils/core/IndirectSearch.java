@@ -0,0 +1,874 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Utility class providing the {@link BinarySearch} operations over arrays viewed through a sort
+ * permutation, so that one copy of the data can be searched in several orders without
+ * materializing a sorted array per order.
+ * <p>
+ * A permutation is an {@code int[]} of indices of the array, listed in sorted order of the
+ * elements at these indices, as returned by the {@code argsort} methods; it may also cover only a
+ * subset of the indices. The search methods return positions in the permutation, following the
+ * conventions of {@code BinarySearch} on the materialized sorted array: the element found at
+ * position {@code p} is {@code array[permutation[p]]}.
+ * <p>
+ * Primitive elements are ordered naturally, with {@code float} and {@code double} values ordered
+ * as by {@link Float#compare(float, float)} and {@link Double#compare(double, double)}. The
+ * {@code argsort} methods of primitive arrays are stable: bytes, shorts and chars are sorted by
+ * counting, and ints, floats, longs and doubles by a parallel radix sort over 32-bit or 64-bit keys
+ * paired with their indices, through {@link RadixSort}; the {@code argsort} of objects runs a
+ * parallel merge sort directly over the {@code int} indices, without boxing them.
+ */
+public class IndirectSearch {
+
+  /**
+   * Arrays of shorts and chars shorter than this are sorted by their 32-bit keys rather than by
+   * counting, which would scan a histogram of 2^16 buckets.
+   */
+  private static final int SMALL_ARRAY = 1 << 10;
+
+  /**
+   * Ranges of indices at most this long are sorted by insertion.
+   */
+  private static final int INSERTION_SORT = 32;
+
+  /**
+   * The minimal number of indices per run sorted in parallel.
+   */
+  private static final int MIN_RUN = 1 << 13;
+
+  /**
+   * Returns the indices of the specified array in ascending order of their elements; equal elements
+   * keep the order of their indices. The array is not modified.
+   *
+   * @param array the array of bytes
+   * @return the permutation of the indices of the array sorting its elements
+   */
+  public static int[] argsort(byte[] array) {
+    return RadixSort.argsort(array.length, 1 << 8, (histogram, from, to) -> {
+      for (int i = from; i < to; i++) {
+        histogram[array[i] - Byte.MIN_VALUE]++;
+      }
+    }, (offsets, indices, from, to) -> {
+      for (int i = from; i < to; i++) {
+        indices[offsets[array[i] - Byte.MIN_VALUE]++] = i;
+      }
+    });
+  }
+
+  /**
+   * Returns the indices of the specified array in ascending order of their elements; equal elements
+   * keep the order of their indices. The array is not modified.
+   *
+   * @param array the array of shorts
+   * @return the permutation of the indices of the array sorting its elements
+   */
+  public static int[] argsort(short[] array) {
+    if (array.length < SMALL_ARRAY) {
+      final int[] keys = new int[array.length];
+      Arrays.setAll(keys, i -> array[i]);
+      return RadixSort.argsort(keys, Integer.MIN_VALUE);
+    }
+    return RadixSort.argsort(array.length, 1 << 16, (histogram, from, to) -> {
+      for (int i = from; i < to; i++) {
+        histogram[array[i] - Short.MIN_VALUE]++;
+      }
+    }, (offsets, indices, from, to) -> {
+      for (int i = from; i < to; i++) {
+        indices[offsets[array[i] - Short.MIN_VALUE]++] = i;
+      }
+    });
+  }
+
+  /**
+   * Returns the indices of the specified array in ascending order of their elements; equal elements
+   * keep the order of their indices. The array is not modified.
+   *
+   * @param array the array of integers
+   * @return the permutation of the indices of the array sorting its elements
+   */
+  public static int[] argsort(int[] array) {
+    final int[] keys = new int[array.length];
+    RadixSort.forEachChunk(array.length, (from, to) -> System.arraycopy(array, from, keys, from,
+        to - from));
+    return RadixSort.argsort(keys, Integer.MIN_VALUE);
+  }
+
+  /**
+   * Returns the indices of the specified array in ascending order of their elements; equal elements
+   * keep the order of their indices. The array is not modified.
+   *
+   * @param array the array of longs
+   * @return the permutation of the indices of the array sorting its elements
+   */
+  public static int[] argsort(long[] array) {
+    final long[] keys = new long[array.length];
+    RadixSort.forEachChunk(array.length, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        keys[i] = array[i];
+      }
+    });
+    return RadixSort.argsort(keys, Long.MIN_VALUE);
+  }
+
+  /**
+   * Returns the indices of the specified array in ascending order of their elements; equal elements
+   * keep the order of their indices. The array is not modified.
+   *
+   * @param array the array of characters
+   * @return the permutation of the indices of the array sorting its elements
+   */
+  public static int[] argsort(char[] array) {
+    if (array.length < SMALL_ARRAY) {
+      final int[] keys = new int[array.length];
+      Arrays.setAll(keys, i -> array[i]);
+      return RadixSort.argsort(keys, 0);
+    }
+    return RadixSort.argsort(array.length, 1 << 16, (histogram, from, to) -> {
+      for (int i = from; i < to; i++) {
+        histogram[array[i]]++;
+      }
+    }, (offsets, indices, from, to) -> {
+      for (int i = from; i < to; i++) {
+        indices[offsets[array[i]]++] = i;
+      }
+    });
+  }
+
+  /**
+   * Returns the indices of the specified array in ascending order of their elements, as by {@link
+   * Float#compare(float, float)}; equal elements keep the order of their indices. The array is not
+   * modified.
+   *
+   * @param array the array of floats
+   * @return the permutation of the indices of the array sorting its elements
+   */
+  public static int[] argsort(float[] array) {
+    final int[] keys = new int[array.length];
+    RadixSort.forEachChunk(array.length, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        keys[i] = SortableBits.of(array[i]);
+      }
+    });
+    return RadixSort.argsort(keys, Integer.MIN_VALUE);
+  }
+
+  /**
+   * Returns the indices of the specified array in ascending order of their elements, as by {@link
+   * Double#compare(double, double)}; equal elements keep the order of their indices. The array is
+   * not modified.
+   *
+   * @param array the array of doubles
+   * @return the permutation of the indices of the array sorting its elements
+   */
+  public static int[] argsort(double[] array) {
+    final long[] keys = new long[array.length];
+    RadixSort.forEachChunk(array.length, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        keys[i] = SortableBits.of(array[i]);
+      }
+    });
+    return RadixSort.argsort(keys, Long.MIN_VALUE);
+  }
+
+  /**
+   * Returns the indices of the specified array in the order of their elements according to the
+   * comparator; equal elements keep the order of their indices. The array is not modified.
+   *
+   * @param array      the array of objects
+   * @param comparator the comparator defining the order
+   * @param <T>        the type of elements in the array
+   * @return the permutation of the indices of the array sorting its elements
+   */
+  public static <T> int[] argsort(T[] array, Comparator<? super T> comparator) {
+    final int n = array.length;
+    final int[] permutation = RadixSort.identity(n), buffer = new int[n];
+    final int runs = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4,
+        n / MIN_RUN));
+    forEachRun(runs, run -> mergeSort(array, comparator, permutation, buffer,
+        start(n, runs, run), start(n, runs, run + 1)));
+    // merges adjacent sorted runs pairwise, doubling their width in every round
+    for (int width = 1; width < runs; width <<= 1) {
+      final int step = width;
+      forEachRun((runs + 2 * step - 1) / (2 * step), pair -> {
+        final int first = 2 * step * pair;
+        merge(array, comparator, permutation, buffer, start(n, runs, first),
+            start(n, runs, Math.min(first + step, runs)),
+            start(n, runs, Math.min(first + 2 * step, runs)));
+      });
+    }
+    return permutation;
+  }
+
+  /**
+   * Stably sorts the indices in {@code [from, to)} of the permutation by the elements at these
+   * indices, using the same range of the buffer.
+   */
+  private static <T> void mergeSort(T[] array, Comparator<? super T> comparator,
+      int[] permutation, int[] buffer, int from, int to) {
+    if (to - from <= INSERTION_SORT) {
+      for (int i = from + 1; i < to; i++) {
+        final int index = permutation[i];
+        int j = i;
+        while (j > from && comparator.compare(array[permutation[j - 1]], array[index]) > 0) {
+          permutation[j] = permutation[j - 1];
+          j--;
+        }
+        permutation[j] = index;
+      }
+      return;
+    }
+    final int mid = (from + to) >>> 1;
+    mergeSort(array, comparator, permutation, buffer, from, mid);
+    mergeSort(array, comparator, permutation, buffer, mid, to);
+    merge(array, comparator, permutation, buffer, from, mid, to);
+  }
+
+  /**
+   * Stably merges the sorted ranges {@code [from, mid)} and {@code [mid, to)} of the permutation,
+   * copying the first one into the buffer.
+   */
+  private static <T> void merge(T[] array, Comparator<? super T> comparator, int[] permutation,
+      int[] buffer, int from, int mid, int to) {
+    if (mid == from || mid == to
+        || comparator.compare(array[permutation[mid - 1]], array[permutation[mid]]) <= 0) {
+      return;
+    }
+    System.arraycopy(permutation, from, buffer, from, mid - from);
+    int i = from, j = mid, k = from;
+    while (i < mid && j < to) {
+      permutation[k++] = comparator.compare(array[permutation[j]], array[buffer[i]]) < 0
+          ? permutation[j++] : buffer[i++];
+    }
+    System.arraycopy(buffer, i, permutation, k, mid - i);
+  }
+
+  private static int start(int n, int runs, int run) {
+    return (int) ((long) n * run / runs);
+  }
+
+  private static void forEachRun(int runs, IntConsumer action) {
+    if (runs == 1) {
+      action.accept(0);
+    } else {
+      IntStream.range(0, runs).parallel().forEach(action);
+    }
+  }
+
+  /**
+   * Finds the position in the permutation of the first element equal to the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of bytes
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the first element equal to the key if it is found;
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the position at which
+   * the key would be inserted to maintain the sorted order. The return value is non-negative if
+   * and only if the key is found.
+   */
+  public static int firstIndexOf(byte key, byte[] array, int[] permutation) {
+    return Bounds.firstIndexOf(bound(array, permutation, key, false),
+        bound(array, permutation, key, true));
+  }
+
+  /**
+   * Finds the position in the permutation of the last element equal to the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of bytes
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the last element equal to the key if it is found;
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the position at which
+   * the key would be inserted to maintain the sorted order. The return value is non-negative if
+   * and only if the key is found.
+   */
+  public static int lastIndexOf(byte key, byte[] array, int[] permutation) {
+    return Bounds.lastIndexOf(bound(array, permutation, key, false),
+        bound(array, permutation, key, true));
+  }
+
+  /**
+   * Finds the position in the permutation of the first element greater than the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of bytes
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the first element greater than the key, if such an
+   * element exists; otherwise, returns -(insertion point) - 1, where the insertion point is the
+   * position at which the key would be inserted to maintain the sorted order.
+   */
+  public static int indexOfGreaterThan(byte key, byte[] array, int[] permutation) {
+    return Bounds.indexOfGreaterThan(bound(array, permutation, key, true), permutation.length);
+  }
+
+  /**
+   * Finds the position in the permutation of the last element less than the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of bytes
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the last element less than the key, if such an
+   * element exists; otherwise, returns -(insertion point) - 1, where the insertion point is the
+   * position at which the key could be inserted to maintain the sorted order.
+   */
+  public static int indexOfLessThan(byte key, byte[] array, int[] permutation) {
+    return Bounds.indexOfLessThan(bound(array, permutation, key, false));
+  }
+
+  private static int bound(byte[] array, int[] permutation, byte key, boolean upper) {
+    int from = 0, to = permutation.length;
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      final byte value = array[permutation[mid]];
+      if (value < key || (upper && value == key)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  /**
+   * Finds the position in the permutation of the first element equal to the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of shorts
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the first element equal to the key if it is found;
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the position at which
+   * the key would be inserted to maintain the sorted order. The return value is non-negative if
+   * and only if the key is found.
+   */
+  public static int firstIndexOf(short key, short[] array, int[] permutation) {
+    return Bounds.firstIndexOf(bound(array, permutation, key, false),
+        bound(array, permutation, key, true));
+  }
+
+  /**
+   * Finds the position in the permutation of the last element equal to the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of shorts
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the last element equal to the key if it is found;
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the position at which
+   * the key would be inserted to maintain the sorted order. The return value is non-negative if
+   * and only if the key is found.
+   */
+  public static int lastIndexOf(short key, short[] array, int[] permutation) {
+    return Bounds.lastIndexOf(bound(array, permutation, key, false),
+        bound(array, permutation, key, true));
+  }
+
+  /**
+   * Finds the position in the permutation of the first element greater than the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of shorts
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the first element greater than the key, if such an
+   * element exists; otherwise, returns -(insertion point) - 1, where the insertion point is the
+   * position at which the key would be inserted to maintain the sorted order.
+   */
+  public static int indexOfGreaterThan(short key, short[] array, int[] permutation) {
+    return Bounds.indexOfGreaterThan(bound(array, permutation, key, true), permutation.length);
+  }
+
+  /**
+   * Finds the position in the permutation of the last element less than the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of shorts
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the last element less than the key, if such an
+   * element exists; otherwise, returns -(insertion point) - 1, where the insertion point is the
+   * position at which the key could be inserted to maintain the sorted order.
+   */
+  public static int indexOfLessThan(short key, short[] array, int[] permutation) {
+    return Bounds.indexOfLessThan(bound(array, permutation, key, false));
+  }
+
+  private static int bound(short[] array, int[] permutation, short key, boolean upper) {
+    int from = 0, to = permutation.length;
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      final short value = array[permutation[mid]];
+      if (value < key || (upper && value == key)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  /**
+   * Finds the position in the permutation of the first element equal to the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of integers
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the first element equal to the key if it is found;
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the position at which
+   * the key would be inserted to maintain the sorted order. The return value is non-negative if
+   * and only if the key is found.
+   */
+  public static int firstIndexOf(int key, int[] array, int[] permutation) {
+    return Bounds.firstIndexOf(bound(array, permutation, key, false),
+        bound(array, permutation, key, true));
+  }
+
+  /**
+   * Finds the position in the permutation of the last element equal to the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of integers
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the last element equal to the key if it is found;
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the position at which
+   * the key would be inserted to maintain the sorted order. The return value is non-negative if
+   * and only if the key is found.
+   */
+  public static int lastIndexOf(int key, int[] array, int[] permutation) {
+    return Bounds.lastIndexOf(bound(array, permutation, key, false),
+        bound(array, permutation, key, true));
+  }
+
+  /**
+   * Finds the position in the permutation of the first element greater than the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of integers
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the first element greater than the key, if such an
+   * element exists; otherwise, returns -(insertion point) - 1, where the insertion point is the
+   * position at which the key would be inserted to maintain the sorted order.
+   */
+  public static int indexOfGreaterThan(int key, int[] array, int[] permutation) {
+    return Bounds.indexOfGreaterThan(bound(array, permutation, key, true), permutation.length);
+  }
+
+  /**
+   * Finds the position in the permutation of the last element less than the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of integers
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the last element less than the key, if such an
+   * element exists; otherwise, returns -(insertion point) - 1, where the insertion point is the
+   * position at which the key could be inserted to maintain the sorted order.
+   */
+  public static int indexOfLessThan(int key, int[] array, int[] permutation) {
+    return Bounds.indexOfLessThan(bound(array, permutation, key, false));
+  }
+
+  private static int bound(int[] array, int[] permutation, int key, boolean upper) {
+    int from = 0, to = permutation.length;
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      final int value = array[permutation[mid]];
+      if (value < key || (upper && value == key)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  /**
+   * Finds the position in the permutation of the first element equal to the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of longs
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the first element equal to the key if it is found;
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the position at which
+   * the key would be inserted to maintain the sorted order. The return value is non-negative if
+   * and only if the key is found.
+   */
+  public static int firstIndexOf(long key, long[] array, int[] permutation) {
+    return Bounds.firstIndexOf(bound(array, permutation, key, false),
+        bound(array, permutation, key, true));
+  }
+
+  /**
+   * Finds the position in the permutation of the last element equal to the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of longs
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the last element equal to the key if it is found;
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the position at which
+   * the key would be inserted to maintain the sorted order. The return value is non-negative if
+   * and only if the key is found.
+   */
+  public static int lastIndexOf(long key, long[] array, int[] permutation) {
+    return Bounds.lastIndexOf(bound(array, permutation, key, false),
+        bound(array, permutation, key, true));
+  }
+
+  /**
+   * Finds the position in the permutation of the first element greater than the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of longs
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the first element greater than the key, if such an
+   * element exists; otherwise, returns -(insertion point) - 1, where the insertion point is the
+   * position at which the key would be inserted to maintain the sorted order.
+   */
+  public static int indexOfGreaterThan(long key, long[] array, int[] permutation) {
+    return Bounds.indexOfGreaterThan(bound(array, permutation, key, true), permutation.length);
+  }
+
+  /**
+   * Finds the position in the permutation of the last element less than the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of longs
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the last element less than the key, if such an
+   * element exists; otherwise, returns -(insertion point) - 1, where the insertion point is the
+   * position at which the key could be inserted to maintain the sorted order.
+   */
+  public static int indexOfLessThan(long key, long[] array, int[] permutation) {
+    return Bounds.indexOfLessThan(bound(array, permutation, key, false));
+  }
+
+  private static int bound(long[] array, int[] permutation, long key, boolean upper) {
+    int from = 0, to = permutation.length;
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      final long value = array[permutation[mid]];
+      if (value < key || (upper && value == key)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  /**
+   * Finds the position in the permutation of the first element equal to the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of characters
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the first element equal to the key if it is found;
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the position at which
+   * the key would be inserted to maintain the sorted order. The return value is non-negative if
+   * and only if the key is found.
+   */
+  public static int firstIndexOf(char key, char[] array, int[] permutation) {
+    return Bounds.firstIndexOf(bound(array, permutation, key, false),
+        bound(array, permutation, key, true));
+  }
+
+  /**
+   * Finds the position in the permutation of the last element equal to the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of characters
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the last element equal to the key if it is found;
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the position at which
+   * the key would be inserted to maintain the sorted order. The return value is non-negative if
+   * and only if the key is found.
+   */
+  public static int lastIndexOf(char key, char[] array, int[] permutation) {
+    return Bounds.lastIndexOf(bound(array, permutation, key, false),
+        bound(array, permutation, key, true));
+  }
+
+  /**
+   * Finds the position in the permutation of the first element greater than the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of characters
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the first element greater than the key, if such an
+   * element exists; otherwise, returns -(insertion point) - 1, where the insertion point is the
+   * position at which the key would be inserted to maintain the sorted order.
+   */
+  public static int indexOfGreaterThan(char key, char[] array, int[] permutation) {
+    return Bounds.indexOfGreaterThan(bound(array, permutation, key, true), permutation.length);
+  }
+
+  /**
+   * Finds the position in the permutation of the last element less than the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of characters
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the last element less than the key, if such an
+   * element exists; otherwise, returns -(insertion point) - 1, where the insertion point is the
+   * position at which the key could be inserted to maintain the sorted order.
+   */
+  public static int indexOfLessThan(char key, char[] array, int[] permutation) {
+    return Bounds.indexOfLessThan(bound(array, permutation, key, false));
+  }
+
+  private static int bound(char[] array, int[] permutation, char key, boolean upper) {
+    int from = 0, to = permutation.length;
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      final char value = array[permutation[mid]];
+      if (value < key || (upper && value == key)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  /**
+   * Finds the position in the permutation of the first element equal to the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of floats
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the first element equal to the key if it is found;
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the position at which
+   * the key would be inserted to maintain the sorted order. The return value is non-negative if
+   * and only if the key is found.
+   */
+  public static int firstIndexOf(float key, float[] array, int[] permutation) {
+    return Bounds.firstIndexOf(bound(array, permutation, key, false),
+        bound(array, permutation, key, true));
+  }
+
+  /**
+   * Finds the position in the permutation of the last element equal to the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of floats
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the last element equal to the key if it is found;
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the position at which
+   * the key would be inserted to maintain the sorted order. The return value is non-negative if
+   * and only if the key is found.
+   */
+  public static int lastIndexOf(float key, float[] array, int[] permutation) {
+    return Bounds.lastIndexOf(bound(array, permutation, key, false),
+        bound(array, permutation, key, true));
+  }
+
+  /**
+   * Finds the position in the permutation of the first element greater than the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of floats
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the first element greater than the key, if such an
+   * element exists; otherwise, returns -(insertion point) - 1, where the insertion point is the
+   * position at which the key would be inserted to maintain the sorted order.
+   */
+  public static int indexOfGreaterThan(float key, float[] array, int[] permutation) {
+    return Bounds.indexOfGreaterThan(bound(array, permutation, key, true), permutation.length);
+  }
+
+  /**
+   * Finds the position in the permutation of the last element less than the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of floats
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the last element less than the key, if such an
+   * element exists; otherwise, returns -(insertion point) - 1, where the insertion point is the
+   * position at which the key could be inserted to maintain the sorted order.
+   */
+  public static int indexOfLessThan(float key, float[] array, int[] permutation) {
+    return Bounds.indexOfLessThan(bound(array, permutation, key, false));
+  }
+
+  private static int bound(float[] array, int[] permutation, float key, boolean upper) {
+    int from = 0, to = permutation.length;
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      final float value = array[permutation[mid]];
+      final int cmp = Float.compare(value, key);
+      if (cmp < 0 || (upper && cmp == 0)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  /**
+   * Finds the position in the permutation of the first element equal to the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of doubles
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the first element equal to the key if it is found;
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the position at which
+   * the key would be inserted to maintain the sorted order. The return value is non-negative if
+   * and only if the key is found.
+   */
+  public static int firstIndexOf(double key, double[] array, int[] permutation) {
+    return Bounds.firstIndexOf(bound(array, permutation, key, false),
+        bound(array, permutation, key, true));
+  }
+
+  /**
+   * Finds the position in the permutation of the last element equal to the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of doubles
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the last element equal to the key if it is found;
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the position at which
+   * the key would be inserted to maintain the sorted order. The return value is non-negative if
+   * and only if the key is found.
+   */
+  public static int lastIndexOf(double key, double[] array, int[] permutation) {
+    return Bounds.lastIndexOf(bound(array, permutation, key, false),
+        bound(array, permutation, key, true));
+  }
+
+  /**
+   * Finds the position in the permutation of the first element greater than the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of doubles
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the first element greater than the key, if such an
+   * element exists; otherwise, returns -(insertion point) - 1, where the insertion point is the
+   * position at which the key would be inserted to maintain the sorted order.
+   */
+  public static int indexOfGreaterThan(double key, double[] array, int[] permutation) {
+    return Bounds.indexOfGreaterThan(bound(array, permutation, key, true), permutation.length);
+  }
+
+  /**
+   * Finds the position in the permutation of the last element less than the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of doubles
+   * @param permutation the indices of the array in sorted order of their elements
+   * @return the position in the permutation of the last element less than the key, if such an
+   * element exists; otherwise, returns -(insertion point) - 1, where the insertion point is the
+   * position at which the key could be inserted to maintain the sorted order.
+   */
+  public static int indexOfLessThan(double key, double[] array, int[] permutation) {
+    return Bounds.indexOfLessThan(bound(array, permutation, key, false));
+  }
+
+  private static int bound(double[] array, int[] permutation, double key, boolean upper) {
+    int from = 0, to = permutation.length;
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      final double value = array[permutation[mid]];
+      final int cmp = Double.compare(value, key);
+      if (cmp < 0 || (upper && cmp == 0)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  /**
+   * Finds the position in the permutation of the first element equal to the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of objects
+   * @param permutation the indices of the array in sorted order of their elements
+   * @param comparator  the comparator defining the sorted order
+   * @param <T>         the type of elements in the array
+   * @return the position in the permutation of the first element equal to the key if it is found;
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the position at which
+   * the key would be inserted to maintain the sorted order. The return value is non-negative if
+   * and only if the key is found.
+   */
+  public static <T> int firstIndexOf(T key, T[] array, int[] permutation,
+      Comparator<? super T> comparator) {
+    return Bounds.firstIndexOf(bound(array, permutation, key, comparator, false),
+        bound(array, permutation, key, comparator, true));
+  }
+
+  /**
+   * Finds the position in the permutation of the last element equal to the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of objects
+   * @param permutation the indices of the array in sorted order of their elements
+   * @param comparator  the comparator defining the sorted order
+   * @param <T>         the type of elements in the array
+   * @return the position in the permutation of the last element equal to the key if it is found;
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the position at which
+   * the key would be inserted to maintain the sorted order. The return value is non-negative if
+   * and only if the key is found.
+   */
+  public static <T> int lastIndexOf(T key, T[] array, int[] permutation,
+      Comparator<? super T> comparator) {
+    return Bounds.lastIndexOf(bound(array, permutation, key, comparator, false),
+        bound(array, permutation, key, comparator, true));
+  }
+
+  /**
+   * Finds the position in the permutation of the first element greater than the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of objects
+   * @param permutation the indices of the array in sorted order of their elements
+   * @param comparator  the comparator defining the sorted order
+   * @param <T>         the type of elements in the array
+   * @return the position in the permutation of the first element greater than the key, if such an
+   * element exists; otherwise, returns -(insertion point) - 1, where the insertion point is the
+   * position at which the key would be inserted to maintain the sorted order.
+   */
+  public static <T> int indexOfGreaterThan(T key, T[] array, int[] permutation,
+      Comparator<? super T> comparator) {
+    return Bounds.indexOfGreaterThan(bound(array, permutation, key, comparator, true),
+        permutation.length);
+  }
+
+  /**
+   * Finds the position in the permutation of the last element less than the specified key.
+   *
+   * @param key         the value to search for
+   * @param array       the array of objects
+   * @param permutation the indices of the array in sorted order of their elements
+   * @param comparator  the comparator defining the sorted order
+   * @param <T>         the type of elements in the array
+   * @return the position in the permutation of the last element less than the key, if such an
+   * element exists; otherwise, returns -(insertion point) - 1, where the insertion point is the
+   * position at which the key could be inserted to maintain the sorted order.
+   */
+  public static <T> int indexOfLessThan(T key, T[] array, int[] permutation,
+      Comparator<? super T> comparator) {
+    return Bounds.indexOfLessThan(bound(array, permutation, key, comparator, false));
+  }
+
+  private static <T> int bound(T[] array, int[] permutation, T key,
+      Comparator<? super T> comparator, boolean upper) {
+    int from = 0, to = permutation.length;
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      final int cmp = comparator.compare(array[permutation[mid]], key);
+      if (cmp < 0 || (upper && cmp == 0)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable index answering stabbing ("which intervals contain x") and overlap ("which intervals
+ * overlap [from, to]") queries over closed intervals {@code [starts[i], ends[i]]} stored as two
+ * parallel {@code long[]} arrays sorted by start.
+ * <p>
+ * The sorted intervals are viewed as an implicit balanced binary tree over their indices: the
+ * index with {@code k} trailing one bits is a node at level {@code k}, whose children are the
+ * indices {@code 2^(k-1)} below and above it. The index keeps the maximum end of every subtree in
+ * an additional {@code long[]}, which lets a query skip every subtree ending before the queried
+ * range, giving O(log n + k) time for k reported intervals, without allocation.
+ * <p>
+ * When the intervals are pairwise disjoint, the index detects it at construction and answers
+ * stabbing queries with a single {@link BinarySearch#lastIndexOf(long, long[])} call over the
+ * starts.
+ * <p>
+ * Matching intervals are reported in ascending order of their indices. The arrays are referenced,
+ * not copied, and must not be modified while the index is in use.
+ */
+public final class IntervalIndex {
+
+  /**
+   * Subtrees at or below this level are scanned linearly rather than descended into.
+   */
+  private static final int SCAN_LEVEL = 3;
+
+  private final long[] starts;
+  private final long[] ends;
+  private final long[] maxEnds;
+  private final int rootLevel;
+  private final boolean disjoint;
+
+  private IntervalIndex(long[] starts, long[] ends, long[] maxEnds, int rootLevel,
+      boolean disjoint) {
+    this.starts = starts;
+    this.ends = ends;
+    this.maxEnds = maxEnds;
+    this.rootLevel = rootLevel;
+    this.disjoint = disjoint;
+  }
+
+  /**
+   * Creates an index over the closed intervals {@code [starts[i], ends[i]]}. The starts must be
+   * sorted in natural order; intervals may overlap or nest.
+   *
+   * @param starts the sorted starts of the intervals (inclusive)
+   * @param ends   the ends of the intervals (inclusive)
+   * @return the interval index
+   * @throws IllegalArgumentException if the arrays differ in length, the starts are not sorted, or
+   *                                  an interval ends before it starts
+   */
+  public static IntervalIndex of(long[] starts, long[] ends) {
+    final int n = starts.length;
+    if (ends.length != n) {
+      throw new IllegalArgumentException("Expected " + n + " ends, got " + ends.length);
+    }
+    boolean disjoint = true;
+    for (int i = 0; i < n; i++) {
+      if (ends[i] < starts[i]) {
+        throw new IllegalArgumentException("Interval ends before it starts at index " + i);
+      }
+      if (i > 0) {
+        if (starts[i] < starts[i - 1]) {
+          throw new IllegalArgumentException("Starts are not sorted at index " + i);
+        }
+        disjoint &= ends[i - 1] < starts[i];
+      }
+    }
+
+    final long[] maxEnds = new long[n];
+    int rootLevel = 0;
+    while ((2L << rootLevel) - 1 < n) {
+      rootLevel++;
+    }
+    for (int level = 0; level <= rootLevel; level++) {
+      final int half = level == 0 ? 0 : 1 << (level - 1);
+      for (long node = (1L << level) - 1; node < n; node += 2L << level) {
+        final int i = (int) node;
+        long max = ends[i];
+        if (level > 0) {
+          max = Math.max(max, maxEnds[i - half]);
+          max = Math.max(max, maxEnd(maxEnds, n, i + half, level - 1));
+        }
+        maxEnds[i] = max;
+      }
+    }
+    return new IntervalIndex(starts, ends, maxEnds, rootLevel, disjoint);
+  }
+
+  /**
+   * @return the number of intervals
+   */
+  public int size() {
+    return starts.length;
+  }
+
+  /**
+   * @return {@code true} if no two intervals share a point, in which case stabbing queries take a
+   * single binary search
+   */
+  public boolean isDisjoint() {
+    return disjoint;
+  }
+
+  /**
+   * Counts the intervals containing the specified point.
+   *
+   * @param point the point to look up
+   * @return the number of intervals {@code i} with {@code starts[i] <= point <= ends[i]}
+   */
+  public int countContaining(long point) {
+    return forEachContaining(point, null);
+  }
+
+  /**
+   * Reports the indices of the intervals containing the specified point, in ascending order.
+   *
+   * @param point  the point to look up
+   * @param action the action receiving the index of every matching interval; may be {@code null}
+   *               to count only
+   * @return the number of matching intervals
+   */
+  public int forEachContaining(long point, IntConsumer action) {
+    if (disjoint) {
+      final int last = BinarySearch.lastIndexOf(point, starts);
+      final int index = last >= 0 ? last : -last - 2;
+      if (index < 0 || ends[index] < point) {
+        return 0;
+      }
+      if (action != null) {
+        action.accept(index);
+      }
+      return 1;
+    }
+    return forEachOverlapping(point, point, action);
+  }
+
+  /**
+   * Counts the intervals overlapping the closed range {@code [from, to]}.
+   *
+   * @param from the start of the range (inclusive)
+   * @param to   the end of the range (inclusive)
+   * @return the number of intervals {@code i} with {@code starts[i] <= to} and
+   * {@code ends[i] >= from}
+   * @throws IllegalArgumentException if {@code from > to}
+   */
+  public int countOverlapping(long from, long to) {
+    return forEachOverlapping(from, to, null);
+  }
+
+  /**
+   * Reports the indices of the intervals overlapping the closed range {@code [from, to]}, in
+   * ascending order.
+   *
+   * @param from   the start of the range (inclusive)
+   * @param to     the end of the range (inclusive)
+   * @param action the action receiving the index of every matching interval; may be {@code null}
+   *               to count only
+   * @return the number of matching intervals
+   * @throws IllegalArgumentException if {@code from > to}
+   */
+  public int forEachOverlapping(long from, long to, IntConsumer action) {
+    if (from > to) {
+      throw new IllegalArgumentException("Invalid range: [" + from + ", " + to + "]");
+    }
+    if (starts.length == 0) {
+      return 0;
+    }
+    if (disjoint) {
+      final int last = BinarySearch.lastIndexOf(from, starts);
+      int index = last >= 0 ? last : -last - 2;
+      if (index < 0 || ends[index] < from) {
+        index++;
+      }
+      int count = 0;
+      for (; index < starts.length && starts[index] <= to; index++, count++) {
+        if (action != null) {
+          action.accept(index);
+        }
+      }
+      return count;
+    }
+    return visit((1 << rootLevel) - 1, rootLevel, from, to, action, 0);
+  }
+
+  /**
+   * Reports the overlapping intervals of the subtree rooted at the node in order: left subtree,
+   * node, right subtree. Returns the updated count.
+   */
+  private int visit(int node, int level, long from, long to, IntConsumer action, int count) {
+    final int n = starts.length;
+    if (level <= SCAN_LEVEL) {
+      final int end = (int) Math.min(n, (long) node + (1 << level));
+      for (int i = node - (1 << level) + 1; i < end && starts[i] <= to; i++) {
+        if (ends[i] >= from) {
+          if (action != null) {
+            action.accept(i);
+          }
+          count++;
+        }
+      }
+      return count;
+    }
+    final int half = 1 << (level - 1);
+    final int left = node - half;
+    if (left >= n || maxEnds[left] >= from) {
+      count = visit(left, level - 1, from, to, action, count);
+    }
+    if (node < n && starts[node] <= to) {
+      if (ends[node] >= from) {
+        if (action != null) {
+          action.accept(node);
+        }
+        count++;
+      }
+      count = visit(node + half, level - 1, from, to, action, count);
+    }
+    return count;
+  }
+
+  /**
+   * Returns the maximum end over the existing indices of the subtree rooted at the node, which may
+   * itself lie beyond the last index.
+   */
+  private static long maxEnd(long[] maxEnds, int n, int node, int level) {
+    while (node >= n) {
+      if (level == 0) {
+        return Long.MIN_VALUE;
+      }
+      node -= 1 << --level;
+    }
+    return maxEnds[node];
+  }
+}
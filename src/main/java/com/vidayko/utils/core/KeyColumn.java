@@ -0,0 +1,585 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Keyed view of an array or list of objects sorted by a key, holding the keys extracted once into
+ * a contiguous column, so that repeated searches compare keys without calling the extractor or
+ * dereferencing the elements.
+ * <p>
+ * The mapped overloads of {@link BinarySearch}, such as
+ * {@link BinarySearch#firstIndexOf(Object, Object[], Comparator, Function)}, apply the key
+ * extractor at every probe. A key column pays this cost once per element when it is created, and
+ * then searches a {@code int[]}, {@code long[]} or {@code double[]} for primitive extractors, or an
+ * {@code Object[]} of keys ordered by a comparator. The results are indices into the source, equal
+ * to those of the corresponding {@code BinarySearch} methods.
+ * <p>
+ * The source is referenced, not copied. After the source, or the keys of its elements, have been
+ * modified, the column must be brought up to date with {@link #refresh()}. Searches are
+ * thread-safe as long as they do not run concurrently with {@code refresh()}.
+ *
+ * @param <T> the type of elements in the source
+ */
+public abstract class KeyColumn<T> {
+
+  private final List<? extends T> source;
+  int size;
+
+  KeyColumn(List<? extends T> source) {
+    this.source = source;
+  }
+
+  /**
+   * Creates a column of int keys over the specified array, sorted by these keys.
+   *
+   * @param array     the array sorted by the keys
+   * @param extractor the function extracting the key of an element
+   * @param <T>       the type of elements in the array
+   * @return the key column
+   */
+  public static <T> OfInt<T> ofInt(T[] array, ToIntFunction<? super T> extractor) {
+    return new OfInt<>(Arrays.asList(array), extractor);
+  }
+
+  /**
+   * Creates a column of int keys over the specified list, sorted by these keys.
+   *
+   * @param list      the list sorted by the keys
+   * @param extractor the function extracting the key of an element
+   * @param <T>       the type of elements in the list
+   * @return the key column
+   */
+  public static <T> OfInt<T> ofInt(List<? extends T> list, ToIntFunction<? super T> extractor) {
+    return new OfInt<>(list, extractor);
+  }
+
+  /**
+   * Creates a column of long keys over the specified array, sorted by these keys.
+   *
+   * @param array     the array sorted by the keys
+   * @param extractor the function extracting the key of an element
+   * @param <T>       the type of elements in the array
+   * @return the key column
+   */
+  public static <T> OfLong<T> ofLong(T[] array, ToLongFunction<? super T> extractor) {
+    return new OfLong<>(Arrays.asList(array), extractor);
+  }
+
+  /**
+   * Creates a column of long keys over the specified list, sorted by these keys.
+   *
+   * @param list      the list sorted by the keys
+   * @param extractor the function extracting the key of an element
+   * @param <T>       the type of elements in the list
+   * @return the key column
+   */
+  public static <T> OfLong<T> ofLong(List<? extends T> list, ToLongFunction<? super T> extractor) {
+    return new OfLong<>(list, extractor);
+  }
+
+  /**
+   * Creates a column of double keys over the specified array, sorted by these keys as by
+   * {@link Double#compare(double, double)}.
+   *
+   * @param array     the array sorted by the keys
+   * @param extractor the function extracting the key of an element
+   * @param <T>       the type of elements in the array
+   * @return the key column
+   */
+  public static <T> OfDouble<T> ofDouble(T[] array, ToDoubleFunction<? super T> extractor) {
+    return new OfDouble<>(Arrays.asList(array), extractor);
+  }
+
+  /**
+   * Creates a column of double keys over the specified list, sorted by these keys as by
+   * {@link Double#compare(double, double)}.
+   *
+   * @param list      the list sorted by the keys
+   * @param extractor the function extracting the key of an element
+   * @param <T>       the type of elements in the list
+   * @return the key column
+   */
+  public static <T> OfDouble<T> ofDouble(List<? extends T> list,
+      ToDoubleFunction<? super T> extractor) {
+    return new OfDouble<>(list, extractor);
+  }
+
+  /**
+   * Creates a column of keys over the specified array, sorted by these keys according to the
+   * comparator.
+   *
+   * @param array      the array sorted by the keys
+   * @param extractor  the function extracting the key of an element
+   * @param comparator the comparator defining the order of the keys
+   * @param <T>        the type of elements in the array
+   * @param <K>        the type of keys
+   * @return the key column
+   */
+  public static <T, K> OfObject<T, K> of(T[] array, Function<? super T, ? extends K> extractor,
+      Comparator<? super K> comparator) {
+    return new OfObject<>(Arrays.asList(array), extractor, comparator);
+  }
+
+  /**
+   * Creates a column of keys over the specified list, sorted by these keys according to the
+   * comparator.
+   *
+   * @param list       the list sorted by the keys
+   * @param extractor  the function extracting the key of an element
+   * @param comparator the comparator defining the order of the keys
+   * @param <T>        the type of elements in the list
+   * @param <K>        the type of keys
+   * @return the key column
+   */
+  public static <T, K> OfObject<T, K> of(List<? extends T> list,
+      Function<? super T, ? extends K> extractor, Comparator<? super K> comparator) {
+    return new OfObject<>(list, extractor, comparator);
+  }
+
+  /**
+   * @return the number of keys, equal to the size of the source as of the last refresh
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the element of the source at the specified index.
+   *
+   * @param index the index of the element
+   * @return the element at the specified index
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public T get(int index) {
+    return source.get(index);
+  }
+
+  /**
+   * Extracts the keys of all elements of the source again, after it has been modified.
+   */
+  public void refresh() {
+    size = source.size();
+    extract(source);
+  }
+
+  /**
+   * Replaces the keys with those of the elements of the source, whose size is already recorded.
+   */
+  abstract void extract(List<? extends T> source);
+
+  /**
+   * Column of int keys, searched in natural order.
+   *
+   * @param <T> the type of elements in the source
+   */
+  public static final class OfInt<T> extends KeyColumn<T> {
+
+    private final ToIntFunction<? super T> extractor;
+    private int[] keys = new int[0];
+
+    private OfInt(List<? extends T> source, ToIntFunction<? super T> extractor) {
+      super(source);
+      this.extractor = extractor;
+      refresh();
+    }
+
+    @Override
+    void extract(List<? extends T> source) {
+      if (keys.length != size) {
+        keys = new int[size];
+      }
+      int i = 0;
+      for (T element : source) {
+        keys[i++] = extractor.applyAsInt(element);
+      }
+    }
+
+    /**
+     * Returns the key of the element at the specified index, as of the last refresh.
+     *
+     * @param index the index of the element
+     * @return the key at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int key(int index) {
+      return keys[index];
+    }
+
+    /**
+     * Finds the index of the first element with the specified key.
+     *
+     * @param key the key to search for
+     * @return the index of the first element with the key if it is found; otherwise, returns
+     * -(insertion point) - 1, where the insertion point is the index at which an element with the
+     * key would be inserted to maintain the sorted order.
+     */
+    public int firstIndexOf(int key) {
+      return Bounds.firstIndexOf(Bounds.bound(keys, 0, size, key, false),
+          Bounds.bound(keys, 0, size, key, true));
+    }
+
+    /**
+     * Finds the index of the last element with the specified key.
+     *
+     * @param key the key to search for
+     * @return the index of the last element with the key if it is found; otherwise, returns
+     * -(insertion point) - 1, where the insertion point is the index at which an element with the
+     * key would be inserted to maintain the sorted order.
+     */
+    public int lastIndexOf(int key) {
+      return Bounds.lastIndexOf(Bounds.bound(keys, 0, size, key, false),
+          Bounds.bound(keys, 0, size, key, true));
+    }
+
+    /**
+     * Finds the index of the first element with a key greater than the specified key.
+     *
+     * @param key the key to compare against
+     * @return the index of the first element with a greater key, if such an element exists;
+     * otherwise, returns -(insertion point) - 1, where the insertion point is the index at which
+     * an element with the key would be inserted to maintain the sorted order.
+     */
+    public int indexOfGreaterThan(int key) {
+      return Bounds.indexOfGreaterThan(Bounds.bound(keys, 0, size, key, true), size);
+    }
+
+    /**
+     * Finds the index of the last element with a key less than the specified key.
+     *
+     * @param key the key to compare against
+     * @return the index of the last element with a lesser key, if such an element exists;
+     * otherwise, returns -(insertion point) - 1, where the insertion point is the index at which
+     * an element with the key could be inserted to maintain the sorted order.
+     */
+    public int indexOfLessThan(int key) {
+      return Bounds.indexOfLessThan(Bounds.bound(keys, 0, size, key, false));
+    }
+
+    /**
+     * Finds the range of elements with the specified key.
+     *
+     * @param key the key to search for
+     * @return the range of indices of the elements with the key; empty and positioned at the
+     * insertion point of the key if there are none
+     */
+    public IndexRange rangeOf(int key) {
+      return IndexRange.of(Bounds.bound(keys, 0, size, key, false),
+          Bounds.bound(keys, 0, size, key, true));
+    }
+  }
+
+  /**
+   * Column of long keys, searched in natural order.
+   *
+   * @param <T> the type of elements in the source
+   */
+  public static final class OfLong<T> extends KeyColumn<T> {
+
+    private final ToLongFunction<? super T> extractor;
+    private long[] keys = new long[0];
+
+    private OfLong(List<? extends T> source, ToLongFunction<? super T> extractor) {
+      super(source);
+      this.extractor = extractor;
+      refresh();
+    }
+
+    @Override
+    void extract(List<? extends T> source) {
+      if (keys.length != size) {
+        keys = new long[size];
+      }
+      int i = 0;
+      for (T element : source) {
+        keys[i++] = extractor.applyAsLong(element);
+      }
+    }
+
+    /**
+     * Returns the key of the element at the specified index, as of the last refresh.
+     *
+     * @param index the index of the element
+     * @return the key at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long key(int index) {
+      return keys[index];
+    }
+
+    /**
+     * Finds the index of the first element with the specified key.
+     *
+     * @param key the key to search for
+     * @return the index of the first element with the key if it is found; otherwise, returns
+     * -(insertion point) - 1, where the insertion point is the index at which an element with the
+     * key would be inserted to maintain the sorted order.
+     */
+    public int firstIndexOf(long key) {
+      return Bounds.firstIndexOf(Bounds.bound(keys, 0, size, key, false),
+          Bounds.bound(keys, 0, size, key, true));
+    }
+
+    /**
+     * Finds the index of the last element with the specified key.
+     *
+     * @param key the key to search for
+     * @return the index of the last element with the key if it is found; otherwise, returns
+     * -(insertion point) - 1, where the insertion point is the index at which an element with the
+     * key would be inserted to maintain the sorted order.
+     */
+    public int lastIndexOf(long key) {
+      return Bounds.lastIndexOf(Bounds.bound(keys, 0, size, key, false),
+          Bounds.bound(keys, 0, size, key, true));
+    }
+
+    /**
+     * Finds the index of the first element with a key greater than the specified key.
+     *
+     * @param key the key to compare against
+     * @return the index of the first element with a greater key, if such an element exists;
+     * otherwise, returns -(insertion point) - 1, where the insertion point is the index at which
+     * an element with the key would be inserted to maintain the sorted order.
+     */
+    public int indexOfGreaterThan(long key) {
+      return Bounds.indexOfGreaterThan(Bounds.bound(keys, 0, size, key, true), size);
+    }
+
+    /**
+     * Finds the index of the last element with a key less than the specified key.
+     *
+     * @param key the key to compare against
+     * @return the index of the last element with a lesser key, if such an element exists;
+     * otherwise, returns -(insertion point) - 1, where the insertion point is the index at which
+     * an element with the key could be inserted to maintain the sorted order.
+     */
+    public int indexOfLessThan(long key) {
+      return Bounds.indexOfLessThan(Bounds.bound(keys, 0, size, key, false));
+    }
+
+    /**
+     * Finds the range of elements with the specified key.
+     *
+     * @param key the key to search for
+     * @return the range of indices of the elements with the key; empty and positioned at the
+     * insertion point of the key if there are none
+     */
+    public IndexRange rangeOf(long key) {
+      return IndexRange.of(Bounds.bound(keys, 0, size, key, false),
+          Bounds.bound(keys, 0, size, key, true));
+    }
+  }
+
+  /**
+   * Column of double keys, searched in the total order of {@link Double#compare(double, double)},
+   * like the natural-order overloads of {@link BinarySearch}.
+   *
+   * @param <T> the type of elements in the source
+   */
+  public static final class OfDouble<T> extends KeyColumn<T> {
+
+    private final ToDoubleFunction<? super T> extractor;
+    private double[] keys = new double[0];
+
+    private OfDouble(List<? extends T> source, ToDoubleFunction<? super T> extractor) {
+      super(source);
+      this.extractor = extractor;
+      refresh();
+    }
+
+    @Override
+    void extract(List<? extends T> source) {
+      if (keys.length != size) {
+        keys = new double[size];
+      }
+      int i = 0;
+      for (T element : source) {
+        keys[i++] = extractor.applyAsDouble(element);
+      }
+    }
+
+    /**
+     * Returns the key of the element at the specified index, as of the last refresh.
+     *
+     * @param index the index of the element
+     * @return the key at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double key(int index) {
+      return keys[index];
+    }
+
+    /**
+     * Finds the index of the first element with the specified key.
+     *
+     * @param key the key to search for
+     * @return the index of the first element with the key if it is found; otherwise, returns
+     * -(insertion point) - 1, where the insertion point is the index at which an element with the
+     * key would be inserted to maintain the sorted order.
+     */
+    public int firstIndexOf(double key) {
+      return Bounds.firstIndexOf(Bounds.bound(keys, 0, size, key, false),
+          Bounds.bound(keys, 0, size, key, true));
+    }
+
+    /**
+     * Finds the index of the last element with the specified key.
+     *
+     * @param key the key to search for
+     * @return the index of the last element with the key if it is found; otherwise, returns
+     * -(insertion point) - 1, where the insertion point is the index at which an element with the
+     * key would be inserted to maintain the sorted order.
+     */
+    public int lastIndexOf(double key) {
+      return Bounds.lastIndexOf(Bounds.bound(keys, 0, size, key, false),
+          Bounds.bound(keys, 0, size, key, true));
+    }
+
+    /**
+     * Finds the index of the first element with a key greater than the specified key.
+     *
+     * @param key the key to compare against
+     * @return the index of the first element with a greater key, if such an element exists;
+     * otherwise, returns -(insertion point) - 1, where the insertion point is the index at which
+     * an element with the key would be inserted to maintain the sorted order.
+     */
+    public int indexOfGreaterThan(double key) {
+      return Bounds.indexOfGreaterThan(Bounds.bound(keys, 0, size, key, true), size);
+    }
+
+    /**
+     * Finds the index of the last element with a key less than the specified key.
+     *
+     * @param key the key to compare against
+     * @return the index of the last element with a lesser key, if such an element exists;
+     * otherwise, returns -(insertion point) - 1, where the insertion point is the index at which
+     * an element with the key could be inserted to maintain the sorted order.
+     */
+    public int indexOfLessThan(double key) {
+      return Bounds.indexOfLessThan(Bounds.bound(keys, 0, size, key, false));
+    }
+
+    /**
+     * Finds the range of elements with the specified key.
+     *
+     * @param key the key to search for
+     * @return the range of indices of the elements with the key; empty and positioned at the
+     * insertion point of the key if there are none
+     */
+    public IndexRange rangeOf(double key) {
+      return IndexRange.of(Bounds.bound(keys, 0, size, key, false),
+          Bounds.bound(keys, 0, size, key, true));
+    }
+  }
+
+  /**
+   * Column of object keys, searched according to a comparator.
+   *
+   * @param <T> the type of elements in the source
+   * @param <K> the type of keys
+   */
+  public static final class OfObject<T, K> extends KeyColumn<T> {
+
+    private final Function<? super T, ? extends K> extractor;
+    private final Comparator<? super K> comparator;
+    private Object[] keys = new Object[0];
+
+    private OfObject(List<? extends T> source, Function<? super T, ? extends K> extractor,
+        Comparator<? super K> comparator) {
+      super(source);
+      this.extractor = extractor;
+      this.comparator = comparator;
+      refresh();
+    }
+
+    @Override
+    void extract(List<? extends T> source) {
+      if (keys.length != size) {
+        keys = new Object[size];
+      }
+      int i = 0;
+      for (T element : source) {
+        keys[i++] = extractor.apply(element);
+      }
+    }
+
+    /**
+     * Returns the key of the element at the specified index, as of the last refresh.
+     *
+     * @param index the index of the element
+     * @return the key at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public K key(int index) {
+      return (K) keys[index];
+    }
+
+    /**
+     * Finds the index of the first element with the specified key.
+     *
+     * @param key the key to search for
+     * @return the index of the first element with the key if it is found; otherwise, returns
+     * -(insertion point) - 1, where the insertion point is the index at which an element with the
+     * key would be inserted to maintain the sorted order.
+     */
+    public int firstIndexOf(K key) {
+      return Bounds.firstIndexOf(Bounds.bound(keys, 0, size, key, comparator, false),
+          Bounds.bound(keys, 0, size, key, comparator, true));
+    }
+
+    /**
+     * Finds the index of the last element with the specified key.
+     *
+     * @param key the key to search for
+     * @return the index of the last element with the key if it is found; otherwise, returns
+     * -(insertion point) - 1, where the insertion point is the index at which an element with the
+     * key would be inserted to maintain the sorted order.
+     */
+    public int lastIndexOf(K key) {
+      return Bounds.lastIndexOf(Bounds.bound(keys, 0, size, key, comparator, false),
+          Bounds.bound(keys, 0, size, key, comparator, true));
+    }
+
+    /**
+     * Finds the index of the first element with a key greater than the specified key.
+     *
+     * @param key the key to compare against
+     * @return the index of the first element with a greater key, if such an element exists;
+     * otherwise, returns -(insertion point) - 1, where the insertion point is the index at which
+     * an element with the key would be inserted to maintain the sorted order.
+     */
+    public int indexOfGreaterThan(K key) {
+      return Bounds.indexOfGreaterThan(Bounds.bound(keys, 0, size, key, comparator, true), size);
+    }
+
+    /**
+     * Finds the index of the last element with a key less than the specified key.
+     *
+     * @param key the key to compare against
+     * @return the index of the last element with a lesser key, if such an element exists;
+     * otherwise, returns -(insertion point) - 1, where the insertion point is the index at which
+     * an element with the key could be inserted to maintain the sorted order.
+     */
+    public int indexOfLessThan(K key) {
+      return Bounds.indexOfLessThan(Bounds.bound(keys, 0, size, key, comparator, false));
+    }
+
+    /**
+     * Finds the range of elements with the specified key.
+     *
+     * @param key the key to search for
+     * @return the range of indices of the elements with the key; empty and positioned at the
+     * insertion point of the key if there are none
+     */
+    public IndexRange rangeOf(K key) {
+      return IndexRange.of(Bounds.bound(keys, 0, size, key, comparator, false),
+          Bounds.bound(keys, 0, size, key, comparator, true));
+    }
+  }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.function.*;
+
+/**
+ * Utility class providing binary search over virtual index domains: ranges of {@code int} or
+ * {@code long} indices mapped to a monotone predicate or to non-decreasing values computed on the
+ * fly, so that nothing needs to be materialized into an array to be searched.
+ * <p>
+ * The partition-point methods find the first index of a range at which a predicate stops
+ * holding, the predicate being true for a prefix of the range and false for the rest of it (for
+ * example, "the version is older than the one sought"). The galloping variants probe exponentially
+ * growing distances from the start of the range before bisecting, and take O(log d) predicate
+ * evaluations for a partition point at distance d, which suits unbounded or very large domains
+ * whose answer is expected near their start.
+ * <p>
+ * The accessor methods provide the {@link BinarySearch} operations over the values of an accessor
+ * on a non-negative range {@code [from, to)}, which must be non-decreasing. They follow the
+ * conventions of {@code BinarySearch}, the indices and insertion points being absolute indices of
+ * the domain; {@code indexOfGreaterThan} reports an element at {@code from} as not found, as
+ * {@code BinarySearch} does for index 0. The partition-point methods accept any range, including
+ * negative indices, and their midpoints never overflow.
+ * <p>
+ * The methods over {@code long} domains carry the {@code Long} suffix, so that implicitly typed
+ * lambdas select an overload unambiguously.
+ */
+public class MonotoneSearch {
+
+  /**
+   * Finds the first index of the range at which the predicate is false, the predicate being true
+   * for a prefix of the range and false for the rest of it.
+   *
+   * @param from      the first index of the range, inclusive
+   * @param to        the last index of the range, exclusive
+   * @param predicate the predicate over the indices
+   * @return the first index at which the predicate is false, or {@code to} if it holds for the
+   * whole range
+   */
+  public static int partitionPoint(int from, int to, IntPredicate predicate) {
+    while (from < to) {
+      final int mid = from + ((to - from) >>> 1);
+      if (predicate.test(mid)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  /**
+   * Finds the first index of the range at which the predicate is false, the predicate being true
+   * for a prefix of the range and false for the rest of it.
+   *
+   * @param from      the first index of the range, inclusive
+   * @param to        the last index of the range, exclusive
+   * @param predicate the predicate over the indices
+   * @return the first index at which the predicate is false, or {@code to} if it holds for the
+   * whole range
+   */
+  public static long partitionPointLong(long from, long to, LongPredicate predicate) {
+    while (from < to) {
+      final long mid = from + ((to - from) >>> 1);
+      if (predicate.test(mid)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  /**
+   * Finds the first index of the range at which the predicate is false, by galloping from the
+   * start of the range: the predicate is evaluated at distances 1, 2, 4, ... from {@code from}
+   * until it fails, and the last interval is bisected.
+   *
+   * @param from      the first index of the range, inclusive
+   * @param to        the last index of the range, exclusive
+   * @param predicate the predicate over the indices, true for a prefix of the range
+   * @return the first index at which the predicate is false, or {@code to} if it holds for the
+   * whole range
+   */
+  public static int gallopPartitionPoint(int from, int to, IntPredicate predicate) {
+    return (int) gallopPartitionPointLong(from, to, index -> predicate.test((int) index));
+  }
+
+  /**
+   * Finds the first index of the range at which the predicate is false, by galloping from the
+   * start of the range: the predicate is evaluated at distances 1, 2, 4, ... from {@code from}
+   * until it fails, and the last interval is bisected.
+   *
+   * @param from      the first index of the range, inclusive
+   * @param to        the last index of the range, exclusive
+   * @param predicate the predicate over the indices, true for a prefix of the range
+   * @return the first index at which the predicate is false, or {@code to} if it holds for the
+   * whole range
+   */
+  public static long gallopPartitionPointLong(long from, long to, LongPredicate predicate) {
+    long step = 1;
+    while (from < to) {
+      // differences are compared as unsigned, so that ranges wider than Long.MAX_VALUE work
+      if (Long.compareUnsigned(step - 1, to - from) >= 0) {
+        break;
+      }
+      final long probe = from + (step - 1);
+      if (!predicate.test(probe)) {
+        return partitionPointLong(from, probe, predicate);
+      }
+      from = probe + 1;
+      step <<= 1;
+    }
+    return partitionPointLong(from, to, predicate);
+  }
+
+  /**
+   * Finds the first index of the range at which the accessor returns the specified key.
+   *
+   * @param key    the value to search for
+   * @param from   the first index of the range, inclusive
+   * @param to     the last index of the range, exclusive
+   * @param values the accessor returning the value at an index, non-decreasing over the range
+   * @return the first index with the key if it is found; otherwise, returns -(insertion point) - 1,
+   * where the insertion point is the index at which the key would be inserted to maintain the
+   * sorted order. The return value is non-negative if and only if the key is found.
+   * @throws IllegalArgumentException if {@code from} is negative or greater than {@code to}
+   */
+  public static int firstIndexOf(long key, int from, int to, IntToLongFunction values) {
+    final int lower = boundIndex(key, from, to, values, false);
+    return lower < to && values.applyAsLong(lower) == key ? lower : -lower - 1;
+  }
+
+  /**
+   * Finds the last index of the range at which the accessor returns the specified key.
+   *
+   * @param key    the value to search for
+   * @param from   the first index of the range, inclusive
+   * @param to     the last index of the range, exclusive
+   * @param values the accessor returning the value at an index, non-decreasing over the range
+   * @return the last index with the key if it is found; otherwise, returns -(insertion point) - 1,
+   * where the insertion point is the index at which the key would be inserted to maintain the
+   * sorted order. The return value is non-negative if and only if the key is found.
+   * @throws IllegalArgumentException if {@code from} is negative or greater than {@code to}
+   */
+  public static int lastIndexOf(long key, int from, int to, IntToLongFunction values) {
+    final int upper = boundIndex(key, from, to, values, true);
+    return upper > from && values.applyAsLong(upper - 1) == key ? upper - 1 : -upper - 1;
+  }
+
+  /**
+   * Finds the first index of the range at which the accessor returns a value greater than the
+   * specified key.
+   *
+   * @param key    the value to compare against
+   * @param from   the first index of the range, inclusive
+   * @param to     the last index of the range, exclusive
+   * @param values the accessor returning the value at an index, non-decreasing over the range
+   * @return the first index with a greater value, if such an index exists after {@code from};
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the index at which the
+   * key would be inserted to maintain the sorted order.
+   * @throws IllegalArgumentException if {@code from} is negative or greater than {@code to}
+   */
+  public static int indexOfGreaterThan(long key, int from, int to, IntToLongFunction values) {
+    final int upper = boundIndex(key, from, to, values, true);
+    return from < upper && upper < to ? upper : -upper - 1;
+  }
+
+  /**
+   * Finds the last index of the range at which the accessor returns a value less than the
+   * specified key.
+   *
+   * @param key    the value to compare against
+   * @param from   the first index of the range, inclusive
+   * @param to     the last index of the range, exclusive
+   * @param values the accessor returning the value at an index, non-decreasing over the range
+   * @return the last index with a lesser value, if such an index exists; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key could be
+   * inserted to maintain the sorted order.
+   * @throws IllegalArgumentException if {@code from} is negative or greater than {@code to}
+   */
+  public static int indexOfLessThan(long key, int from, int to, IntToLongFunction values) {
+    final int lower = boundIndex(key, from, to, values, false);
+    return lower > from ? lower - 1 : -lower - 1;
+  }
+
+  /**
+   * Finds the first index of the range at which the accessor returns the specified key.
+   *
+   * @param key    the value to search for
+   * @param from   the first index of the range, inclusive
+   * @param to     the last index of the range, exclusive
+   * @param values the accessor returning the value at an index, non-decreasing over the range
+   * @return the first index with the key if it is found; otherwise, returns -(insertion point) - 1,
+   * where the insertion point is the index at which the key would be inserted to maintain the
+   * sorted order. The return value is non-negative if and only if the key is found.
+   * @throws IllegalArgumentException if {@code from} is negative or greater than {@code to}
+   */
+  public static long firstIndexOfLong(long key, long from, long to, LongUnaryOperator values) {
+    final long lower = boundDomain(key, from, to, values, false);
+    return lower < to && values.applyAsLong(lower) == key ? lower : -lower - 1;
+  }
+
+  /**
+   * Finds the last index of the range at which the accessor returns the specified key.
+   *
+   * @param key    the value to search for
+   * @param from   the first index of the range, inclusive
+   * @param to     the last index of the range, exclusive
+   * @param values the accessor returning the value at an index, non-decreasing over the range
+   * @return the last index with the key if it is found; otherwise, returns -(insertion point) - 1,
+   * where the insertion point is the index at which the key would be inserted to maintain the
+   * sorted order. The return value is non-negative if and only if the key is found.
+   * @throws IllegalArgumentException if {@code from} is negative or greater than {@code to}
+   */
+  public static long lastIndexOfLong(long key, long from, long to, LongUnaryOperator values) {
+    final long upper = boundDomain(key, from, to, values, true);
+    return upper > from && values.applyAsLong(upper - 1) == key ? upper - 1 : -upper - 1;
+  }
+
+  /**
+   * Finds the first index of the range at which the accessor returns a value greater than the
+   * specified key.
+   *
+   * @param key    the value to compare against
+   * @param from   the first index of the range, inclusive
+   * @param to     the last index of the range, exclusive
+   * @param values the accessor returning the value at an index, non-decreasing over the range
+   * @return the first index with a greater value, if such an index exists after {@code from};
+   * otherwise, returns -(insertion point) - 1, where the insertion point is the index at which the
+   * key would be inserted to maintain the sorted order.
+   * @throws IllegalArgumentException if {@code from} is negative or greater than {@code to}
+   */
+  public static long indexOfGreaterThanLong(long key, long from, long to,
+      LongUnaryOperator values) {
+    final long upper = boundDomain(key, from, to, values, true);
+    return from < upper && upper < to ? upper : -upper - 1;
+  }
+
+  /**
+   * Finds the last index of the range at which the accessor returns a value less than the
+   * specified key.
+   *
+   * @param key    the value to compare against
+   * @param from   the first index of the range, inclusive
+   * @param to     the last index of the range, exclusive
+   * @param values the accessor returning the value at an index, non-decreasing over the range
+   * @return the last index with a lesser value, if such an index exists; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key could be
+   * inserted to maintain the sorted order.
+   * @throws IllegalArgumentException if {@code from} is negative or greater than {@code to}
+   */
+  public static long indexOfLessThanLong(long key, long from, long to, LongUnaryOperator values) {
+    final long lower = boundDomain(key, from, to, values, false);
+    return lower > from ? lower - 1 : -lower - 1;
+  }
+
+  private static int boundIndex(long key, int from, int to, IntToLongFunction values,
+      boolean upper) {
+    if (from < 0 || from > to) {
+      throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ")");
+    }
+    while (from < to) {
+      final int mid = from + ((to - from) >>> 1);
+      final long value = values.applyAsLong(mid);
+      if (value < key || (upper && value == key)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  private static long boundDomain(long key, long from, long to, LongUnaryOperator values,
+      boolean upper) {
+    if (from < 0 || from > to) {
+      throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ")");
+    }
+    while (from < to) {
+      final long mid = from + ((to - from) >>> 1);
+      final long value = values.applyAsLong(mid);
+      if (value < key || (upper && value == key)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+}
@@ -0,0 +1,522 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Utility class finding the elements of a sorted numeric array closest to a value: the nearest
+ * element, the nearest element within a tolerance, and the k nearest elements, for all numeric
+ * primitive arrays and for arrays of objects sorted by a {@code double} key.
+ * <p>
+ * The insertion point of the value is found by binary search, and its neighbors are then compared
+ * by distance; the k nearest elements are collected by expanding two pointers outwards from it, in
+ * O(log n + k). Results are indices into the array, written into caller-provided buffers, so no
+ * method allocates. Of two elements at the same distance, the lower one is preferred.
+ * <p>
+ * Distances between integral values are computed exactly, without overflow. Floating-point arrays
+ * must be sorted as by {@link Double#compare(double, double)}; an element equal to the value in
+ * that order is at distance zero and preferred to any other, so {@code 0.0} is nearest to itself
+ * rather than {@code -0.0}, and NaN elements are farther than any other element.
+ */
+public class NearestSearch {
+
+  /**
+   * Finds the index of the element closest to the specified value.
+   *
+   * @param x     the value to approach
+   * @param array the array of bytes, sorted in ascending order
+   * @return the index of the closest element, or -1 if the array is empty
+   */
+  public static int nearest(byte x, byte[] array) {
+    final int right = lowerBound(array, x);
+    final int left = right - 1;
+    if (right == array.length) {
+      return left;
+    }
+    return left >= 0
+        && Long.compareUnsigned(distance(array[left], x), distance(array[right], x)) <= 0
+        ? left : right;
+  }
+
+  /**
+   * Finds the index of the element closest to the specified value, if it is within the tolerance.
+   *
+   * @param x         the value to approach
+   * @param array     the array of bytes, sorted in ascending order
+   * @param tolerance the maximal distance between the value and the element, non-negative
+   * @return the index of the closest element if its distance to the value does not exceed the
+   * tolerance; otherwise, returns -1
+   * @throws IllegalArgumentException if the tolerance is negative
+   */
+  public static int nearestWithin(byte x, byte[] array, long tolerance) {
+    checkTolerance(tolerance);
+    final int index = nearest(x, array);
+    return index >= 0 && Long.compareUnsigned(distance(array[index], x), tolerance) <= 0 ? index
+        : -1;
+  }
+
+  /**
+   * Finds the indices of the k elements closest to the specified value, by increasing distance.
+   *
+   * @param x      the value to approach
+   * @param array  the array of bytes, sorted in ascending order
+   * @param k      the number of elements to find
+   * @param buffer the buffer receiving the indices of the elements, in its first positions
+   * @return the number of indices written, the lesser of {@code k} and the length of the array
+   * @throws IllegalArgumentException if {@code k} is negative or greater than the buffer length
+   */
+  public static int kNearest(byte x, byte[] array, int k, int[] buffer) {
+    checkCount(k, buffer);
+    int right = lowerBound(array, x), left = right - 1, count = 0;
+    while (count < k && (left >= 0 || right < array.length)) {
+      if (right == array.length || (left >= 0
+          && Long.compareUnsigned(distance(array[left], x), distance(array[right], x)) <= 0)) {
+        buffer[count++] = left--;
+      } else {
+        buffer[count++] = right++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Finds the index of the element closest to the specified value.
+   *
+   * @param x     the value to approach
+   * @param array the array of shorts, sorted in ascending order
+   * @return the index of the closest element, or -1 if the array is empty
+   */
+  public static int nearest(short x, short[] array) {
+    final int right = lowerBound(array, x);
+    final int left = right - 1;
+    if (right == array.length) {
+      return left;
+    }
+    return left >= 0
+        && Long.compareUnsigned(distance(array[left], x), distance(array[right], x)) <= 0
+        ? left : right;
+  }
+
+  /**
+   * Finds the index of the element closest to the specified value, if it is within the tolerance.
+   *
+   * @param x         the value to approach
+   * @param array     the array of shorts, sorted in ascending order
+   * @param tolerance the maximal distance between the value and the element, non-negative
+   * @return the index of the closest element if its distance to the value does not exceed the
+   * tolerance; otherwise, returns -1
+   * @throws IllegalArgumentException if the tolerance is negative
+   */
+  public static int nearestWithin(short x, short[] array, long tolerance) {
+    checkTolerance(tolerance);
+    final int index = nearest(x, array);
+    return index >= 0 && Long.compareUnsigned(distance(array[index], x), tolerance) <= 0 ? index
+        : -1;
+  }
+
+  /**
+   * Finds the indices of the k elements closest to the specified value, by increasing distance.
+   *
+   * @param x      the value to approach
+   * @param array  the array of shorts, sorted in ascending order
+   * @param k      the number of elements to find
+   * @param buffer the buffer receiving the indices of the elements, in its first positions
+   * @return the number of indices written, the lesser of {@code k} and the length of the array
+   * @throws IllegalArgumentException if {@code k} is negative or greater than the buffer length
+   */
+  public static int kNearest(short x, short[] array, int k, int[] buffer) {
+    checkCount(k, buffer);
+    int right = lowerBound(array, x), left = right - 1, count = 0;
+    while (count < k && (left >= 0 || right < array.length)) {
+      if (right == array.length || (left >= 0
+          && Long.compareUnsigned(distance(array[left], x), distance(array[right], x)) <= 0)) {
+        buffer[count++] = left--;
+      } else {
+        buffer[count++] = right++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Finds the index of the element closest to the specified value.
+   *
+   * @param x     the value to approach
+   * @param array the array of ints, sorted in ascending order
+   * @return the index of the closest element, or -1 if the array is empty
+   */
+  public static int nearest(int x, int[] array) {
+    final int right = Bounds.bound(array, 0, array.length, x, false);
+    final int left = right - 1;
+    if (right == array.length) {
+      return left;
+    }
+    return left >= 0
+        && Long.compareUnsigned(distance(array[left], x), distance(array[right], x)) <= 0
+        ? left : right;
+  }
+
+  /**
+   * Finds the index of the element closest to the specified value, if it is within the tolerance.
+   *
+   * @param x         the value to approach
+   * @param array     the array of ints, sorted in ascending order
+   * @param tolerance the maximal distance between the value and the element, non-negative
+   * @return the index of the closest element if its distance to the value does not exceed the
+   * tolerance; otherwise, returns -1
+   * @throws IllegalArgumentException if the tolerance is negative
+   */
+  public static int nearestWithin(int x, int[] array, long tolerance) {
+    checkTolerance(tolerance);
+    final int index = nearest(x, array);
+    return index >= 0 && Long.compareUnsigned(distance(array[index], x), tolerance) <= 0 ? index
+        : -1;
+  }
+
+  /**
+   * Finds the indices of the k elements closest to the specified value, by increasing distance.
+   *
+   * @param x      the value to approach
+   * @param array  the array of ints, sorted in ascending order
+   * @param k      the number of elements to find
+   * @param buffer the buffer receiving the indices of the elements, in its first positions
+   * @return the number of indices written, the lesser of {@code k} and the length of the array
+   * @throws IllegalArgumentException if {@code k} is negative or greater than the buffer length
+   */
+  public static int kNearest(int x, int[] array, int k, int[] buffer) {
+    checkCount(k, buffer);
+    int right = Bounds.bound(array, 0, array.length, x, false), left = right - 1, count = 0;
+    while (count < k && (left >= 0 || right < array.length)) {
+      if (right == array.length || (left >= 0
+          && Long.compareUnsigned(distance(array[left], x), distance(array[right], x)) <= 0)) {
+        buffer[count++] = left--;
+      } else {
+        buffer[count++] = right++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Finds the index of the element closest to the specified value.
+   *
+   * @param x     the value to approach
+   * @param array the array of longs, sorted in ascending order
+   * @return the index of the closest element, or -1 if the array is empty
+   */
+  public static int nearest(long x, long[] array) {
+    final int right = Bounds.bound(array, 0, array.length, x, false);
+    final int left = right - 1;
+    if (right == array.length) {
+      return left;
+    }
+    return left >= 0
+        && Long.compareUnsigned(distance(array[left], x), distance(array[right], x)) <= 0
+        ? left : right;
+  }
+
+  /**
+   * Finds the index of the element closest to the specified value, if it is within the tolerance.
+   *
+   * @param x         the value to approach
+   * @param array     the array of longs, sorted in ascending order
+   * @param tolerance the maximal distance between the value and the element, non-negative
+   * @return the index of the closest element if its distance to the value does not exceed the
+   * tolerance; otherwise, returns -1
+   * @throws IllegalArgumentException if the tolerance is negative
+   */
+  public static int nearestWithin(long x, long[] array, long tolerance) {
+    checkTolerance(tolerance);
+    final int index = nearest(x, array);
+    return index >= 0 && Long.compareUnsigned(distance(array[index], x), tolerance) <= 0 ? index
+        : -1;
+  }
+
+  /**
+   * Finds the indices of the k elements closest to the specified value, by increasing distance.
+   *
+   * @param x      the value to approach
+   * @param array  the array of longs, sorted in ascending order
+   * @param k      the number of elements to find
+   * @param buffer the buffer receiving the indices of the elements, in its first positions
+   * @return the number of indices written, the lesser of {@code k} and the length of the array
+   * @throws IllegalArgumentException if {@code k} is negative or greater than the buffer length
+   */
+  public static int kNearest(long x, long[] array, int k, int[] buffer) {
+    checkCount(k, buffer);
+    int right = Bounds.bound(array, 0, array.length, x, false), left = right - 1, count = 0;
+    while (count < k && (left >= 0 || right < array.length)) {
+      if (right == array.length || (left >= 0
+          && Long.compareUnsigned(distance(array[left], x), distance(array[right], x)) <= 0)) {
+        buffer[count++] = left--;
+      } else {
+        buffer[count++] = right++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Finds the index of the element closest to the specified value.
+   *
+   * @param x     the value to approach
+   * @param array the array of floats, sorted in ascending order
+   * @return the index of the closest element, or -1 if the array is empty
+   */
+  public static int nearest(float x, float[] array) {
+    final int right = Bounds.bound(array, 0, array.length, x, false);
+    final int left = right - 1;
+    if (right == array.length) {
+      return left;
+    }
+    return left >= 0 && Double.compare(distance(array[left], x), distance(array[right], x)) <= 0
+        ? left : right;
+  }
+
+  /**
+   * Finds the index of the element closest to the specified value, if it is within the tolerance.
+   *
+   * @param x         the value to approach
+   * @param array     the array of floats, sorted in ascending order
+   * @param tolerance the maximal distance between the value and the element, non-negative
+   * @return the index of the closest element if its distance to the value does not exceed the
+   * tolerance; otherwise, returns -1
+   * @throws IllegalArgumentException if the tolerance is negative
+   */
+  public static int nearestWithin(float x, float[] array, double tolerance) {
+    checkTolerance(tolerance);
+    final int index = nearest(x, array);
+    return index >= 0 && Double.compare(distance(array[index], x), tolerance) <= 0 ? index
+        : -1;
+  }
+
+  /**
+   * Finds the indices of the k elements closest to the specified value, by increasing distance.
+   *
+   * @param x      the value to approach
+   * @param array  the array of floats, sorted in ascending order
+   * @param k      the number of elements to find
+   * @param buffer the buffer receiving the indices of the elements, in its first positions
+   * @return the number of indices written, the lesser of {@code k} and the length of the array
+   * @throws IllegalArgumentException if {@code k} is negative or greater than the buffer length
+   */
+  public static int kNearest(float x, float[] array, int k, int[] buffer) {
+    checkCount(k, buffer);
+    int right = Bounds.bound(array, 0, array.length, x, false), left = right - 1, count = 0;
+    while (count < k && (left >= 0 || right < array.length)) {
+      if (right == array.length || (left >= 0
+          && Double.compare(distance(array[left], x), distance(array[right], x)) <= 0)) {
+        buffer[count++] = left--;
+      } else {
+        buffer[count++] = right++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Finds the index of the element closest to the specified value.
+   *
+   * @param x     the value to approach
+   * @param array the array of doubles, sorted in ascending order
+   * @return the index of the closest element, or -1 if the array is empty
+   */
+  public static int nearest(double x, double[] array) {
+    final int right = Bounds.bound(array, 0, array.length, x, false);
+    final int left = right - 1;
+    if (right == array.length) {
+      return left;
+    }
+    return left >= 0 && Double.compare(distance(array[left], x), distance(array[right], x)) <= 0
+        ? left : right;
+  }
+
+  /**
+   * Finds the index of the element closest to the specified value, if it is within the tolerance.
+   *
+   * @param x         the value to approach
+   * @param array     the array of doubles, sorted in ascending order
+   * @param tolerance the maximal distance between the value and the element, non-negative
+   * @return the index of the closest element if its distance to the value does not exceed the
+   * tolerance; otherwise, returns -1
+   * @throws IllegalArgumentException if the tolerance is negative
+   */
+  public static int nearestWithin(double x, double[] array, double tolerance) {
+    checkTolerance(tolerance);
+    final int index = nearest(x, array);
+    return index >= 0 && Double.compare(distance(array[index], x), tolerance) <= 0 ? index
+        : -1;
+  }
+
+  /**
+   * Finds the indices of the k elements closest to the specified value, by increasing distance.
+   *
+   * @param x      the value to approach
+   * @param array  the array of doubles, sorted in ascending order
+   * @param k      the number of elements to find
+   * @param buffer the buffer receiving the indices of the elements, in its first positions
+   * @return the number of indices written, the lesser of {@code k} and the length of the array
+   * @throws IllegalArgumentException if {@code k} is negative or greater than the buffer length
+   */
+  public static int kNearest(double x, double[] array, int k, int[] buffer) {
+    checkCount(k, buffer);
+    int right = Bounds.bound(array, 0, array.length, x, false), left = right - 1, count = 0;
+    while (count < k && (left >= 0 || right < array.length)) {
+      if (right == array.length || (left >= 0
+          && Double.compare(distance(array[left], x), distance(array[right], x)) <= 0)) {
+        buffer[count++] = left--;
+      } else {
+        buffer[count++] = right++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Finds the index of the element whose key is closest to the specified value.
+   *
+   * @param x     the value to approach
+   * @param array the array of objects, sorted by their keys as by {@link Double#compare}
+   * @param key   the function extracting the key of an element
+   * @param <T>   the type of elements in the array
+   * @return the index of the closest element, or -1 if the array is empty
+   */
+  public static <T> int nearest(double x, T[] array, ToDoubleFunction<? super T> key) {
+    final int right = lowerBound(array, key, x);
+    final int left = right - 1;
+    if (right == array.length) {
+      return left;
+    }
+    return left >= 0 && Double.compare(distance(key.applyAsDouble(array[left]), x),
+        distance(key.applyAsDouble(array[right]), x)) <= 0 ? left : right;
+  }
+
+  /**
+   * Finds the index of the element whose key is closest to the specified value, if it is within
+   * the tolerance.
+   *
+   * @param x         the value to approach
+   * @param array     the array of objects, sorted by their keys as by {@link Double#compare}
+   * @param key       the function extracting the key of an element
+   * @param tolerance the maximal distance between the value and the key, non-negative
+   * @param <T>       the type of elements in the array
+   * @return the index of the closest element if the distance between its key and the value does
+   * not exceed the tolerance; otherwise, returns -1
+   * @throws IllegalArgumentException if the tolerance is negative
+   */
+  public static <T> int nearestWithin(double x, T[] array, ToDoubleFunction<? super T> key,
+      double tolerance) {
+    checkTolerance(tolerance);
+    final int index = nearest(x, array, key);
+    return index >= 0 && Double.compare(distance(key.applyAsDouble(array[index]), x), tolerance)
+        <= 0 ? index : -1;
+  }
+
+  /**
+   * Finds the indices of the k elements whose keys are closest to the specified value, by
+   * increasing distance.
+   *
+   * @param x      the value to approach
+   * @param array  the array of objects, sorted by their keys as by {@link Double#compare}
+   * @param key    the function extracting the key of an element
+   * @param k      the number of elements to find
+   * @param buffer the buffer receiving the indices of the elements, in its first positions
+   * @param <T>    the type of elements in the array
+   * @return the number of indices written, the lesser of {@code k} and the length of the array
+   * @throws IllegalArgumentException if {@code k} is negative or greater than the buffer length
+   */
+  public static <T> int kNearest(double x, T[] array, ToDoubleFunction<? super T> key, int k,
+      int[] buffer) {
+    checkCount(k, buffer);
+    int right = lowerBound(array, key, x), left = right - 1, count = 0;
+    while (count < k && (left >= 0 || right < array.length)) {
+      if (right == array.length || (left >= 0
+          && Double.compare(distance(key.applyAsDouble(array[left]), x),
+          distance(key.applyAsDouble(array[right]), x)) <= 0)) {
+        buffer[count++] = left--;
+      } else {
+        buffer[count++] = right++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the distance between two integral values as an unsigned long.
+   */
+  private static long distance(long a, long b) {
+    return a >= b ? a - b : b - a;
+  }
+
+  /**
+   * Returns the distance between two floating-point values, ordered by {@link Double#compare}:
+   * {@code -0.0} for values equal in that order, so that they precede values at a distance of
+   * {@code 0.0}, and NaN if either value is NaN, so that they follow all other distances.
+   */
+  private static double distance(double a, double b) {
+    return SortableBits.of(a) == SortableBits.of(b) ? -0.0 : Math.abs(a - b);
+  }
+
+  private static int lowerBound(byte[] array, byte x) {
+    int from = 0, to = array.length;
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      if (array[mid] < x) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  private static int lowerBound(short[] array, short x) {
+    int from = 0, to = array.length;
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      if (array[mid] < x) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  private static <T> int lowerBound(T[] array, ToDoubleFunction<? super T> key, double x) {
+    final long bits = SortableBits.of(x);
+    int from = 0, to = array.length;
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      if (SortableBits.of(key.applyAsDouble(array[mid])) < bits) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  private static void checkTolerance(long tolerance) {
+    if (tolerance < 0) {
+      throw new IllegalArgumentException("Negative tolerance: " + tolerance);
+    }
+  }
+
+  private static void checkTolerance(double tolerance) {
+    if (!(tolerance >= 0)) {
+      throw new IllegalArgumentException("Invalid tolerance: " + tolerance);
+    }
+  }
+
+  private static void checkCount(int k, int[] buffer) {
+    if (k < 0 || k > buffer.length) {
+      throw new IllegalArgumentException("Invalid count " + k + " for a buffer of length "
+          + buffer.length);
+    }
+  }
+}
@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Mutable sorted multiset of objects, ordered by a comparator, stored as a packed-memory array: an
+ * {@code Object[]} with evenly spread gaps, which keeps the elements in sorted order under inserts
+ * and deletes at an amortized cost of O(log² n) moved elements, instead of the O(n) shift of a
+ * plain sorted array or list.
+ * <p>
+ * The array is divided into segments of 16 or 32 slots, each holding its elements packed at its
+ * start. An insert or delete shifts elements within one segment only; when a segment overflows or
+ * runs low, the smallest enclosing power-of-two window of segments whose density is within its
+ * thresholds is evenly redistributed. The density thresholds tighten from 1.0 (upper) and 0.125
+ * (lower) at a single segment to 0.75 and 0.25 at the whole array, which doubles or halves when
+ * they are exceeded.
+ * <p>
+ * Lookups binary search the first elements of the segments and then a single segment, and ranks
+ * are derived from a Fenwick tree of the segment counts, so the search operations take O(log n)
+ * and follow the contract of {@link BinarySearch}, with indices being ranks in sorted order.
+ * Sequential scans read the segments in memory order. Vacated slots are cleared, so removed
+ * elements are not retained.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @param <T> the type of elements
+ * @see PackedMemoryLongArray
+ */
+public final class PackedMemoryArray<T> {
+
+  private static final int MIN_SEGMENT_SHIFT = 4;
+  private static final double LEAF_MAX_DENSITY = 1.0, ROOT_MAX_DENSITY = 0.75;
+  private static final double LEAF_MIN_DENSITY = 0.125, ROOT_MIN_DENSITY = 0.25;
+
+  private final Comparator<? super T> comparator;
+  private Object[] data;
+  private int[] counts;
+  private int[] tree;
+  private int segmentShift;
+  private int height;
+  private int size;
+
+  /**
+   * Creates an empty array ordered by the specified comparator.
+   *
+   * @param comparator the comparator defining the order of the elements
+   */
+  public PackedMemoryArray(Comparator<? super T> comparator) {
+    this.comparator = comparator;
+    layout(new Object[0], 0);
+  }
+
+  /**
+   * Creates an array holding the specified values, which must be sorted according to the
+   * comparator. The values are copied.
+   *
+   * @param values     the sorted values
+   * @param comparator the comparator defining the order of the elements
+   * @param <T>        the type of elements
+   * @return the packed-memory array
+   * @throws IllegalArgumentException if the values are not sorted according to the comparator
+   */
+  public static <T> PackedMemoryArray<T> of(List<? extends T> values,
+      Comparator<? super T> comparator) {
+    final Object[] array = values.toArray();
+    for (int i = 1; i < array.length; i++) {
+      if (compare(comparator, array[i - 1], array[i]) > 0) {
+        throw new IllegalArgumentException("List is not sorted at index " + i);
+      }
+    }
+    final PackedMemoryArray<T> result = new PackedMemoryArray<>(comparator);
+    result.layout(array, array.length);
+    return result;
+  }
+
+  /**
+   * @return the number of elements
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return {@code true} if there are no elements
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the element with the specified rank.
+   *
+   * @param index the rank of the element in sorted order
+   * @return the element at the specified rank
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  @SuppressWarnings("unchecked")
+  public T get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    final long position = find(index);
+    return (T) data[((int) (position >>> 32) << segmentShift) + (int) position];
+  }
+
+  /**
+   * Inserts the specified value after all equal elements.
+   *
+   * @param value the value to insert
+   * @return the rank of the inserted element
+   */
+  public int add(T value) {
+    final int segment = segmentOf(value, true);
+    final int base = segment << segmentShift;
+    final int offset = bound(value, base, base + counts[segment], true) - base;
+    final int rank = prefix(segment) + offset;
+    if (counts[segment] < LEAF_MAX_DENSITY * (1 << segmentShift)) {
+      System.arraycopy(data, base + offset, data, base + offset + 1, counts[segment] - offset);
+      data[base + offset] = value;
+      update(segment, 1);
+      size++;
+    } else {
+      size++;
+      rebalance(segment, offset, value);
+    }
+    return rank;
+  }
+
+  /**
+   * Removes the first element comparing equal to the specified value, if present.
+   *
+   * @param value the value to remove
+   * @return {@code true} if an element was removed
+   */
+  public boolean remove(T value) {
+    int segment = segmentOf(value, false);
+    int base = segment << segmentShift;
+    int offset = bound(value, base, base + counts[segment], false) - base;
+    if (offset == counts[segment] && segment + 1 < counts.length) {
+      segment++;
+      base += 1 << segmentShift;
+      offset = 0;
+    }
+    if (offset >= counts[segment] || compare(comparator, data[base + offset], value) != 0) {
+      return false;
+    }
+    System.arraycopy(data, base + offset + 1, data, base + offset, counts[segment] - offset - 1);
+    data[base + counts[segment] - 1] = null;
+    update(segment, -1);
+    size--;
+    if (height > 0 && counts[segment] < LEAF_MIN_DENSITY * (1 << segmentShift)) {
+      rebalance(segment);
+    }
+    return true;
+  }
+
+  /**
+   * Removes all elements.
+   */
+  public void clear() {
+    layout(new Object[0], 0);
+  }
+
+  /**
+   * Finds the rank of the first occurrence of the specified key.
+   *
+   * @param key the value to search for
+   * @return the rank of the first occurrence of the key if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the rank at which the key would be
+   * inserted to maintain the sorted order. The return value is non-negative if and only if the key
+   * is found.
+   */
+  public int firstIndexOf(T key) {
+    return Bounds.firstIndexOf(rank(key, false), rank(key, true));
+  }
+
+  /**
+   * Finds the rank of the last occurrence of the specified key.
+   *
+   * @param key the value to search for
+   * @return the rank of the last occurrence of the key if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the rank at which the key would be
+   * inserted to maintain the sorted order. The return value is non-negative if and only if the key
+   * is found.
+   */
+  public int lastIndexOf(T key) {
+    return Bounds.lastIndexOf(rank(key, false), rank(key, true));
+  }
+
+  /**
+   * Finds the rank of the first element greater than the specified key.
+   *
+   * @param key the value to compare against
+   * @return the rank of the first element greater than key, if such an element exists; otherwise,
+   * returns -(insertion point) - 1, where the insertion point is the rank at which the key would be
+   * inserted to maintain the sorted order.
+   */
+  public int indexOfGreaterThan(T key) {
+    return Bounds.indexOfGreaterThan(rank(key, true), size);
+  }
+
+  /**
+   * Finds the rank of the last element less than the specified key.
+   *
+   * @param key the value to compare against
+   * @return the rank of the last element less than key, if such an element exists; otherwise,
+   * returns -(insertion point) - 1, where the insertion point is the rank at which the key could be
+   * inserted to maintain the sorted order.
+   */
+  public int indexOfLessThan(T key) {
+    return Bounds.indexOfLessThan(rank(key, false));
+  }
+
+  /**
+   * Performs the given action for each element in sorted order.
+   *
+   * @param action the action to perform
+   */
+  @SuppressWarnings("unchecked")
+  public void forEach(Consumer<? super T> action) {
+    for (int segment = 0; segment < counts.length; segment++) {
+      final int base = segment << segmentShift;
+      for (int i = base, end = base + counts[segment]; i < end; i++) {
+        action.accept((T) data[i]);
+      }
+    }
+  }
+
+  /**
+   * @return a new list holding the elements in sorted order
+   */
+  @SuppressWarnings("unchecked")
+  public List<T> toList() {
+    return (List<T>) Arrays.asList(toArray());
+  }
+
+  private Object[] toArray() {
+    final Object[] result = new Object[size];
+    int length = 0;
+    for (int segment = 0; segment < counts.length; segment++) {
+      System.arraycopy(data, segment << segmentShift, result, length, counts[segment]);
+      length += counts[segment];
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(toArray());
+  }
+
+  /**
+   * Returns the segment in which the bound of the key lies: the last segment whose first element
+   * is less than the key (or not greater than it for the upper bound), or the first segment.
+   */
+  private int segmentOf(T key, boolean upper) {
+    int left = 0, right = counts.length;
+    while (left < right) {
+      final int mid = (left + right) >>> 1;
+      if (counts[mid] > 0 && precedes(data[mid << segmentShift], key, upper)) {
+        left = mid + 1;
+      } else {
+        right = mid;
+      }
+    }
+    return Math.max(0, left - 1);
+  }
+
+  private int bound(T key, int from, int to, boolean upper) {
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      if (precedes(data[mid], key, upper)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  private int rank(T key, boolean upper) {
+    final int segment = segmentOf(key, upper);
+    final int base = segment << segmentShift;
+    return prefix(segment) + bound(key, base, base + counts[segment], upper) - base;
+  }
+
+  /**
+   * Redistributes the smallest window around the full segment that can absorb the value, or grows
+   * the array.
+   */
+  private void rebalance(int segment, int offset, T value) {
+    for (int level = 1; level <= height; level++) {
+      final int first = segment & -(1 << level), last = first + (1 << level);
+      final int count = prefix(last) - prefix(first) + 1;
+      if (count <= maxDensity(level) * ((1 << level) << segmentShift)) {
+        final Object[] values = gather(first, last, count, segment, offset, value);
+        spread(values, count, first, last);
+        return;
+      }
+    }
+    layout(gather(0, counts.length, size, segment, offset, value), size);
+  }
+
+  /**
+   * Redistributes the smallest window around the sparse segment that is dense enough, or shrinks
+   * the array.
+   */
+  private void rebalance(int segment) {
+    for (int level = 1; level <= height; level++) {
+      final int first = segment & -(1 << level), last = first + (1 << level);
+      final int count = prefix(last) - prefix(first);
+      if (count >= minDensity(level) * ((1 << level) << segmentShift)) {
+        spread(gather(first, last, count, -1, 0, null), count, first, last);
+        return;
+      }
+    }
+    layout(toArray(), size);
+  }
+
+  /**
+   * Copies the elements of the window into a new array, inserting the value at the offset of the
+   * specified segment, if any.
+   */
+  private Object[] gather(int first, int last, int count, int segment, int offset, T value) {
+    final Object[] values = new Object[count];
+    int length = 0;
+    for (int s = first; s < last; s++) {
+      final int base = s << segmentShift;
+      if (s == segment) {
+        System.arraycopy(data, base, values, length, offset);
+        values[length + offset] = value;
+        System.arraycopy(data, base + offset, values, length + offset + 1, counts[s] - offset);
+        length += counts[s] + 1;
+      } else {
+        System.arraycopy(data, base, values, length, counts[s]);
+        length += counts[s];
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Spreads the values evenly over the segments of the window.
+   */
+  private void spread(Object[] values, int count, int first, int last) {
+    final int segments = last - first;
+    int length = 0;
+    for (int s = first; s < last; s++) {
+      final int n = count / segments + (s - first < count % segments ? 1 : 0);
+      System.arraycopy(values, length, data, s << segmentShift, n);
+      if (counts[s] > n) {
+        Arrays.fill(data, (s << segmentShift) + n, (s << segmentShift) + counts[s], null);
+      }
+      length += n;
+      update(s, n - counts[s]);
+    }
+  }
+
+  /**
+   * Rebuilds the array for the specified sorted values at a density of about one half.
+   */
+  private void layout(Object[] values, int count) {
+    final int log = 31 - Integer.numberOfLeadingZeros(Math.max(1, count));
+    segmentShift = log > 1 << MIN_SEGMENT_SHIFT ? MIN_SEGMENT_SHIFT + 1 : MIN_SEGMENT_SHIFT;
+    final int required = (2 * count + (1 << segmentShift) - 1) >> segmentShift;
+    final int segments = required <= 1 ? 1 : Integer.highestOneBit(required - 1) << 1;
+    height = Integer.numberOfTrailingZeros(segments);
+    data = new Object[segments << segmentShift];
+    counts = new int[segments];
+    tree = new int[segments + 1];
+    size = count;
+    spread(values, count, 0, segments);
+  }
+
+  /**
+   * Returns {@code true} if the element is less than the key, or not greater than it for the upper
+   * bound.
+   */
+  private boolean precedes(Object element, T key, boolean upper) {
+    final int cmp = compare(comparator, element, key);
+    return cmp < 0 || (upper && cmp == 0);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> int compare(Comparator<? super T> comparator, Object a, Object b) {
+    return comparator.compare((T) a, (T) b);
+  }
+
+  private double maxDensity(int level) {
+    return LEAF_MAX_DENSITY - (LEAF_MAX_DENSITY - ROOT_MAX_DENSITY) * level / height;
+  }
+
+  private double minDensity(int level) {
+    return LEAF_MIN_DENSITY + (ROOT_MIN_DENSITY - LEAF_MIN_DENSITY) * level / height;
+  }
+
+  private void update(int segment, int delta) {
+    counts[segment] += delta;
+    for (int i = segment + 1; i < tree.length; i += i & -i) {
+      tree[i] += delta;
+    }
+  }
+
+  /**
+   * Returns the number of elements in the segments preceding the specified one.
+   */
+  private int prefix(int segment) {
+    int sum = 0;
+    for (int i = segment; i > 0; i -= i & -i) {
+      sum += tree[i];
+    }
+    return sum;
+  }
+
+  /**
+   * Returns the segment holding the element with the specified rank in the upper 32 bits, and the
+   * offset of the element within the segment in the lower 32 bits.
+   */
+  private long find(int rank) {
+    int segment = 0;
+    for (int bit = Integer.highestOneBit(tree.length - 1); bit > 0; bit >>>= 1) {
+      if (segment + bit < tree.length && tree[segment + bit] <= rank) {
+        segment += bit;
+        rank -= tree[segment];
+      }
+    }
+    return ((long) segment << 32) | rank;
+  }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+/**
+ * Immutable block-compressed sorted array of longs.
+ * <p>
+ * Values are split into blocks of {@value #BLOCK_SIZE} elements. Every block keeps its first
+ * (minimum) value in an uncompressed header, and the remaining values are stored as deltas to
+ * their predecessors, bit-packed with the smallest width that fits the largest delta of the
+ * block.
+ * <p>
+ * The search operations mirror {@link BinarySearch} on the equivalent sorted {@code long[]} and
+ * return identical results. The block headers are binary searched first, then the deltas of the
+ * single candidate block are decoded until the bound is found, without decoding the rest of the
+ * array.
+ * <p>
+ * Instances are immutable and safe for concurrent use.
+ */
+public final class PackedSortedLongArray {
+
+  /**
+   * The number of values per block.
+   */
+  public static final int BLOCK_SIZE = 128;
+
+  private static final int BLOCK_SHIFT = 7;
+
+  private final int size;
+  private final long[] firstValues;
+  private final byte[] widths;
+  private final long[] offsets;
+  private final long[] data;
+
+  private PackedSortedLongArray(int size, long[] firstValues, byte[] widths, long[] offsets,
+      long[] data) {
+    this.size = size;
+    this.firstValues = firstValues;
+    this.widths = widths;
+    this.offsets = offsets;
+    this.data = data;
+  }
+
+  /**
+   * Compresses the specified array of longs, which must be sorted in natural order. The array is
+   * not retained.
+   *
+   * @param array the sorted array to compress
+   * @return the compressed array
+   * @throws IllegalArgumentException if the array is not sorted in natural order
+   */
+  public static PackedSortedLongArray of(long[] array) {
+    final int size = array.length;
+    for (int i = 1; i < size; i++) {
+      if (array[i - 1] > array[i]) {
+        throw new IllegalArgumentException("Array is not sorted at index " + i);
+      }
+    }
+
+    final int blocks = (size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+    final long[] firstValues = new long[blocks];
+    final byte[] widths = new byte[blocks];
+    final long[] offsets = new long[blocks];
+    long bits = 0;
+    for (int block = 0; block < blocks; block++) {
+      final int from = block << BLOCK_SHIFT, to = Math.min(size, from + BLOCK_SIZE);
+      long maxDelta = 0;
+      for (int i = from + 1; i < to; i++) {
+        maxDelta |= array[i] - array[i - 1];
+      }
+      firstValues[block] = array[from];
+      widths[block] = (byte) (64 - Long.numberOfLeadingZeros(maxDelta));
+      offsets[block] = bits;
+      bits += (long) (to - from - 1) * widths[block];
+    }
+
+    final long[] data = new long[Bits.words(bits)];
+    for (int block = 0; block < blocks; block++) {
+      final int from = block << BLOCK_SHIFT, to = Math.min(size, from + BLOCK_SIZE);
+      long position = offsets[block];
+      for (int i = from + 1; i < to; i++) {
+        Bits.write(data, position, widths[block], array[i] - array[i - 1]);
+        position += widths[block];
+      }
+    }
+    return new PackedSortedLongArray(size, firstValues, widths, offsets, data);
+  }
+
+  /**
+   * @return the number of values in the array
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the value at the specified index, decoding at most one block.
+   *
+   * @param index the index of the value
+   * @return the value at the specified index
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public long get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    final int block = index >>> BLOCK_SHIFT;
+    final int width = widths[block];
+    long value = firstValues[block];
+    long position = offsets[block];
+    for (int i = index & (BLOCK_SIZE - 1); i > 0; i--) {
+      value += Bits.read(data, position, width);
+      position += width;
+    }
+    return value;
+  }
+
+  /**
+   * Decodes a single block into the specified buffer, which is typically reused across calls.
+   *
+   * @param block  the index of the block, between 0 and {@code (size() - 1) / BLOCK_SIZE}
+   * @param buffer the buffer receiving the values, of at least {@link #BLOCK_SIZE} elements
+   * @return the number of values decoded into the buffer
+   * @throws IndexOutOfBoundsException if the block index is out of range
+   */
+  public int decode(int block, long[] buffer) {
+    if (block < 0 || block >= firstValues.length) {
+      throw new IndexOutOfBoundsException("Block: " + block + ", Blocks: " + firstValues.length);
+    }
+    final int count = Math.min(BLOCK_SIZE, size - (block << BLOCK_SHIFT));
+    final int width = widths[block];
+    long value = firstValues[block];
+    long position = offsets[block];
+    buffer[0] = value;
+    for (int i = 1; i < count; i++) {
+      value += Bits.read(data, position, width);
+      position += width;
+      buffer[i] = value;
+    }
+    return count;
+  }
+
+  /**
+   * Decodes the whole array.
+   *
+   * @return the sorted array of values
+   */
+  public long[] toArray() {
+    final long[] array = new long[size];
+    final long[] buffer = new long[BLOCK_SIZE];
+    for (int block = 0; block < firstValues.length; block++) {
+      System.arraycopy(buffer, 0, array, block << BLOCK_SHIFT, decode(block, buffer));
+    }
+    return array;
+  }
+
+  /**
+   * @return the approximate number of bytes occupied by the compressed array
+   */
+  public long sizeInBytes() {
+    return 17L * firstValues.length + 8L * data.length;
+  }
+
+  /**
+   * Finds the index of the first occurrence of the specified key in the array.
+   *
+   * @param key the value to search for
+   * @return the index of the first occurrence of the key if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order. The return value is non-negative if and only if the key
+   * is found.
+   */
+  public int firstIndexOf(long key) {
+    return Bounds.firstIndexOf(lowerBound(key), upperBound(key));
+  }
+
+  /**
+   * Finds the index of the last occurrence of the specified key in the array.
+   *
+   * @param key the value to search for
+   * @return the index of the last occurrence of the key if it is found; otherwise, returns
+   * -(insertion point) - 1, where the insertion point is the index at which the key would be
+   * inserted to maintain the sorted order. The return value is non-negative if and only if the key
+   * is found.
+   */
+  public int lastIndexOf(long key) {
+    return Bounds.lastIndexOf(lowerBound(key), upperBound(key));
+  }
+
+  /**
+   * Finds the index of the first element greater than the specified key in the array.
+   *
+   * @param key the value to compare against
+   * @return the index of the first element greater than key, if such an element exists; otherwise,
+   * returns -(insertion point) - 1, where the insertion point is the index at which the key would
+   * be inserted to maintain the sorted order.
+   */
+  public int indexOfGreaterThan(long key) {
+    return Bounds.indexOfGreaterThan(upperBound(key), size);
+  }
+
+  /**
+   * Finds the index of the last element less than the specified key in the array.
+   *
+   * @param key the value to compare against
+   * @return the index of the last element less than key, if such an element exists; otherwise,
+   * returns -(insertion point) - 1, where the insertion point is the index at which the key could
+   * be inserted to maintain the sorted order.
+   */
+  public int indexOfLessThan(long key) {
+    return Bounds.indexOfLessThan(lowerBound(key));
+  }
+
+  private int lowerBound(long key) {
+    int left = 0, right = firstValues.length;
+    while (left < right) {
+      final int mid = (left + right) >>> 1;
+      if (firstValues[mid] < key) {
+        left = mid + 1;
+      } else {
+        right = mid;
+      }
+    }
+    if (left == 0) {
+      return 0;
+    }
+    final int block = left - 1;
+    final int from = block << BLOCK_SHIFT, to = Math.min(size, from + BLOCK_SIZE);
+    final int width = widths[block];
+    long value = firstValues[block];
+    long position = offsets[block];
+    for (int i = from + 1; i < to; i++) {
+      value += Bits.read(data, position, width);
+      if (value >= key) {
+        return i;
+      }
+      position += width;
+    }
+    return to;
+  }
+
+  private int upperBound(long key) {
+    int left = 0, right = firstValues.length;
+    while (left < right) {
+      final int mid = (left + right) >>> 1;
+      if (firstValues[mid] <= key) {
+        left = mid + 1;
+      } else {
+        right = mid;
+      }
+    }
+    if (left == 0) {
+      return 0;
+    }
+    final int block = left - 1;
+    final int from = block << BLOCK_SHIFT, to = Math.min(size, from + BLOCK_SIZE);
+    final int width = widths[block];
+    long value = firstValues[block];
+    long position = offsets[block];
+    for (int i = from + 1; i < to; i++) {
+      value += Bits.read(data, position, width);
+      if (value > key) {
+        return i;
+      }
+      position += width;
+    }
+    return to;
+  }
+}
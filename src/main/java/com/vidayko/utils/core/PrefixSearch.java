@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Utility class providing prefix-range search operations for sorted arrays/lists of strings, or of
+ * objects with a mapping function that extracts a string key.
+ * <p>
+ * All elements starting with a given prefix form a contiguous range of a sorted array or list.
+ * These methods locate that range with two binary searches, comparing the prefix against the
+ * leading characters of every probed element, without creating successor strings or other
+ * intermediate objects.
+ * <p>
+ * Guarantees O(log n) time and O(1) space complexity, apart from the returned range.
+ * <p>
+ * The case-sensitive methods assume the input is sorted in natural order, as by
+ * {@link String#compareTo(String)}. The case-insensitive methods assume the input is sorted by
+ * {@link #ASCII_CASE_INSENSITIVE_ORDER}, which folds ASCII letters only and compares all other
+ * characters by their UTF-16 code units.
+ */
+public class PrefixSearch {
+
+  /**
+   * A comparator ordering character sequences lexicographically, ignoring the case of ASCII
+   * letters. For strings consisting of ASCII characters only, it is consistent with
+   * {@link String#CASE_INSENSITIVE_ORDER}.
+   */
+  public static final Comparator<CharSequence> ASCII_CASE_INSENSITIVE_ORDER = (a, b) -> {
+    final int limit = Math.min(a.length(), b.length());
+    for (int i = 0; i < limit; i++) {
+      final char c1 = fold(a.charAt(i));
+      final char c2 = fold(b.charAt(i));
+      if (c1 != c2) {
+        return c1 - c2;
+      }
+    }
+    return a.length() - b.length();
+  };
+
+  /**
+   * Finds the range of elements starting with the specified prefix in the sorted array of strings.
+   * The array must be sorted in natural order before calling this method.
+   *
+   * @param prefix the prefix to search for
+   * @param array  the sorted array to search
+   * @return the range of indices of the elements starting with the prefix; empty and positioned at
+   * the insertion point of the prefix if no element starts with it
+   */
+  public static IndexRange rangeOf(CharSequence prefix, String[] array) {
+    return rangeOf(prefix, array, s -> s, false);
+  }
+
+  /**
+   * Finds the range of elements whose keys start with the specified prefix in the sorted array of
+   * objects. The array must be sorted in natural order of the keys before calling this method.
+   *
+   * @param prefix   the prefix to search for
+   * @param array    the sorted array to search
+   * @param function a mapping function that extracts the string key from each array element
+   * @param <T>      the type of elements in the array
+   * @return the range of indices of the elements whose keys start with the prefix; empty and
+   * positioned at the insertion point of the prefix if no key starts with it
+   */
+  public static <T> IndexRange rangeOf(CharSequence prefix, T[] array,
+      Function<T, ? extends CharSequence> function) {
+    return rangeOf(prefix, array, function, false);
+  }
+
+  /**
+   * Finds the range of elements starting with the specified prefix in the sorted list of strings.
+   * The list must be sorted in natural order before calling this method.
+   *
+   * @param prefix the prefix to search for
+   * @param list   the sorted list to search
+   * @return the range of indices of the elements starting with the prefix; empty and positioned at
+   * the insertion point of the prefix if no element starts with it
+   */
+  public static IndexRange rangeOf(CharSequence prefix, List<String> list) {
+    return rangeOf(prefix, list, s -> s, false);
+  }
+
+  /**
+   * Finds the range of elements whose keys start with the specified prefix in the sorted list of
+   * objects. The list must be sorted in natural order of the keys before calling this method.
+   *
+   * @param prefix   the prefix to search for
+   * @param list     the sorted list to search
+   * @param function a mapping function that extracts the string key from each list element
+   * @param <T>      the type of elements in the list
+   * @return the range of indices of the elements whose keys start with the prefix; empty and
+   * positioned at the insertion point of the prefix if no key starts with it
+   */
+  public static <T> IndexRange rangeOf(CharSequence prefix, List<T> list,
+      Function<T, ? extends CharSequence> function) {
+    return rangeOf(prefix, list, function, false);
+  }
+
+  /**
+   * Finds the range of elements starting with the specified prefix, ignoring the case of ASCII
+   * letters, in the sorted array of strings. The array must be sorted by
+   * {@link #ASCII_CASE_INSENSITIVE_ORDER} before calling this method.
+   *
+   * @param prefix the prefix to search for
+   * @param array  the sorted array to search
+   * @return the range of indices of the elements starting with the prefix; empty and positioned at
+   * the insertion point of the prefix if no element starts with it
+   */
+  public static IndexRange rangeOfIgnoreCase(CharSequence prefix, String[] array) {
+    return rangeOf(prefix, array, s -> s, true);
+  }
+
+  /**
+   * Finds the range of elements whose keys start with the specified prefix, ignoring the case of
+   * ASCII letters, in the sorted array of objects. The array must be sorted by
+   * {@link #ASCII_CASE_INSENSITIVE_ORDER} of the keys before calling this method.
+   *
+   * @param prefix   the prefix to search for
+   * @param array    the sorted array to search
+   * @param function a mapping function that extracts the string key from each array element
+   * @param <T>      the type of elements in the array
+   * @return the range of indices of the elements whose keys start with the prefix; empty and
+   * positioned at the insertion point of the prefix if no key starts with it
+   */
+  public static <T> IndexRange rangeOfIgnoreCase(CharSequence prefix, T[] array,
+      Function<T, ? extends CharSequence> function) {
+    return rangeOf(prefix, array, function, true);
+  }
+
+  /**
+   * Finds the range of elements starting with the specified prefix, ignoring the case of ASCII
+   * letters, in the sorted list of strings. The list must be sorted by
+   * {@link #ASCII_CASE_INSENSITIVE_ORDER} before calling this method.
+   *
+   * @param prefix the prefix to search for
+   * @param list   the sorted list to search
+   * @return the range of indices of the elements starting with the prefix; empty and positioned at
+   * the insertion point of the prefix if no element starts with it
+   */
+  public static IndexRange rangeOfIgnoreCase(CharSequence prefix, List<String> list) {
+    return rangeOf(prefix, list, s -> s, true);
+  }
+
+  /**
+   * Finds the range of elements whose keys start with the specified prefix, ignoring the case of
+   * ASCII letters, in the sorted list of objects. The list must be sorted by
+   * {@link #ASCII_CASE_INSENSITIVE_ORDER} of the keys before calling this method.
+   *
+   * @param prefix   the prefix to search for
+   * @param list     the sorted list to search
+   * @param function a mapping function that extracts the string key from each list element
+   * @param <T>      the type of elements in the list
+   * @return the range of indices of the elements whose keys start with the prefix; empty and
+   * positioned at the insertion point of the prefix if no key starts with it
+   */
+  public static <T> IndexRange rangeOfIgnoreCase(CharSequence prefix, List<T> list,
+      Function<T, ? extends CharSequence> function) {
+    return rangeOf(prefix, list, function, true);
+  }
+
+  private static <T> IndexRange rangeOf(CharSequence prefix, T[] array,
+      Function<T, ? extends CharSequence> function, boolean ignoreCase) {
+    int left = 0, right = array.length;
+    while (left < right) {
+      final int mid = (left + right) >>> 1;
+      if (0 > comparePrefix(function.apply(array[mid]), prefix, ignoreCase)) {
+        left = mid + 1;
+      } else {
+        right = mid;
+      }
+    }
+    final int from = left;
+    right = array.length;
+    while (left < right) {
+      final int mid = (left + right) >>> 1;
+      if (0 == comparePrefix(function.apply(array[mid]), prefix, ignoreCase)) {
+        left = mid + 1;
+      } else {
+        right = mid;
+      }
+    }
+    return IndexRange.of(from, left);
+  }
+
+  private static <T> IndexRange rangeOf(CharSequence prefix, List<T> list,
+      Function<T, ? extends CharSequence> function, boolean ignoreCase) {
+    int left = 0, right = list.size();
+    while (left < right) {
+      final int mid = (left + right) >>> 1;
+      if (0 > comparePrefix(function.apply(list.get(mid)), prefix, ignoreCase)) {
+        left = mid + 1;
+      } else {
+        right = mid;
+      }
+    }
+    final int from = left;
+    right = list.size();
+    while (left < right) {
+      final int mid = (left + right) >>> 1;
+      if (0 == comparePrefix(function.apply(list.get(mid)), prefix, ignoreCase)) {
+        left = mid + 1;
+      } else {
+        right = mid;
+      }
+    }
+    return IndexRange.of(from, left);
+  }
+
+  /**
+   * Compares the leading characters of the value with the prefix. Returns zero if the value starts
+   * with the prefix, and otherwise the sign of the comparison of the value with the prefix.
+   */
+  private static int comparePrefix(CharSequence value, CharSequence prefix, boolean ignoreCase) {
+    final int length = value.length(), prefixLength = prefix.length();
+    final int limit = Math.min(length, prefixLength);
+    for (int i = 0; i < limit; i++) {
+      char c1 = value.charAt(i), c2 = prefix.charAt(i);
+      if (ignoreCase) {
+        c1 = fold(c1);
+        c2 = fold(c2);
+      }
+      if (c1 != c2) {
+        return c1 - c2;
+      }
+    }
+    return length < prefixLength ? -1 : 0;
+  }
+
+  private static char fold(char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+}
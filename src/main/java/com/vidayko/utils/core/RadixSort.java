@@ -0,0 +1,592 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.*;
+import java.util.stream.IntStream;
+
+/**
+ * Utility class sorting arrays of primitives, and arrays of objects by a {@code long} key, with a
+ * parallel least-significant-digit radix sort, to prepare the input of {@link BinarySearch}.
+ * <p>
+ * Values are sorted one byte at a time, from the least significant one, in up to 4 passes for
+ * {@code int} and {@code float} and 8 passes for {@code long} and {@code double}; passes in which
+ * all values share the same byte are skipped. Each pass splits the array into chunks counted and
+ * scattered in parallel on the common {@link ForkJoinPool}, the write offsets of every chunk being
+ * derived from the digit histograms of all chunks, so the sort is stable. It needs a buffer of the
+ * size of the array. Arrays of {@code byte}, {@code short} and {@code char} are sorted by counting.
+ * <p>
+ * Floating-point values are ordered as by {@link Double#compare(double, double)} and
+ * {@link Float#compare(float, float)}, consistently with {@link Arrays#sort(double[])} and with the
+ * natural-order search methods, by sorting their {@link SortableBits}: {@code -0.0} precedes
+ * {@code 0.0}, and NaN follows all other values. NaN values may be replaced by the canonical NaN.
+ * Every method can sort in descending order. For primitive arrays, it is the exact reverse of the
+ * ascending order; object arrays are sorted into descending order of their keys, and the sort stays
+ * stable, so elements with equal keys keep their relative order rather than being reversed.
+ */
+public class RadixSort {
+
+  /**
+   * Arrays shorter than this are sorted by {@link Arrays#sort}.
+   */
+  private static final int SMALL_ARRAY = 1 << 10;
+
+  /**
+   * The minimal number of elements per parallel chunk.
+   */
+  private static final int MIN_CHUNK = 1 << 16;
+
+  /**
+   * Sorts the specified array into ascending order.
+   *
+   * @param array the array to sort
+   */
+  public static void sort(int[] array) {
+    sort(array, false);
+  }
+
+  /**
+   * Sorts the specified array into ascending or descending order.
+   *
+   * @param array      the array to sort
+   * @param descending {@code true} to sort into descending order
+   */
+  public static void sort(int[] array, boolean descending) {
+    if (array.length < SMALL_ARRAY) {
+      Arrays.sort(array);
+      if (descending) {
+        reverse(array);
+      }
+      return;
+    }
+    radix(array, null, descending ? Integer.MAX_VALUE : Integer.MIN_VALUE);
+  }
+
+  /**
+   * Sorts the specified array into ascending order.
+   *
+   * @param array the array to sort
+   */
+  public static void sort(long[] array) {
+    sort(array, false);
+  }
+
+  /**
+   * Sorts the specified array into ascending or descending order.
+   *
+   * @param array      the array to sort
+   * @param descending {@code true} to sort into descending order
+   */
+  public static void sort(long[] array, boolean descending) {
+    if (array.length < SMALL_ARRAY) {
+      Arrays.sort(array);
+      if (descending) {
+        reverse(array);
+      }
+      return;
+    }
+    radix(array, null, null, descending ? Long.MAX_VALUE : Long.MIN_VALUE);
+  }
+
+  /**
+   * Sorts the specified array into ascending order, as by {@link Float#compare(float, float)}.
+   *
+   * @param array the array to sort
+   */
+  public static void sort(float[] array) {
+    sort(array, false);
+  }
+
+  /**
+   * Sorts the specified array into ascending or descending order, as by
+   * {@link Float#compare(float, float)}.
+   *
+   * @param array      the array to sort
+   * @param descending {@code true} to sort into descending order
+   */
+  public static void sort(float[] array, boolean descending) {
+    if (array.length < SMALL_ARRAY) {
+      Arrays.sort(array);
+      if (descending) {
+        reverse(array);
+      }
+      return;
+    }
+    final int[] keys = new int[array.length];
+    forEachChunk(array.length, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        keys[i] = SortableBits.of(array[i]);
+      }
+    });
+    radix(keys, null, descending ? Integer.MAX_VALUE : Integer.MIN_VALUE);
+    forEachChunk(array.length, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        array[i] = SortableBits.toFloat(keys[i]);
+      }
+    });
+  }
+
+  /**
+   * Sorts the specified array into ascending order, as by {@link Double#compare(double, double)}.
+   *
+   * @param array the array to sort
+   */
+  public static void sort(double[] array) {
+    sort(array, false);
+  }
+
+  /**
+   * Sorts the specified array into ascending or descending order, as by
+   * {@link Double#compare(double, double)}.
+   *
+   * @param array      the array to sort
+   * @param descending {@code true} to sort into descending order
+   */
+  public static void sort(double[] array, boolean descending) {
+    if (array.length < SMALL_ARRAY) {
+      Arrays.sort(array);
+      if (descending) {
+        reverse(array);
+      }
+      return;
+    }
+    final long[] keys = new long[array.length];
+    forEachChunk(array.length, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        keys[i] = SortableBits.of(array[i]);
+      }
+    });
+    radix(keys, null, null, descending ? Long.MAX_VALUE : Long.MIN_VALUE);
+    forEachChunk(array.length, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        array[i] = SortableBits.toDouble(keys[i]);
+      }
+    });
+  }
+
+  /**
+   * Sorts the specified array into ascending order.
+   *
+   * @param array the array to sort
+   */
+  public static void sort(byte[] array) {
+    sort(array, false);
+  }
+
+  /**
+   * Sorts the specified array into ascending or descending order.
+   *
+   * @param array      the array to sort
+   * @param descending {@code true} to sort into descending order
+   */
+  public static void sort(byte[] array, boolean descending) {
+    final int[] counts = histogram(array.length, 1 << 8, (histogram, from, to) -> {
+      for (int i = from; i < to; i++) {
+        histogram[array[i] - Byte.MIN_VALUE]++;
+      }
+    });
+    int position = 0;
+    for (int i = 0; i < counts.length; i++) {
+      final int bucket = descending ? counts.length - 1 - i : i;
+      Arrays.fill(array, position, position += counts[bucket], (byte) (bucket + Byte.MIN_VALUE));
+    }
+  }
+
+  /**
+   * Sorts the specified array into ascending order.
+   *
+   * @param array the array to sort
+   */
+  public static void sort(short[] array) {
+    sort(array, false);
+  }
+
+  /**
+   * Sorts the specified array into ascending or descending order.
+   *
+   * @param array      the array to sort
+   * @param descending {@code true} to sort into descending order
+   */
+  public static void sort(short[] array, boolean descending) {
+    if (array.length < SMALL_ARRAY) {
+      Arrays.sort(array);
+      if (descending) {
+        reverse(array);
+      }
+      return;
+    }
+    final int[] counts = histogram(array.length, 1 << 16, (histogram, from, to) -> {
+      for (int i = from; i < to; i++) {
+        histogram[array[i] - Short.MIN_VALUE]++;
+      }
+    });
+    int position = 0;
+    for (int i = 0; i < counts.length; i++) {
+      final int bucket = descending ? counts.length - 1 - i : i;
+      Arrays.fill(array, position, position += counts[bucket], (short) (bucket + Short.MIN_VALUE));
+    }
+  }
+
+  /**
+   * Sorts the specified array into ascending order.
+   *
+   * @param array the array to sort
+   */
+  public static void sort(char[] array) {
+    sort(array, false);
+  }
+
+  /**
+   * Sorts the specified array into ascending or descending order.
+   *
+   * @param array      the array to sort
+   * @param descending {@code true} to sort into descending order
+   */
+  public static void sort(char[] array, boolean descending) {
+    if (array.length < SMALL_ARRAY) {
+      Arrays.sort(array);
+      if (descending) {
+        reverse(array);
+      }
+      return;
+    }
+    final int[] counts = histogram(array.length, 1 << 16, (histogram, from, to) -> {
+      for (int i = from; i < to; i++) {
+        histogram[array[i]]++;
+      }
+    });
+    int position = 0;
+    for (int i = 0; i < counts.length; i++) {
+      final int bucket = descending ? counts.length - 1 - i : i;
+      Arrays.fill(array, position, position += counts[bucket], (char) bucket);
+    }
+  }
+
+  /**
+   * Sorts the specified array into ascending order of the keys extracted from its elements. The
+   * sort is stable: elements with equal keys keep their relative order.
+   *
+   * @param array the array to sort
+   * @param key   the function extracting the key of an element, called once per element
+   * @param <T>   the type of elements in the array
+   */
+  public static <T> void sort(T[] array, ToLongFunction<? super T> key) {
+    sort(array, key, false);
+  }
+
+  /**
+   * Sorts the specified array into ascending or descending order of the keys extracted from its
+   * elements. The sort is stable: elements with equal keys keep their relative order.
+   *
+   * @param array      the array to sort
+   * @param key        the function extracting the key of an element, called once per element
+   * @param descending {@code true} to sort into descending order of the keys
+   * @param <T>        the type of elements in the array
+   */
+  public static <T> void sort(T[] array, ToLongFunction<? super T> key, boolean descending) {
+    final long[] keys = new long[array.length];
+    forEachChunk(array.length, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        keys[i] = key.applyAsLong(array[i]);
+      }
+    });
+    radix(keys, array, null, descending ? Long.MAX_VALUE : Long.MIN_VALUE);
+  }
+
+  /**
+   * Sorts the ints by their bits xor-ed with the flip mask as unsigned values, moving the indices
+   * at the same positions, if any, along with them: the sign bit gives ascending signed order, and
+   * all other bits give descending signed order.
+   */
+  private static void radix(int[] array, int[] indices, int flip) {
+    final int n = array.length;
+    final int tasks = tasks(n);
+    final int[][] counts = new int[tasks][1 << 8];
+    int[] source = array, target = new int[n];
+    int[] sourceIndices = indices, targetIndices = indices == null ? null : new int[n];
+    for (int shift = 0; shift < 32; shift += 8) {
+      final int digit = shift;
+      final int[] from = source, to = target;
+      final int[] fromIndices = sourceIndices, toIndices = targetIndices;
+      forEachTask(tasks, task -> {
+        final int[] histogram = counts[task];
+        Arrays.fill(histogram, 0);
+        for (int i = start(n, tasks, task), end = start(n, tasks, task + 1); i < end; i++) {
+          histogram[((from[i] ^ flip) >>> digit) & 0xFF]++;
+        }
+      });
+      if (!offsets(counts, n)) {
+        continue;
+      }
+      forEachTask(tasks, task -> {
+        final int[] offsets = counts[task];
+        for (int i = start(n, tasks, task), end = start(n, tasks, task + 1); i < end; i++) {
+          final int j = offsets[((from[i] ^ flip) >>> digit) & 0xFF]++;
+          to[j] = from[i];
+          if (toIndices != null) {
+            toIndices[j] = fromIndices[i];
+          }
+        }
+      });
+      source = to;
+      target = from;
+      sourceIndices = toIndices;
+      targetIndices = fromIndices;
+    }
+    if (source != array) {
+      System.arraycopy(source, 0, array, 0, n);
+      if (indices != null) {
+        System.arraycopy(sourceIndices, 0, indices, 0, n);
+      }
+    }
+  }
+
+  /**
+   * Returns the indices of the keys in the stable order of the keys xor-ed with the flip mask as
+   * unsigned values. The keys are sorted in the process.
+   */
+  static int[] argsort(int[] keys, int flip) {
+    final int[] indices = identity(keys.length);
+    radix(keys, indices, flip);
+    return indices;
+  }
+
+  /**
+   * Returns the indices of an array of the specified length in the stable order of the buckets of
+   * its elements. The counter counts the elements of a chunk per bucket, and the scatter then
+   * writes the index of every element of the chunk at the next offset of its bucket.
+   */
+  static int[] argsort(int n, int buckets, ChunkCounter counter, ChunkScatter scatter) {
+    final int tasks = tasks(n);
+    final int[][] counts = new int[tasks][];
+    forEachTask(tasks, task -> {
+      counts[task] = new int[buckets];
+      counter.count(counts[task], start(n, tasks, task), start(n, tasks, task + 1));
+    });
+    if (!offsets(counts, n)) {
+      return identity(n);
+    }
+    final int[] indices = new int[n];
+    forEachTask(tasks, task -> scatter.scatter(counts[task], indices, start(n, tasks, task),
+        start(n, tasks, task + 1)));
+    return indices;
+  }
+
+  /**
+   * Returns the indices of the keys in the stable order of the keys xor-ed with the flip mask as
+   * unsigned values. The keys are sorted in the process.
+   */
+  static int[] argsort(long[] keys, long flip) {
+    final int[] indices = identity(keys.length);
+    radix(keys, null, indices, flip);
+    return indices;
+  }
+
+  /**
+   * Returns the identity permutation of the specified length.
+   */
+  static int[] identity(int n) {
+    final int[] indices = new int[n];
+    forEachChunk(n, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        indices[i] = i;
+      }
+    });
+    return indices;
+  }
+
+  /**
+   * Sorts the longs by their bits xor-ed with the flip mask as unsigned values, moving the values
+   * and indices at the same positions, if any, along with them.
+   */
+  private static void radix(long[] array, Object[] values, int[] indices, long flip) {
+    final int n = array.length;
+    final int tasks = tasks(n);
+    final int[][] counts = new int[tasks][1 << 8];
+    long[] source = array, target = new long[n];
+    Object[] sourceValues = values, targetValues = values == null ? null : new Object[n];
+    int[] sourceIndices = indices, targetIndices = indices == null ? null : new int[n];
+    for (int shift = 0; shift < 64; shift += 8) {
+      final int digit = shift;
+      final long[] from = source, to = target;
+      final Object[] fromValues = sourceValues, toValues = targetValues;
+      final int[] fromIndices = sourceIndices, toIndices = targetIndices;
+      forEachTask(tasks, task -> {
+        final int[] histogram = counts[task];
+        Arrays.fill(histogram, 0);
+        for (int i = start(n, tasks, task), end = start(n, tasks, task + 1); i < end; i++) {
+          histogram[(int) ((from[i] ^ flip) >>> digit) & 0xFF]++;
+        }
+      });
+      if (!offsets(counts, n)) {
+        continue;
+      }
+      forEachTask(tasks, task -> {
+        final int[] offsets = counts[task];
+        for (int i = start(n, tasks, task), end = start(n, tasks, task + 1); i < end; i++) {
+          final int j = offsets[(int) ((from[i] ^ flip) >>> digit) & 0xFF]++;
+          to[j] = from[i];
+          if (toValues != null) {
+            toValues[j] = fromValues[i];
+          }
+          if (toIndices != null) {
+            toIndices[j] = fromIndices[i];
+          }
+        }
+      });
+      source = to;
+      target = from;
+      sourceValues = toValues;
+      targetValues = fromValues;
+      sourceIndices = toIndices;
+      targetIndices = fromIndices;
+    }
+    if (source != array) {
+      System.arraycopy(source, 0, array, 0, n);
+      if (values != null) {
+        System.arraycopy(sourceValues, 0, values, 0, n);
+      }
+      if (indices != null) {
+        System.arraycopy(sourceIndices, 0, indices, 0, n);
+      }
+    }
+  }
+
+  /**
+   * Replaces the digit histograms of the chunks with the offsets at which each chunk writes each
+   * digit. Returns {@code false} if all values have the same digit, so the pass can be skipped.
+   */
+  private static boolean offsets(int[][] counts, int n) {
+    int sum = 0;
+    for (int digit = 0; digit < counts[0].length; digit++) {
+      int total = 0;
+      for (int[] histogram : counts) {
+        total += histogram[digit];
+      }
+      if (total == n) {
+        return false;
+      }
+    }
+    for (int digit = 0; digit < counts[0].length; digit++) {
+      for (int[] histogram : counts) {
+        final int count = histogram[digit];
+        histogram[digit] = sum;
+        sum += count;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Counts the values of an array of the specified length in parallel chunks.
+   */
+  private static int[] histogram(int n, int buckets, ChunkCounter counter) {
+    final int tasks = tasks(n);
+    final int[][] counts = new int[tasks][];
+    forEachTask(tasks, task -> {
+      counts[task] = new int[buckets];
+      counter.count(counts[task], start(n, tasks, task), start(n, tasks, task + 1));
+    });
+    for (int task = 1; task < tasks; task++) {
+      for (int bucket = 0; bucket < buckets; bucket++) {
+        counts[0][bucket] += counts[task][bucket];
+      }
+    }
+    return counts[0];
+  }
+
+  private static int tasks(int n) {
+    return Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, n / MIN_CHUNK));
+  }
+
+  private static int start(int n, int tasks, int task) {
+    return (int) ((long) n * task / tasks);
+  }
+
+  private static void forEachTask(int tasks, IntConsumer action) {
+    if (tasks == 1) {
+      action.accept(0);
+    } else {
+      IntStream.range(0, tasks).parallel().forEach(action);
+    }
+  }
+
+  /**
+   * Runs the action over consecutive chunks of {@code [0, n)}, in parallel for large ranges.
+   */
+  static void forEachChunk(int n, ChunkAction action) {
+    final int tasks = tasks(n);
+    forEachTask(tasks, task -> action.run(start(n, tasks, task), start(n, tasks, task + 1)));
+  }
+
+  private static void reverse(int[] array) {
+    for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+      final int value = array[i];
+      array[i] = array[j];
+      array[j] = value;
+    }
+  }
+
+  private static void reverse(long[] array) {
+    for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+      final long value = array[i];
+      array[i] = array[j];
+      array[j] = value;
+    }
+  }
+
+  private static void reverse(float[] array) {
+    for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+      final float value = array[i];
+      array[i] = array[j];
+      array[j] = value;
+    }
+  }
+
+  private static void reverse(double[] array) {
+    for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+      final double value = array[i];
+      array[i] = array[j];
+      array[j] = value;
+    }
+  }
+
+  private static void reverse(short[] array) {
+    for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+      final short value = array[i];
+      array[i] = array[j];
+      array[j] = value;
+    }
+  }
+
+  private static void reverse(char[] array) {
+    for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+      final char value = array[i];
+      array[i] = array[j];
+      array[j] = value;
+    }
+  }
+
+  @FunctionalInterface
+  interface ChunkAction {
+
+    void run(int from, int to);
+  }
+
+  @FunctionalInterface
+  interface ChunkCounter {
+
+    void count(int[] histogram, int from, int to);
+  }
+
+  @FunctionalInterface
+  interface ChunkScatter {
+
+    void scatter(int[] offsets, int[] indices, int from, int to);
+  }
+}
@@ -0,0 +1,564 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * Utility class streaming the elements of a sorted array or list that lie between two keys,
+ * without copying them.
+ * <p>
+ * The range is located by two binary searches, as a {@link java.util.NavigableSet#subSet} view
+ * would be: its first element is the first one not less than the lower key, or greater than it if
+ * the lower key is exclusive, and its last element is the last one not greater than the upper
+ * key, or less than it if the upper key is exclusive. The elements are then traversed in place by
+ * spliterators reporting {@link Spliterator#ORDERED}, {@link Spliterator#SORTED},
+ * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, which split a range into exact
+ * halves, so that parallel pipelines divide the work evenly between threads and can skip sorting
+ * steps.
+ * <p>
+ * Floating-point arrays must be sorted as by {@link Double#compare(double, double)}. Lists should
+ * support fast random access, as their elements are accessed by index. The source must not be
+ * modified while it is streamed.
+ */
+public class RangeStreams {
+
+  private static final int ARRAY_CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SORTED
+      | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+
+  /**
+   * Finds the range of elements between the specified keys in the sorted array.
+   *
+   * @param fromKey       the lower key of the range
+   * @param fromInclusive whether elements equal to the lower key belong to the range
+   * @param toKey         the upper key of the range
+   * @param toInclusive   whether elements equal to the upper key belong to the range
+   * @param array         the sorted array of ints
+   * @return the range of indices of the elements between the keys
+   * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}
+   */
+  public static IndexRange range(int fromKey, boolean fromInclusive, int toKey,
+      boolean toInclusive, int[] array) {
+    checkKeys(Integer.compare(fromKey, toKey), fromKey, toKey);
+    final int from = Bounds.bound(array, 0, array.length, fromKey, !fromInclusive);
+    return IndexRange.of(from, Math.max(from,
+        Bounds.bound(array, from, array.length, toKey, toInclusive)));
+  }
+
+  /**
+   * Finds the range of elements between the specified keys in the sorted array.
+   *
+   * @param fromKey       the lower key of the range
+   * @param fromInclusive whether elements equal to the lower key belong to the range
+   * @param toKey         the upper key of the range
+   * @param toInclusive   whether elements equal to the upper key belong to the range
+   * @param array         the sorted array of longs
+   * @return the range of indices of the elements between the keys
+   * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}
+   */
+  public static IndexRange range(long fromKey, boolean fromInclusive, long toKey,
+      boolean toInclusive, long[] array) {
+    checkKeys(Long.compare(fromKey, toKey), fromKey, toKey);
+    final int from = Bounds.bound(array, 0, array.length, fromKey, !fromInclusive);
+    return IndexRange.of(from, Math.max(from,
+        Bounds.bound(array, from, array.length, toKey, toInclusive)));
+  }
+
+  /**
+   * Finds the range of elements between the specified keys in the sorted array.
+   *
+   * @param fromKey       the lower key of the range
+   * @param fromInclusive whether elements equal to the lower key belong to the range
+   * @param toKey         the upper key of the range
+   * @param toInclusive   whether elements equal to the upper key belong to the range
+   * @param array         the array of doubles, sorted as by {@link Double#compare}
+   * @return the range of indices of the elements between the keys
+   * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}
+   */
+  public static IndexRange range(double fromKey, boolean fromInclusive, double toKey,
+      boolean toInclusive, double[] array) {
+    checkKeys(Double.compare(fromKey, toKey), fromKey, toKey);
+    final int from = Bounds.bound(array, 0, array.length, fromKey, !fromInclusive);
+    return IndexRange.of(from, Math.max(from,
+        Bounds.bound(array, from, array.length, toKey, toInclusive)));
+  }
+
+  /**
+   * Finds the range of elements between the specified keys in the sorted array.
+   *
+   * @param fromKey       the lower key of the range
+   * @param fromInclusive whether elements equal to the lower key belong to the range
+   * @param toKey         the upper key of the range
+   * @param toInclusive   whether elements equal to the upper key belong to the range
+   * @param array         the array of objects, sorted by the comparator
+   * @param comparator    the comparator ordering the array
+   * @param <T>           the type of elements in the array
+   * @return the range of indices of the elements between the keys
+   * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}
+   */
+  public static <T> IndexRange range(T fromKey, boolean fromInclusive, T toKey,
+      boolean toInclusive, T[] array, Comparator<? super T> comparator) {
+    checkKeys(comparator.compare(fromKey, toKey), fromKey, toKey);
+    final int from = Bounds.bound(array, 0, array.length, fromKey, comparator, !fromInclusive);
+    return IndexRange.of(from, Math.max(from,
+        Bounds.bound(array, from, array.length, toKey, comparator, toInclusive)));
+  }
+
+  /**
+   * Finds the range of elements between the specified keys in the sorted list.
+   *
+   * @param fromKey       the lower key of the range
+   * @param fromInclusive whether elements equal to the lower key belong to the range
+   * @param toKey         the upper key of the range
+   * @param toInclusive   whether elements equal to the upper key belong to the range
+   * @param list          the list of objects, sorted by the comparator
+   * @param comparator    the comparator ordering the list
+   * @param <T>           the type of elements in the list
+   * @return the range of indices of the elements between the keys
+   * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}
+   */
+  public static <T> IndexRange range(T fromKey, boolean fromInclusive, T toKey,
+      boolean toInclusive, List<? extends T> list, Comparator<? super T> comparator) {
+    checkKeys(comparator.compare(fromKey, toKey), fromKey, toKey);
+    final int from = bound(list, 0, list.size(), fromKey, comparator, !fromInclusive);
+    return IndexRange.of(from, Math.max(from,
+        bound(list, from, list.size(), toKey, comparator, toInclusive)));
+  }
+
+  /**
+   * Streams the elements between the specified keys in the sorted array.
+   *
+   * @param fromKey       the lower key of the range
+   * @param fromInclusive whether elements equal to the lower key belong to the range
+   * @param toKey         the upper key of the range
+   * @param toInclusive   whether elements equal to the upper key belong to the range
+   * @param array         the sorted array of ints
+   * @return a sequential stream of the elements between the keys, in ascending order
+   * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}
+   */
+  public static IntStream stream(int fromKey, boolean fromInclusive, int toKey,
+      boolean toInclusive, int[] array) {
+    final IndexRange range = range(fromKey, fromInclusive, toKey, toInclusive, array);
+    return StreamSupport.intStream(new IntRange(array, range.from(), range.to()), false);
+  }
+
+  /**
+   * Streams the elements between the specified keys in the sorted array.
+   *
+   * @param fromKey       the lower key of the range
+   * @param fromInclusive whether elements equal to the lower key belong to the range
+   * @param toKey         the upper key of the range
+   * @param toInclusive   whether elements equal to the upper key belong to the range
+   * @param array         the sorted array of longs
+   * @return a sequential stream of the elements between the keys, in ascending order
+   * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}
+   */
+  public static LongStream stream(long fromKey, boolean fromInclusive, long toKey,
+      boolean toInclusive, long[] array) {
+    final IndexRange range = range(fromKey, fromInclusive, toKey, toInclusive, array);
+    return StreamSupport.longStream(new LongRange(array, range.from(), range.to()), false);
+  }
+
+  /**
+   * Streams the elements between the specified keys in the sorted array.
+   *
+   * @param fromKey       the lower key of the range
+   * @param fromInclusive whether elements equal to the lower key belong to the range
+   * @param toKey         the upper key of the range
+   * @param toInclusive   whether elements equal to the upper key belong to the range
+   * @param array         the array of doubles, sorted as by {@link Double#compare}
+   * @return a sequential stream of the elements between the keys, in ascending order
+   * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}
+   */
+  public static DoubleStream stream(double fromKey, boolean fromInclusive, double toKey,
+      boolean toInclusive, double[] array) {
+    final IndexRange range = range(fromKey, fromInclusive, toKey, toInclusive, array);
+    return StreamSupport.doubleStream(new DoubleRange(array, range.from(), range.to()), false);
+  }
+
+  /**
+   * Streams the elements between the specified keys in the array sorted in natural order.
+   *
+   * @param fromKey       the lower key of the range
+   * @param fromInclusive whether elements equal to the lower key belong to the range
+   * @param toKey         the upper key of the range
+   * @param toInclusive   whether elements equal to the upper key belong to the range
+   * @param array         the array of objects, sorted in natural order
+   * @param <T>           the type of elements in the array
+   * @return a sequential stream of the elements between the keys, in ascending order
+   * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}
+   */
+  public static <T extends Comparable<? super T>> Stream<T> stream(T fromKey,
+      boolean fromInclusive, T toKey, boolean toInclusive, T[] array) {
+    final IndexRange range = range(fromKey, fromInclusive, toKey, toInclusive, array,
+        Comparator.naturalOrder());
+    return StreamSupport.stream(new ArrayRange<>(array, range.from(), range.to(), null), false);
+  }
+
+  /**
+   * Streams the elements between the specified keys in the array sorted by the comparator.
+   *
+   * @param fromKey       the lower key of the range
+   * @param fromInclusive whether elements equal to the lower key belong to the range
+   * @param toKey         the upper key of the range
+   * @param toInclusive   whether elements equal to the upper key belong to the range
+   * @param array         the array of objects, sorted by the comparator
+   * @param comparator    the comparator ordering the array
+   * @param <T>           the type of elements in the array
+   * @return a sequential stream of the elements between the keys, in the order of the comparator
+   * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}
+   */
+  public static <T> Stream<T> stream(T fromKey, boolean fromInclusive, T toKey,
+      boolean toInclusive, T[] array, Comparator<? super T> comparator) {
+    final IndexRange range = range(fromKey, fromInclusive, toKey, toInclusive, array, comparator);
+    return StreamSupport.stream(new ArrayRange<>(array, range.from(), range.to(), comparator),
+        false);
+  }
+
+  /**
+   * Streams the elements between the specified keys in the list sorted in natural order.
+   *
+   * @param fromKey       the lower key of the range
+   * @param fromInclusive whether elements equal to the lower key belong to the range
+   * @param toKey         the upper key of the range
+   * @param toInclusive   whether elements equal to the upper key belong to the range
+   * @param list          the list of objects, sorted in natural order
+   * @param <T>           the type of elements in the list
+   * @return a sequential stream of the elements between the keys, in ascending order
+   * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}
+   */
+  public static <T extends Comparable<? super T>> Stream<T> stream(T fromKey,
+      boolean fromInclusive, T toKey, boolean toInclusive, List<? extends T> list) {
+    final IndexRange range = range(fromKey, fromInclusive, toKey, toInclusive, list,
+        Comparator.naturalOrder());
+    return StreamSupport.stream(new ListRange<>(list, range.from(), range.to(), null), false);
+  }
+
+  /**
+   * Streams the elements between the specified keys in the list sorted by the comparator.
+   *
+   * @param fromKey       the lower key of the range
+   * @param fromInclusive whether elements equal to the lower key belong to the range
+   * @param toKey         the upper key of the range
+   * @param toInclusive   whether elements equal to the upper key belong to the range
+   * @param list          the list of objects, sorted by the comparator
+   * @param comparator    the comparator ordering the list
+   * @param <T>           the type of elements in the list
+   * @return a sequential stream of the elements between the keys, in the order of the comparator
+   * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}
+   */
+  public static <T> Stream<T> stream(T fromKey, boolean fromInclusive, T toKey,
+      boolean toInclusive, List<? extends T> list, Comparator<? super T> comparator) {
+    final IndexRange range = range(fromKey, fromInclusive, toKey, toInclusive, list, comparator);
+    return StreamSupport.stream(new ListRange<T>(list, range.from(), range.to(), comparator),
+        false);
+  }
+
+  private static void checkKeys(int comparison, Object fromKey, Object toKey) {
+    if (comparison > 0) {
+      throw new IllegalArgumentException("fromKey " + fromKey + " > toKey " + toKey);
+    }
+  }
+
+  /**
+   * Returns the index of the first element of {@code list[from, to)} greater than the key if
+   * {@code upper} is set, or not less than the key otherwise, according to the comparator.
+   */
+  private static <T> int bound(List<? extends T> list, int from, int to, T key,
+      Comparator<? super T> comparator, boolean upper) {
+    while (from < to) {
+      final int mid = (from + to) >>> 1;
+      final int cmp = comparator.compare(list.get(mid), key);
+      if (cmp < 0 || (upper && cmp == 0)) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  /**
+   * Spliterator over a range of a sorted array of ints, split into halves.
+   */
+  private static final class IntRange implements Spliterator.OfInt {
+
+    private final int[] array;
+    private int index;
+    private final int fence;
+
+    IntRange(int[] array, int index, int fence) {
+      this.array = array;
+      this.index = index;
+      this.fence = fence;
+    }
+
+    @Override
+    public OfInt trySplit() {
+      final int from = index, mid = (from + fence) >>> 1;
+      return from < mid ? new IntRange(array, from, index = mid) : null;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+      if (index < fence) {
+        action.accept(array[index++]);
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+      final int from = index;
+      index = fence;
+      for (int i = from; i < fence; i++) {
+        action.accept(array[i]);
+      }
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ARRAY_CHARACTERISTICS | NONNULL;
+    }
+
+    @Override
+    public Comparator<? super Integer> getComparator() {
+      return null;
+    }
+  }
+
+  /**
+   * Spliterator over a range of a sorted array of longs, split into halves.
+   */
+  private static final class LongRange implements Spliterator.OfLong {
+
+    private final long[] array;
+    private int index;
+    private final int fence;
+
+    LongRange(long[] array, int index, int fence) {
+      this.array = array;
+      this.index = index;
+      this.fence = fence;
+    }
+
+    @Override
+    public OfLong trySplit() {
+      final int from = index, mid = (from + fence) >>> 1;
+      return from < mid ? new LongRange(array, from, index = mid) : null;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      if (index < fence) {
+        action.accept(array[index++]);
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      final int from = index;
+      index = fence;
+      for (int i = from; i < fence; i++) {
+        action.accept(array[i]);
+      }
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ARRAY_CHARACTERISTICS | NONNULL;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+      return null;
+    }
+  }
+
+  /**
+   * Spliterator over a range of a sorted array of doubles, split into halves.
+   */
+  private static final class DoubleRange implements Spliterator.OfDouble {
+
+    private final double[] array;
+    private int index;
+    private final int fence;
+
+    DoubleRange(double[] array, int index, int fence) {
+      this.array = array;
+      this.index = index;
+      this.fence = fence;
+    }
+
+    @Override
+    public OfDouble trySplit() {
+      final int from = index, mid = (from + fence) >>> 1;
+      return from < mid ? new DoubleRange(array, from, index = mid) : null;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+      if (index < fence) {
+        action.accept(array[index++]);
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+      final int from = index;
+      index = fence;
+      for (int i = from; i < fence; i++) {
+        action.accept(array[i]);
+      }
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ARRAY_CHARACTERISTICS | NONNULL;
+    }
+
+    @Override
+    public Comparator<? super Double> getComparator() {
+      return null;
+    }
+  }
+
+  /**
+   * Spliterator over a range of a sorted array of objects, split into halves.
+   */
+  private static final class ArrayRange<T> implements Spliterator<T> {
+
+    private final T[] array;
+    private int index;
+    private final int fence;
+    private final Comparator<? super T> comparator;
+
+    ArrayRange(T[] array, int index, int fence, Comparator<? super T> comparator) {
+      this.array = array;
+      this.index = index;
+      this.fence = fence;
+      this.comparator = comparator;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      final int from = index, mid = (from + fence) >>> 1;
+      return from < mid ? new ArrayRange<>(array, from, index = mid, comparator) : null;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      if (index < fence) {
+        action.accept(array[index++]);
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+      final int from = index;
+      index = fence;
+      for (int i = from; i < fence; i++) {
+        action.accept(array[i]);
+      }
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ARRAY_CHARACTERISTICS;
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+      return comparator;
+    }
+  }
+
+  /**
+   * Spliterator over a range of a sorted list, split into halves.
+   */
+  private static final class ListRange<T> implements Spliterator<T> {
+
+    private final List<? extends T> list;
+    private int index;
+    private final int fence;
+    private final Comparator<? super T> comparator;
+
+    ListRange(List<? extends T> list, int index, int fence, Comparator<? super T> comparator) {
+      this.list = list;
+      this.index = index;
+      this.fence = fence;
+      this.comparator = comparator;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      final int from = index, mid = (from + fence) >>> 1;
+      return from < mid ? new ListRange<>(list, from, index = mid, comparator) : null;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      if (index < fence) {
+        action.accept(list.get(index++));
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+      final int from = index;
+      index = fence;
+      for (int i = from; i < fence; i++) {
+        action.accept(list.get(i));
+      }
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SORTED | SIZED | SUBSIZED;
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+      return comparator;
+    }
+  }
+}
@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+
+/**
+ * Run-length index of a sorted array with many duplicates, holding one (value, start, end) triple
+ * per run of equal elements.
+ * <p>
+ * The runs are enumerated by galloping: from the start of a run, the array is probed at distances
+ * 1, 2, 4, ... until an element differs from the value of the run, and the last interval is
+ * bisected. Indexing an array of n elements with d distinct values thus reads O(d log(n / d))
+ * elements rather than all n. Searches then bisect the d values of the runs, in O(log d), and
+ * return the same indices as the corresponding {@link BinarySearch} operations on the array, the
+ * first and last indices of a value being the start and end of its run.
+ * <p>
+ * The array is not referenced once indexed, as the runs describe it entirely. Run indices are
+ * immutable and thread-safe.
+ */
+public abstract class RunIndex {
+
+  /**
+   * The start of every run, followed by the length of the array, which is the end of the last run.
+   */
+  final int[] starts;
+  final int runCount;
+
+  RunIndex(int[] starts, int runCount) {
+    this.starts = starts;
+    this.runCount = runCount;
+  }
+
+  /**
+   * Creates the run index of the specified sorted array.
+   *
+   * @param array the sorted array of ints
+   * @return the run index
+   */
+  public static OfInt of(int[] array) {
+    int[] values = new int[16], starts = new int[17];
+    int count = 0, start = 0;
+    while (start < array.length) {
+      final int value = array[start];
+      int from = start + 1, to = array.length;
+      for (int step = 1; from < to; step <<= 1) {
+        final int probe = from + step - 1;
+        if (probe >= to) {
+          break;
+        }
+        if (array[probe] != value) {
+          to = probe;
+          break;
+        }
+        from = probe + 1;
+      }
+      if (count == values.length) {
+        values = Arrays.copyOf(values, count * 2);
+        starts = Arrays.copyOf(starts, count * 2 + 1);
+      }
+      values[count] = value;
+      starts[count++] = start;
+      start = Bounds.bound(array, from, to, value, true);
+    }
+    starts[count] = array.length;
+    return new OfInt(Arrays.copyOf(values, count), Arrays.copyOf(starts, count + 1), count);
+  }
+
+  /**
+   * Creates the run index of the specified sorted array.
+   *
+   * @param array the sorted array of longs
+   * @return the run index
+   */
+  public static OfLong of(long[] array) {
+    long[] values = new long[16];
+    int[] starts = new int[17];
+    int count = 0, start = 0;
+    while (start < array.length) {
+      final long value = array[start];
+      int from = start + 1, to = array.length;
+      for (int step = 1; from < to; step <<= 1) {
+        final int probe = from + step - 1;
+        if (probe >= to) {
+          break;
+        }
+        if (array[probe] != value) {
+          to = probe;
+          break;
+        }
+        from = probe + 1;
+      }
+      if (count == values.length) {
+        values = Arrays.copyOf(values, count * 2);
+        starts = Arrays.copyOf(starts, count * 2 + 1);
+      }
+      values[count] = value;
+      starts[count++] = start;
+      start = Bounds.bound(array, from, to, value, true);
+    }
+    starts[count] = array.length;
+    return new OfLong(Arrays.copyOf(values, count), Arrays.copyOf(starts, count + 1), count);
+  }
+
+  /**
+   * @return the number of elements in the indexed array
+   */
+  public int size() {
+    return starts[runCount];
+  }
+
+  /**
+   * @return the number of runs, which is the number of distinct values
+   */
+  public int runCount() {
+    return runCount;
+  }
+
+  /**
+   * Returns the index of the first element of the specified run.
+   *
+   * @param run the index of the run
+   * @return the start of the run, inclusive
+   * @throws IndexOutOfBoundsException if the run index is out of range
+   */
+  public int start(int run) {
+    checkRun(run);
+    return starts[run];
+  }
+
+  /**
+   * Returns the index following the last element of the specified run.
+   *
+   * @param run the index of the run
+   * @return the end of the run, exclusive
+   * @throws IndexOutOfBoundsException if the run index is out of range
+   */
+  public int end(int run) {
+    checkRun(run);
+    return starts[run + 1];
+  }
+
+  void checkRun(int run) {
+    if (run < 0 || run >= runCount) {
+      throw new IndexOutOfBoundsException("Run: " + run + ", run count: " + runCount);
+    }
+  }
+
+  int firstIndex(int run, boolean found) {
+    return found ? starts[run] : -starts[run] - 1;
+  }
+
+  int lastIndex(int run, boolean found) {
+    return found ? starts[run + 1] - 1 : -starts[run] - 1;
+  }
+
+  int greaterIndex(int run, boolean found) {
+    return Bounds.indexOfGreaterThan(starts[found ? run + 1 : run], starts[runCount]);
+  }
+
+  int lessIndex(int run) {
+    return Bounds.indexOfLessThan(starts[run]);
+  }
+
+  int runLength(int run, boolean found) {
+    return found ? starts[run + 1] - starts[run] : 0;
+  }
+
+  IndexRange runRange(int run, boolean found) {
+    return IndexRange.of(starts[run], starts[found ? run + 1 : run]);
+  }
+
+  /**
+   * Operation performed on the runs of an int array.
+   */
+  @FunctionalInterface
+  public interface IntRunConsumer {
+
+    /**
+     * Performs this operation on the specified run.
+     *
+     * @param value the value of the elements of the run
+     * @param start the index of the first element of the run, inclusive
+     * @param end   the index following the last element of the run, exclusive
+     */
+    void accept(int value, int start, int end);
+  }
+
+  /**
+   * Operation performed on the runs of a long array.
+   */
+  @FunctionalInterface
+  public interface LongRunConsumer {
+
+    /**
+     * Performs this operation on the specified run.
+     *
+     * @param value the value of the elements of the run
+     * @param start the index of the first element of the run, inclusive
+     * @param end   the index following the last element of the run, exclusive
+     */
+    void accept(long value, int start, int end);
+  }
+
+  /**
+   * Run index of an int array.
+   */
+  public static final class OfInt extends RunIndex {
+
+    private final int[] values;
+
+    private OfInt(int[] values, int[] starts, int runCount) {
+      super(starts, runCount);
+      this.values = values;
+    }
+
+    /**
+     * Returns the value of the elements of the specified run.
+     *
+     * @param run the index of the run
+     * @return the value of the run
+     * @throws IndexOutOfBoundsException if the run index is out of range
+     */
+    public int value(int run) {
+      checkRun(run);
+      return values[run];
+    }
+
+    /**
+     * Finds the run of the specified key.
+     *
+     * @param key the value to search for
+     * @return the index of the run of the key if it is found; otherwise, returns
+     * -(insertion run) - 1, where the insertion run is the index of the first run of a greater
+     * value
+     */
+    public int runOf(int key) {
+      final int run = Bounds.bound(values, 0, runCount, key, false);
+      return run < runCount && values[run] == key ? run : -run - 1;
+    }
+
+    /**
+     * Finds the index of the first occurrence of the specified key in the array.
+     *
+     * @param key the value to search for
+     * @return the result of {@link BinarySearch#firstIndexOf(int, int[])} on the array
+     */
+    public int firstIndexOf(int key) {
+      final int run = Bounds.bound(values, 0, runCount, key, false);
+      return firstIndex(run, run < runCount && values[run] == key);
+    }
+
+    /**
+     * Finds the index of the last occurrence of the specified key in the array.
+     *
+     * @param key the value to search for
+     * @return the result of {@link BinarySearch#lastIndexOf(int, int[])} on the array
+     */
+    public int lastIndexOf(int key) {
+      final int run = Bounds.bound(values, 0, runCount, key, false);
+      return lastIndex(run, run < runCount && values[run] == key);
+    }
+
+    /**
+     * Finds the index of the first element greater than the specified key in the array.
+     *
+     * @param key the value to compare against
+     * @return the result of {@link BinarySearch#indexOfGreaterThan(int, int[])} on the array
+     */
+    public int indexOfGreaterThan(int key) {
+      final int run = Bounds.bound(values, 0, runCount, key, false);
+      return greaterIndex(run, run < runCount && values[run] == key);
+    }
+
+    /**
+     * Finds the index of the last element less than the specified key in the array.
+     *
+     * @param key the value to compare against
+     * @return the result of {@link BinarySearch#indexOfLessThan(int, int[])} on the array
+     */
+    public int indexOfLessThan(int key) {
+      return lessIndex(Bounds.bound(values, 0, runCount, key, false));
+    }
+
+    /**
+     * Counts the occurrences of the specified key in the array.
+     *
+     * @param key the value to count
+     * @return the number of elements equal to the key
+     */
+    public int count(int key) {
+      final int run = Bounds.bound(values, 0, runCount, key, false);
+      return runLength(run, run < runCount && values[run] == key);
+    }
+
+    /**
+     * Finds the range of occurrences of the specified key in the array.
+     *
+     * @param key the value to search for
+     * @return the range of indices of the elements equal to the key; empty and positioned at the
+     * insertion point of the key if it is not found
+     */
+    public IndexRange rangeOf(int key) {
+      final int run = Bounds.bound(values, 0, runCount, key, false);
+      return runRange(run, run < runCount && values[run] == key);
+    }
+
+    /**
+     * Performs the given action for each run, in ascending order of values.
+     *
+     * @param action the action to perform
+     */
+    public void forEachRun(IntRunConsumer action) {
+      for (int run = 0; run < runCount; run++) {
+        action.accept(values[run], starts[run], starts[run + 1]);
+      }
+    }
+  }
+
+  /**
+   * Run index of a long array.
+   */
+  public static final class OfLong extends RunIndex {
+
+    private final long[] values;
+
+    private OfLong(long[] values, int[] starts, int runCount) {
+      super(starts, runCount);
+      this.values = values;
+    }
+
+    /**
+     * Returns the value of the elements of the specified run.
+     *
+     * @param run the index of the run
+     * @return the value of the run
+     * @throws IndexOutOfBoundsException if the run index is out of range
+     */
+    public long value(int run) {
+      checkRun(run);
+      return values[run];
+    }
+
+    /**
+     * Finds the run of the specified key.
+     *
+     * @param key the value to search for
+     * @return the index of the run of the key if it is found; otherwise, returns
+     * -(insertion run) - 1, where the insertion run is the index of the first run of a greater
+     * value
+     */
+    public int runOf(long key) {
+      final int run = Bounds.bound(values, 0, runCount, key, false);
+      return run < runCount && values[run] == key ? run : -run - 1;
+    }
+
+    /**
+     * Finds the index of the first occurrence of the specified key in the array.
+     *
+     * @param key the value to search for
+     * @return the result of {@link BinarySearch#firstIndexOf(long, long[])} on the array
+     */
+    public int firstIndexOf(long key) {
+      final int run = Bounds.bound(values, 0, runCount, key, false);
+      return firstIndex(run, run < runCount && values[run] == key);
+    }
+
+    /**
+     * Finds the index of the last occurrence of the specified key in the array.
+     *
+     * @param key the value to search for
+     * @return the result of {@link BinarySearch#lastIndexOf(long, long[])} on the array
+     */
+    public int lastIndexOf(long key) {
+      final int run = Bounds.bound(values, 0, runCount, key, false);
+      return lastIndex(run, run < runCount && values[run] == key);
+    }
+
+    /**
+     * Finds the index of the first element greater than the specified key in the array.
+     *
+     * @param key the value to compare against
+     * @return the result of {@link BinarySearch#indexOfGreaterThan(long, long[])} on the array
+     */
+    public int indexOfGreaterThan(long key) {
+      final int run = Bounds.bound(values, 0, runCount, key, false);
+      return greaterIndex(run, run < runCount && values[run] == key);
+    }
+
+    /**
+     * Finds the index of the last element less than the specified key in the array.
+     *
+     * @param key the value to compare against
+     * @return the result of {@link BinarySearch#indexOfLessThan(long, long[])} on the array
+     */
+    public int indexOfLessThan(long key) {
+      return lessIndex(Bounds.bound(values, 0, runCount, key, false));
+    }
+
+    /**
+     * Counts the occurrences of the specified key in the array.
+     *
+     * @param key the value to count
+     * @return the number of elements equal to the key
+     */
+    public int count(long key) {
+      final int run = Bounds.bound(values, 0, runCount, key, false);
+      return runLength(run, run < runCount && values[run] == key);
+    }
+
+    /**
+     * Finds the range of occurrences of the specified key in the array.
+     *
+     * @param key the value to search for
+     * @return the range of indices of the elements equal to the key; empty and positioned at the
+     * insertion point of the key if it is not found
+     */
+    public IndexRange rangeOf(long key) {
+      final int run = Bounds.bound(values, 0, runCount, key, false);
+      return runRange(run, run < runCount && values[run] == key);
+    }
+
+    /**
+     * Performs the given action for each run, in ascending order of values.
+     *
+     * @param action the action to perform
+     */
+    public void forEachRun(LongRunConsumer action) {
+      for (int run = 0; run < runCount; run++) {
+        action.accept(values[run], starts[run], starts[run + 1]);
+      }
+    }
+  }
+}
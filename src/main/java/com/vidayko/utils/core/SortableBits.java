@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+/**
+ * Utility class mapping {@code float} and {@code double} values to {@code int} and {@code long}
+ * bit patterns whose signed integer order is the order of {@link Float#compare(float, float)} and
+ * {@link Double#compare(double, double)}, and searching columns of such patterns.
+ * <p>
+ * The IEEE 754 bits of non-negative values already compare as signed integers; the bits of
+ * negative values compare in reverse, and are fixed by flipping all their bits but the sign. NaN
+ * values are canonicalized first, so that all NaNs map to one pattern greater than that of
+ * positive infinity, and {@code -0.0} maps below {@code 0.0}, exactly as ordered by
+ * {@code compare}. The mapping is invertible for all other values.
+ * <p>
+ * A column of sortable bits, built once with {@link #column(double[])}, can be searched with the
+ * {@link BinarySearch} operations below at the speed of a {@code long[]} search, returning the
+ * same indices as the corresponding {@code double[]} search.
+ */
+public class SortableBits {
+
+  /**
+   * Returns the sortable bits of the specified float.
+   *
+   * @param value the float value
+   * @return the int ordered among sortable bits as the value by {@link Float#compare}
+   */
+  public static int of(float value) {
+    final int bits = Float.floatToIntBits(value);
+    return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns the sortable bits of the specified double.
+   *
+   * @param value the double value
+   * @return the long ordered among sortable bits as the value by {@link Double#compare}
+   */
+  public static long of(double value) {
+    final long bits = Double.doubleToLongBits(value);
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  /**
+   * Returns the float with the specified sortable bits.
+   *
+   * @param bits the sortable bits, as returned by {@link #of(float)}
+   * @return the float value
+   */
+  public static float toFloat(int bits) {
+    return Float.intBitsToFloat(bits ^ ((bits >> 31) & Integer.MAX_VALUE));
+  }
+
+  /**
+   * Returns the double with the specified sortable bits.
+   *
+   * @param bits the sortable bits, as returned by {@link #of(double)}
+   * @return the double value
+   */
+  public static double toDouble(long bits) {
+    return Double.longBitsToDouble(bits ^ ((bits >> 63) & Long.MAX_VALUE));
+  }
+
+  /**
+   * Returns the sortable bits of all elements of the specified array. The column of a sorted
+   * array is sorted.
+   *
+   * @param array the array of floats
+   * @return a new array holding the sortable bits of the elements
+   */
+  public static int[] column(float[] array) {
+    final int[] column = new int[array.length];
+    for (int i = 0; i < array.length; i++) {
+      column[i] = of(array[i]);
+    }
+    return column;
+  }
+
+  /**
+   * Returns the sortable bits of all elements of the specified array. The column of a sorted
+   * array is sorted.
+   *
+   * @param array the array of doubles
+   * @return a new array holding the sortable bits of the elements
+   */
+  public static long[] column(double[] array) {
+    final long[] column = new long[array.length];
+    for (int i = 0; i < array.length; i++) {
+      column[i] = of(array[i]);
+    }
+    return column;
+  }
+
+  /**
+   * Finds the index of the first occurrence of the specified key in a sorted column of sortable
+   * bits.
+   *
+   * @param key    the value to search for
+   * @param column the sorted sortable bits of the searched doubles
+   * @return the result of {@link BinarySearch#firstIndexOf(double, double[])} on the doubles
+   */
+  public static int firstIndexOf(double key, long[] column) {
+    final long bits = of(key);
+    final int lower = Bounds.bound(column, 0, column.length, bits, false);
+    return lower < column.length && column[lower] == bits ? lower : -lower - 1;
+  }
+
+  /**
+   * Finds the index of the last occurrence of the specified key in a sorted column of sortable
+   * bits.
+   *
+   * @param key    the value to search for
+   * @param column the sorted sortable bits of the searched doubles
+   * @return the result of {@link BinarySearch#lastIndexOf(double, double[])} on the doubles
+   */
+  public static int lastIndexOf(double key, long[] column) {
+    final long bits = of(key);
+    final int upper = Bounds.bound(column, 0, column.length, bits, true);
+    return upper > 0 && column[upper - 1] == bits ? upper - 1 : -upper - 1;
+  }
+
+  /**
+   * Finds the index of the first element greater than the specified key in a sorted column of
+   * sortable bits.
+   *
+   * @param key    the value to compare against
+   * @param column the sorted sortable bits of the searched doubles
+   * @return the result of {@link BinarySearch#indexOfGreaterThan(double, double[])} on the doubles
+   */
+  public static int indexOfGreaterThan(double key, long[] column) {
+    return Bounds.indexOfGreaterThan(Bounds.bound(column, 0, column.length, of(key), true),
+        column.length);
+  }
+
+  /**
+   * Finds the index of the last element less than the specified key in a sorted column of
+   * sortable bits.
+   *
+   * @param key    the value to compare against
+   * @param column the sorted sortable bits of the searched doubles
+   * @return the result of {@link BinarySearch#indexOfLessThan(double, double[])} on the doubles
+   */
+  public static int indexOfLessThan(double key, long[] column) {
+    return Bounds.indexOfLessThan(Bounds.bound(column, 0, column.length, of(key), false));
+  }
+
+  /**
+   * Finds the index of the first occurrence of the specified key in a sorted column of sortable
+   * bits.
+   *
+   * @param key    the value to search for
+   * @param column the sorted sortable bits of the searched floats
+   * @return the result of {@link BinarySearch#firstIndexOf(float, float[])} on the floats
+   */
+  public static int firstIndexOf(float key, int[] column) {
+    final int bits = of(key);
+    final int lower = Bounds.bound(column, 0, column.length, bits, false);
+    return lower < column.length && column[lower] == bits ? lower : -lower - 1;
+  }
+
+  /**
+   * Finds the index of the last occurrence of the specified key in a sorted column of sortable
+   * bits.
+   *
+   * @param key    the value to search for
+   * @param column the sorted sortable bits of the searched floats
+   * @return the result of {@link BinarySearch#lastIndexOf(float, float[])} on the floats
+   */
+  public static int lastIndexOf(float key, int[] column) {
+    final int bits = of(key);
+    final int upper = Bounds.bound(column, 0, column.length, bits, true);
+    return upper > 0 && column[upper - 1] == bits ? upper - 1 : -upper - 1;
+  }
+
+  /**
+   * Finds the index of the first element greater than the specified key in a sorted column of
+   * sortable bits.
+   *
+   * @param key    the value to compare against
+   * @param column the sorted sortable bits of the searched floats
+   * @return the result of {@link BinarySearch#indexOfGreaterThan(float, float[])} on the floats
+   */
+  public static int indexOfGreaterThan(float key, int[] column) {
+    return Bounds.indexOfGreaterThan(Bounds.bound(column, 0, column.length, of(key), true),
+        column.length);
+  }
+
+  /**
+   * Finds the index of the last element less than the specified key in a sorted column of
+   * sortable bits.
+   *
+   * @param key    the value to compare against
+   * @param column the sorted sortable bits of the searched floats
+   * @return the result of {@link BinarySearch#indexOfLessThan(float, float[])} on the floats
+   */
+  public static int indexOfLessThan(float key, int[] column) {
+    return Bounds.indexOfLessThan(Bounds.bound(column, 0, column.length, of(key), false));
+  }
+}
@@ -0,0 +1,678 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+/**
+ * Utility class providing k-way merge of sorted arrays of primitives or objects, without boxing
+ * and without per-element heap operations.
+ * <p>
+ * The runs are merged through a tournament tree of losers: every internal node keeps the run that
+ * lost the match played at it, so advancing the winning run replays a single leaf-to-root path of
+ * ⌈log2 k⌉ comparisons. Merged elements are written in batches into caller-provided buffers, or
+ * taken one at a time through the {@link Iterator} interfaces.
+ * <p>
+ * When one run keeps winning, the merge switches to galloping: the remaining elements of the
+ * winning run that precede the head of the runner-up are located by exponential search and
+ * copied in bulk. Galloping is enabled by default and can be disabled per merge.
+ * <p>
+ * The merge is stable: equal elements are emitted in the order of their runs. Primitive
+ * {@code double} values are ordered as by {@link Double#compare(double, double)}, consistently
+ * with {@link Arrays#sort(double[])}. The runs are referenced, not copied, and must not be
+ * modified while merged. Merges are not thread-safe.
+ */
+public class SortedMerge {
+
+  /**
+   * The number of consecutive wins of one run after which the merge starts galloping.
+   */
+  private static final int MIN_GALLOP = 7;
+
+  /**
+   * Creates a merge of the specified runs of ints, each sorted in natural order.
+   *
+   * @param runs the sorted arrays to merge
+   * @return the merge, positioned before the first element
+   */
+  public static OfInt of(int[]... runs) {
+    return new OfInt(runs);
+  }
+
+  /**
+   * Creates a merge of the specified runs of longs, each sorted in natural order.
+   *
+   * @param runs the sorted arrays to merge
+   * @return the merge, positioned before the first element
+   */
+  public static OfLong of(long[]... runs) {
+    return new OfLong(runs);
+  }
+
+  /**
+   * Creates a merge of the specified runs of doubles, each sorted as by
+   * {@link Double#compare(double, double)}.
+   *
+   * @param runs the sorted arrays to merge
+   * @return the merge, positioned before the first element
+   */
+  public static OfDouble of(double[]... runs) {
+    return new OfDouble(runs);
+  }
+
+  /**
+   * Creates a merge of the specified runs of objects, each sorted according to the comparator.
+   *
+   * @param comparator the comparator defining the order of the runs
+   * @param runs       the sorted arrays to merge
+   * @param <T>        the type of elements in the runs
+   * @return the merge, positioned before the first element
+   */
+  @SafeVarargs
+  public static <T> OfObject<T> of(Comparator<? super T> comparator, T[]... runs) {
+    final List<T[]> list = new ArrayList<>(runs.length);
+    for (T[] run : runs) {
+      list.add(run);
+    }
+    return new OfObject<>(comparator, list);
+  }
+
+  /**
+   * Merges the specified runs of ints, each sorted in natural order, into a new array.
+   *
+   * @param runs the sorted arrays to merge
+   * @return the merged sorted array
+   */
+  public static int[] merge(int[]... runs) {
+    return of(runs).toArray();
+  }
+
+  /**
+   * Merges the specified runs of longs, each sorted in natural order, into a new array.
+   *
+   * @param runs the sorted arrays to merge
+   * @return the merged sorted array
+   */
+  public static long[] merge(long[]... runs) {
+    return of(runs).toArray();
+  }
+
+  /**
+   * Merges the specified runs of doubles, each sorted as by
+   * {@link Double#compare(double, double)}, into a new array.
+   *
+   * @param runs the sorted arrays to merge
+   * @return the merged sorted array
+   */
+  public static double[] merge(double[]... runs) {
+    return of(runs).toArray();
+  }
+
+  /**
+   * Merges the specified runs of objects, each sorted according to the comparator, into a new
+   * list.
+   *
+   * @param comparator the comparator defining the order of the runs
+   * @param runs       the sorted arrays to merge
+   * @param <T>        the type of elements in the runs
+   * @return the merged sorted list
+   */
+  @SafeVarargs
+  public static <T> List<T> merge(Comparator<? super T> comparator, T[]... runs) {
+    final List<T[]> list = new ArrayList<>(runs.length);
+    for (T[] run : runs) {
+      list.add(run);
+    }
+    final OfObject<T> merge = new OfObject<>(comparator, list);
+    final List<T> result = new ArrayList<>(toIntSize(merge.remaining()));
+    merge.forEachRemaining(result::add);
+    return result;
+  }
+
+  private static int toIntSize(long size) {
+    if (size > Integer.MAX_VALUE - 8) {
+      throw new IllegalStateException("Merged size exceeds maximum array size: " + size);
+    }
+    return (int) size;
+  }
+
+  /**
+   * The tournament tree of losers shared by the merges of all element types. Subclasses compare
+   * the heads of two non-exhausted runs and copy elements out of the runs.
+   */
+  abstract static class Tournament {
+
+    final int k;
+    final int[] positions;
+    final int[] ends;
+    private final int[] tree;
+    private long remaining;
+    private boolean galloping = true;
+    private int lastWinner = -1;
+    private int streak;
+
+    Tournament(int[] lengths) {
+      this.k = lengths.length;
+      this.positions = new int[k];
+      this.ends = lengths;
+      this.tree = new int[Math.max(1, k)];
+      for (int length : lengths) {
+        remaining += length;
+      }
+    }
+
+    /**
+     * Plays the initial tournament; must be called once the subclass has been initialized.
+     */
+    final void init() {
+      if (k == 0) {
+        return;
+      }
+      final int[] winners = new int[2 * k];
+      for (int i = 0; i < k; i++) {
+        winners[k + i] = i;
+      }
+      for (int node = k - 1; node > 0; node--) {
+        final int a = winners[2 * node], b = winners[2 * node + 1];
+        if (beats(a, b)) {
+          winners[node] = a;
+          tree[node] = b;
+        } else {
+          winners[node] = b;
+          tree[node] = a;
+        }
+      }
+      tree[0] = k == 1 ? 0 : winners[1];
+    }
+
+    /**
+     * Compares the heads of two non-exhausted runs.
+     *
+     * @return {@code true} if the head of run {@code a} precedes the head of run {@code b}, ties
+     * broken by the run index
+     */
+    abstract boolean precedes(int a, int b);
+
+    /**
+     * Counts the leading elements of the winning run, at most {@code max}, that precede the head of
+     * the non-exhausted runner-up, by exponential search followed by binary search.
+     */
+    abstract int gallop(int winner, int runnerUp, int max);
+
+    /**
+     * Copies {@code count} elements of the run, starting from its position, into the buffer.
+     */
+    abstract void copy(int run, Object buffer, int offset, int count);
+
+    /**
+     * @return the number of elements not yet emitted
+     */
+    public long remaining() {
+      return remaining;
+    }
+
+    /**
+     * @return {@code true} if there are elements not yet emitted
+     */
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    /**
+     * Enables or disables galloping, which is enabled by default.
+     *
+     * @param enabled whether to copy long stretches of one run in bulk
+     */
+    public void setGalloping(boolean enabled) {
+      this.galloping = enabled;
+    }
+
+    private boolean beats(int a, int b) {
+      return positions[a] < ends[a] && (positions[b] == ends[b] || precedes(a, b));
+    }
+
+    /**
+     * Returns the run holding the next element and advances it by one.
+     */
+    final int advance() {
+      if (remaining == 0) {
+        throw new NoSuchElementException();
+      }
+      final int winner = tree[0];
+      positions[winner]++;
+      remaining--;
+      replay(winner);
+      return winner;
+    }
+
+    /**
+     * Emits up to {@code length} elements into the buffer, galloping when one run dominates.
+     */
+    final int drain(Object buffer, int offset, int length) {
+      int written = 0;
+      while (written < length && remaining > 0) {
+        final int winner = tree[0];
+        int count = 1;
+        if (galloping && streak >= MIN_GALLOP) {
+          final int runnerUp = runnerUp(winner);
+          count = runnerUp < 0 || positions[runnerUp] == ends[runnerUp]
+              ? Math.min(ends[winner] - positions[winner], length - written)
+              : gallop(winner, runnerUp, length - written);
+          count = Math.max(count, 1);
+          if (count < MIN_GALLOP) {
+            streak = 0;
+          }
+        } else if (winner == lastWinner) {
+          streak++;
+        } else {
+          lastWinner = winner;
+          streak = 1;
+        }
+        copy(winner, buffer, offset + written, count);
+        positions[winner] += count;
+        remaining -= count;
+        written += count;
+        replay(winner);
+      }
+      return written;
+    }
+
+    private void replay(int run) {
+      int winner = run;
+      for (int node = (run + k) >>> 1; node > 0; node >>>= 1) {
+        final int loser = tree[node];
+        if (beats(loser, winner)) {
+          tree[node] = winner;
+          winner = loser;
+        }
+      }
+      tree[0] = winner;
+    }
+
+    /**
+     * Returns the best of the runs that lost to the winner on its path, or -1 if there is a single
+     * run.
+     */
+    private int runnerUp(int winner) {
+      int best = -1;
+      for (int node = (winner + k) >>> 1; node > 0; node >>>= 1) {
+        final int loser = tree[node];
+        if (best < 0 || beats(loser, best)) {
+          best = loser;
+        }
+      }
+      return best;
+    }
+
+    static int checkBuffer(int bufferLength, int offset, int length) {
+      if (offset < 0 || length < 0 || offset > bufferLength - length) {
+        throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length
+            + ", Buffer length: " + bufferLength);
+      }
+      return length;
+    }
+
+    static int[] lengths(Object[] runs) {
+      final int[] lengths = new int[runs.length];
+      for (int i = 0; i < runs.length; i++) {
+        lengths[i] = Array.getLength(runs[i]);
+      }
+      return lengths;
+    }
+  }
+
+  /**
+   * Merge of sorted runs of ints.
+   */
+  public static final class OfInt extends Tournament implements PrimitiveIterator.OfInt {
+
+    private final int[][] runs;
+
+    private OfInt(int[][] runs) {
+      super(lengths(runs));
+      this.runs = runs;
+      init();
+    }
+
+    /**
+     * Writes up to {@code length} next merged elements into the buffer.
+     *
+     * @param buffer the buffer to write into
+     * @param offset the index of the buffer to write the first element at
+     * @param length the maximum number of elements to write
+     * @return the number of elements written, which is less than {@code length} only if the merge
+     * is exhausted
+     */
+    public int next(int[] buffer, int offset, int length) {
+      return drain(buffer, offset, checkBuffer(buffer.length, offset, length));
+    }
+
+    @Override
+    public int nextInt() {
+      final int run = advance();
+      return runs[run][positions[run] - 1];
+    }
+
+    /**
+     * Drains the remaining elements into a new array.
+     *
+     * @return the remaining merged elements
+     */
+    public int[] toArray() {
+      final int[] result = new int[toIntSize(remaining())];
+      next(result, 0, result.length);
+      return result;
+    }
+
+    @Override
+    boolean precedes(int a, int b) {
+      final int x = runs[a][positions[a]], y = runs[b][positions[b]];
+      return x < y || (x == y && a < b);
+    }
+
+    @Override
+    int gallop(int winner, int runnerUp, int max) {
+      final int[] run = runs[winner];
+      final int key = runs[runnerUp][positions[runnerUp]];
+      final boolean inclusive = winner < runnerUp;
+      final int from = positions[winner];
+      final int to = from + Math.min(ends[winner] - from, max);
+      int lo = from, hi = to, step = 1;
+      while (step <= to - lo) {
+        final int probe = lo + step - 1;
+        if (run[probe] < key || (inclusive && run[probe] == key)) {
+          lo = probe + 1;
+          step <<= 1;
+        } else {
+          hi = probe;
+          break;
+        }
+      }
+      while (lo < hi) {
+        final int mid = (lo + hi) >>> 1;
+        if (run[mid] < key || (inclusive && run[mid] == key)) {
+          lo = mid + 1;
+        } else {
+          hi = mid;
+        }
+      }
+      return lo - from;
+    }
+
+    @Override
+    void copy(int run, Object buffer, int offset, int count) {
+      if (count == 1) {
+        ((int[]) buffer)[offset] = runs[run][positions[run]];
+      } else {
+        System.arraycopy(runs[run], positions[run], buffer, offset, count);
+      }
+    }
+  }
+
+  /**
+   * Merge of sorted runs of longs.
+   */
+  public static final class OfLong extends Tournament implements PrimitiveIterator.OfLong {
+
+    private final long[][] runs;
+
+    private OfLong(long[][] runs) {
+      super(lengths(runs));
+      this.runs = runs;
+      init();
+    }
+
+    /**
+     * Writes up to {@code length} next merged elements into the buffer.
+     *
+     * @param buffer the buffer to write into
+     * @param offset the index of the buffer to write the first element at
+     * @param length the maximum number of elements to write
+     * @return the number of elements written, which is less than {@code length} only if the merge
+     * is exhausted
+     */
+    public int next(long[] buffer, int offset, int length) {
+      return drain(buffer, offset, checkBuffer(buffer.length, offset, length));
+    }
+
+    @Override
+    public long nextLong() {
+      final int run = advance();
+      return runs[run][positions[run] - 1];
+    }
+
+    /**
+     * Drains the remaining elements into a new array.
+     *
+     * @return the remaining merged elements
+     */
+    public long[] toArray() {
+      final long[] result = new long[toIntSize(remaining())];
+      next(result, 0, result.length);
+      return result;
+    }
+
+    @Override
+    boolean precedes(int a, int b) {
+      final long x = runs[a][positions[a]], y = runs[b][positions[b]];
+      return x < y || (x == y && a < b);
+    }
+
+    @Override
+    int gallop(int winner, int runnerUp, int max) {
+      final long[] run = runs[winner];
+      final long key = runs[runnerUp][positions[runnerUp]];
+      final boolean inclusive = winner < runnerUp;
+      final int from = positions[winner];
+      final int to = from + Math.min(ends[winner] - from, max);
+      int lo = from, hi = to, step = 1;
+      while (step <= to - lo) {
+        final int probe = lo + step - 1;
+        if (run[probe] < key || (inclusive && run[probe] == key)) {
+          lo = probe + 1;
+          step <<= 1;
+        } else {
+          hi = probe;
+          break;
+        }
+      }
+      while (lo < hi) {
+        final int mid = (lo + hi) >>> 1;
+        if (run[mid] < key || (inclusive && run[mid] == key)) {
+          lo = mid + 1;
+        } else {
+          hi = mid;
+        }
+      }
+      return lo - from;
+    }
+
+    @Override
+    void copy(int run, Object buffer, int offset, int count) {
+      if (count == 1) {
+        ((long[]) buffer)[offset] = runs[run][positions[run]];
+      } else {
+        System.arraycopy(runs[run], positions[run], buffer, offset, count);
+      }
+    }
+  }
+
+  /**
+   * Merge of sorted runs of doubles.
+   */
+  public static final class OfDouble extends Tournament implements PrimitiveIterator.OfDouble {
+
+    private final double[][] runs;
+
+    private OfDouble(double[][] runs) {
+      super(lengths(runs));
+      this.runs = runs;
+      init();
+    }
+
+    /**
+     * Writes up to {@code length} next merged elements into the buffer.
+     *
+     * @param buffer the buffer to write into
+     * @param offset the index of the buffer to write the first element at
+     * @param length the maximum number of elements to write
+     * @return the number of elements written, which is less than {@code length} only if the merge
+     * is exhausted
+     */
+    public int next(double[] buffer, int offset, int length) {
+      return drain(buffer, offset, checkBuffer(buffer.length, offset, length));
+    }
+
+    @Override
+    public double nextDouble() {
+      final int run = advance();
+      return runs[run][positions[run] - 1];
+    }
+
+    /**
+     * Drains the remaining elements into a new array.
+     *
+     * @return the remaining merged elements
+     */
+    public double[] toArray() {
+      final double[] result = new double[toIntSize(remaining())];
+      next(result, 0, result.length);
+      return result;
+    }
+
+    @Override
+    boolean precedes(int a, int b) {
+      final int cmp = Double.compare(runs[a][positions[a]], runs[b][positions[b]]);
+      return cmp < 0 || (cmp == 0 && a < b);
+    }
+
+    @Override
+    int gallop(int winner, int runnerUp, int max) {
+      final double[] run = runs[winner];
+      final double key = runs[runnerUp][positions[runnerUp]];
+      final int limit = winner < runnerUp ? 0 : -1;
+      final int from = positions[winner];
+      final int to = from + Math.min(ends[winner] - from, max);
+      int lo = from, hi = to, step = 1;
+      while (step <= to - lo) {
+        final int probe = lo + step - 1;
+        if (Double.compare(run[probe], key) <= limit) {
+          lo = probe + 1;
+          step <<= 1;
+        } else {
+          hi = probe;
+          break;
+        }
+      }
+      while (lo < hi) {
+        final int mid = (lo + hi) >>> 1;
+        if (Double.compare(run[mid], key) <= limit) {
+          lo = mid + 1;
+        } else {
+          hi = mid;
+        }
+      }
+      return lo - from;
+    }
+
+    @Override
+    void copy(int run, Object buffer, int offset, int count) {
+      if (count == 1) {
+        ((double[]) buffer)[offset] = runs[run][positions[run]];
+      } else {
+        System.arraycopy(runs[run], positions[run], buffer, offset, count);
+      }
+    }
+  }
+
+  /**
+   * Merge of sorted runs of objects.
+   *
+   * @param <T> the type of elements in the runs
+   */
+  public static final class OfObject<T> extends Tournament implements Iterator<T> {
+
+    private final Comparator<? super T> comparator;
+    private final T[][] runs;
+
+    /**
+     * Creates a merge of the runs, copied out of the varargs array of the public factories so that
+     * this array never escapes them.
+     */
+    @SuppressWarnings("unchecked")
+    private OfObject(Comparator<? super T> comparator, List<T[]> runs) {
+      super(lengths(runs.toArray()));
+      this.comparator = comparator;
+      // every element of the outer array is one of the T[] runs
+      this.runs = (T[][]) runs.toArray(new Object[0][]);
+      init();
+    }
+
+    /**
+     * Writes up to {@code length} next merged elements into the buffer.
+     *
+     * @param buffer the buffer to write into
+     * @param offset the index of the buffer to write the first element at
+     * @param length the maximum number of elements to write
+     * @return the number of elements written, which is less than {@code length} only if the merge
+     * is exhausted
+     */
+    public int next(T[] buffer, int offset, int length) {
+      return drain(buffer, offset, checkBuffer(buffer.length, offset, length));
+    }
+
+    @Override
+    public T next() {
+      final int run = advance();
+      return runs[run][positions[run] - 1];
+    }
+
+    @Override
+    boolean precedes(int a, int b) {
+      final int cmp = comparator.compare(runs[a][positions[a]], runs[b][positions[b]]);
+      return cmp < 0 || (cmp == 0 && a < b);
+    }
+
+    @Override
+    int gallop(int winner, int runnerUp, int max) {
+      final T[] run = runs[winner];
+      final T key = runs[runnerUp][positions[runnerUp]];
+      final int limit = winner < runnerUp ? 0 : -1;
+      final int from = positions[winner];
+      final int to = from + Math.min(ends[winner] - from, max);
+      int lo = from, hi = to, step = 1;
+      while (step <= to - lo) {
+        final int probe = lo + step - 1;
+        if (comparator.compare(run[probe], key) <= limit) {
+          lo = probe + 1;
+          step <<= 1;
+        } else {
+          hi = probe;
+          break;
+        }
+      }
+      while (lo < hi) {
+        final int mid = (lo + hi) >>> 1;
+        if (comparator.compare(run[mid], key) <= limit) {
+          lo = mid + 1;
+        } else {
+          hi = mid;
+        }
+      }
+      return lo - from;
+    }
+
+    @Override
+    void copy(int run, Object buffer, int offset, int count) {
+      if (count == 1) {
+        ((Object[]) buffer)[offset] = runs[run][positions[run]];
+      } else {
+        System.arraycopy(runs[run], positions[run], buffer, offset, count);
+      }
+    }
+  }
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe sorted set of objects, ordered by a comparator, organized as a log-structured merge
+ * of a small mutable write buffer and immutable sorted runs.
+ * <p>
+ * Writes go to the buffer, a concurrent skip list. Once it holds {@code bufferCapacity} entries it
+ * is flushed as a new sorted array (run). Deletes are recorded as tombstones, which shadow equal
+ * elements in older runs. Lookups check the buffer, then search the runs from newest to oldest
+ * with {@link BinarySearch#firstIndexOf(Object, Object[], Comparator, java.util.function.Function)}
+ * and stop at the first match, so the cost of a lookup is O(r log n) for r runs.
+ * <p>
+ * Compaction merges all runs into one through {@link SortedMerge}, keeping the newest version of
+ * every element and dropping tombstones. It runs when requested, or automatically once there are
+ * more than {@code maxRuns} runs, either on the writing thread or on the executor the set was
+ * created with. Reads and writes proceed concurrently with compaction: readers work on immutable
+ * snapshots of the runs and never block.
+ * <p>
+ * Elements comparing equal are considered the same element; adding an element replaces any equal
+ * element. Null elements are not permitted.
+ *
+ * @param <T> the type of elements
+ */
+public final class SortedRunSet<T> {
+
+  /**
+   * The default number of buffered writes that triggers a flush.
+   */
+  public static final int DEFAULT_BUFFER_CAPACITY = 4096;
+
+  /**
+   * The default number of runs above which the runs are compacted.
+   */
+  public static final int DEFAULT_MAX_RUNS = 8;
+
+  private final Comparator<T> comparator;
+  private final Comparator<Object> entryComparator;
+  private final int bufferCapacity;
+  private final int maxRuns;
+  private final Executor executor;
+  private final Object writeLock = new Object();
+  private final Object compactionLock = new Object();
+  private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+  private volatile State<T> state;
+  private int buffered;
+
+  /**
+   * Creates an empty set ordered by the specified comparator, with the default buffer capacity and
+   * maximum number of runs, compacting on the writing thread.
+   *
+   * @param comparator the comparator defining the order of the elements
+   */
+  public SortedRunSet(Comparator<? super T> comparator) {
+    this(comparator, DEFAULT_BUFFER_CAPACITY, DEFAULT_MAX_RUNS, null);
+  }
+
+  /**
+   * Creates an empty set ordered by the specified comparator.
+   *
+   * @param comparator     the comparator defining the order of the elements
+   * @param bufferCapacity the number of buffered writes that triggers a flush
+   * @param maxRuns        the number of runs above which the runs are compacted
+   * @param executor       the executor running automatic compactions, or {@code null} to compact
+   *                       on the writing thread
+   * @throws IllegalArgumentException if the buffer capacity or maximum number of runs is not
+   *                                  positive
+   */
+  public SortedRunSet(Comparator<? super T> comparator, int bufferCapacity, int maxRuns,
+      Executor executor) {
+    if (bufferCapacity <= 0 || maxRuns <= 0) {
+      throw new IllegalArgumentException("Invalid buffer capacity or maximum number of runs: "
+          + bufferCapacity + ", " + maxRuns);
+    }
+    this.comparator = comparator::compare;
+    this.entryComparator = (a, b) -> this.comparator.compare(keyOf(a), keyOf(b));
+    this.bufferCapacity = bufferCapacity;
+    this.maxRuns = maxRuns;
+    this.executor = executor;
+    this.state = new State<>(new ConcurrentSkipListMap<>(this.comparator), new Object[0][]);
+  }
+
+  /**
+   * Adds the specified element, replacing any equal element.
+   *
+   * @param element the element to add
+   */
+  public void add(T element) {
+    write(element, Objects.requireNonNull(element));
+  }
+
+  /**
+   * Removes the element equal to the specified key, if any, by recording a tombstone.
+   *
+   * @param key the key of the element to remove
+   */
+  public void remove(T key) {
+    write(key, new Tombstone(Objects.requireNonNull(key)));
+  }
+
+  /**
+   * Returns the element equal to the specified key.
+   *
+   * @param key the key to look up
+   * @return the newest element equal to the key, or {@code null} if there is none or it has been
+   * removed
+   */
+  public T get(T key) {
+    final State<T> snapshot = state;
+    Object entry = snapshot.buffer.get(key);
+    if (entry == null) {
+      for (Object[] run : snapshot.runs) {
+        final int index = BinarySearch.firstIndexOf(key, run, comparator, SortedRunSet::keyOf);
+        if (index >= 0) {
+          entry = run[index];
+          break;
+        }
+      }
+    }
+    return entry == null || entry instanceof Tombstone ? null : keyOf(entry);
+  }
+
+  /**
+   * Checks whether the set contains an element equal to the specified key.
+   *
+   * @param key the key to look up
+   * @return {@code true} if an element equal to the key is present
+   */
+  public boolean contains(T key) {
+    return get(key) != null;
+  }
+
+  /**
+   * Performs the given action for each element in sorted order, over a weakly consistent snapshot
+   * of the set.
+   *
+   * @param action the action to perform
+   */
+  public void forEach(Consumer<? super T> action) {
+    final State<T> snapshot = state;
+    final Object[][] sources = new Object[snapshot.runs.length + 1][];
+    sources[0] = snapshot.buffer.values().toArray();
+    System.arraycopy(snapshot.runs, 0, sources, 1, snapshot.runs.length);
+    merge(sources, entry -> action.accept(SortedRunSet.<T>keyOf(entry)));
+  }
+
+  /**
+   * @return a new list holding the elements in sorted order, taken from a weakly consistent
+   * snapshot of the set
+   */
+  public List<T> toList() {
+    final List<T> result = new ArrayList<>();
+    forEach(result::add);
+    return result;
+  }
+
+  /**
+   * @return the number of immutable sorted runs
+   */
+  public int runCount() {
+    return state.runs.length;
+  }
+
+  /**
+   * Flushes the write buffer into a new sorted run, if it is not empty.
+   */
+  public void flush() {
+    final boolean compact;
+    synchronized (writeLock) {
+      compact = flushLocked();
+    }
+    if (compact) {
+      scheduleCompaction();
+    }
+  }
+
+  /**
+   * Merges all runs into a single run, dropping tombstones and shadowed elements. Writes and
+   * flushes may proceed concurrently; runs flushed meanwhile are kept in front of the merged run.
+   */
+  public void compact() {
+    synchronized (compactionLock) {
+      final Object[][] runs = state.runs;
+      if (runs.length == 0) {
+        return;
+      }
+      final List<Object> merged = new ArrayList<>();
+      merge(runs, merged::add);
+      final Object[] run = merged.toArray();
+      synchronized (writeLock) {
+        final Object[][] current = state.runs;
+        final int newer = current.length - runs.length;
+        final Object[][] next = new Object[newer + (run.length > 0 ? 1 : 0)][];
+        System.arraycopy(current, 0, next, 0, newer);
+        if (run.length > 0) {
+          next[newer] = run;
+        }
+        state = new State<>(state.buffer, next);
+      }
+    }
+  }
+
+  /**
+   * Compacts the runs on the specified executor.
+   *
+   * @param executor the executor to run the compaction
+   * @return a future completing when the compaction is done
+   */
+  public CompletableFuture<Void> compactAsync(Executor executor) {
+    return CompletableFuture.runAsync(this::compact, executor);
+  }
+
+  private void write(T key, Object entry) {
+    final boolean compact;
+    synchronized (writeLock) {
+      if (state.buffer.put(key, entry) == null && ++buffered >= bufferCapacity) {
+        compact = flushLocked();
+      } else {
+        compact = false;
+      }
+    }
+    if (compact) {
+      scheduleCompaction();
+    }
+  }
+
+  /**
+   * Turns the buffer into the newest run and installs an empty buffer. Returns {@code true} if the
+   * runs should be compacted.
+   */
+  private boolean flushLocked() {
+    final State<T> current = state;
+    if (buffered == 0) {
+      return false;
+    }
+    final Object[][] runs = new Object[current.runs.length + 1][];
+    runs[0] = current.buffer.values().toArray();
+    System.arraycopy(current.runs, 0, runs, 1, current.runs.length);
+    state = new State<>(new ConcurrentSkipListMap<>(comparator), runs);
+    buffered = 0;
+    return runs.length > maxRuns;
+  }
+
+  private void scheduleCompaction() {
+    if (executor == null) {
+      compact();
+    } else if (compactionScheduled.compareAndSet(false, true)) {
+      executor.execute(() -> {
+        compactionScheduled.set(false);
+        compact();
+      });
+    }
+  }
+
+  /**
+   * Merges the sources, ordered from newest to oldest, passing the newest version of every element
+   * that is not a tombstone to the action.
+   */
+  private void merge(Object[][] sources, Consumer<Object> action) {
+    final SortedMerge.OfObject<Object> merge = SortedMerge.of(entryComparator, sources);
+    final Object[] buffer = new Object[256];
+    Object previous = null;
+    int count;
+    while ((count = merge.next(buffer, 0, buffer.length)) > 0) {
+      for (int i = 0; i < count; i++) {
+        final Object entry = buffer[i];
+        // the merge is stable, so the newest version of an element comes first
+        if (previous == null || entryComparator.compare(previous, entry) != 0) {
+          if (!(entry instanceof Tombstone)) {
+            action.accept(entry);
+          }
+          previous = entry;
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T keyOf(Object entry) {
+    return (T) (entry instanceof Tombstone ? ((Tombstone) entry).key : entry);
+  }
+
+  /**
+   * An immutable snapshot of the write buffer and of the runs, ordered from newest to oldest.
+   */
+  private static final class State<T> {
+
+    final ConcurrentSkipListMap<T, Object> buffer;
+    final Object[][] runs;
+
+    State(ConcurrentSkipListMap<T, Object> buffer, Object[][] runs) {
+      this.buffer = buffer;
+      this.runs = runs;
+    }
+  }
+
+  /**
+   * The marker of a removed element.
+   */
+  private static final class Tombstone {
+
+    final Object key;
+
+    Tombstone(Object key) {
+      this.key = key;
+    }
+  }
+}
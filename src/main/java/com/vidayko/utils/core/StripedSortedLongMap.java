@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.*;
+
+/**
+ * Thread-safe sorted map from {@code long} keys to objects, partitioned into contiguous key ranges
+ * (stripes), each holding its entries in sorted parallel arrays guarded by its own
+ * {@link StampedLock}.
+ * <p>
+ * Writers lock only the stripe covering their key, so writers on different key ranges never
+ * contend. Readers search a stripe under an optimistic stamp, without writing to shared memory,
+ * and fall back to a read lock only if a writer modified the stripe meanwhile. Stripes are located
+ * by binary search over an immutable directory of their lower bounds, published through a
+ * volatile field.
+ * <p>
+ * A stripe holding more than {@code maxStripeSize} entries is split in two at its median key; a
+ * stripe dropping below one eighth of it is merged with a neighbor, if the merged stripe stays
+ * within half of the maximum. Splits and merges replace the affected stripes with new ones and
+ * serialize on a structure lock, so they do not block operations on other stripes; operations
+ * reaching a replaced stripe retry through the new directory.
+ * <p>
+ * Iteration is weakly consistent: each stripe is read atomically, and the action is performed
+ * outside of any lock. Null values are not permitted.
+ *
+ * @param <V> the type of values
+ */
+public final class StripedSortedLongMap<V> {
+
+  /**
+   * The default number of entries above which a stripe is split.
+   */
+  public static final int DEFAULT_MAX_STRIPE_SIZE = 4096;
+
+  /**
+   * Operation performed on map entries, without boxing the keys.
+   *
+   * @param <V> the type of values
+   */
+  @FunctionalInterface
+  public interface EntryConsumer<V> {
+
+    /**
+     * Performs this operation on the specified entry.
+     *
+     * @param key   the key of the entry
+     * @param value the value of the entry
+     */
+    void accept(long key, V value);
+  }
+
+  private final int maxStripeSize;
+  private final int minStripeSize;
+  private final ReentrantLock structureLock = new ReentrantLock();
+  private final LongAdder count = new LongAdder();
+  private volatile Directory directory;
+
+  /**
+   * Creates an empty map with the default maximum stripe size.
+   */
+  public StripedSortedLongMap() {
+    this(DEFAULT_MAX_STRIPE_SIZE);
+  }
+
+  /**
+   * Creates an empty map.
+   *
+   * @param maxStripeSize the number of entries above which a stripe is split
+   * @throws IllegalArgumentException if the maximum stripe size is less than 8
+   */
+  public StripedSortedLongMap(int maxStripeSize) {
+    if (maxStripeSize < 8) {
+      throw new IllegalArgumentException("Invalid maximum stripe size: " + maxStripeSize);
+    }
+    this.maxStripeSize = maxStripeSize;
+    this.minStripeSize = maxStripeSize / 8;
+    this.directory = new Directory(new long[]{Long.MIN_VALUE},
+        new Stripe[]{new Stripe(Long.MIN_VALUE, Long.MAX_VALUE, new long[8], new Object[8], 0)});
+  }
+
+  /**
+   * @return the number of entries; may be inaccurate while concurrent updates are in progress
+   */
+  public int size() {
+    return (int) Math.min(Integer.MAX_VALUE, count.sum());
+  }
+
+  /**
+   * @return {@code true} if the map holds no entries
+   */
+  public boolean isEmpty() {
+    return count.sum() == 0;
+  }
+
+  /**
+   * @return the current number of stripes
+   */
+  public int stripeCount() {
+    return directory.lows.length;
+  }
+
+  /**
+   * Returns the value mapped to the specified key.
+   *
+   * @param key the key to look up
+   * @return the value mapped to the key, or {@code null} if there is none
+   */
+  @SuppressWarnings("unchecked")
+  public V get(long key) {
+    while (true) {
+      final Stripe stripe = stripeOf(key);
+      long stamp = stripe.lock.tryOptimisticRead();
+      if (stamp != 0) {
+        final long[] keys = stripe.keys;
+        final Object[] values = stripe.values;
+        final boolean retired = stripe.retired;
+        // the fields may be mid-update: bound every access, the stamp is validated before use
+        final int size = Math.min(stripe.size, Math.min(keys.length, values.length));
+        final int index = Bounds.bound(keys, 0, size, key, false);
+        final Object value = index < size && keys[index] == key ? values[index] : null;
+        if (stripe.lock.validate(stamp)) {
+          if (retired) {
+            continue;
+          }
+          return (V) value;
+        }
+      }
+      stamp = stripe.lock.readLock();
+      try {
+        if (!stripe.retired) {
+          final int index = stripe.indexOf(key);
+          return index >= 0 ? (V) stripe.values[index] : null;
+        }
+      } finally {
+        stripe.lock.unlockRead(stamp);
+      }
+    }
+  }
+
+  /**
+   * Checks whether the map contains the specified key.
+   *
+   * @param key the key to look up
+   * @return {@code true} if a value is mapped to the key
+   */
+  public boolean containsKey(long key) {
+    return get(key) != null;
+  }
+
+  /**
+   * Maps the specified key to the specified value.
+   *
+   * @param key   the key
+   * @param value the value, not {@code null}
+   * @return the value previously mapped to the key, or {@code null} if there was none
+   */
+  @SuppressWarnings("unchecked")
+  public V put(long key, V value) {
+    Objects.requireNonNull(value);
+    while (true) {
+      final Stripe stripe = stripeOf(key);
+      final long stamp = stripe.lock.writeLock();
+      final Object previous;
+      final boolean split;
+      try {
+        if (stripe.retired) {
+          continue;
+        }
+        previous = stripe.put(key, value);
+        split = stripe.size > maxStripeSize;
+      } finally {
+        stripe.lock.unlockWrite(stamp);
+      }
+      if (previous == null) {
+        count.increment();
+      }
+      if (split) {
+        split(stripe);
+      }
+      return (V) previous;
+    }
+  }
+
+  /**
+   * Removes the mapping for the specified key, if present.
+   *
+   * @param key the key
+   * @return the value previously mapped to the key, or {@code null} if there was none
+   */
+  @SuppressWarnings("unchecked")
+  public V remove(long key) {
+    while (true) {
+      final Stripe stripe = stripeOf(key);
+      final long stamp = stripe.lock.writeLock();
+      final Object previous;
+      final boolean merge;
+      try {
+        if (stripe.retired) {
+          continue;
+        }
+        previous = stripe.remove(key);
+        merge = previous != null && stripe.size < minStripeSize;
+      } finally {
+        stripe.lock.unlockWrite(stamp);
+      }
+      if (previous != null) {
+        count.decrement();
+      }
+      if (merge) {
+        merge(stripe);
+      }
+      return (V) previous;
+    }
+  }
+
+  /**
+   * Performs the given action for each entry in ascending key order.
+   *
+   * @param action the action to perform
+   */
+  public void forEach(EntryConsumer<? super V> action) {
+    forEach(Long.MIN_VALUE, Long.MAX_VALUE, action);
+  }
+
+  /**
+   * Performs the given action for each entry with a key in the closed range {@code [from, to]}, in
+   * ascending key order.
+   *
+   * @param from   the lowest key, inclusive
+   * @param to     the highest key, inclusive
+   * @param action the action to perform
+   */
+  @SuppressWarnings("unchecked")
+  public void forEach(long from, long to, EntryConsumer<? super V> action) {
+    long next = from;
+    while (next <= to) {
+      final Stripe stripe = stripeOf(next);
+      final long stamp = stripe.lock.readLock();
+      final long[] keys;
+      final Object[] values;
+      try {
+        if (stripe.retired) {
+          continue;
+        }
+        final int start = Bounds.bound(stripe.keys, 0, stripe.size, next, false);
+        final int end = Bounds.bound(stripe.keys, start, stripe.size, to, true);
+        keys = Arrays.copyOfRange(stripe.keys, start, end);
+        values = Arrays.copyOfRange(stripe.values, start, end);
+      } finally {
+        stripe.lock.unlockRead(stamp);
+      }
+      for (int i = 0; i < keys.length; i++) {
+        action.accept(keys[i], (V) values[i]);
+      }
+      if (stripe.high >= to) {
+        return;
+      }
+      next = stripe.high + 1;
+    }
+  }
+
+  private Stripe stripeOf(long key) {
+    final Directory current = directory;
+    return current.stripes[Bounds.bound(current.lows, 0, current.lows.length, key, true) - 1];
+  }
+
+  private void split(Stripe stripe) {
+    structureLock.lock();
+    try {
+      final Directory current = directory;
+      final int index = current.indexOf(stripe);
+      if (index < 0) {
+        return;
+      }
+      final long stamp = stripe.lock.writeLock();
+      try {
+        if (stripe.size <= maxStripeSize) {
+          return;
+        }
+        final int half = stripe.size >>> 1;
+        final long middle = stripe.keys[half];
+        final Stripe left = stripe.slice(stripe.low, middle - 1, 0, half);
+        final Stripe right = stripe.slice(middle, stripe.high, half, stripe.size);
+        stripe.retired = true;
+        directory = current.replace(index, 1, left, right);
+      } finally {
+        stripe.lock.unlockWrite(stamp);
+      }
+    } finally {
+      structureLock.unlock();
+    }
+  }
+
+  private void merge(Stripe stripe) {
+    structureLock.lock();
+    try {
+      final Directory current = directory;
+      final int index = current.indexOf(stripe);
+      if (index < 0 || current.stripes.length == 1) {
+        return;
+      }
+      final int first = index + 1 < current.stripes.length ? index : index - 1;
+      final Stripe a = current.stripes[first], b = current.stripes[first + 1];
+      final long stampA = a.lock.writeLock();
+      final long stampB = b.lock.writeLock();
+      try {
+        if (stripe.size >= minStripeSize || a.size + b.size > maxStripeSize / 2) {
+          return;
+        }
+        final int size = a.size + b.size;
+        final long[] keys = new long[Math.max(8, size)];
+        final Object[] values = new Object[keys.length];
+        System.arraycopy(a.keys, 0, keys, 0, a.size);
+        System.arraycopy(b.keys, 0, keys, a.size, b.size);
+        System.arraycopy(a.values, 0, values, 0, a.size);
+        System.arraycopy(b.values, 0, values, a.size, b.size);
+        a.retired = true;
+        b.retired = true;
+        directory = current.replace(first, 2, new Stripe(a.low, b.high, keys, values, size));
+      } finally {
+        b.lock.unlockWrite(stampB);
+        a.lock.unlockWrite(stampA);
+      }
+    } finally {
+      structureLock.unlock();
+    }
+  }
+
+  /**
+   * An immutable list of the stripes, sorted by their lower bounds.
+   */
+  private static final class Directory {
+
+    final long[] lows;
+    final Stripe[] stripes;
+
+    Directory(long[] lows, Stripe[] stripes) {
+      this.lows = lows;
+      this.stripes = stripes;
+    }
+
+    int indexOf(Stripe stripe) {
+      final int index = Bounds.bound(lows, 0, lows.length, stripe.low, true) - 1;
+      return stripes[index] == stripe ? index : -1;
+    }
+
+    /**
+     * Returns a new directory with {@code count} stripes starting at the index replaced.
+     */
+    Directory replace(int index, int count, Stripe... replacements) {
+      final int length = stripes.length - count + replacements.length;
+      final long[] newLows = new long[length];
+      final Stripe[] newStripes = new Stripe[length];
+      System.arraycopy(lows, 0, newLows, 0, index);
+      System.arraycopy(stripes, 0, newStripes, 0, index);
+      for (int i = 0; i < replacements.length; i++) {
+        newLows[index + i] = replacements[i].low;
+        newStripes[index + i] = replacements[i];
+      }
+      final int tail = stripes.length - index - count;
+      System.arraycopy(lows, index + count, newLows, index + replacements.length, tail);
+      System.arraycopy(stripes, index + count, newStripes, index + replacements.length, tail);
+      return new Directory(newLows, newStripes);
+    }
+  }
+
+  /**
+   * The entries with keys in the closed range {@code [low, high]}, which is fixed for the lifetime
+   * of the stripe. All fields but the bounds are guarded by the lock.
+   */
+  private static final class Stripe {
+
+    final StampedLock lock = new StampedLock();
+    final long low;
+    final long high;
+    long[] keys;
+    Object[] values;
+    int size;
+    boolean retired;
+
+    Stripe(long low, long high, long[] keys, Object[] values, int size) {
+      this.low = low;
+      this.high = high;
+      this.keys = keys;
+      this.values = values;
+      this.size = size;
+    }
+
+    int indexOf(long key) {
+      final int index = Bounds.bound(keys, 0, size, key, false);
+      return index < size && keys[index] == key ? index : -1;
+    }
+
+    Object put(long key, Object value) {
+      final int index = Bounds.bound(keys, 0, size, key, false);
+      if (index < size && keys[index] == key) {
+        final Object previous = values[index];
+        values[index] = value;
+        return previous;
+      }
+      if (size == keys.length) {
+        // publish grown copies, so that optimistic readers never see a shorter array
+        keys = Arrays.copyOf(keys, size * 2);
+        values = Arrays.copyOf(values, size * 2);
+      }
+      System.arraycopy(keys, index, keys, index + 1, size - index);
+      System.arraycopy(values, index, values, index + 1, size - index);
+      keys[index] = key;
+      values[index] = value;
+      size++;
+      return null;
+    }
+
+    Object remove(long key) {
+      final int index = indexOf(key);
+      if (index < 0) {
+        return null;
+      }
+      final Object previous = values[index];
+      System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+      System.arraycopy(values, index + 1, values, index, size - index - 1);
+      values[--size] = null;
+      return previous;
+    }
+
+    Stripe slice(long low, long high, int from, int to) {
+      final int length = Math.max(8, to - from);
+      final long[] sliceKeys = new long[length];
+      final Object[] sliceValues = new Object[length];
+      System.arraycopy(keys, from, sliceKeys, 0, to - from);
+      System.arraycopy(values, from, sliceValues, 0, to - from);
+      return new Stripe(low, high, sliceKeys, sliceValues, to - from);
+    }
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+/**
+ * Internal helper comparing byte arrays lexicographically as unsigned values.
+ * <p>
+ * This is the Java 8 implementation. The multi-release JAR carries a Java 9 implementation in
+ * {@code src/main/java9}, delegating to the vectorized {@code Arrays.compareUnsigned}.
+ */
+final class UnsignedBytes {
+
+  private UnsignedBytes() {
+  }
+
+  /**
+   * Compares two byte arrays lexicographically, treating the bytes as unsigned values. A proper
+   * prefix of an array is less than the array.
+   */
+  static int compare(byte[] a, byte[] b) {
+    final int limit = Math.min(a.length, b.length);
+    for (int i = 0; i < limit; i++) {
+      if (a[i] != b[i]) {
+        return (a[i] & 0xFF) - (b[i] & 0xFF);
+      }
+    }
+    return a.length - b.length;
+  }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+
+/**
+ * Sampler drawing indices of a discrete distribution given by non-negative weights, an index being
+ * drawn with a probability proportional to its weight.
+ * <p>
+ * Two backends are provided. {@link Cumulative} holds the cumulative weights and draws an index by
+ * searching a uniform variate among them, which is the index of the first cumulative weight
+ * greater than the variate, as {@link BinarySearch#indexOfGreaterThan(double, double[])} would
+ * find; a batch of draws can be sorted and merged against the cumulative weights in a single
+ * forward pass. {@link Alias} holds the tables of Walker's alias method, built in O(n) by Vose's
+ * algorithm, and draws an index in O(1) with one variate, independently of the number of
+ * categories; it suits static distributions sampled many times.
+ * <p>
+ * Samplers are immutable and can be shared between threads, each drawing with its own
+ * {@link Random}, such as {@link java.util.concurrent.ThreadLocalRandom#current()}. Indices with a
+ * zero weight are never drawn.
+ */
+public abstract class WeightedSampler {
+
+  WeightedSampler() {
+  }
+
+  /**
+   * Creates a sampler searching the cumulative sums of the specified weights.
+   *
+   * @param weights the weights of the indices, non-negative and finite
+   * @return the sampler
+   * @throws IllegalArgumentException if a weight is negative or not finite, or if the weights sum
+   *                                  to zero or to infinity
+   */
+  public static Cumulative cumulative(double[] weights) {
+    final double[] cumulative = new double[weights.length];
+    double sum = 0;
+    for (int i = 0; i < weights.length; i++) {
+      checkWeight(weights[i], i);
+      cumulative[i] = sum += weights[i];
+    }
+    return new Cumulative(cumulative);
+  }
+
+  /**
+   * Creates a sampler searching the specified cumulative weights, which are not copied.
+   *
+   * @param cumulative the cumulative weights, the weight of index {@code i} being
+   *                   {@code cumulative[i] - cumulative[i - 1]}, non-negative, non-decreasing and
+   *                   finite
+   * @return the sampler
+   * @throws IllegalArgumentException if a cumulative weight is negative, less than the previous
+   *                                  one or not finite, or if the last one is zero
+   */
+  public static Cumulative ofCumulativeWeights(double[] cumulative) {
+    double previous = 0;
+    for (int i = 0; i < cumulative.length; i++) {
+      if (!(cumulative[i] >= previous) || cumulative[i] == Double.POSITIVE_INFINITY) {
+        throw new IllegalArgumentException("Invalid cumulative weight at " + i + ": "
+            + cumulative[i]);
+      }
+      previous = cumulative[i];
+    }
+    return new Cumulative(cumulative);
+  }
+
+  /**
+   * Creates a sampler drawing indices by the alias method.
+   *
+   * @param weights the weights of the indices, non-negative and finite
+   * @return the sampler
+   * @throws IllegalArgumentException if a weight is negative or not finite, or if the weights sum
+   *                                  to zero or to infinity
+   */
+  public static Alias alias(double[] weights) {
+    double total = 0;
+    for (int i = 0; i < weights.length; i++) {
+      checkWeight(weights[i], i);
+      total += weights[i];
+    }
+    checkTotal(total);
+    return new Alias(weights, total);
+  }
+
+  /**
+   * @return the number of indices of the distribution
+   */
+  public abstract int size();
+
+  /**
+   * Draws an index.
+   *
+   * @param random the source of randomness
+   * @return the index drawn
+   */
+  public abstract int sample(Random random);
+
+  /**
+   * Draws independent indices into the specified array.
+   *
+   * @param random the source of randomness
+   * @param draws  the array receiving the indices drawn
+   */
+  public void sample(Random random, int[] draws) {
+    for (int i = 0; i < draws.length; i++) {
+      draws[i] = sample(random);
+    }
+  }
+
+  private static void checkWeight(double weight, int index) {
+    if (!(weight >= 0) || weight == Double.POSITIVE_INFINITY) {
+      throw new IllegalArgumentException("Invalid weight at " + index + ": " + weight);
+    }
+  }
+
+  private static void checkTotal(double total) {
+    if (!(total > 0) || total == Double.POSITIVE_INFINITY) {
+      throw new IllegalArgumentException("Invalid total weight: " + total);
+    }
+  }
+
+  /**
+   * Sampler searching cumulative weights, in O(log n) per draw.
+   */
+  public static final class Cumulative extends WeightedSampler {
+
+    private final double[] cumulative;
+    private final double total;
+
+    private Cumulative(double[] cumulative) {
+      this.cumulative = cumulative;
+      this.total = cumulative.length == 0 ? 0 : cumulative[cumulative.length - 1];
+      checkTotal(total);
+    }
+
+    @Override
+    public int size() {
+      return cumulative.length;
+    }
+
+    /**
+     * @return the sum of all weights
+     */
+    public double totalWeight() {
+      return total;
+    }
+
+    /**
+     * Returns the probability of drawing the specified index.
+     *
+     * @param index the index
+     * @return the weight of the index divided by the total weight
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double probability(int index) {
+      if (index < 0 || index >= cumulative.length) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", size: " + cumulative.length);
+      }
+      return (cumulative[index] - (index == 0 ? 0 : cumulative[index - 1])) / total;
+    }
+
+    @Override
+    public int sample(Random random) {
+      // the variate is less than the total, so that a cumulative weight greater than it exists
+      return Bounds.bound(cumulative, 0, cumulative.length, random.nextDouble() * total, true);
+    }
+
+    /**
+     * Draws independent indices into the specified array, in ascending order. The variates of the
+     * batch are sorted and merged against the cumulative weights, galloping forwards from one
+     * index to the next, which takes O(m log(n / m)) comparisons for m draws rather than
+     * O(m log n), and visits the cumulative weights sequentially. The indices drawn have the same
+     * distribution as those of {@link #sample(Random, int[])}, but are sorted; they must be
+     * shuffled if their order matters.
+     *
+     * @param random the source of randomness
+     * @param draws  the array receiving the indices drawn, in ascending order
+     */
+    public void sampleSorted(Random random, int[] draws) {
+      final double[] variates = new double[draws.length];
+      for (int i = 0; i < variates.length; i++) {
+        variates[i] = random.nextDouble() * total;
+      }
+      RadixSort.sort(variates);
+      int bound = 0;
+      for (int i = 0; i < variates.length; i++) {
+        final double variate = variates[i];
+        int from = bound, to = cumulative.length;
+        for (int step = 1; from < to; step <<= 1) {
+          final int probe = from + step - 1;
+          if (probe >= to) {
+            break;
+          }
+          if (cumulative[probe] > variate) {
+            to = probe;
+            break;
+          }
+          from = probe + 1;
+        }
+        bound = Bounds.bound(cumulative, from, to, variate, true);
+        draws[i] = bound;
+      }
+    }
+  }
+
+  /**
+   * Sampler using Walker's alias method, in O(1) per draw. Each column of the table packs the
+   * probability of keeping the column, as a 31-bit fixed-point fraction, with the index of its
+   * alias into one long, so that a draw reads a single random location of the table.
+   */
+  public static final class Alias extends WeightedSampler {
+
+    private static final double ONE = 0x1p31;
+
+    private final long[] columns;
+
+    private Alias(double[] weights, double total) {
+      final int n = weights.length;
+      final double[] probabilities = new double[n];
+      final int[] aliases = new int[n];
+      final int[] small = new int[n], large = new int[n];
+      int smallSize = 0, largeSize = 0;
+      for (int i = 0; i < n; i++) {
+        probabilities[i] = weights[i] * n / total;
+        aliases[i] = i;
+        if (probabilities[i] < 1) {
+          small[smallSize++] = i;
+        } else {
+          large[largeSize++] = i;
+        }
+      }
+      // each small column is filled up with the excess of a large one
+      while (smallSize > 0 && largeSize > 0) {
+        final int less = small[--smallSize], more = large[--largeSize];
+        aliases[less] = more;
+        probabilities[more] = (probabilities[more] + probabilities[less]) - 1;
+        if (probabilities[more] < 1) {
+          small[smallSize++] = more;
+        } else {
+          large[largeSize++] = more;
+        }
+      }
+      // the remaining columns are full, up to rounding errors
+      while (largeSize > 0) {
+        probabilities[large[--largeSize]] = 1;
+      }
+      while (smallSize > 0) {
+        probabilities[small[--smallSize]] = 1;
+      }
+      this.columns = new long[n];
+      for (int i = 0; i < n; i++) {
+        columns[i] = Math.round(Math.min(probabilities[i], 1) * ONE) << 32 | aliases[i];
+      }
+    }
+
+    @Override
+    public int size() {
+      return columns.length;
+    }
+
+    @Override
+    public int sample(Random random) {
+      final double variate = random.nextDouble() * columns.length;
+      final int column = (int) variate;
+      final long entry = columns[column];
+      return (long) ((variate - column) * ONE) < entry >>> 32 ? column : (int) entry;
+    }
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.Arrays;
+
+/**
+ * Internal helper comparing byte arrays lexicographically as unsigned values.
+ * <p>
+ * This is the Java 9 implementation, packaged under {@code META-INF/versions/9} of the
+ * multi-release JAR. {@link Arrays#compareUnsigned(byte[], byte[])} locates the first mismatch
+ * with vectorized comparisons of multiple bytes at a time.
+ */
+final class UnsignedBytes {
+
+  private UnsignedBytes() {
+  }
+
+  /**
+   * Compares two byte arrays lexicographically, treating the bytes as unsigned values. A proper
+   * prefix of an array is less than the array.
+   */
+  static int compare(byte[] a, byte[] b) {
+    return Arrays.compareUnsigned(a, b);
+  }
+}
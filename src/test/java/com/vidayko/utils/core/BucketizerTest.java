@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+class BucketizerTest {
+
+  @Test
+  public void bucket_test() {
+    final Bucketizer.OfInt exclusive = Bucketizer.of(new int[]{10, 20, 20, 30}, false);
+    final Bucketizer.OfInt inclusive = Bucketizer.of(new int[]{10, 20, 20, 30}, true);
+    Assertions.assertEquals(5, exclusive.bucketCount());
+    Assertions.assertFalse(exclusive.isEquallySpaced());
+    Assertions.assertEquals(0, exclusive.bucket(Integer.MIN_VALUE));
+    Assertions.assertEquals(0, exclusive.bucket(10));
+    Assertions.assertEquals(1, inclusive.bucket(10));
+    Assertions.assertEquals(1, exclusive.bucket(20));
+    Assertions.assertEquals(3, inclusive.bucket(20));
+    Assertions.assertEquals(4, exclusive.bucket(Integer.MAX_VALUE));
+    Assertions.assertEquals(4, inclusive.bucket(Integer.MAX_VALUE));
+
+    final Bucketizer.OfDouble uniform = Bucketizer.of(new double[]{0, 0.1, 0.2, 0.3, 0.4}, false);
+    Assertions.assertTrue(uniform.isEquallySpaced());
+    Assertions.assertEquals(0, uniform.bucket(-0.0));
+    Assertions.assertEquals(1, uniform.bucket(0.05));
+    Assertions.assertEquals(3, uniform.bucket(0.3));
+    Assertions.assertEquals(4, uniform.bucket(0.31));
+    Assertions.assertEquals(5, uniform.bucket(Double.POSITIVE_INFINITY));
+    Assertions.assertEquals(5, uniform.bucket(Double.NaN));
+    Assertions.assertEquals(0, Bucketizer.of(new double[]{-0.0, 1}, false).bucket(-0.0));
+    Assertions.assertEquals(1, Bucketizer.of(new double[]{-0.0, 1}, false).bucket(0.0));
+
+    Assertions.assertEquals(0, Bucketizer.of(new long[0], true).bucket(5));
+    Assertions.assertEquals(1, Bucketizer.of(new long[0], true).bucketCount());
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> Bucketizer.of(new float[]{1, Float.NaN, 2}, false));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> Bucketizer.of(new long[]{2, 1}, false));
+  }
+
+  @Test
+  public void batch_test() {
+    final Bucketizer.OfLong bucketizer = Bucketizer.of(new long[]{0, 100, 200}, false);
+    Assertions.assertTrue(bucketizer.isEquallySpaced());
+    final long[] values = {-5, 0, 1, 100, 150, 250, Long.MIN_VALUE, Long.MAX_VALUE};
+    final int[] ids = new int[values.length];
+    bucketizer.buckets(values, ids);
+    Assertions.assertArrayEquals(new int[]{0, 0, 1, 1, 2, 3, 0, 3}, ids);
+    final long[] counts = new long[4];
+    bucketizer.count(values, counts);
+    bucketizer.count(values, counts);
+    Assertions.assertArrayEquals(new long[]{6, 4, 2, 4}, counts);
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> bucketizer.count(values, new long[3]));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> bucketizer.buckets(values, new int[7]));
+  }
+
+  @Test
+  public void random_test() {
+    final Random random = new Random(48);
+    for (int round = 0; round < 400; round++) {
+      final int size = random.nextInt(round % 4 == 0 ? 300 : 20);
+      final long[] longs = new long[size];
+      final double[] doubles = new double[size];
+      final long origin = random.nextInt(1000) - 500, step = random.nextInt(50) + 1;
+      for (int i = 0; i < size; i++) {
+        if (round % 2 == 0) {
+          // equally spaced, occasionally perturbed
+          longs[i] = origin + i * step + (round % 6 == 0 && random.nextInt(8) == 0 ? 1 : 0);
+          doubles[i] = (origin + i * step) / 8.0;
+        } else {
+          longs[i] = random.nextInt(2000) - 1000;
+          doubles[i] = random.nextInt(5) == 0 ? Double.NaN : (random.nextInt(2000) - 1000) / 4.0;
+        }
+      }
+      Arrays.sort(longs);
+      Arrays.sort(doubles);
+      final int[] ints = new int[size];
+      final float[] floats = new float[size];
+      for (int i = 0; i < size; i++) {
+        ints[i] = (int) longs[i];
+        floats[i] = (float) doubles[i];
+      }
+      for (boolean inclusive : new boolean[]{false, true}) {
+        final Bucketizer.OfInt intBucketizer = Bucketizer.of(ints, inclusive);
+        final Bucketizer.OfLong longBucketizer = Bucketizer.of(longs, inclusive);
+        final Bucketizer.OfFloat floatBucketizer = Bucketizer.of(floats, inclusive);
+        final Bucketizer.OfDouble doubleBucketizer = Bucketizer.of(doubles, inclusive);
+        final long[] values = new long[200];
+        final double[] doubleValues = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+          values[i] = random.nextInt(10) == 0 ? longs.length > 0 ? longs[random.nextInt(size)] : 0
+              : random.nextInt(size * 60 + 2500) - 1200;
+          doubleValues[i] = random.nextInt(10) == 0 && size > 0 ? doubles[random.nextInt(size)]
+              : random.nextInt(10) == 0 ? Double.NaN : values[i] / 8.0;
+        }
+        final long[] counts = new long[size + 1];
+        longBucketizer.count(values, counts);
+        final long[] expectedCounts = new long[size + 1];
+        for (int i = 0; i < values.length; i++) {
+          final long value = values[i];
+          final double doubleValue = doubleValues[i];
+          int expected = 0, expectedDouble = 0, expectedFloat = 0;
+          for (int j = 0; j < size; j++) {
+            expected += longs[j] < value || (inclusive && longs[j] == value) ? 1 : 0;
+            final int compare = Double.compare(doubles[j], doubleValue);
+            expectedDouble += compare < 0 || (inclusive && compare == 0) ? 1 : 0;
+            final int floatCompare = Float.compare(floats[j], (float) doubleValue);
+            expectedFloat += floatCompare < 0 || (inclusive && floatCompare == 0) ? 1 : 0;
+          }
+          expectedCounts[expected]++;
+          Assertions.assertEquals(expected, longBucketizer.bucket(value));
+          Assertions.assertEquals(expected, intBucketizer.bucket((int) value));
+          Assertions.assertEquals(expectedDouble, doubleBucketizer.bucket(doubleValue));
+          Assertions.assertEquals(expectedFloat, floatBucketizer.bucket((float) doubleValue));
+          if (!inclusive) {
+            Assertions.assertEquals(BinarySearch.indexOfLessThan(value, longs) + 1, expected);
+          }
+        }
+        Assertions.assertArrayEquals(expectedCounts, counts);
+      }
+    }
+  }
+}
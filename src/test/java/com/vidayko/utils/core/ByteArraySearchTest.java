@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.nio.*;
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+class ByteArraySearchTest {
+
+  private static final Comparator<byte[]> UNSIGNED_ORDER = (a, b) -> {
+    for (int i = 0; i < Math.min(a.length, b.length); i++) {
+      if (a[i] != b[i]) {
+        return Integer.compare(a[i] & 0xFF, b[i] & 0xFF);
+      }
+    }
+    return Integer.compare(a.length, b.length);
+  };
+
+  @Test
+  public void byteArrays_test() {
+    final Random random = new Random(31);
+    for (int size : new int[]{0, 1, 2, 100, 1000}) {
+      final byte[][] array = randomKeys(random, size);
+      for (int i = 0; i < 1000; i++) {
+        final byte[] key = randomKey(random, array);
+        Assertions.assertEquals(BinarySearch.firstIndexOf(key, array, UNSIGNED_ORDER),
+            ByteArraySearch.firstIndexOf(key, array));
+        Assertions.assertEquals(BinarySearch.lastIndexOf(key, array, UNSIGNED_ORDER),
+            ByteArraySearch.lastIndexOf(key, array));
+        Assertions.assertEquals(BinarySearch.indexOfGreaterThan(key, array, UNSIGNED_ORDER),
+            ByteArraySearch.indexOfGreaterThan(key, array));
+        Assertions.assertEquals(BinarySearch.indexOfLessThan(key, array, UNSIGNED_ORDER),
+            ByteArraySearch.indexOfLessThan(key, array));
+      }
+    }
+  }
+
+  @Test
+  public void packedBlocks_test() {
+    final Random random = new Random(32);
+    for (int size : new int[]{0, 1, 2, 100, 1000}) {
+      final byte[][] array = randomKeys(random, size);
+      for (boolean direct : new boolean[]{false, true}) {
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+          final ByteBuffer block = pack(array, direct, order);
+          final int[] offsets = ByteArraySearch.offsetsOf(block);
+          Assertions.assertEquals(size, offsets.length);
+
+          for (int i = 0; i < 500; i++) {
+            final byte[] key = randomKey(random, array);
+            Assertions.assertEquals(BinarySearch.firstIndexOf(key, array, UNSIGNED_ORDER),
+                ByteArraySearch.firstIndexOf(key, block, offsets));
+            Assertions.assertEquals(BinarySearch.lastIndexOf(key, array, UNSIGNED_ORDER),
+                ByteArraySearch.lastIndexOf(key, block, offsets));
+            Assertions.assertEquals(BinarySearch.indexOfGreaterThan(key, array, UNSIGNED_ORDER),
+                ByteArraySearch.indexOfGreaterThan(key, block, offsets));
+            Assertions.assertEquals(BinarySearch.indexOfLessThan(key, array, UNSIGNED_ORDER),
+                ByteArraySearch.indexOfLessThan(key, block, offsets));
+          }
+          Assertions.assertEquals(1, block.position());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void truncatedBlock_test() {
+    final ByteBuffer block = ByteBuffer.allocate(6).putInt(3).put((byte) 1).put((byte) 2);
+    block.flip();
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> ByteArraySearch.offsetsOf(block));
+  }
+
+  private static ByteBuffer pack(byte[][] array, boolean direct, ByteOrder order) {
+    final int capacity = 1 + Arrays.stream(array).mapToInt(a -> Integer.BYTES + a.length).sum();
+    final ByteBuffer block = (direct ? ByteBuffer.allocateDirect(capacity)
+        : ByteBuffer.allocate(capacity)).order(order);
+    block.put((byte) 0x7F);
+    for (byte[] key : array) {
+      block.putInt(key.length).put(key);
+    }
+    block.flip();
+    block.position(1);
+    return block;
+  }
+
+  private static byte[][] randomKeys(Random random, int size) {
+    final byte[][] array = new byte[size][];
+    for (int i = 0; i < size; i++) {
+      array[i] = randomBytes(random);
+    }
+    Arrays.sort(array, UNSIGNED_ORDER);
+    return array;
+  }
+
+  private static byte[] randomKey(Random random, byte[][] array) {
+    if (array.length > 0 && random.nextBoolean()) {
+      final byte[] key = array[random.nextInt(array.length)];
+      return random.nextBoolean() ? key.clone()
+          : Arrays.copyOf(key, Math.max(0, key.length - random.nextInt(3)));
+    }
+    return randomBytes(random);
+  }
+
+  private static byte[] randomBytes(Random random) {
+    final byte[] bytes = new byte[random.nextInt(20)];
+    for (int i = 0; i < bytes.length; i++) {
+      final int b = random.nextInt(4);
+      bytes[i] = (byte) (b == 3 ? 0x80 + random.nextInt(2) : b);
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import static com.vidayko.utils.core.JsonLoader.loadTestcases;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import lombok.Data;
+import org.junit.jupiter.api.*;
+
+class CachedLongSearchTest {
+
+  @Test
+  public void firstIndexOf_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchFirstIndexOfTest")) {
+      Arrays.sort(testCase.array);
+      final CachedLongSearch search = new CachedLongSearch(testCase.array, 8);
+      // the second lookup is answered from the cache
+      Assertions.assertEquals(testCase.expected, search.firstIndexOf(testCase.key));
+      Assertions.assertEquals(testCase.expected, search.firstIndexOf(testCase.key));
+    }
+  }
+
+  @Test
+  public void lastIndexOf_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchLastIndexOfTest")) {
+      Arrays.sort(testCase.array);
+      final CachedLongSearch search = new CachedLongSearch(testCase.array, 8);
+      Assertions.assertEquals(testCase.expected, search.lastIndexOf(testCase.key));
+      Assertions.assertEquals(testCase.expected, search.lastIndexOf(testCase.key));
+    }
+  }
+
+  @Test
+  public void indexOfGreaterThan_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchIndexOfGreaterThanTest")) {
+      Arrays.sort(testCase.array);
+      final CachedLongSearch search = new CachedLongSearch(testCase.array, 8);
+      Assertions.assertEquals(testCase.expected, search.indexOfGreaterThan(testCase.key));
+      Assertions.assertEquals(testCase.expected, search.indexOfGreaterThan(testCase.key));
+    }
+  }
+
+  @Test
+  public void indexOfLessThan_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchIndexOfLessThanTest")) {
+      Arrays.sort(testCase.array);
+      final CachedLongSearch search = new CachedLongSearch(testCase.array, 8);
+      Assertions.assertEquals(testCase.expected, search.indexOfLessThan(testCase.key));
+      Assertions.assertEquals(testCase.expected, search.indexOfLessThan(testCase.key));
+    }
+  }
+
+  @Test
+  public void statistics_test() {
+    final CachedLongSearch search = new CachedLongSearch(new long[]{1, 3, 3, 5}, 1);
+    Assertions.assertEquals(8, search.capacity());
+    Assertions.assertEquals(1.0, search.stats().hitRate());
+    Assertions.assertEquals(IndexRange.of(1, 3), search.rangeOf(3));
+    Assertions.assertEquals(2, search.lastIndexOf(3));
+    Assertions.assertEquals(3, search.indexOfGreaterThan(3));
+    Assertions.assertEquals(-2, search.firstIndexOf(2));
+    final CacheStats stats = search.stats();
+    Assertions.assertEquals(2, stats.hitCount());
+    Assertions.assertEquals(2, stats.missCount());
+    Assertions.assertEquals(4, stats.requestCount());
+    Assertions.assertEquals(0.5, stats.hitRate());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new CachedLongSearch(null, 0));
+  }
+
+  @Test
+  public void skewedTraffic_test() {
+    final long[] array = new long[1 << 16];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = 2L * i;
+    }
+    final CachedLongSearch search = new CachedLongSearch(array, 256);
+    final Random random = new Random(39);
+    for (int i = 0; i < 200_000; i++) {
+      // 90% of the lookups go to 128 hot keys, the rest are spread over all the keys
+      final long key = random.nextInt(10) < 9 ? random.nextInt(128) * 512L
+          : random.nextInt(2 * array.length);
+      Assertions.assertEquals(BinarySearch.firstIndexOf(key, array), search.firstIndexOf(key));
+    }
+    final CacheStats stats = search.stats();
+    Assertions.assertTrue(stats.hitRate() > 0.8, stats.toString());
+    Assertions.assertTrue(stats.evictionCount() > 0, stats.toString());
+  }
+
+  @Test
+  public void concurrentLookups_test() throws Exception {
+    final long[] array = new long[10_000];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = i / 2;
+    }
+    final CachedLongSearch search = new CachedLongSearch(array, 64);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        final int seed = t;
+        futures.add(executor.submit(() -> {
+          final Random random = new Random(seed);
+          for (int i = 0; i < 50_000; i++) {
+            final long key = random.nextInt(100) < 80 ? random.nextInt(50)
+                : random.nextInt(6000);
+            Assertions.assertEquals(BinarySearch.lastIndexOf(key, array), search.lastIndexOf(key));
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    Assertions.assertEquals(200_000, search.stats().requestCount());
+  }
+
+  private List<LongTestCase> load(String testName) throws IOException {
+    return loadTestcases(
+        this.getClass().getClassLoader(),
+        new TypeReference<List<LongTestCase>>() {
+        },
+        "testcases/com/vidayko/utils/core/" + testName + "/NumberTestCases.json"
+    );
+  }
+
+  @Data
+  static class LongTestCase {
+
+    String scenario;
+    long key;
+    long[] array;
+    int expected;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import java.util.concurrent.*;
+import org.junit.jupiter.api.*;
+
+class CachedSearchTest {
+
+  @Test
+  public void operations_test() {
+    final String[] array = {"a", "b", "b", "d"};
+    final CachedSearch<String> search = new CachedSearch<>(array, Comparator.naturalOrder(), 16);
+    for (int round = 0; round < 2; round++) {
+      Assertions.assertEquals(1, search.firstIndexOf("b"));
+      Assertions.assertEquals(2, search.lastIndexOf("b"));
+      Assertions.assertEquals(3, search.indexOfGreaterThan("b"));
+      Assertions.assertEquals(0, search.indexOfLessThan("b"));
+      Assertions.assertEquals(-4, search.firstIndexOf("c"));
+      Assertions.assertEquals(IndexRange.of(4, 4), search.rangeOf("e"));
+    }
+    Assertions.assertEquals(9, search.stats().hitCount());
+    Assertions.assertEquals(3, search.stats().missCount());
+  }
+
+  @Test
+  public void randomLookups_test() {
+    final Random random = new Random(39);
+    final Integer[] array = new Integer[1000];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = random.nextInt(2000);
+    }
+    final Comparator<Integer> reversed = Comparator.reverseOrder();
+    Arrays.sort(array, reversed);
+    final CachedSearch<Integer> search = new CachedSearch<>(array, reversed, 32);
+    for (int i = 0; i < 20_000; i++) {
+      final Integer key = random.nextInt(4) == 0 ? random.nextInt(2000) : random.nextInt(16);
+      Assertions.assertEquals(BinarySearch.firstIndexOf(key, array, reversed),
+          search.firstIndexOf(key));
+      Assertions.assertEquals(BinarySearch.indexOfLessThan(key, array, reversed),
+          search.indexOfLessThan(key));
+    }
+    Assertions.assertTrue(search.stats().hitRate() > 0.5, search.stats().toString());
+  }
+
+  @Test
+  public void skewedTraffic_test() {
+    final String[] array = new String[1 << 16];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = String.format("%06d", 2 * i);
+    }
+    final Comparator<String> order = Comparator.naturalOrder();
+    final CachedSearch<String> search = new CachedSearch<>(array, order, 256);
+    final Random random = new Random(39);
+    for (int i = 0; i < 200_000; i++) {
+      // 90% of the lookups go to 128 hot keys, the rest are spread over all the keys; every key is
+      // a new instance, so the cache must match keys by equals
+      final String key = String.format("%06d", random.nextInt(10) < 9 ? random.nextInt(128) * 512
+          : random.nextInt(2 * array.length));
+      Assertions.assertEquals(BinarySearch.firstIndexOf(key, array, order),
+          search.firstIndexOf(key));
+    }
+    final CacheStats stats = search.stats();
+    Assertions.assertTrue(stats.hitRate() > 0.8, stats.toString());
+    Assertions.assertTrue(stats.evictionCount() > 0, stats.toString());
+  }
+
+  @Test
+  public void concurrentLookups_test() throws Exception {
+    final String[] array = new String[10_000];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = String.format("%05d", i / 2);
+    }
+    final Comparator<String> order = Comparator.naturalOrder();
+    final CachedSearch<String> search = new CachedSearch<>(array, order, 64);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        final int seed = t;
+        futures.add(executor.submit(() -> {
+          final Random random = new Random(seed);
+          for (int i = 0; i < 50_000; i++) {
+            final String key = String.format("%05d", random.nextInt(100) < 80
+                ? random.nextInt(50) : random.nextInt(6000));
+            Assertions.assertEquals(BinarySearch.lastIndexOf(key, array, order),
+                search.lastIndexOf(key));
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    final CacheStats stats = search.stats();
+    Assertions.assertEquals(200_000, stats.requestCount());
+    Assertions.assertTrue(stats.hitRate() > 0.5, stats.toString());
+  }
+}
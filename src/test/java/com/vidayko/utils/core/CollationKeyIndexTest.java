@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.text.*;
+import java.util.*;
+import java.util.concurrent.*;
+import org.junit.jupiter.api.*;
+
+class CollationKeyIndexTest {
+
+  @Test
+  public void collatedStrings_test() {
+    final Random random = new Random(30);
+    for (Locale locale : new Locale[]{Locale.ROOT, Locale.FRENCH, Locale.GERMAN}) {
+      for (int strength : new int[]{Collator.PRIMARY, Collator.SECONDARY, Collator.TERTIARY}) {
+        final Collator collator = Collator.getInstance(locale);
+        collator.setStrength(strength);
+        // The JDK French collator is not always consistent with its own collation keys at
+        // tertiary strength, so the expected order is defined by the collation keys.
+        final Comparator<String> comparator =
+            (a, b) -> collator.getCollationKey(a).compareTo(collator.getCollationKey(b));
+
+        final String[] array = new String[500];
+        for (int i = 0; i < array.length; i++) {
+          array[i] = randomString(random);
+        }
+        Arrays.sort(array, comparator);
+        final CollationKeyIndex index = CollationKeyIndex.of(array, collator);
+
+        Assertions.assertEquals(array.length, index.size());
+        for (int i = 0; i < 1000; i++) {
+          final String key = random.nextBoolean() ? array[random.nextInt(array.length)]
+              : randomString(random);
+          Assertions.assertEquals(BinarySearch.firstIndexOf(key, array, comparator),
+              index.firstIndexOf(key));
+          Assertions.assertEquals(BinarySearch.lastIndexOf(key, array, comparator),
+              index.lastIndexOf(key));
+          Assertions.assertEquals(BinarySearch.indexOfGreaterThan(key, array, comparator),
+              index.indexOfGreaterThan(key));
+          Assertions.assertEquals(BinarySearch.indexOfLessThan(key, array, comparator),
+              index.indexOfLessThan(key));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void collatorIsCopied_test() {
+    final Collator collator = Collator.getInstance(Locale.ROOT);
+    collator.setStrength(Collator.PRIMARY);
+    final List<String> list = Arrays.asList("apple", "Äpfel", "banana");
+    list.sort(collator::compare);
+    final CollationKeyIndex index = CollationKeyIndex.of(list, collator);
+    collator.setStrength(Collator.TERTIARY);
+
+    Assertions.assertEquals(1, index.firstIndexOf("APPLE"));
+    Assertions.assertEquals(-3, index.firstIndexOf("apricot"));
+    Assertions.assertEquals(2, index.indexOfGreaterThan("APPLE"));
+  }
+
+  @Test
+  public void concurrentLookups_test() throws Exception {
+    final Collator collator = Collator.getInstance(Locale.GERMAN);
+    collator.setStrength(Collator.SECONDARY);
+    final Comparator<String> comparator =
+        (a, b) -> collator.getCollationKey(a).compareTo(collator.getCollationKey(b));
+    final Random random = new Random(30);
+    final String[] array = new String[2000];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = randomString(random);
+    }
+    Arrays.sort(array, comparator);
+    final CollationKeyIndex index = CollationKeyIndex.of(array, collator);
+    final String[] keys = new String[5000];
+    final int[] expected = new int[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = randomString(random);
+      expected[i] = BinarySearch.lastIndexOf(keys[i], array, comparator);
+    }
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        final int offset = t;
+        futures.add(executor.submit(() -> {
+          for (int round = 0; round < 10; round++) {
+            for (int i = offset; i < keys.length; i += 2) {
+              Assertions.assertEquals(expected[i], index.lastIndexOf(keys[i]));
+            }
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void unsortedList_test() {
+    final Collator collator = Collator.getInstance(Locale.ROOT);
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> CollationKeyIndex.of(Arrays.asList("b", "a"), collator));
+  }
+
+  private static String randomString(Random random) {
+    final String alphabet = "aAäÄeéEÉoôœ";
+    final StringBuilder builder = new StringBuilder();
+    final int length = random.nextInt(5);
+    for (int i = 0; i < length; i++) {
+      builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+class CompositeKeySearchTest {
+
+  // rows sorted by (symbolId, ts, seq)
+  private static final int[] SYMBOL = {1, 1, 1, 1, 3, 3, 7};
+  private static final long[] TS = {10, 10, 20, 20, 5, 30, 1};
+  private static final short[] SEQ = {0, 1, 0, 0, 2, 0, 9};
+
+  private final CompositeKeySearch search = CompositeKeySearch.of(SYMBOL, TS, SEQ);
+
+  @Test
+  public void firstIndexOf_test() {
+    Assertions.assertEquals(0, search.firstIndexOf(1));
+    Assertions.assertEquals(4, search.firstIndexOf(3));
+    Assertions.assertEquals(-5, search.firstIndexOf(2));
+    Assertions.assertEquals(-8, search.firstIndexOf(8));
+    Assertions.assertEquals(2, search.firstIndexOf(1, 20));
+    Assertions.assertEquals(2, search.firstIndexOf(1, 20, 0));
+    Assertions.assertEquals(-5, search.firstIndexOf(1, 20, 1));
+  }
+
+  @Test
+  public void lastIndexOf_test() {
+    Assertions.assertEquals(3, search.lastIndexOf(1));
+    Assertions.assertEquals(5, search.lastIndexOf(3));
+    Assertions.assertEquals(-1, search.lastIndexOf(0));
+    Assertions.assertEquals(1, search.lastIndexOf(1, 10));
+    Assertions.assertEquals(3, search.lastIndexOf(1, 20, 0));
+    Assertions.assertEquals(-6, search.lastIndexOf(3, 6));
+  }
+
+  @Test
+  public void indexOfGreaterThan_test() {
+    Assertions.assertEquals(4, search.indexOfGreaterThan(1));
+    Assertions.assertEquals(-8, search.indexOfGreaterThan(7));
+    Assertions.assertEquals(-1, search.indexOfGreaterThan(0));
+    Assertions.assertEquals(2, search.indexOfGreaterThan(1, 10));
+    Assertions.assertEquals(1, search.indexOfGreaterThan(1, 10, 0));
+  }
+
+  @Test
+  public void indexOfLessThan_test() {
+    Assertions.assertEquals(-1, search.indexOfLessThan(1));
+    Assertions.assertEquals(3, search.indexOfLessThan(3));
+    Assertions.assertEquals(6, search.indexOfLessThan(8));
+    Assertions.assertEquals(4, search.indexOfLessThan(3, 30));
+    Assertions.assertEquals(1, search.indexOfLessThan(1, 20, 0));
+  }
+
+  @Test
+  public void rangeOf_test() {
+    Assertions.assertEquals(IndexRange.of(0, 4), search.rangeOf(1));
+    Assertions.assertEquals(IndexRange.of(2, 4), search.rangeOf(1, 20));
+    Assertions.assertEquals(IndexRange.of(4, 4), search.rangeOf(2));
+    Assertions.assertEquals(IndexRange.of(6, 7), search.rangeOf(7, 1, 9));
+  }
+
+  @Test
+  public void randomColumns_test() {
+    final Random random = new Random(32);
+    for (int size : new int[]{0, 1, 2, 50, 1000}) {
+      final long[][] rows = new long[size][];
+      for (int i = 0; i < size; i++) {
+        rows[i] = new long[]{random.nextInt(5) - 2, random.nextInt(4), random.nextInt(3),
+            random.nextInt(3)};
+      }
+      final Comparator<long[]> order = (a, b) -> {
+        for (int c = 0; c < 4; c++) {
+          final int cmp = Long.compare(a[c], b[c]);
+          if (cmp != 0) {
+            return cmp;
+          }
+        }
+        return 0;
+      };
+      Arrays.sort(rows, order);
+      final byte[] c0 = new byte[size];
+      final char[] c1 = new char[size];
+      final int[] c2 = new int[size];
+      final long[] c3 = new long[size];
+      for (int i = 0; i < size; i++) {
+        c0[i] = (byte) rows[i][0];
+        c1[i] = (char) rows[i][1];
+        c2[i] = (int) rows[i][2];
+        c3[i] = rows[i][3];
+      }
+      final CompositeKeySearch search = CompositeKeySearch.of(c0, c1, c2, c3);
+
+      for (int i = 0; i < 500; i++) {
+        final long[] key = {random.nextInt(7) - 3, random.nextInt(5), random.nextInt(4),
+            random.nextInt(4)};
+        // a prefix of the key: compare only the leading components, treating the rest as equal
+        for (int components = 1; components <= 4; components++) {
+          final int n = components;
+          final Comparator<long[]> prefix = (a, b) -> {
+            for (int c = 0; c < n; c++) {
+              final int cmp = Long.compare(a[c], b[c]);
+              if (cmp != 0) {
+                return cmp;
+              }
+            }
+            return 0;
+          };
+          final int first = BinarySearch.firstIndexOf(key, rows, prefix);
+          final int last = BinarySearch.lastIndexOf(key, rows, prefix);
+          final int greater = BinarySearch.indexOfGreaterThan(key, rows, prefix);
+          final int less = BinarySearch.indexOfLessThan(key, rows, prefix);
+          switch (components) {
+            case 1:
+              Assertions.assertEquals(first, search.firstIndexOf(key[0]));
+              Assertions.assertEquals(last, search.lastIndexOf(key[0]));
+              Assertions.assertEquals(greater, search.indexOfGreaterThan(key[0]));
+              Assertions.assertEquals(less, search.indexOfLessThan(key[0]));
+              break;
+            case 2:
+              Assertions.assertEquals(first, search.firstIndexOf(key[0], key[1]));
+              Assertions.assertEquals(last, search.lastIndexOf(key[0], key[1]));
+              Assertions.assertEquals(greater, search.indexOfGreaterThan(key[0], key[1]));
+              Assertions.assertEquals(less, search.indexOfLessThan(key[0], key[1]));
+              break;
+            case 3:
+              Assertions.assertEquals(first, search.firstIndexOf(key[0], key[1], key[2]));
+              Assertions.assertEquals(last, search.lastIndexOf(key[0], key[1], key[2]));
+              Assertions.assertEquals(greater,
+                  search.indexOfGreaterThan(key[0], key[1], key[2]));
+              Assertions.assertEquals(less, search.indexOfLessThan(key[0], key[1], key[2]));
+              break;
+            default:
+              Assertions.assertEquals(first,
+                  search.firstIndexOf(key[0], key[1], key[2], key[3]));
+              Assertions.assertEquals(last,
+                  search.lastIndexOf(key[0], key[1], key[2], key[3]));
+              Assertions.assertEquals(greater,
+                  search.indexOfGreaterThan(key[0], key[1], key[2], key[3]));
+              Assertions.assertEquals(less,
+                  search.indexOfLessThan(key[0], key[1], key[2], key[3]));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void typedFactories_test() {
+    final long[] ts = {10, 10, 20, 20, 5, 30, 1};
+    final int[] seq = {0, 1, 0, 0, 2, 0, 9};
+    final CompositeKeySearch bySymbol = CompositeKeySearch.of(SYMBOL, TS);
+    Assertions.assertEquals(2, bySymbol.columnCount());
+    Assertions.assertEquals(IndexRange.of(2, 4), bySymbol.rangeOf(1, 20));
+    final CompositeKeySearch byRow = CompositeKeySearch.of(SYMBOL, ts, seq);
+    Assertions.assertEquals(3, byRow.columnCount());
+    Assertions.assertEquals(1, byRow.firstIndexOf(1, 10, 1));
+    Assertions.assertEquals(5, byRow.indexOfGreaterThan(3, 5, 2));
+    final long[] symbols = Arrays.stream(SYMBOL).asLongStream().toArray();
+    Assertions.assertEquals(3, CompositeKeySearch.of(symbols, ts, seq).lastIndexOf(1, 20, 0));
+    Assertions.assertEquals(1, CompositeKeySearch.of(new int[]{1, 2, 2}, new int[]{5, 1, 3})
+        .indexOfLessThan(2, 3));
+  }
+
+  @Test
+  public void invalidColumns_test() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> CompositeKeySearch.of(new int[1]));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> CompositeKeySearch.of(new int[1], new long[2]));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> CompositeKeySearch.of(new int[1], new double[1]));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> search.firstIndexOf(1, 2, 3, 4));
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+class CopyOnWriteSortedArrayTest {
+
+  @Test
+  public void batchUpdates_test() {
+    final CopyOnWriteSortedArray<String> array = new CopyOnWriteSortedArray<>(
+        String.CASE_INSENSITIVE_ORDER);
+    array.addAll(Arrays.asList("b", "D", "a"));
+    array.addAll(Arrays.asList("B", "c"));
+    Assertions.assertEquals(Arrays.asList("a", "b", "B", "c", "D"), array.snapshot().asList());
+    Assertions.assertEquals(1, array.firstIndexOf("B"));
+    Assertions.assertEquals(2, array.lastIndexOf("b"));
+    Assertions.assertEquals(3, array.indexOfGreaterThan("b"));
+    Assertions.assertEquals(0, array.indexOfLessThan("b"));
+    Assertions.assertEquals(-5, array.firstIndexOf("cc"));
+
+    final CopyOnWriteSortedArray.Snapshot<String> before = array.snapshot();
+    Assertions.assertEquals(3, array.removeAll(Arrays.asList("B", "d", "z")));
+    Assertions.assertEquals(Arrays.asList("a", "c"), array.snapshot().asList());
+    Assertions.assertEquals(5, before.size());
+    Assertions.assertTrue(array.remove("A"));
+    array.add("e");
+    Assertions.assertEquals(Arrays.asList("c", "e"), array.snapshot().asList());
+  }
+
+  @Test
+  public void randomBatches_test() {
+    final Random random = new Random(37);
+    final CopyOnWriteSortedArray<Integer> array = new CopyOnWriteSortedArray<>(
+        Comparator.naturalOrder());
+    final List<Integer> expected = new ArrayList<>();
+    for (int step = 0; step < 200; step++) {
+      final List<Integer> batch = new ArrayList<>();
+      for (int i = random.nextInt(20); i > 0; i--) {
+        batch.add(random.nextInt(500));
+      }
+      if (random.nextInt(3) == 0) {
+        final int removed = array.removeAll(batch);
+        final int size = expected.size();
+        expected.removeIf(batch::contains);
+        Assertions.assertEquals(size - expected.size(), removed);
+      } else {
+        array.addAll(batch);
+        expected.addAll(batch);
+        Collections.sort(expected);
+      }
+      Assertions.assertEquals(expected, array.snapshot().asList());
+      final Integer[] values = expected.toArray(new Integer[0]);
+      final Integer key = random.nextInt(500);
+      Assertions.assertEquals(BinarySearch.firstIndexOf(key, values), array.firstIndexOf(key));
+      Assertions.assertEquals(BinarySearch.lastIndexOf(key, values), array.lastIndexOf(key));
+      Assertions.assertEquals(BinarySearch.indexOfGreaterThan(key, values),
+          array.indexOfGreaterThan(key));
+      Assertions.assertEquals(BinarySearch.indexOfLessThan(key, values),
+          array.indexOfLessThan(key));
+    }
+  }
+}
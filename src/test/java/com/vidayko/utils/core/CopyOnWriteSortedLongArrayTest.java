@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import static com.vidayko.utils.core.JsonLoader.loadTestcases;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Data;
+import org.junit.jupiter.api.*;
+
+class CopyOnWriteSortedLongArrayTest {
+
+  @Test
+  public void firstIndexOf_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchFirstIndexOfTest")) {
+      Assertions.assertEquals(
+          testCase.expected,
+          CopyOnWriteSortedLongArray.of(testCase.array).firstIndexOf(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void lastIndexOf_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchLastIndexOfTest")) {
+      Assertions.assertEquals(
+          testCase.expected,
+          CopyOnWriteSortedLongArray.of(testCase.array).lastIndexOf(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void indexOfGreaterThan_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchIndexOfGreaterThanTest")) {
+      Assertions.assertEquals(
+          testCase.expected,
+          CopyOnWriteSortedLongArray.of(testCase.array).indexOfGreaterThan(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void indexOfLessThan_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchIndexOfLessThanTest")) {
+      Assertions.assertEquals(
+          testCase.expected,
+          CopyOnWriteSortedLongArray.of(testCase.array).indexOfLessThan(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void batchUpdates_test() {
+    final CopyOnWriteSortedLongArray array = CopyOnWriteSortedLongArray.of(5, 1, 3);
+    final CopyOnWriteSortedLongArray.Snapshot before = array.snapshot();
+    array.addAll(4, 2, 3, 6);
+    Assertions.assertArrayEquals(new long[]{1, 2, 3, 3, 4, 5, 6}, array.snapshot().toArray());
+    Assertions.assertEquals(IndexRange.of(2, 4), array.snapshot().rangeOf(3));
+    Assertions.assertEquals(3, array.removeAll(3, 6, 7));
+    Assertions.assertArrayEquals(new long[]{1, 2, 4, 5}, array.snapshot().toArray());
+    Assertions.assertFalse(array.remove(3));
+    Assertions.assertTrue(array.contains(4));
+    // earlier snapshots are not affected by updates
+    Assertions.assertArrayEquals(new long[]{1, 3, 5}, before.toArray());
+    array.clear();
+    Assertions.assertEquals(0, array.size());
+  }
+
+  @Test
+  public void concurrentReaders_test() throws Exception {
+    final CopyOnWriteSortedLongArray array = new CopyOnWriteSortedLongArray();
+    final AtomicBoolean done = new AtomicBoolean();
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> readers = new ArrayList<>();
+      for (int r = 0; r < 3; r++) {
+        readers.add(executor.submit(() -> {
+          final Random random = new Random();
+          while (!done.get()) {
+            // batches of consecutive values are added at once: a snapshot contains either all
+            // values of a batch or none of them
+            final CopyOnWriteSortedLongArray.Snapshot snapshot = array.snapshot();
+            final long key = random.nextInt(10_000);
+            final boolean present = snapshot.firstIndexOf(key) >= 0;
+            final long batchStart = key - key % 100;
+            for (long k = batchStart; k < batchStart + 100; k++) {
+              Assertions.assertEquals(present, snapshot.firstIndexOf(k) >= 0);
+            }
+          }
+        }));
+      }
+      executor.submit(() -> {
+        for (int batch = 0; batch < 100; batch++) {
+          final long[] values = new long[100];
+          for (int i = 0; i < 100; i++) {
+            values[i] = batch * 100L + i;
+          }
+          array.addAll(values);
+        }
+      }).get();
+      done.set(true);
+      for (Future<?> reader : readers) {
+        reader.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    Assertions.assertEquals(10_000, array.size());
+    for (int i = 0; i < 10_000; i++) {
+      Assertions.assertEquals(i, array.snapshot().get(i));
+    }
+  }
+
+  private List<LongTestCase> load(String testName) throws IOException {
+    return loadTestcases(
+        this.getClass().getClassLoader(),
+        new TypeReference<List<LongTestCase>>() {
+        },
+        "testcases/com/vidayko/utils/core/" + testName + "/NumberTestCases.json"
+    );
+  }
+
+  @Data
+  static class LongTestCase {
+
+    String scenario;
+    long key;
+    long[] array;
+    int expected;
+  }
+}
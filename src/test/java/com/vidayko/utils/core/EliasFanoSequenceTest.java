@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import static com.vidayko.utils.core.JsonLoader.loadTestcases;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.util.*;
+import lombok.Data;
+import org.junit.jupiter.api.*;
+
+class EliasFanoSequenceTest {
+
+  @Test
+  public void firstIndexOf_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchFirstIndexOfTest")) {
+      Arrays.sort(testCase.array);
+      Assertions.assertEquals(
+          testCase.expected,
+          EliasFanoSequence.of(testCase.array).firstIndexOf(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void lastIndexOf_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchLastIndexOfTest")) {
+      Arrays.sort(testCase.array);
+      Assertions.assertEquals(
+          testCase.expected,
+          EliasFanoSequence.of(testCase.array).lastIndexOf(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void indexOfGreaterThan_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchIndexOfGreaterThanTest")) {
+      Arrays.sort(testCase.array);
+      Assertions.assertEquals(
+          testCase.expected,
+          EliasFanoSequence.of(testCase.array).indexOfGreaterThan(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void indexOfLessThan_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchIndexOfLessThanTest")) {
+      Arrays.sort(testCase.array);
+      Assertions.assertEquals(
+          testCase.expected,
+          EliasFanoSequence.of(testCase.array).indexOfLessThan(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void randomSequences_test() {
+    final Random random = new Random(26);
+    final long[] spans = {1, 16, 1000, 1L << 40, Long.MAX_VALUE};
+    for (long span : spans) {
+      for (int size : new int[]{0, 1, 2, 7, 255, 256, 257, 3000}) {
+        final long[] array = new long[size];
+        for (int i = 0; i < size; i++) {
+          array[i] = -span / 2 + (long) (random.nextDouble() * span);
+        }
+        Arrays.sort(array);
+        final EliasFanoSequence sequence = EliasFanoSequence.of(array);
+
+        Assertions.assertEquals(size, sequence.size());
+        Assertions.assertArrayEquals(array, sequence.toArray());
+        for (int i = 0; i < size; i++) {
+          Assertions.assertEquals(array[i], sequence.get(i));
+        }
+        for (int i = 0; i < 500; i++) {
+          final long key = size > 0 && random.nextBoolean() ? array[random.nextInt(size)]
+              + random.nextInt(3) - 1 : -span / 2 + (long) (random.nextDouble() * span);
+          Assertions.assertEquals(BinarySearch.firstIndexOf(key, array),
+              sequence.firstIndexOf(key));
+          Assertions.assertEquals(BinarySearch.lastIndexOf(key, array),
+              sequence.lastIndexOf(key));
+          Assertions.assertEquals(BinarySearch.indexOfGreaterThan(key, array),
+              sequence.indexOfGreaterThan(key));
+          Assertions.assertEquals(BinarySearch.indexOfLessThan(key, array),
+              sequence.indexOfLessThan(key));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void extremeValues_test() {
+    final long[] array = {Long.MIN_VALUE, Long.MIN_VALUE, -1, 0, 0, 0, 1, Long.MAX_VALUE};
+    final EliasFanoSequence sequence = EliasFanoSequence.of(array);
+
+    Assertions.assertArrayEquals(array, sequence.toArray());
+    Assertions.assertEquals(IndexRange.of(3, 6), sequence.equalRange(0));
+    Assertions.assertEquals(IndexRange.of(0, 2), sequence.equalRange(Long.MIN_VALUE));
+    Assertions.assertEquals(IndexRange.of(7, 8), sequence.equalRange(Long.MAX_VALUE));
+    Assertions.assertEquals(IndexRange.of(7, 7), sequence.equalRange(2));
+    Assertions.assertEquals(-9, sequence.indexOfGreaterThan(Long.MAX_VALUE));
+    Assertions.assertEquals(-1, sequence.indexOfLessThan(Long.MIN_VALUE));
+  }
+
+  @Test
+  public void unsortedArray_test() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> EliasFanoSequence.of(new long[]{1, 3, 2}));
+  }
+
+  private List<LongTestCase> load(String testName) throws IOException {
+    return loadTestcases(
+        this.getClass().getClassLoader(),
+        new TypeReference<List<LongTestCase>>() {
+        },
+        "testcases/com/vidayko/utils/core/" + testName + "/NumberTestCases.json"
+    );
+  }
+
+  @Data
+  static class LongTestCase {
+
+    String scenario;
+    long key;
+    long[] array;
+    int expected;
+  }
+}
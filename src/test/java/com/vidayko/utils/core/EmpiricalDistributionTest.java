@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import com.vidayko.utils.core.EmpiricalDistribution.QuantileMethod;
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+class EmpiricalDistributionTest {
+
+  @Test
+  public void quantile_test() {
+    final EmpiricalDistribution distribution = new EmpiricalDistribution(new double[]{1, 2, 3, 4});
+    Assertions.assertEquals(2.0, distribution.quantile(0.4, QuantileMethod.INVERTED_CDF));
+    Assertions.assertEquals(2.0, distribution.quantile(0.4, QuantileMethod.LOWER));
+    Assertions.assertEquals(3.0, distribution.quantile(0.4, QuantileMethod.HIGHER));
+    Assertions.assertEquals(2.0, distribution.quantile(0.4, QuantileMethod.NEAREST));
+    Assertions.assertEquals(2.5, distribution.quantile(0.4, QuantileMethod.MIDPOINT));
+    Assertions.assertEquals(2.2, distribution.quantile(0.4, QuantileMethod.LINEAR), 1e-12);
+    Assertions.assertEquals(2.1, distribution.quantile(0.4, QuantileMethod.HAZEN), 1e-12);
+    Assertions.assertEquals(2.0, distribution.quantile(0.4, QuantileMethod.WEIBULL), 1e-12);
+    Assertions.assertEquals(2.0 + 1.0 / 15, distribution.quantile(0.4,
+        QuantileMethod.MEDIAN_UNBIASED), 1e-12);
+    Assertions.assertEquals(2.075, distribution.quantile(0.4, QuantileMethod.NORMAL_UNBIASED),
+        1e-12);
+    for (QuantileMethod method : QuantileMethod.values()) {
+      Assertions.assertEquals(1.0, distribution.quantile(0, method));
+      Assertions.assertEquals(4.0, distribution.quantile(1, method));
+    }
+    Assertions.assertEquals(2.5, distribution.quantile(0.5, QuantileMethod.LINEAR));
+
+    final EmpiricalDistribution infinite = new EmpiricalDistribution(
+        new double[]{Double.NEGATIVE_INFINITY, 0, Double.POSITIVE_INFINITY});
+    Assertions.assertEquals(Double.NEGATIVE_INFINITY, infinite.quantile(0.25,
+        QuantileMethod.LINEAR));
+    Assertions.assertEquals(Double.POSITIVE_INFINITY, infinite.quantile(0.75,
+        QuantileMethod.LINEAR));
+
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> distribution.quantile(1.5, QuantileMethod.LINEAR));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> distribution.quantile(Double.NaN, QuantileMethod.LINEAR));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new EmpiricalDistribution(new double[0]));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new EmpiricalDistribution(new double[]{1, Double.NaN}));
+  }
+
+  @Test
+  public void cdf_test() {
+    final EmpiricalDistribution distribution = EmpiricalDistribution.ofUnsorted(
+        new double[]{3, 1, 2, 2, -0.0});
+    Assertions.assertEquals(5, distribution.size());
+    Assertions.assertEquals(0, distribution.rank(-1));
+    Assertions.assertEquals(0, distribution.rankBelow(-0.0));
+    Assertions.assertEquals(1, distribution.rank(-0.0));
+    Assertions.assertEquals(1, distribution.rank(0.0));
+    Assertions.assertEquals(2, distribution.rankBelow(2));
+    Assertions.assertEquals(4, distribution.rank(2));
+    Assertions.assertEquals(0.8, distribution.cdf(2.5));
+    Assertions.assertEquals(1.0, distribution.cdf(Double.POSITIVE_INFINITY));
+
+    final double[] xs = {2, 0.5, 2, 3, -1};
+    final double[] cdf = new double[xs.length];
+    distribution.cdf(xs, cdf, false);
+    Assertions.assertArrayEquals(new double[]{0.8, 0.2, 0.8, 1.0, 0.0}, cdf);
+    distribution.cdf(xs, xs, false);
+    Assertions.assertArrayEquals(cdf, xs);
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> distribution.cdf(xs, new double[2], false));
+  }
+
+  @Test
+  public void batch_test() {
+    final Random random = new Random(46);
+    final double[] sample = new double[300_000];
+    for (int i = 0; i < sample.length; i++) {
+      sample[i] = random.nextInt(100_000) / 8.0;
+    }
+    final EmpiricalDistribution distribution = EmpiricalDistribution.ofUnsorted(sample);
+    Arrays.sort(sample);
+    final double[] xs = new double[200_000];
+    for (int i = 0; i < xs.length; i++) {
+      xs[i] = random.nextInt(110_000) / 8.0 - 100;
+    }
+    final double[] sortedXs = xs.clone();
+    Arrays.sort(sortedXs);
+    final int[] ranks = new int[xs.length];
+    for (double[] queries : new double[][]{xs, sortedXs}) {
+      for (boolean inclusive : new boolean[]{false, true}) {
+        for (boolean parallel : new boolean[]{false, true}) {
+          distribution.ranks(queries, ranks, inclusive, parallel);
+          for (int i = 0; i < queries.length; i++) {
+            final int index = inclusive ? BinarySearch.indexOfGreaterThan(queries[i], sample)
+                : BinarySearch.indexOfLessThan(queries[i], sample);
+            Assertions.assertEquals(inclusive ? (index >= 0 ? index : -index - 1)
+                : (index >= 0 ? index + 1 : 0), ranks[i]);
+            Assertions.assertEquals(inclusive ? distribution.rank(queries[i])
+                : distribution.rankBelow(queries[i]), ranks[i]);
+          }
+        }
+      }
+    }
+    final double[] cdf = new double[xs.length];
+    distribution.cdf(xs, cdf, true);
+    for (int i = 0; i < xs.length; i++) {
+      Assertions.assertEquals(distribution.cdf(xs[i]), cdf[i]);
+    }
+
+    final double[] ps = new double[1000];
+    for (int i = 0; i < ps.length; i++) {
+      ps[i] = random.nextDouble();
+    }
+    final double[] quantiles = new double[ps.length];
+    for (QuantileMethod method : QuantileMethod.values()) {
+      distribution.quantiles(ps, method, quantiles, true);
+      for (int i = 0; i < ps.length; i++) {
+        Assertions.assertEquals(distribution.quantile(ps[i], method), quantiles[i]);
+        Assertions.assertTrue(quantiles[i] >= sample[0]
+            && quantiles[i] <= sample[sample.length - 1]);
+      }
+    }
+  }
+}
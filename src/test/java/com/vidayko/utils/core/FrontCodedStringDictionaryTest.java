@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import static com.vidayko.utils.core.JsonLoader.loadTestcases;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.util.*;
+import lombok.Data;
+import org.junit.jupiter.api.*;
+
+class FrontCodedStringDictionaryTest {
+
+  @Test
+  public void firstIndexOf_test() throws IOException {
+    for (StringTestCase testCase : load("BinarySearchFirstIndexOfTest")) {
+      Arrays.sort(testCase.array);
+      Assertions.assertEquals(
+          testCase.expected,
+          FrontCodedStringDictionary.of(testCase.array).firstIndexOf(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void lastIndexOf_test() throws IOException {
+    for (StringTestCase testCase : load("BinarySearchLastIndexOfTest")) {
+      Arrays.sort(testCase.array);
+      Assertions.assertEquals(
+          testCase.expected,
+          FrontCodedStringDictionary.of(testCase.array).lastIndexOf(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void indexOfGreaterThan_test() throws IOException {
+    for (StringTestCase testCase : load("BinarySearchIndexOfGreaterThanTest")) {
+      Arrays.sort(testCase.array);
+      Assertions.assertEquals(
+          testCase.expected,
+          FrontCodedStringDictionary.of(testCase.array).indexOfGreaterThan(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void indexOfLessThan_test() throws IOException {
+    for (StringTestCase testCase : load("BinarySearchIndexOfLessThanTest")) {
+      Arrays.sort(testCase.array);
+      Assertions.assertEquals(
+          testCase.expected,
+          FrontCodedStringDictionary.of(testCase.array).indexOfLessThan(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void randomDictionaries_test() {
+    final Random random = new Random(28);
+    for (int size : new int[]{0, 1, 15, 16, 17, 1000}) {
+      final String[] array = new String[size];
+      for (int i = 0; i < size; i++) {
+        array[i] = randomString(random);
+      }
+      Arrays.sort(array);
+      final FrontCodedStringDictionary dictionary = FrontCodedStringDictionary.of(array);
+
+      Assertions.assertEquals(size, dictionary.size());
+      for (int i = 0; i < size; i++) {
+        Assertions.assertEquals(array[i], dictionary.get(i));
+      }
+      for (int i = 0; i < 2000; i++) {
+        final String key = size > 0 && random.nextBoolean() ? array[random.nextInt(size)]
+            : randomString(random);
+        final StringBuilder builder = new StringBuilder(key);
+        Assertions.assertEquals(BinarySearch.firstIndexOf(key, array),
+            dictionary.firstIndexOf(builder));
+        Assertions.assertEquals(BinarySearch.lastIndexOf(key, array),
+            dictionary.lastIndexOf(builder));
+        Assertions.assertEquals(BinarySearch.indexOfGreaterThan(key, array),
+            dictionary.indexOfGreaterThan(builder));
+        Assertions.assertEquals(BinarySearch.indexOfLessThan(key, array),
+            dictionary.indexOfLessThan(builder));
+      }
+    }
+  }
+
+  @Test
+  public void longStrings_test() {
+    final char[] chars = new char[40000];
+    Arrays.fill(chars, 'a');
+    final String longString = new String(chars);
+    final String[] array = {"", "a", longString, longString + "b", longString + "b", "b"};
+    final FrontCodedStringDictionary dictionary = FrontCodedStringDictionary.of(array);
+
+    for (int i = 0; i < array.length; i++) {
+      Assertions.assertEquals(array[i], dictionary.get(i));
+    }
+    Assertions.assertEquals(0, dictionary.firstIndexOf(""));
+    Assertions.assertEquals(2, dictionary.firstIndexOf(longString));
+    Assertions.assertEquals(4, dictionary.lastIndexOf(longString + "b"));
+    Assertions.assertEquals(-4, dictionary.firstIndexOf(longString + "a"));
+    Assertions.assertEquals(5, dictionary.indexOfGreaterThan(longString + "c"));
+  }
+
+  @Test
+  public void unsortedArray_test() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> FrontCodedStringDictionary.of(new String[]{"a", "c", "b"}));
+  }
+
+  private static String randomString(Random random) {
+    final StringBuilder builder = new StringBuilder("http://");
+    final int length = random.nextInt(12);
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('a' + random.nextInt(3)));
+    }
+    return random.nextInt(10) == 0 ? builder.substring(0, random.nextInt(builder.length()))
+        : builder.toString();
+  }
+
+  private List<StringTestCase> load(String testName) throws IOException {
+    return loadTestcases(
+        this.getClass().getClassLoader(),
+        new TypeReference<List<StringTestCase>>() {
+        },
+        "testcases/com/vidayko/utils/core/" + testName + "/StringTestCases.json"
+    );
+  }
+
+  @Data
+  static class StringTestCase {
+
+    String scenario;
+    String key;
+    String[] array;
+    int expected;
+  }
+}
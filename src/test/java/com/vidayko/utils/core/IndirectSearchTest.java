@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import static com.vidayko.utils.core.JsonLoader.loadTestcases;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.util.*;
+import lombok.Data;
+import org.junit.jupiter.api.*;
+
+class IndirectSearchTest {
+
+  @Test
+  public void firstIndexOf_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchFirstIndexOfTest")) {
+      Assertions.assertEquals(testCase.expected, IndirectSearch.firstIndexOf(testCase.key,
+          testCase.array, IndirectSearch.argsort(testCase.array)));
+    }
+  }
+
+  @Test
+  public void lastIndexOf_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchLastIndexOfTest")) {
+      Assertions.assertEquals(testCase.expected, IndirectSearch.lastIndexOf(testCase.key,
+          testCase.array, IndirectSearch.argsort(testCase.array)));
+    }
+  }
+
+  @Test
+  public void indexOfGreaterThan_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchIndexOfGreaterThanTest")) {
+      Assertions.assertEquals(testCase.expected, IndirectSearch.indexOfGreaterThan(testCase.key,
+          testCase.array, IndirectSearch.argsort(testCase.array)));
+    }
+  }
+
+  @Test
+  public void indexOfLessThan_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchIndexOfLessThanTest")) {
+      Assertions.assertEquals(testCase.expected, IndirectSearch.indexOfLessThan(testCase.key,
+          testCase.array, IndirectSearch.argsort(testCase.array)));
+    }
+  }
+
+  @Test
+  public void argsort_test() {
+    final Random random = new Random(42);
+    for (int size : new int[]{0, 1, 1000, 200_000}) {
+      final int[] ints = random.ints(size, -50, 50).toArray();
+      final long[] longs = random.longs(size).toArray();
+      final double[] doubles = new double[size];
+      final float[] floats = new float[size];
+      final short[] shorts = new short[size];
+      final char[] chars = new char[size];
+      final byte[] bytes = new byte[size];
+      random.nextBytes(bytes);
+      for (int i = 0; i < size; i++) {
+        doubles[i] = random.nextInt(10) == 0 ? -0.0 : random.nextInt(100) - 50.5;
+        floats[i] = random.nextInt(10) == 0 ? Float.NaN : random.nextInt(100) - 50;
+        shorts[i] = (short) random.nextInt();
+        chars[i] = (char) random.nextInt(100);
+      }
+      assertStableSort(size, IndirectSearch.argsort(ints),
+          (a, b) -> Integer.compare(ints[a], ints[b]));
+      assertStableSort(size, IndirectSearch.argsort(longs),
+          (a, b) -> Long.compare(longs[a], longs[b]));
+      assertStableSort(size, IndirectSearch.argsort(doubles),
+          (a, b) -> Double.compare(doubles[a], doubles[b]));
+      assertStableSort(size, IndirectSearch.argsort(floats),
+          (a, b) -> Float.compare(floats[a], floats[b]));
+      assertStableSort(size, IndirectSearch.argsort(shorts),
+          (a, b) -> Short.compare(shorts[a], shorts[b]));
+      assertStableSort(size, IndirectSearch.argsort(chars),
+          (a, b) -> Character.compare(chars[a], chars[b]));
+      assertStableSort(size, IndirectSearch.argsort(bytes),
+          (a, b) -> Byte.compare(bytes[a], bytes[b]));
+      final Integer[] boxed = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+      final Comparator<Integer> byTens = Comparator.comparingInt(v -> v / 10);
+      assertStableSort(size, IndirectSearch.argsort(boxed, byTens),
+          (a, b) -> byTens.compare(boxed[a], boxed[b]));
+    }
+  }
+
+  @Test
+  public void searches_test() {
+    final Random random = new Random(42);
+    final int size = 2000;
+    final double[] doubles = new double[size];
+    final char[] chars = new char[size];
+    final String[] strings = new String[size];
+    for (int i = 0; i < size; i++) {
+      doubles[i] = random.nextInt(10) == 0 ? Double.NaN : random.nextInt(200) / 2.0 - 50;
+      chars[i] = (char) ('a' + random.nextInt(26));
+      strings[i] = Integer.toString(random.nextInt(500));
+    }
+    final int[] byDouble = IndirectSearch.argsort(doubles);
+    final double[] sortedDoubles = doubles.clone();
+    Arrays.sort(sortedDoubles);
+    final int[] byChar = IndirectSearch.argsort(chars);
+    final char[] sortedChars = chars.clone();
+    Arrays.sort(sortedChars);
+    final Comparator<String> order = Comparator.naturalOrder();
+    final int[] byString = IndirectSearch.argsort(strings, order);
+    final String[] sortedStrings = strings.clone();
+    Arrays.sort(sortedStrings);
+    for (int i = 0; i < 600; i++) {
+      final double d = i % 50 == 0 ? Double.NaN : i / 2.0 - 120;
+      Assertions.assertEquals(BinarySearch.firstIndexOf(d, sortedDoubles),
+          IndirectSearch.firstIndexOf(d, doubles, byDouble));
+      Assertions.assertEquals(BinarySearch.lastIndexOf(d, sortedDoubles),
+          IndirectSearch.lastIndexOf(d, doubles, byDouble));
+      Assertions.assertEquals(BinarySearch.indexOfGreaterThan(d, sortedDoubles),
+          IndirectSearch.indexOfGreaterThan(d, doubles, byDouble));
+      Assertions.assertEquals(BinarySearch.indexOfLessThan(d, sortedDoubles),
+          IndirectSearch.indexOfLessThan(d, doubles, byDouble));
+
+      final char c = (char) ('a' - 1 + i % 28);
+      Assertions.assertEquals(BinarySearch.firstIndexOf(c, sortedChars),
+          IndirectSearch.firstIndexOf(c, chars, byChar));
+      Assertions.assertEquals(BinarySearch.indexOfGreaterThan(c, sortedChars),
+          IndirectSearch.indexOfGreaterThan(c, chars, byChar));
+
+      final String s = Integer.toString(i);
+      Assertions.assertEquals(BinarySearch.firstIndexOf(s, sortedStrings, order),
+          IndirectSearch.firstIndexOf(s, strings, byString, order));
+      Assertions.assertEquals(BinarySearch.lastIndexOf(s, sortedStrings, order),
+          IndirectSearch.lastIndexOf(s, strings, byString, order));
+      Assertions.assertEquals(BinarySearch.indexOfLessThan(s, sortedStrings, order),
+          IndirectSearch.indexOfLessThan(s, strings, byString, order));
+    }
+  }
+
+  private static void assertStableSort(int size, int[] permutation, Comparator<Integer> order) {
+    Assertions.assertEquals(size, permutation.length);
+    final boolean[] seen = new boolean[size];
+    for (int p = 0; p < size; p++) {
+      Assertions.assertFalse(seen[permutation[p]]);
+      seen[permutation[p]] = true;
+      if (p > 0) {
+        final int cmp = order.compare(permutation[p - 1], permutation[p]);
+        Assertions.assertTrue(cmp < 0 || (cmp == 0 && permutation[p - 1] < permutation[p]));
+      }
+    }
+  }
+
+  private List<LongTestCase> load(String testName) throws IOException {
+    return loadTestcases(
+        this.getClass().getClassLoader(),
+        new TypeReference<List<LongTestCase>>() {
+        },
+        "testcases/com/vidayko/utils/core/" + testName + "/NumberTestCases.json"
+    );
+  }
+
+  @Data
+  static class LongTestCase {
+
+    String scenario;
+    long key;
+    long[] array;
+    int expected;
+  }
+}
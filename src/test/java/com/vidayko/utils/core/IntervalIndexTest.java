@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+class IntervalIndexTest {
+
+  @Test
+  public void forEachContaining_test() {
+    final IntervalIndex index = IntervalIndex.of(
+        new long[]{1, 2, 4, 10, 12},
+        new long[]{5, 3, 20, 11, 12});
+    Assertions.assertFalse(index.isDisjoint());
+    Assertions.assertEquals(Arrays.asList(0, 1), containing(index, 3));
+    Assertions.assertEquals(Arrays.asList(0, 2), containing(index, 5));
+    Assertions.assertEquals(Arrays.asList(2, 3), containing(index, 10));
+    Assertions.assertEquals(Arrays.asList(2, 4), containing(index, 12));
+    Assertions.assertEquals(Collections.emptyList(), containing(index, 0));
+    Assertions.assertEquals(Collections.emptyList(), containing(index, 21));
+    Assertions.assertEquals(2, index.countContaining(3));
+  }
+
+  @Test
+  public void forEachOverlapping_test() {
+    final IntervalIndex index = IntervalIndex.of(
+        new long[]{1, 2, 4, 10, 12},
+        new long[]{5, 3, 20, 11, 12});
+    Assertions.assertEquals(Arrays.asList(0, 1, 2, 3, 4), overlapping(index, 0, 100));
+    Assertions.assertEquals(Arrays.asList(0, 1), overlapping(index, -5, 3));
+    Assertions.assertEquals(Arrays.asList(2, 3, 4), overlapping(index, 6, 12));
+    Assertions.assertEquals(Collections.emptyList(), overlapping(index, 21, 30));
+    Assertions.assertEquals(3, index.countOverlapping(6, 12));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> index.countOverlapping(2, 1));
+  }
+
+  @Test
+  public void disjointIntervals_test() {
+    final IntervalIndex index = IntervalIndex.of(
+        new long[]{0, 10, 20, 21},
+        new long[]{9, 15, 20, 30});
+    Assertions.assertTrue(index.isDisjoint());
+    Assertions.assertEquals(Collections.singletonList(0), containing(index, 0));
+    Assertions.assertEquals(Collections.singletonList(1), containing(index, 15));
+    Assertions.assertEquals(Collections.emptyList(), containing(index, 16));
+    Assertions.assertEquals(Collections.singletonList(2), containing(index, 20));
+    Assertions.assertEquals(Collections.singletonList(3), containing(index, 30));
+    Assertions.assertEquals(Collections.emptyList(), containing(index, -1));
+    Assertions.assertEquals(Collections.emptyList(), containing(index, 31));
+    Assertions.assertEquals(Arrays.asList(1, 2), overlapping(index, 12, 20));
+    Assertions.assertEquals(Arrays.asList(2, 3), overlapping(index, 16, 40));
+    Assertions.assertEquals(Collections.emptyList(), overlapping(index, 16, 19));
+
+    Assertions.assertFalse(IntervalIndex.of(new long[]{1, 5}, new long[]{5, 9}).isDisjoint());
+  }
+
+  @Test
+  public void randomIntervals_test() {
+    final Random random = new Random(33);
+    for (int size : new int[]{0, 1, 2, 7, 15, 16, 17, 100, 1000, 5000}) {
+      for (boolean disjoint : new boolean[]{false, true}) {
+        final long[] starts = new long[size];
+        final long[] ends = new long[size];
+        long position = -1000;
+        for (int i = 0; i < size; i++) {
+          if (disjoint) {
+            starts[i] = position + 1 + random.nextInt(5);
+            ends[i] = starts[i] + random.nextInt(5);
+            position = ends[i];
+          } else {
+            starts[i] = position += random.nextInt(3);
+            ends[i] = starts[i] + (random.nextInt(20) == 0 ? random.nextInt(size * 2 + 1)
+                : random.nextInt(10));
+          }
+        }
+        final IntervalIndex index = IntervalIndex.of(starts, ends);
+        if (disjoint) {
+          Assertions.assertTrue(index.isDisjoint());
+        }
+
+        for (int q = 0; q < 300; q++) {
+          final long from = -1010 + random.nextInt(size * 4 + 30);
+          final long to = from + (random.nextBoolean() ? 0 : random.nextInt(20));
+          final List<Integer> expected = new ArrayList<>();
+          for (int i = 0; i < size; i++) {
+            if (starts[i] <= to && ends[i] >= from) {
+              expected.add(i);
+            }
+          }
+          Assertions.assertEquals(expected, overlapping(index, from, to));
+          Assertions.assertEquals(expected.size(), index.countOverlapping(from, to));
+          if (from == to) {
+            Assertions.assertEquals(expected, containing(index, from));
+            Assertions.assertEquals(expected.size(), index.countContaining(from));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void invalidIntervals_test() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> IntervalIndex.of(new long[]{1, 2}, new long[]{3}));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> IntervalIndex.of(new long[]{2, 1}, new long[]{3, 3}));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> IntervalIndex.of(new long[]{1, 4}, new long[]{3, 3}));
+  }
+
+  private static List<Integer> containing(IntervalIndex index, long point) {
+    final List<Integer> result = new ArrayList<>();
+    Assertions.assertEquals(index.forEachContaining(point, result::add), result.size());
+    return result;
+  }
+
+  private static List<Integer> overlapping(IntervalIndex index, long from, long to) {
+    final List<Integer> result = new ArrayList<>();
+    Assertions.assertEquals(index.forEachOverlapping(from, to, result::add), result.size());
+    return result;
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import static com.vidayko.utils.core.JsonLoader.loadTestcases;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.util.*;
+import lombok.Data;
+import org.junit.jupiter.api.*;
+
+class KeyColumnTest {
+
+  @Test
+  public void firstIndexOf_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchFirstIndexOfTest")) {
+      Assertions.assertEquals(testCase.expected,
+          column(testCase).firstIndexOf(testCase.key));
+    }
+  }
+
+  @Test
+  public void lastIndexOf_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchLastIndexOfTest")) {
+      Assertions.assertEquals(testCase.expected,
+          column(testCase).lastIndexOf(testCase.key));
+    }
+  }
+
+  @Test
+  public void indexOfGreaterThan_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchIndexOfGreaterThanTest")) {
+      Assertions.assertEquals(testCase.expected,
+          column(testCase).indexOfGreaterThan(testCase.key));
+    }
+  }
+
+  @Test
+  public void indexOfLessThan_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchIndexOfLessThanTest")) {
+      Assertions.assertEquals(testCase.expected,
+          column(testCase).indexOfLessThan(testCase.key));
+    }
+  }
+
+  @Test
+  public void mappedSearches_test() {
+    final Random random = new Random(40);
+    final Item[] items = new Item[500];
+    for (int i = 0; i < items.length; i++) {
+      items[i] = new Item(random.nextInt(200), "name" + random.nextInt(200),
+          random.nextInt(100) / 4.0);
+    }
+    final Comparator<String> order = Comparator.naturalOrder();
+
+    Arrays.sort(items, Comparator.comparingInt(Item::getId));
+    final KeyColumn.OfInt<Item> ids = KeyColumn.ofInt(items, Item::getId);
+    for (int key = -1; key <= 200; key++) {
+      Assertions.assertEquals(BinarySearch.firstIndexOf(key, items, Item::getId),
+          ids.firstIndexOf(key));
+      Assertions.assertEquals(BinarySearch.lastIndexOf(key, items, Item::getId),
+          ids.lastIndexOf(key));
+      Assertions.assertEquals(BinarySearch.indexOfGreaterThan(key, items, Item::getId),
+          ids.indexOfGreaterThan(key));
+      Assertions.assertEquals(BinarySearch.indexOfLessThan(key, items, Item::getId),
+          ids.indexOfLessThan(key));
+    }
+
+    Arrays.sort(items, Comparator.comparingDouble(Item::getScore));
+    final KeyColumn.OfDouble<Item> scores = KeyColumn.ofDouble(items, Item::getScore);
+    for (int i = -1; i <= 100; i++) {
+      final double key = i / 4.0;
+      Assertions.assertEquals(BinarySearch.firstIndexOf(key, items, Item::getScore),
+          scores.firstIndexOf(key));
+      Assertions.assertEquals(BinarySearch.indexOfGreaterThan(key, items, Item::getScore),
+          scores.indexOfGreaterThan(key));
+    }
+
+    final List<Item> list = new ArrayList<>(Arrays.asList(items));
+    list.sort(Comparator.comparing(Item::getName));
+    final KeyColumn.OfObject<Item, String> names = KeyColumn.of(list, Item::getName, order);
+    for (int i = 0; i < 200; i++) {
+      final String key = "name" + i;
+      Assertions.assertEquals(BinarySearch.firstIndexOf(key, list, order, Item::getName),
+          names.firstIndexOf(key));
+      Assertions.assertEquals(BinarySearch.lastIndexOf(key, list, order, Item::getName),
+          names.lastIndexOf(key));
+      final IndexRange range = names.rangeOf(key);
+      for (int index = range.from(); index < range.to(); index++) {
+        Assertions.assertEquals(key, names.get(index).getName());
+        Assertions.assertEquals(key, names.key(index));
+      }
+    }
+  }
+
+  @Test
+  public void refresh_test() {
+    final List<long[]> list = new ArrayList<>();
+    list.add(new long[]{1});
+    list.add(new long[]{3});
+    final KeyColumn.OfLong<long[]> column = KeyColumn.ofLong(list, entry -> entry[0]);
+    Assertions.assertEquals(1, column.firstIndexOf(3));
+    list.add(0, new long[]{0});
+    list.get(2)[0] = 5;
+    // the column is stale until refreshed
+    Assertions.assertEquals(2, column.size());
+    Assertions.assertEquals(1, column.firstIndexOf(3));
+    column.refresh();
+    Assertions.assertEquals(3, column.size());
+    Assertions.assertEquals(-3, column.firstIndexOf(3));
+    Assertions.assertEquals(2, column.firstIndexOf(5));
+    Assertions.assertEquals(IndexRange.of(1, 2), column.rangeOf(1));
+  }
+
+  private static KeyColumn.OfLong<Long> column(LongTestCase testCase) {
+    Arrays.sort(testCase.array);
+    final Long[] boxed = new Long[testCase.array.length];
+    for (int i = 0; i < boxed.length; i++) {
+      boxed[i] = testCase.array[i];
+    }
+    return KeyColumn.ofLong(boxed, Long::longValue);
+  }
+
+  private List<LongTestCase> load(String testName) throws IOException {
+    return loadTestcases(
+        this.getClass().getClassLoader(),
+        new TypeReference<List<LongTestCase>>() {
+        },
+        "testcases/com/vidayko/utils/core/" + testName + "/NumberTestCases.json"
+    );
+  }
+
+  @Data
+  static class LongTestCase {
+
+    String scenario;
+    long key;
+    long[] array;
+    int expected;
+  }
+
+  @Data
+  static class Item {
+
+    final int id;
+    final String name;
+    final double score;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import static com.vidayko.utils.core.JsonLoader.loadTestcases;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.util.*;
+import lombok.Data;
+import org.junit.jupiter.api.*;
+
+class MonotoneSearchTest {
+
+  @Test
+  public void firstIndexOf_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchFirstIndexOfTest")) {
+      Arrays.sort(testCase.array);
+      final long[] array = testCase.array;
+      Assertions.assertEquals(testCase.expected,
+          MonotoneSearch.firstIndexOf(testCase.key, 0, array.length, i -> array[i]));
+      Assertions.assertEquals(testCase.expected,
+          MonotoneSearch.firstIndexOfLong(testCase.key, 0L, array.length, i -> array[(int) i]));
+    }
+  }
+
+  @Test
+  public void lastIndexOf_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchLastIndexOfTest")) {
+      Arrays.sort(testCase.array);
+      final long[] array = testCase.array;
+      Assertions.assertEquals(testCase.expected,
+          MonotoneSearch.lastIndexOf(testCase.key, 0, array.length, i -> array[i]));
+      Assertions.assertEquals(testCase.expected,
+          MonotoneSearch.lastIndexOfLong(testCase.key, 0L, array.length, i -> array[(int) i]));
+    }
+  }
+
+  @Test
+  public void indexOfGreaterThan_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchIndexOfGreaterThanTest")) {
+      Arrays.sort(testCase.array);
+      final long[] array = testCase.array;
+      Assertions.assertEquals(testCase.expected,
+          MonotoneSearch.indexOfGreaterThan(testCase.key, 0, array.length, i -> array[i]));
+      Assertions.assertEquals(testCase.expected, MonotoneSearch.indexOfGreaterThanLong(
+          testCase.key, 0L, array.length, i -> array[(int) i]));
+    }
+  }
+
+  @Test
+  public void indexOfLessThan_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchIndexOfLessThanTest")) {
+      Arrays.sort(testCase.array);
+      final long[] array = testCase.array;
+      Assertions.assertEquals(testCase.expected,
+          MonotoneSearch.indexOfLessThan(testCase.key, 0, array.length, i -> array[i]));
+      Assertions.assertEquals(testCase.expected,
+          MonotoneSearch.indexOfLessThanLong(testCase.key, 0L, array.length, i -> array[(int) i]));
+    }
+  }
+
+  @Test
+  public void partitionPoint_test() {
+    for (int point = -20; point <= 20; point++) {
+      final int p = point;
+      Assertions.assertEquals(p, MonotoneSearch.partitionPoint(-20, 20, i -> i < p));
+      Assertions.assertEquals(p, MonotoneSearch.gallopPartitionPoint(-20, 20, i -> i < p));
+    }
+    Assertions.assertEquals(Integer.MAX_VALUE, MonotoneSearch.partitionPoint(Integer.MIN_VALUE,
+        Integer.MAX_VALUE, i -> true));
+    Assertions.assertEquals(Integer.MIN_VALUE, MonotoneSearch.gallopPartitionPoint(
+        Integer.MIN_VALUE, Integer.MAX_VALUE, i -> false));
+
+    // the first n whose cumulative sum 1 + 2 + ... + n exceeds 10^18, without materializing sums
+    final long threshold = 1_000_000_000_000_000_000L;
+    final long n = MonotoneSearch.partitionPointLong(0L, 2_000_000_000L,
+        i -> i * (i + 1) / 2 <= threshold);
+    Assertions.assertTrue(n * (n + 1) / 2 > threshold && (n - 1) * n / 2 <= threshold);
+
+    final Random random = new Random(43);
+    for (int i = 0; i < 1000; i++) {
+      final long from = random.nextLong() >> 1, to = from + (random.nextLong() >>> 2);
+      final long point = from + ((to - from) >>> (1 + random.nextInt(62)));
+      Assertions.assertEquals(point, MonotoneSearch.partitionPointLong(from, to, x -> x < point));
+      Assertions.assertEquals(point,
+          MonotoneSearch.gallopPartitionPointLong(from, to, x -> x < point));
+    }
+    Assertions.assertEquals(Long.MAX_VALUE,
+        MonotoneSearch.gallopPartitionPointLong(Long.MIN_VALUE, Long.MAX_VALUE, x -> true));
+  }
+
+  @Test
+  public void gallopProbes_test() {
+    final int[] probes = {0};
+    final long point = 1_000L;
+    Assertions.assertEquals(point, MonotoneSearch.gallopPartitionPointLong(0L, Long.MAX_VALUE,
+        x -> {
+          probes[0]++;
+          return x < point;
+        }));
+    // about 2 log2(1000) evaluations, regardless of the size of the domain
+    Assertions.assertTrue(probes[0] <= 2 * 11, Arrays.toString(probes));
+  }
+
+  @Test
+  public void virtualDomain_test() {
+    // values 0, 0, 0, 3, 3, 3, 6, ... over a domain of 3 * 10^15 indices
+    final long to = 3_000_000_000_000_000L;
+    Assertions.assertEquals(3_000_000L,
+        MonotoneSearch.firstIndexOfLong(3_000_000L, 0L, to, i -> i / 3 * 3));
+    Assertions.assertEquals(3_000_002L,
+        MonotoneSearch.lastIndexOfLong(3_000_000L, 0L, to, i -> i / 3 * 3));
+    Assertions.assertEquals(-3_000_003L - 1,
+        MonotoneSearch.firstIndexOfLong(3_000_001L, 0L, to, i -> i / 3 * 3));
+    Assertions.assertEquals(3_000_003L,
+        MonotoneSearch.indexOfGreaterThanLong(3_000_000L, 0L, to, i -> i / 3 * 3));
+    Assertions.assertEquals(2_999_999L,
+        MonotoneSearch.indexOfLessThanLong(3_000_000L, 0L, to, i -> i / 3 * 3));
+    Assertions.assertEquals(12, MonotoneSearch.firstIndexOf(40L, 10, 20, i -> i * 4L - 8));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> MonotoneSearch.firstIndexOf(0L, -1, 5, i -> i));
+  }
+
+  private List<LongTestCase> load(String testName) throws IOException {
+    return loadTestcases(
+        this.getClass().getClassLoader(),
+        new TypeReference<List<LongTestCase>>() {
+        },
+        "testcases/com/vidayko/utils/core/" + testName + "/NumberTestCases.json"
+    );
+  }
+
+  @Data
+  static class LongTestCase {
+
+    String scenario;
+    long key;
+    long[] array;
+    int expected;
+  }
+}
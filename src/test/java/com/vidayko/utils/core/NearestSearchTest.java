@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import lombok.*;
+import org.junit.jupiter.api.*;
+
+class NearestSearchTest {
+
+  @Test
+  public void nearest_test() {
+    final int[] array = {1, 3, 3, 8, 10};
+    Assertions.assertEquals(0, NearestSearch.nearest(-5, array));
+    Assertions.assertEquals(0, NearestSearch.nearest(2, array));
+    Assertions.assertEquals(1, NearestSearch.nearest(3, array));
+    Assertions.assertEquals(2, NearestSearch.nearest(5, array));
+    Assertions.assertEquals(3, NearestSearch.nearest(6, array));
+    Assertions.assertEquals(3, NearestSearch.nearest(9, array));
+    Assertions.assertEquals(4, NearestSearch.nearest(100, array));
+    Assertions.assertEquals(-1, NearestSearch.nearest(1, new int[0]));
+
+    final long[] extremes = {Long.MIN_VALUE, Long.MAX_VALUE};
+    Assertions.assertEquals(0, NearestSearch.nearest(-1, extremes));
+    Assertions.assertEquals(1, NearestSearch.nearest(0, extremes));
+    Assertions.assertEquals(1, NearestSearch.nearestWithin(0, extremes, Long.MAX_VALUE));
+    Assertions.assertEquals(-1, NearestSearch.nearestWithin(0, new long[]{Long.MIN_VALUE},
+        Long.MAX_VALUE));
+
+    final double[] doubles = {Double.NEGATIVE_INFINITY, -0.0, 0.0, 2.5, Double.NaN};
+    Assertions.assertEquals(2, NearestSearch.nearest(0.0, doubles));
+    Assertions.assertEquals(1, NearestSearch.nearest(-0.0, doubles));
+    Assertions.assertEquals(1, NearestSearch.nearest(-1.0, doubles));
+    Assertions.assertEquals(3, NearestSearch.nearest(Double.POSITIVE_INFINITY, doubles));
+    Assertions.assertEquals(4, NearestSearch.nearest(Double.NaN, doubles));
+    Assertions.assertEquals(-1, NearestSearch.nearestWithin(2.0, doubles, 0.4));
+    Assertions.assertEquals(3, NearestSearch.nearestWithin(2.0, doubles, 0.5));
+  }
+
+  @Test
+  public void kNearest_test() {
+    final int[] buffer = new int[4];
+    Assertions.assertEquals(4, NearestSearch.kNearest(6, new int[]{1, 3, 3, 8, 10}, 4, buffer));
+    Assertions.assertArrayEquals(new int[]{3, 2, 1, 4}, buffer);
+    Assertions.assertEquals(2, NearestSearch.kNearest(0, new int[]{1, 3}, 4, buffer));
+    Assertions.assertArrayEquals(new int[]{0, 1}, Arrays.copyOf(buffer, 2));
+    Assertions.assertEquals(0, NearestSearch.kNearest(0, new int[]{1, 3}, 0, buffer));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> NearestSearch.kNearest(0, new int[]{1, 3}, 5, buffer));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> NearestSearch.nearestWithin(0, new int[]{1, 3}, -1));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> NearestSearch.nearestWithin(0.0, new double[]{1.0}, Double.NaN));
+  }
+
+  @Test
+  public void random_test() {
+    final Random random = new Random(45);
+    final int[] buffer = new int[16];
+    for (int round = 0; round < 300; round++) {
+      final int n = random.nextInt(40);
+      final long[] longs = new long[n];
+      final double[] doubles = new double[n];
+      final Item[] items = new Item[n];
+      for (int i = 0; i < n; i++) {
+        longs[i] = round % 3 == 0 ? random.nextLong() : random.nextInt(60) - 30;
+        doubles[i] = round % 5 == 0 && random.nextInt(4) == 0 ? Double.NaN
+            : random.nextInt(120) / 4.0 - 15;
+      }
+      Arrays.sort(longs);
+      Arrays.sort(doubles);
+      final int[] ints = new int[n];
+      final byte[] bytes = new byte[n];
+      final float[] floats = new float[n];
+      for (int i = 0; i < n; i++) {
+        ints[i] = (int) longs[i];
+        bytes[i] = (byte) (round % 3 == 0 ? i - 20 : longs[i]);
+        floats[i] = (float) doubles[i];
+        items[i] = new Item(doubles[i]);
+      }
+      Arrays.sort(ints);
+      for (int j = 0; j < 20; j++) {
+        final long x = round % 3 == 0 ? random.nextLong() : random.nextInt(80) - 40;
+        final double y = random.nextInt(160) / 4.0 - 20;
+        final int k = random.nextInt(buffer.length + 1);
+
+        final long[] intDistances = new long[n], longDistances = new long[n];
+        final long[] byteDistances = new long[n];
+        final double[] doubleDistances = new double[n];
+        for (int i = 0; i < n; i++) {
+          intDistances[i] = Math.abs((long) ints[i] - (int) x);
+          longDistances[i] = longs[i] >= x ? longs[i] - x : x - longs[i];
+          byteDistances[i] = Math.abs(bytes[i] - (byte) x);
+          doubleDistances[i] = Double.isNaN(doubles[i]) ? Double.POSITIVE_INFINITY
+              : Math.abs(doubles[i] - y);
+        }
+        check(intDistances, NearestSearch.nearest((int) x, ints),
+            NearestSearch.kNearest((int) x, ints, k, buffer), k, buffer);
+        check(longDistances, NearestSearch.nearest(x, longs),
+            NearestSearch.kNearest(x, longs, k, buffer), k, buffer);
+        check(byteDistances, NearestSearch.nearest((byte) x, bytes),
+            NearestSearch.kNearest((byte) x, bytes, k, buffer), k, buffer);
+        check(doubleDistances, NearestSearch.nearest(y, doubles),
+            NearestSearch.kNearest(y, doubles, k, buffer), k, buffer);
+        check(doubleDistances, NearestSearch.nearest((float) y, floats),
+            NearestSearch.kNearest((float) y, floats, k, buffer), k, buffer);
+        check(doubleDistances, NearestSearch.nearest(y, items, Item::getKey),
+            NearestSearch.kNearest(y, items, Item::getKey, k, buffer), k, buffer);
+
+        final int nearest = NearestSearch.nearest(y, doubles);
+        Assertions.assertEquals(nearest >= 0 && doubleDistances[nearest] <= 1.0 ? nearest : -1,
+            NearestSearch.nearestWithin(y, doubles, 1.0));
+        Assertions.assertEquals(nearest >= 0 && doubleDistances[nearest] <= 1.0 ? nearest : -1,
+            NearestSearch.nearestWithin(y, items, Item::getKey, 1.0));
+        final int nearestLong = NearestSearch.nearest(x, longs);
+        Assertions.assertEquals(nearestLong >= 0 && longDistances[nearestLong] >= 0
+                && longDistances[nearestLong] <= 5 ? nearestLong : -1,
+            NearestSearch.nearestWithin(x, longs, 5));
+      }
+    }
+  }
+
+  private static void check(long[] distances, int nearest, int count, int k, int[] buffer) {
+    final double[] converted = new double[distances.length];
+    for (int i = 0; i < distances.length; i++) {
+      // distances of long extremes exceed Long.MAX_VALUE, and are compared as unsigned
+      converted[i] = distances[i] >= 0 ? distances[i] : distances[i] + 0x1p64;
+    }
+    check(converted, nearest, count, k, buffer);
+  }
+
+  private static void check(double[] distances, int nearest, int count, int k, int[] buffer) {
+    final double[] sorted = distances.clone();
+    Arrays.sort(sorted);
+    if (distances.length == 0) {
+      Assertions.assertEquals(-1, nearest);
+    } else {
+      Assertions.assertEquals(sorted[0], distances[nearest]);
+    }
+    Assertions.assertEquals(Math.min(k, distances.length), count);
+    final Set<Integer> indices = new HashSet<>();
+    for (int i = 0; i < count; i++) {
+      Assertions.assertEquals(sorted[i], distances[buffer[i]]);
+      Assertions.assertTrue(indices.add(buffer[i]));
+    }
+  }
+
+  @Data
+  @AllArgsConstructor
+  static class Item {
+
+    double key;
+  }
+}
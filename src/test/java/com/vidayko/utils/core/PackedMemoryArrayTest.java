@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+class PackedMemoryArrayTest {
+
+  @Test
+  public void searchOperations_test() {
+    final PackedMemoryArray<String> array = PackedMemoryArray.of(
+        Arrays.asList("a", "b", "b", "d"), Comparator.naturalOrder());
+    Assertions.assertEquals(1, array.firstIndexOf("b"));
+    Assertions.assertEquals(2, array.lastIndexOf("b"));
+    Assertions.assertEquals(-4, array.firstIndexOf("c"));
+    Assertions.assertEquals(3, array.indexOfGreaterThan("b"));
+    Assertions.assertEquals(0, array.indexOfLessThan("b"));
+    Assertions.assertEquals(3, array.add("c"));
+    Assertions.assertEquals(Arrays.asList("a", "b", "b", "c", "d"), array.toList());
+  }
+
+  @Test
+  public void randomUpdates_test() {
+    final Random random = new Random(35);
+    final Comparator<String> order = Comparator.comparing(String::length)
+        .thenComparing(Comparator.reverseOrder());
+    final PackedMemoryArray<String> array = new PackedMemoryArray<>(order);
+    final List<String> expected = new ArrayList<>();
+    for (int step = 0; step < 20000; step++) {
+      final String value = Integer.toString(random.nextInt(5000), 7);
+      if (random.nextInt(100) < (step < 10000 ? 70 : 25)) {
+        int position = expected.size();
+        for (int i = 0; i < expected.size(); i++) {
+          if (order.compare(expected.get(i), value) > 0) {
+            position = i;
+            break;
+          }
+        }
+        Assertions.assertEquals(position, array.add(value));
+        expected.add(position, value);
+      } else {
+        Assertions.assertEquals(expected.remove(value), array.remove(value));
+      }
+      if (step % 1000 == 0) {
+        Assertions.assertEquals(expected, array.toList());
+        final String[] values = expected.toArray(new String[0]);
+        for (int i = 0; i < 100; i++) {
+          final String key = Integer.toString(random.nextInt(5000), 7);
+          Assertions.assertEquals(BinarySearch.firstIndexOf(key, values, order),
+              array.firstIndexOf(key));
+          Assertions.assertEquals(BinarySearch.lastIndexOf(key, values, order),
+              array.lastIndexOf(key));
+          Assertions.assertEquals(BinarySearch.indexOfGreaterThan(key, values, order),
+              array.indexOfGreaterThan(key));
+          Assertions.assertEquals(BinarySearch.indexOfLessThan(key, values, order),
+              array.indexOfLessThan(key));
+        }
+      }
+    }
+    final List<String> scanned = new ArrayList<>();
+    array.forEach(scanned::add);
+    Assertions.assertEquals(expected, scanned);
+    for (int i = 0; i < expected.size(); i++) {
+      Assertions.assertEquals(expected.get(i), array.get(i));
+    }
+  }
+
+  @Test
+  public void unsortedList_test() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> PackedMemoryArray.of(Arrays.asList(2, 1), Comparator.naturalOrder()));
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import static com.vidayko.utils.core.JsonLoader.loadTestcases;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.util.*;
+import lombok.Data;
+import org.junit.jupiter.api.*;
+
+class PackedMemoryLongArrayTest {
+
+  @Test
+  public void firstIndexOf_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchFirstIndexOfTest")) {
+      Arrays.sort(testCase.array);
+      Assertions.assertEquals(
+          testCase.expected,
+          PackedMemoryLongArray.of(testCase.array).firstIndexOf(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void lastIndexOf_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchLastIndexOfTest")) {
+      Arrays.sort(testCase.array);
+      Assertions.assertEquals(
+          testCase.expected,
+          PackedMemoryLongArray.of(testCase.array).lastIndexOf(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void indexOfGreaterThan_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchIndexOfGreaterThanTest")) {
+      Arrays.sort(testCase.array);
+      Assertions.assertEquals(
+          testCase.expected,
+          PackedMemoryLongArray.of(testCase.array).indexOfGreaterThan(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void indexOfLessThan_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchIndexOfLessThanTest")) {
+      Arrays.sort(testCase.array);
+      Assertions.assertEquals(
+          testCase.expected,
+          PackedMemoryLongArray.of(testCase.array).indexOfLessThan(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void randomUpdates_test() {
+    final Random random = new Random(35);
+    for (int range : new int[]{10, 1000, 1_000_000}) {
+      final PackedMemoryLongArray array = new PackedMemoryLongArray();
+      final List<Long> expected = new ArrayList<>();
+      for (int step = 0; step < 30000; step++) {
+        // grow for the first half, then shrink back towards empty
+        final boolean insert = random.nextInt(100) < (step < 15000 ? 70 : 25);
+        final long value = random.nextInt(range) - range / 2;
+        if (insert) {
+          final int rank = array.add(value);
+          int position = Collections.binarySearch(expected, value + 1);
+          position = position >= 0 ? firstIndexOf(expected, value + 1) : -position - 1;
+          Assertions.assertEquals(position, rank);
+          expected.add(position, value);
+        } else {
+          Assertions.assertEquals(expected.remove(value), array.remove(value));
+        }
+        if (step % 1000 == 0) {
+          assertContent(expected, array, random);
+        }
+      }
+      assertContent(expected, array, random);
+      array.clear();
+      Assertions.assertTrue(array.isEmpty());
+      Assertions.assertArrayEquals(new long[0], array.toArray());
+    }
+  }
+
+  @Test
+  public void sortedInserts_test() {
+    final PackedMemoryLongArray array = new PackedMemoryLongArray();
+    for (int i = 0; i < 100_000; i++) {
+      Assertions.assertEquals(i, array.add(i));
+    }
+    for (int i = 0; i < 100_000; i++) {
+      Assertions.assertEquals(i, array.get(i));
+    }
+    for (int i = 0; i < 100_000; i += 2) {
+      Assertions.assertTrue(array.remove(i));
+    }
+    Assertions.assertEquals(50_000, array.size());
+    Assertions.assertEquals(24_999, array.firstIndexOf(49_999));
+    Assertions.assertEquals(-25_001, array.firstIndexOf(50_000));
+  }
+
+  @Test
+  public void invalidArguments_test() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> PackedMemoryLongArray.of(new long[]{1, 0}));
+    Assertions.assertThrows(IndexOutOfBoundsException.class,
+        () -> PackedMemoryLongArray.of(new long[]{1}).get(1));
+  }
+
+  private static void assertContent(List<Long> expected, PackedMemoryLongArray array,
+      Random random) {
+    final long[] values = expected.stream().mapToLong(Long::longValue).toArray();
+    Assertions.assertEquals(values.length, array.size());
+    Assertions.assertArrayEquals(values, array.toArray());
+    final long[] scanned = new long[values.length];
+    final int[] length = {0};
+    array.forEach(value -> scanned[length[0]++] = value);
+    Assertions.assertArrayEquals(values, scanned);
+    for (int i = 0; i < values.length; i++) {
+      Assertions.assertEquals(values[i], array.get(i));
+    }
+    for (int i = 0; i < 200; i++) {
+      final long key = values.length > 0 && random.nextBoolean()
+          ? values[random.nextInt(values.length)] + random.nextInt(3) - 1
+          : random.nextLong() % 1_000_000;
+      Assertions.assertEquals(BinarySearch.firstIndexOf(key, values), array.firstIndexOf(key));
+      Assertions.assertEquals(BinarySearch.lastIndexOf(key, values), array.lastIndexOf(key));
+      Assertions.assertEquals(BinarySearch.indexOfGreaterThan(key, values),
+          array.indexOfGreaterThan(key));
+      Assertions.assertEquals(BinarySearch.indexOfLessThan(key, values),
+          array.indexOfLessThan(key));
+    }
+  }
+
+  private static int firstIndexOf(List<Long> list, long value) {
+    int index = Collections.binarySearch(list, value);
+    while (index > 0 && list.get(index - 1) == value) {
+      index--;
+    }
+    return index;
+  }
+
+  private List<LongTestCase> load(String testName) throws IOException {
+    return loadTestcases(
+        this.getClass().getClassLoader(),
+        new TypeReference<List<LongTestCase>>() {
+        },
+        "testcases/com/vidayko/utils/core/" + testName + "/NumberTestCases.json"
+    );
+  }
+
+  @Data
+  static class LongTestCase {
+
+    String scenario;
+    long key;
+    long[] array;
+    int expected;
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import static com.vidayko.utils.core.JsonLoader.loadTestcases;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.util.*;
+import lombok.Data;
+import org.junit.jupiter.api.*;
+
+class PackedSortedLongArrayTest {
+
+  @Test
+  public void firstIndexOf_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchFirstIndexOfTest")) {
+      Arrays.sort(testCase.array);
+      Assertions.assertEquals(
+          testCase.expected,
+          PackedSortedLongArray.of(testCase.array).firstIndexOf(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void lastIndexOf_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchLastIndexOfTest")) {
+      Arrays.sort(testCase.array);
+      Assertions.assertEquals(
+          testCase.expected,
+          PackedSortedLongArray.of(testCase.array).lastIndexOf(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void indexOfGreaterThan_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchIndexOfGreaterThanTest")) {
+      Arrays.sort(testCase.array);
+      Assertions.assertEquals(
+          testCase.expected,
+          PackedSortedLongArray.of(testCase.array).indexOfGreaterThan(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void indexOfLessThan_test() throws IOException {
+    for (LongTestCase testCase : load("BinarySearchIndexOfLessThanTest")) {
+      Arrays.sort(testCase.array);
+      Assertions.assertEquals(
+          testCase.expected,
+          PackedSortedLongArray.of(testCase.array).indexOfLessThan(testCase.key)
+      );
+    }
+  }
+
+  @Test
+  public void randomArrays_test() {
+    final Random random = new Random(27);
+    final long[] spans = {1, 16, 1000, 1L << 40, Long.MAX_VALUE};
+    for (long span : spans) {
+      for (int size : new int[]{0, 1, 2, 127, 128, 129, 3000}) {
+        final long[] array = new long[size];
+        for (int i = 0; i < size; i++) {
+          array[i] = -span / 2 + (long) (random.nextDouble() * span);
+        }
+        Arrays.sort(array);
+        final PackedSortedLongArray packed = PackedSortedLongArray.of(array);
+
+        Assertions.assertEquals(size, packed.size());
+        Assertions.assertArrayEquals(array, packed.toArray());
+        final long[] buffer = new long[PackedSortedLongArray.BLOCK_SIZE];
+        for (int block = 0; block * PackedSortedLongArray.BLOCK_SIZE < size; block++) {
+          final int from = block * PackedSortedLongArray.BLOCK_SIZE;
+          final int count = packed.decode(block, buffer);
+          Assertions.assertArrayEquals(Arrays.copyOfRange(array, from, from + count),
+              Arrays.copyOf(buffer, count));
+        }
+        for (int i = 0; i < size; i++) {
+          Assertions.assertEquals(array[i], packed.get(i));
+        }
+        for (int i = 0; i < 500; i++) {
+          final long key = size > 0 && random.nextBoolean() ? array[random.nextInt(size)]
+              + random.nextInt(3) - 1 : -span / 2 + (long) (random.nextDouble() * span);
+          Assertions.assertEquals(BinarySearch.firstIndexOf(key, array),
+              packed.firstIndexOf(key));
+          Assertions.assertEquals(BinarySearch.lastIndexOf(key, array),
+              packed.lastIndexOf(key));
+          Assertions.assertEquals(BinarySearch.indexOfGreaterThan(key, array),
+              packed.indexOfGreaterThan(key));
+          Assertions.assertEquals(BinarySearch.indexOfLessThan(key, array),
+              packed.indexOfLessThan(key));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void extremeValues_test() {
+    final long[] array = {Long.MIN_VALUE, Long.MIN_VALUE, -1, 0, 0, 0, 1, Long.MAX_VALUE};
+    final PackedSortedLongArray packed = PackedSortedLongArray.of(array);
+
+    Assertions.assertArrayEquals(array, packed.toArray());
+    Assertions.assertEquals(3, packed.firstIndexOf(0));
+    Assertions.assertEquals(5, packed.lastIndexOf(0));
+    Assertions.assertEquals(1, packed.lastIndexOf(Long.MIN_VALUE));
+    Assertions.assertEquals(7, packed.firstIndexOf(Long.MAX_VALUE));
+    Assertions.assertEquals(-8, packed.firstIndexOf(2));
+    Assertions.assertEquals(-9, packed.indexOfGreaterThan(Long.MAX_VALUE));
+    Assertions.assertEquals(-1, packed.indexOfLessThan(Long.MIN_VALUE));
+  }
+
+  @Test
+  public void unsortedArray_test() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> PackedSortedLongArray.of(new long[]{1, 3, 2}));
+  }
+
+  private List<LongTestCase> load(String testName) throws IOException {
+    return loadTestcases(
+        this.getClass().getClassLoader(),
+        new TypeReference<List<LongTestCase>>() {
+        },
+        "testcases/com/vidayko/utils/core/" + testName + "/NumberTestCases.json"
+    );
+  }
+
+  @Data
+  static class LongTestCase {
+
+    String scenario;
+    long key;
+    long[] array;
+    int expected;
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import static com.vidayko.utils.core.JsonLoader.loadTestcases;
+import static com.vidayko.utils.core.PrefixSearch.ASCII_CASE_INSENSITIVE_ORDER;
+import static com.vidayko.utils.core.PrefixSearch.rangeOf;
+import static com.vidayko.utils.core.PrefixSearch.rangeOfIgnoreCase;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.*;
+import lombok.Data;
+import org.junit.jupiter.api.*;
+
+class PrefixSearchTest {
+
+  @Test
+  public void rangeOfString_test() throws IOException {
+    final List<PrefixTestCase> testcases = loadTestcases(
+        this.getClass().getClassLoader(),
+        new TypeReference<List<PrefixTestCase>>() {
+        },
+        "testcases/com/vidayko/utils/core/PrefixSearchTest/PrefixTestCases.json"
+    );
+
+    for (PrefixTestCase testCase : testcases) {
+      final IndexRange expected = IndexRange.of(testCase.from, testCase.to);
+      final String[] array = testCase.array.toArray(new String[0]);
+      final Element[] elements = testCase.array.stream().map(Element::new)
+          .toArray(Element[]::new);
+
+      Assertions.assertEquals(expected, rangeOf(testCase.prefix, array));
+      Assertions.assertEquals(expected, rangeOf(testCase.prefix, testCase.array));
+      Assertions.assertEquals(expected, rangeOf(testCase.prefix, elements, Element::getName));
+      Assertions.assertEquals(expected,
+          rangeOf(testCase.prefix, Arrays.asList(elements), Element::getName));
+    }
+  }
+
+  @Test
+  public void rangeOfStringIgnoreCase_test() throws IOException {
+    final List<PrefixTestCase> testcases = loadTestcases(
+        this.getClass().getClassLoader(),
+        new TypeReference<List<PrefixTestCase>>() {
+        },
+        "testcases/com/vidayko/utils/core/PrefixSearchTest/PrefixIgnoreCaseTestCases.json"
+    );
+
+    for (PrefixTestCase testCase : testcases) {
+      final IndexRange expected = IndexRange.of(testCase.from, testCase.to);
+      final String[] array = testCase.array.toArray(new String[0]);
+      final Element[] elements = testCase.array.stream().map(Element::new)
+          .toArray(Element[]::new);
+
+      Assertions.assertEquals(expected, rangeOfIgnoreCase(testCase.prefix, array));
+      Assertions.assertEquals(expected, rangeOfIgnoreCase(testCase.prefix, testCase.array));
+      Assertions.assertEquals(expected,
+          rangeOfIgnoreCase(testCase.prefix, elements, Element::getName));
+      Assertions.assertEquals(expected,
+          rangeOfIgnoreCase(testCase.prefix, Arrays.asList(elements), Element::getName));
+    }
+  }
+
+  @Test
+  public void randomPrefixes_test() {
+    final Random random = new Random(29);
+    final String[] array = new String[2000];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = randomString(random, 8);
+    }
+    final String[] sorted = array.clone();
+    final String[] sortedIgnoreCase = array.clone();
+    Arrays.sort(sorted);
+    Arrays.sort(sortedIgnoreCase, ASCII_CASE_INSENSITIVE_ORDER);
+
+    for (int i = 0; i < 1000; i++) {
+      final String prefix = randomString(random, 4);
+      final List<Integer> matches = IntStream.range(0, sorted.length)
+          .filter(j -> sorted[j].startsWith(prefix)).boxed().collect(Collectors.toList());
+      final IndexRange range = rangeOf(prefix, sorted);
+      Assertions.assertEquals(matches.size(), range.size());
+      if (!matches.isEmpty()) {
+        Assertions.assertEquals((int) matches.get(0), range.from());
+      }
+
+      final String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+      final long count = Arrays.stream(sortedIgnoreCase)
+          .filter(s -> s.toLowerCase(Locale.ROOT).startsWith(lowerPrefix)).count();
+      final IndexRange rangeIgnoreCase = rangeOfIgnoreCase(prefix, sortedIgnoreCase);
+      Assertions.assertEquals(count, rangeIgnoreCase.size());
+      for (int j = rangeIgnoreCase.from(); j < rangeIgnoreCase.to(); j++) {
+        Assertions.assertTrue(sortedIgnoreCase[j].toLowerCase(Locale.ROOT).startsWith(lowerPrefix));
+      }
+    }
+  }
+
+  private static String randomString(Random random, int maxLength) {
+    final String alphabet = "aAbB_";
+    final StringBuilder builder = new StringBuilder();
+    final int length = random.nextInt(maxLength + 1);
+    for (int i = 0; i < length; i++) {
+      builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return builder.toString();
+  }
+
+  @Data
+  static class PrefixTestCase {
+
+    String scenario;
+    String prefix;
+    List<String> array;
+    int from;
+    int to;
+  }
+
+  @Data
+  static class Element {
+
+    final String name;
+  }
+}
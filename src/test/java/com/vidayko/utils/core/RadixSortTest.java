@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+class RadixSortTest {
+
+  private static final int[] SIZES = {0, 1, 100, 5000, 300_000};
+
+  @Test
+  public void ints_test() {
+    final Random random = new Random(41);
+    for (int size : SIZES) {
+      final int[] array = random.ints(size).toArray();
+      // narrow values leave the high bytes equal, skipping their passes
+      final int[] narrow = random.ints(size, -100, 100).toArray();
+      for (int[] values : new int[][]{array, narrow}) {
+        final int[] expected = values.clone();
+        Arrays.sort(expected);
+        final int[] actual = values.clone();
+        RadixSort.sort(actual);
+        Assertions.assertArrayEquals(expected, actual);
+        RadixSort.sort(actual, true);
+        for (int i = 0; i < size; i++) {
+          Assertions.assertEquals(expected[size - 1 - i], actual[i]);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void longs_test() {
+    final Random random = new Random(41);
+    for (int size : SIZES) {
+      final long[] array = random.longs(size).toArray();
+      final long[] expected = array.clone();
+      Arrays.sort(expected);
+      RadixSort.sort(array);
+      Assertions.assertArrayEquals(expected, array);
+      RadixSort.sort(array, true);
+      for (int i = 0; i < size; i++) {
+        Assertions.assertEquals(expected[size - 1 - i], array[i]);
+      }
+    }
+  }
+
+  @Test
+  public void doubles_test() {
+    final Random random = new Random(41);
+    final double[] special = {Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+        -0.0, 0.0, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE};
+    for (int size : SIZES) {
+      final double[] array = new double[size];
+      for (int i = 0; i < size; i++) {
+        array[i] = random.nextInt(4) == 0 ? special[random.nextInt(special.length)]
+            : random.nextGaussian() * 1e6;
+      }
+      final double[] expected = array.clone();
+      Arrays.sort(expected);
+      RadixSort.sort(array);
+      Assertions.assertArrayEquals(expected, array);
+      for (int i = 0; i < size; i++) {
+        Assertions.assertEquals(BinarySearch.firstIndexOf(array[i], expected),
+            BinarySearch.firstIndexOf(array[i], array));
+      }
+      RadixSort.sort(array, true);
+      for (int i = 0; i < size; i++) {
+        Assertions.assertEquals(expected[size - 1 - i], array[i]);
+      }
+    }
+  }
+
+  @Test
+  public void floats_test() {
+    final Random random = new Random(41);
+    final float[] special = {Float.NaN, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY, -0.0f,
+        0.0f, Float.MIN_VALUE, -Float.MIN_VALUE};
+    for (int size : SIZES) {
+      final float[] array = new float[size];
+      for (int i = 0; i < size; i++) {
+        array[i] = random.nextInt(4) == 0 ? special[random.nextInt(special.length)]
+            : (float) random.nextGaussian();
+      }
+      final float[] expected = array.clone();
+      Arrays.sort(expected);
+      RadixSort.sort(array);
+      Assertions.assertArrayEquals(expected, array);
+      RadixSort.sort(array, true);
+      for (int i = 0; i < size; i++) {
+        Assertions.assertEquals(expected[size - 1 - i], array[i]);
+      }
+    }
+  }
+
+  @Test
+  public void smallTypes_test() {
+    final Random random = new Random(41);
+    for (int size : SIZES) {
+      final byte[] bytes = new byte[size];
+      random.nextBytes(bytes);
+      final short[] shorts = new short[size];
+      final char[] chars = new char[size];
+      for (int i = 0; i < size; i++) {
+        shorts[i] = (short) random.nextInt();
+        chars[i] = (char) random.nextInt();
+      }
+      final byte[] expectedBytes = bytes.clone();
+      Arrays.sort(expectedBytes);
+      RadixSort.sort(bytes);
+      Assertions.assertArrayEquals(expectedBytes, bytes);
+      final short[] expectedShorts = shorts.clone();
+      Arrays.sort(expectedShorts);
+      RadixSort.sort(shorts);
+      Assertions.assertArrayEquals(expectedShorts, shorts);
+      final char[] expectedChars = chars.clone();
+      Arrays.sort(expectedChars);
+      RadixSort.sort(chars);
+      Assertions.assertArrayEquals(expectedChars, chars);
+
+      RadixSort.sort(bytes, true);
+      RadixSort.sort(shorts, true);
+      RadixSort.sort(chars, true);
+      for (int i = 0; i < size; i++) {
+        Assertions.assertEquals(expectedBytes[size - 1 - i], bytes[i]);
+        Assertions.assertEquals(expectedShorts[size - 1 - i], shorts[i]);
+        Assertions.assertEquals(expectedChars[size - 1 - i], chars[i]);
+      }
+    }
+  }
+
+  @Test
+  public void objectsByKey_test() {
+    final Random random = new Random(41);
+    for (int size : SIZES) {
+      final long[][] array = new long[size][];
+      for (int i = 0; i < size; i++) {
+        // the second component records the original position, to check stability
+        array[i] = new long[]{random.nextInt(1000) - 500, i};
+      }
+      final long[][] expected = array.clone();
+      Arrays.sort(expected, Comparator.comparingLong(entry -> entry[0]));
+      RadixSort.sort(array, entry -> entry[0]);
+      Assertions.assertArrayEquals(expected, array);
+
+      Arrays.sort(expected, Comparator.comparingLong((long[] entry) -> entry[1]));
+      final long[][] descending = expected.clone();
+      Arrays.sort(expected, Comparator.comparingLong((long[] entry) -> -entry[0]));
+      RadixSort.sort(descending, entry -> entry[0], true);
+      Assertions.assertArrayEquals(expected, descending);
+    }
+  }
+}
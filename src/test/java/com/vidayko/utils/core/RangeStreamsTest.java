@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+class RangeStreamsTest {
+
+  @Test
+  public void range_test() {
+    final int[] array = {1, 3, 3, 5, 7, 7, 9};
+    Assertions.assertEquals(IndexRange.of(1, 6), RangeStreams.range(3, true, 7, true, array));
+    Assertions.assertEquals(IndexRange.of(3, 4), RangeStreams.range(3, false, 7, false, array));
+    Assertions.assertEquals(IndexRange.of(1, 3), RangeStreams.range(2, true, 4, true, array));
+    Assertions.assertEquals(IndexRange.of(4, 4), RangeStreams.range(5, false, 5, true, array));
+    Assertions.assertEquals(IndexRange.of(3, 3), RangeStreams.range(5, true, 5, false, array));
+    Assertions.assertEquals(IndexRange.of(7, 7), RangeStreams.range(10, true, 20, true, array));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> RangeStreams.range(7, true, 3, true, array));
+
+    Assertions.assertArrayEquals(new int[]{3, 3, 5}, RangeStreams.stream(2, true, 7, false, array)
+        .toArray());
+    Assertions.assertArrayEquals(new long[]{5, 7, 7}, RangeStreams.stream(4L, true, 7L, true,
+        new long[]{1, 5, 7, 7, 8}).toArray());
+    Assertions.assertArrayEquals(new double[]{0.0, 1.5}, RangeStreams.stream(-0.0, false, 1.5,
+        true, new double[]{-1, -0.0, 0.0, 1.5, Double.NaN}).toArray());
+    Assertions.assertEquals(Arrays.asList("b", "c"), RangeStreams.stream("b", true, "c", true,
+        new String[]{"a", "b", "c", "d"}).collect(Collectors.toList()));
+    Assertions.assertEquals(Arrays.asList("c", "b"), RangeStreams.stream("c", true, "b", true,
+        Arrays.asList("d", "c", "b", "a"), Comparator.<String>reverseOrder())
+        .collect(Collectors.toList()));
+  }
+
+  @Test
+  public void spliterator_test() {
+    final long[] array = new long[1000];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = i / 2;
+    }
+    final Spliterator.OfLong spliterator = RangeStreams.stream(100L, true, 399L, true, array)
+        .spliterator();
+    Assertions.assertTrue(spliterator.hasCharacteristics(Spliterator.SORTED
+        | Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+    Assertions.assertNull(spliterator.getComparator());
+    Assertions.assertEquals(600, spliterator.getExactSizeIfKnown());
+    final Spliterator.OfLong prefix = spliterator.trySplit();
+    Assertions.assertEquals(300, prefix.estimateSize());
+    Assertions.assertEquals(300, spliterator.estimateSize());
+    final long[] first = new long[1];
+    Assertions.assertTrue(prefix.tryAdvance((long value) -> first[0] = value));
+    Assertions.assertEquals(100, first[0]);
+
+    final Comparator<String> order = Comparator.reverseOrder();
+    Assertions.assertSame(order, RangeStreams.stream("z", true, "a", true,
+        new String[]{"c", "b"}, order).spliterator().getComparator());
+  }
+
+  @Test
+  public void random_test() {
+    final Random random = new Random(49);
+    for (int round = 0; round < 100; round++) {
+      final int[] ints = random.ints(random.nextInt(5000), -500, 500).sorted().toArray();
+      final double[] doubles = Arrays.stream(ints).asDoubleStream().map(v -> v / 4).toArray();
+      final Integer[] boxed = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+      final List<Integer> list = Arrays.asList(boxed);
+      final int a = random.nextInt(1200) - 600, b = random.nextInt(1200) - 600;
+      final int fromKey = Math.min(a, b), toKey = Math.max(a, b);
+      final boolean fromInclusive = random.nextBoolean(), toInclusive = random.nextBoolean();
+      final int[] expected = Arrays.stream(ints).filter(v -> (fromInclusive ? v >= fromKey
+          : v > fromKey) && (toInclusive ? v <= toKey : v < toKey)).toArray();
+      final long sum = Arrays.stream(expected).asLongStream().sum();
+
+      Assertions.assertArrayEquals(expected, RangeStreams.stream(fromKey, fromInclusive, toKey,
+          toInclusive, ints).toArray());
+      Assertions.assertEquals(sum, RangeStreams.stream(fromKey, fromInclusive, toKey,
+          toInclusive, ints).parallel().asLongStream().sum());
+      Assertions.assertArrayEquals(Arrays.stream(expected).asLongStream().toArray(),
+          RangeStreams.stream((long) fromKey, fromInclusive, toKey, toInclusive,
+              Arrays.stream(ints).asLongStream().toArray()).parallel().toArray());
+      Assertions.assertArrayEquals(Arrays.stream(expected).asDoubleStream().map(v -> v / 4)
+          .toArray(), RangeStreams.stream(fromKey / 4.0, fromInclusive, toKey / 4.0,
+          toInclusive, doubles).parallel().toArray());
+      Assertions.assertArrayEquals(Arrays.stream(expected).boxed().toArray(),
+          RangeStreams.stream((Integer) fromKey, fromInclusive, toKey, toInclusive, boxed)
+              .parallel().toArray());
+      Assertions.assertEquals(Arrays.stream(expected).boxed().collect(Collectors.toList()),
+          RangeStreams.stream((Integer) fromKey, fromInclusive, toKey, toInclusive, list)
+              .parallel().collect(Collectors.toList()));
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+class RunIndexTest {
+
+  @Test
+  public void runs_test() {
+    final RunIndex.OfInt index = RunIndex.of(new int[]{2, 2, 2, 5, 7, 7});
+    Assertions.assertEquals(6, index.size());
+    Assertions.assertEquals(3, index.runCount());
+    Assertions.assertEquals(5, index.value(1));
+    Assertions.assertEquals(3, index.start(1));
+    Assertions.assertEquals(4, index.end(1));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> index.start(3));
+    Assertions.assertEquals(2, index.runOf(7));
+    Assertions.assertEquals(-2, index.runOf(4));
+    Assertions.assertEquals(0, index.firstIndexOf(2));
+    Assertions.assertEquals(2, index.lastIndexOf(2));
+    Assertions.assertEquals(-4, index.lastIndexOf(3));
+    Assertions.assertEquals(3, index.count(2));
+    Assertions.assertEquals(0, index.count(6));
+    Assertions.assertEquals(IndexRange.of(4, 6), index.rangeOf(7));
+    Assertions.assertEquals(IndexRange.of(6, 6), index.rangeOf(8));
+
+    final StringBuilder runs = new StringBuilder();
+    index.forEachRun((value, start, end) -> runs.append(value).append(':').append(start)
+        .append('-').append(end).append(' '));
+    Assertions.assertEquals("2:0-3 5:3-4 7:4-6 ", runs.toString());
+
+    final RunIndex.OfLong empty = RunIndex.of(new long[0]);
+    Assertions.assertEquals(0, empty.size());
+    Assertions.assertEquals(0, empty.runCount());
+    Assertions.assertEquals(-1, empty.firstIndexOf(1));
+    Assertions.assertEquals(-1, empty.indexOfGreaterThan(1));
+    empty.forEachRun((value, start, end) -> Assertions.fail());
+  }
+
+  @Test
+  public void random_test() {
+    final Random random = new Random(50);
+    for (int round = 0; round < 200; round++) {
+      final int distinct = random.nextInt(50) + 1, shift = round % 3 == 0 ? 20 : 0;
+      final long scale = round % 3 == 0 ? 1L << 40 : 3;
+      final long[] longs = new long[random.nextInt(round % 10 == 0 ? 100_000 : 300)];
+      for (int i = 0; i < longs.length; i++) {
+        longs[i] = (random.nextInt(distinct) - distinct / 2) * scale;
+      }
+      Arrays.sort(longs);
+      final int[] ints = Arrays.stream(longs).mapToInt(v -> (int) (v >> shift)).toArray();
+      final RunIndex.OfLong longIndex = RunIndex.of(longs);
+      final RunIndex.OfInt intIndex = RunIndex.of(ints);
+      Assertions.assertEquals(Arrays.stream(longs).distinct().count(), longIndex.runCount());
+      Assertions.assertEquals(longIndex.runCount(), intIndex.runCount());
+
+      final long[] rebuilt = new long[longs.length];
+      longIndex.forEachRun((value, start, end) -> Arrays.fill(rebuilt, start, end, value));
+      Assertions.assertArrayEquals(longs, rebuilt);
+      final int[] rebuiltInts = new int[ints.length];
+      intIndex.forEachRun((value, start, end) -> Arrays.fill(rebuiltInts, start, end, value));
+      Assertions.assertArrayEquals(ints, rebuiltInts);
+
+      for (int j = 0; j < 60; j++) {
+        final long key = j % 4 == 0 && longs.length > 0 ? longs[random.nextInt(longs.length)]
+            : (random.nextInt(distinct + 4) - distinct / 2 - 2) * scale + random.nextInt(3) - 1;
+        final int intKey = (int) (key >> shift);
+        Assertions.assertEquals(BinarySearch.firstIndexOf(key, longs), longIndex.firstIndexOf(key));
+        Assertions.assertEquals(BinarySearch.lastIndexOf(key, longs), longIndex.lastIndexOf(key));
+        Assertions.assertEquals(BinarySearch.indexOfGreaterThan(key, longs),
+            longIndex.indexOfGreaterThan(key));
+        Assertions.assertEquals(BinarySearch.indexOfLessThan(key, longs),
+            longIndex.indexOfLessThan(key));
+        Assertions.assertEquals(Arrays.stream(longs).filter(v -> v == key).count(),
+            longIndex.count(key));
+        final IndexRange range = longIndex.rangeOf(key);
+        Assertions.assertEquals(longIndex.count(key), range.size());
+
+        Assertions.assertEquals(BinarySearch.firstIndexOf(intKey, ints),
+            intIndex.firstIndexOf(intKey));
+        Assertions.assertEquals(BinarySearch.lastIndexOf(intKey, ints),
+            intIndex.lastIndexOf(intKey));
+        Assertions.assertEquals(BinarySearch.indexOfGreaterThan(intKey, ints),
+            intIndex.indexOfGreaterThan(intKey));
+        Assertions.assertEquals(BinarySearch.indexOfLessThan(intKey, ints),
+            intIndex.indexOfLessThan(intKey));
+        Assertions.assertEquals(intIndex.rangeOf(intKey).size(), intIndex.count(intKey));
+      }
+    }
+  }
+}
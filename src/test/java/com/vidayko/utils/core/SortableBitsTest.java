@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+class SortableBitsTest {
+
+  private static final double[] SPECIAL_DOUBLES = {Double.NaN, Double.NEGATIVE_INFINITY,
+      Double.POSITIVE_INFINITY, -0.0, 0.0, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE,
+      -Double.MAX_VALUE, Double.MIN_NORMAL, 1.0, -1.0,
+      Double.longBitsToDouble(0xfff8000000000001L)};
+
+  private static final float[] SPECIAL_FLOATS = {Float.NaN, Float.NEGATIVE_INFINITY,
+      Float.POSITIVE_INFINITY, -0.0f, 0.0f, Float.MIN_VALUE, -Float.MIN_VALUE, Float.MAX_VALUE,
+      -Float.MAX_VALUE, 1.0f, -1.0f, Float.intBitsToFloat(0xffc00001)};
+
+  @Test
+  public void order_test() {
+    final Random random = new Random(44);
+    final double[] doubles = new double[1000];
+    final float[] floats = new float[1000];
+    for (int i = 0; i < doubles.length; i++) {
+      doubles[i] = i < SPECIAL_DOUBLES.length ? SPECIAL_DOUBLES[i]
+          : Double.longBitsToDouble(random.nextLong());
+      floats[i] = i < SPECIAL_FLOATS.length ? SPECIAL_FLOATS[i]
+          : Float.intBitsToFloat(random.nextInt());
+    }
+    for (int i = 0; i < doubles.length; i++) {
+      for (int j = 0; j < doubles.length; j += 7) {
+        Assertions.assertEquals(Integer.signum(Double.compare(doubles[i], doubles[j])),
+            Long.signum(Long.compare(SortableBits.of(doubles[i]), SortableBits.of(doubles[j]))));
+        Assertions.assertEquals(Integer.signum(Float.compare(floats[i], floats[j])), Integer.signum(
+            Integer.compare(SortableBits.of(floats[i]), SortableBits.of(floats[j]))));
+      }
+      Assertions.assertEquals(0, Double.compare(doubles[i],
+          SortableBits.toDouble(SortableBits.of(doubles[i]))));
+      Assertions.assertEquals(0, Float.compare(floats[i],
+          SortableBits.toFloat(SortableBits.of(floats[i]))));
+    }
+  }
+
+  @Test
+  public void searches_test() {
+    final Random random = new Random(44);
+    final double[] doubles = new double[3000];
+    final float[] floats = new float[3000];
+    for (int i = 0; i < doubles.length; i++) {
+      doubles[i] = random.nextInt(5) == 0 ? SPECIAL_DOUBLES[random.nextInt(SPECIAL_DOUBLES.length)]
+          : random.nextInt(100) - 50;
+      floats[i] = random.nextInt(5) == 0 ? SPECIAL_FLOATS[random.nextInt(SPECIAL_FLOATS.length)]
+          : random.nextInt(100) - 50;
+    }
+    Arrays.sort(doubles);
+    Arrays.sort(floats);
+    final long[] doubleColumn = SortableBits.column(doubles);
+    final int[] floatColumn = SortableBits.column(floats);
+    final Comparator<Double> doubleOrder = Comparator.naturalOrder();
+    final Comparator<Float> floatOrder = Comparator.naturalOrder();
+    final double[] keys = Arrays.copyOf(SPECIAL_DOUBLES, SPECIAL_DOUBLES.length + 120);
+    for (int i = 0; i < 120; i++) {
+      keys[SPECIAL_DOUBLES.length + i] = i - 60.5 * (i % 2);
+    }
+    for (double key : keys) {
+      final float floatKey = (float) key;
+      Assertions.assertEquals(BinarySearch.firstIndexOf(key, doubles, doubleOrder),
+          BinarySearch.firstIndexOf(key, doubles));
+      Assertions.assertEquals(BinarySearch.firstIndexOf(key, doubles),
+          SortableBits.firstIndexOf(key, doubleColumn));
+      Assertions.assertEquals(BinarySearch.lastIndexOf(key, doubles, doubleOrder),
+          SortableBits.lastIndexOf(key, doubleColumn));
+      Assertions.assertEquals(BinarySearch.indexOfGreaterThan(key, doubles, doubleOrder),
+          SortableBits.indexOfGreaterThan(key, doubleColumn));
+      Assertions.assertEquals(BinarySearch.indexOfLessThan(key, doubles, doubleOrder),
+          SortableBits.indexOfLessThan(key, doubleColumn));
+
+      Assertions.assertEquals(BinarySearch.lastIndexOf(floatKey, floats, floatOrder),
+          BinarySearch.lastIndexOf(floatKey, floats));
+      Assertions.assertEquals(BinarySearch.firstIndexOf(floatKey, floats, floatOrder),
+          SortableBits.firstIndexOf(floatKey, floatColumn));
+      Assertions.assertEquals(BinarySearch.lastIndexOf(floatKey, floats, floatOrder),
+          SortableBits.lastIndexOf(floatKey, floatColumn));
+      Assertions.assertEquals(BinarySearch.indexOfGreaterThan(floatKey, floats, floatOrder),
+          SortableBits.indexOfGreaterThan(floatKey, floatColumn));
+      Assertions.assertEquals(BinarySearch.indexOfLessThan(floatKey, floats, floatOrder),
+          SortableBits.indexOfLessThan(floatKey, floatColumn));
+    }
+  }
+}
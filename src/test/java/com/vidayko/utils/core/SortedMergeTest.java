@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+class SortedMergeTest {
+
+  @Test
+  public void mergeInts_test() {
+    Assertions.assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6, 7},
+        SortedMerge.merge(new int[]{1, 4, 7}, new int[]{2, 5}, new int[]{3, 6}));
+    Assertions.assertArrayEquals(new int[]{1, 1, 2},
+        SortedMerge.merge(new int[]{}, new int[]{1, 2}, new int[]{1}));
+    Assertions.assertArrayEquals(new int[]{}, SortedMerge.merge(new int[0][]));
+  }
+
+  @Test
+  public void mergeDoubles_test() {
+    Assertions.assertArrayEquals(
+        new double[]{Double.NEGATIVE_INFINITY, -0.0, 0.0, 1.5, Double.NaN},
+        SortedMerge.merge(new double[]{-0.0, Double.NaN}, new double[]{Double.NEGATIVE_INFINITY,
+            0.0, 1.5}));
+  }
+
+  @Test
+  public void mergeObjects_stability_test() {
+    final String[] a = {"a1", "b1", "c1"};
+    final String[] b = {"a2", "b2"};
+    final String[] c = {"b3", "c3"};
+    final Comparator<String> byLetter = Comparator.comparing(s -> s.charAt(0));
+    Assertions.assertEquals(Arrays.asList("a1", "a2", "b1", "b2", "b3", "c1", "c3"),
+        SortedMerge.merge(byLetter, a, b, c));
+  }
+
+  @Test
+  public void iterator_test() {
+    final SortedMerge.OfLong merge = SortedMerge.of(new long[]{1, 3}, new long[]{2});
+    Assertions.assertEquals(3, merge.remaining());
+    Assertions.assertEquals(1, merge.nextLong());
+    Assertions.assertEquals(2, merge.nextLong());
+    Assertions.assertTrue(merge.hasNext());
+    Assertions.assertEquals(3, merge.nextLong());
+    Assertions.assertFalse(merge.hasNext());
+    Assertions.assertThrows(NoSuchElementException.class, merge::nextLong);
+  }
+
+  @Test
+  public void invalidBuffer_test() {
+    final SortedMerge.OfInt merge = SortedMerge.of(new int[]{1});
+    Assertions.assertThrows(IndexOutOfBoundsException.class,
+        () -> merge.next(new int[4], 2, 3));
+    Assertions.assertThrows(IndexOutOfBoundsException.class,
+        () -> merge.next(new int[4], -1, 1));
+  }
+
+  @Test
+  public void randomRuns_test() {
+    final Random random = new Random(34);
+    for (int k : new int[]{1, 2, 3, 5, 8, 13, 40}) {
+      for (boolean galloping : new boolean[]{true, false}) {
+        final long[][] runs = new long[k][];
+        final List<long[]> tagged = new ArrayList<>();
+        final Long[][] boxed = new Long[k][];
+        for (int r = 0; r < k; r++) {
+          // a few runs dominate, with long stretches that trigger galloping
+          final int size = random.nextInt(4) == 0 ? random.nextInt(2000) : random.nextInt(50);
+          runs[r] = new long[size];
+          boxed[r] = new Long[size];
+          for (int i = 0; i < size; i++) {
+            runs[r][i] = random.nextInt(random.nextBoolean() ? 100 : 5000);
+          }
+          Arrays.sort(runs[r]);
+          for (int i = 0; i < size; i++) {
+            boxed[r][i] = runs[r][i];
+            tagged.add(new long[]{runs[r][i], r});
+          }
+        }
+        tagged.sort(Comparator.comparingLong((long[] t) -> t[0]).thenComparingLong(t -> t[1]));
+        final long[] expected = tagged.stream().mapToLong(t -> t[0]).toArray();
+
+        final SortedMerge.OfLong merge = SortedMerge.of(runs);
+        merge.setGalloping(galloping);
+        final long[] actual = new long[expected.length];
+        int written = 0;
+        while (merge.hasNext()) {
+          if (random.nextInt(10) == 0) {
+            actual[written++] = merge.nextLong();
+          } else {
+            final int n = merge.next(actual, written,
+                Math.min(actual.length - written, 1 + random.nextInt(300)));
+            Assertions.assertTrue(n > 0);
+            written += n;
+          }
+        }
+        Assertions.assertEquals(expected.length, written);
+        Assertions.assertArrayEquals(expected, actual);
+        Assertions.assertEquals(0, merge.next(actual, 0, actual.length));
+
+        final int[][] ints = new int[k][];
+        final double[][] doubles = new double[k][];
+        for (int r = 0; r < k; r++) {
+          ints[r] = Arrays.stream(runs[r]).mapToInt(v -> (int) v).toArray();
+          doubles[r] = Arrays.stream(runs[r]).mapToDouble(v -> v / 2.0).toArray();
+        }
+        Assertions.assertArrayEquals(Arrays.stream(expected).mapToInt(v -> (int) v).toArray(),
+            SortedMerge.merge(ints));
+        Assertions.assertArrayEquals(Arrays.stream(expected).mapToDouble(v -> v / 2.0).toArray(),
+            SortedMerge.merge(doubles));
+
+        // stability: equal keys must be emitted in the order of their runs
+        final Long[] objects = new Long[expected.length];
+        final SortedMerge.OfObject<Long> objectMerge = SortedMerge.of(
+            Comparator.naturalOrder(), boxed);
+        objectMerge.setGalloping(galloping);
+        Assertions.assertEquals(objects.length, objectMerge.next(objects, 0, objects.length));
+        final List<Long> expectedObjects = new ArrayList<>();
+        for (Long[] run : boxed) {
+          expectedObjects.addAll(Arrays.asList(run));
+        }
+        expectedObjects.sort(Comparator.naturalOrder());
+        for (int i = 0; i < objects.length; i++) {
+          Assertions.assertSame(expectedObjects.get(i), objects[i]);
+        }
+      }
+    }
+  }
+}
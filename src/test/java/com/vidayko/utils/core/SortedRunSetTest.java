@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import java.util.concurrent.*;
+import org.junit.jupiter.api.*;
+
+class SortedRunSetTest {
+
+  @Test
+  public void tombstones_test() {
+    final SortedRunSet<Integer> set = new SortedRunSet<>(Comparator.naturalOrder(), 2, 100, null);
+    set.add(1);
+    set.add(2);
+    set.add(3);
+    set.remove(2);
+    set.flush();
+    Assertions.assertEquals(2, set.runCount());
+    Assertions.assertTrue(set.contains(1));
+    Assertions.assertFalse(set.contains(2));
+    Assertions.assertTrue(set.contains(3));
+    Assertions.assertEquals(Arrays.asList(1, 3), set.toList());
+
+    set.add(2);
+    Assertions.assertTrue(set.contains(2));
+    set.compact();
+    Assertions.assertEquals(1, set.runCount());
+    Assertions.assertEquals(Arrays.asList(1, 2, 3), set.toList());
+  }
+
+  @Test
+  public void newestVersionWins_test() {
+    final Comparator<String[]> byKey = Comparator.comparing(entry -> entry[0]);
+    final SortedRunSet<String[]> set = new SortedRunSet<>(byKey, 1, 100, null);
+    set.add(new String[]{"a", "old"});
+    set.add(new String[]{"a", "new"});
+    Assertions.assertEquals(2, set.runCount());
+    Assertions.assertEquals("new", set.get(new String[]{"a"})[1]);
+    Assertions.assertNull(set.get(new String[]{"b"}));
+    set.compact();
+    Assertions.assertEquals("new", set.get(new String[]{"a"})[1]);
+  }
+
+  @Test
+  public void randomUpdates_test() {
+    final Random random = new Random(36);
+    final SortedRunSet<Integer> set = new SortedRunSet<>(Comparator.reverseOrder(), 64, 4, null);
+    final TreeSet<Integer> expected = new TreeSet<>(Comparator.reverseOrder());
+    for (int step = 0; step < 50000; step++) {
+      final int value = random.nextInt(3000);
+      if (random.nextInt(3) == 0) {
+        set.remove(value);
+        expected.remove(value);
+      } else {
+        set.add(value);
+        expected.add(value);
+      }
+      Assertions.assertTrue(set.runCount() <= 4);
+      final int key = random.nextInt(3000);
+      Assertions.assertEquals(expected.contains(key), set.contains(key));
+      if (step % 5000 == 0) {
+        Assertions.assertEquals(new ArrayList<>(expected), set.toList());
+      }
+    }
+    Assertions.assertEquals(new ArrayList<>(expected), set.toList());
+  }
+
+  @Test
+  public void backgroundCompaction_test() throws Exception {
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final SortedRunSet<Long> set = new SortedRunSet<>(Comparator.naturalOrder(), 32, 2,
+          executor);
+      final int writers = 4, perWriter = 20000;
+      final ExecutorService threads = Executors.newFixedThreadPool(writers + 1);
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int w = 0; w < writers; w++) {
+        final long offset = (long) w * perWriter;
+        futures.add(threads.submit(() -> {
+          for (long i = 0; i < perWriter; i++) {
+            set.add(offset + i);
+            if (i % 2 == 1) {
+              set.remove(offset + i);
+            }
+          }
+        }));
+      }
+      futures.add(threads.submit(() -> {
+        final Random random = new Random(36);
+        for (int i = 0; i < 20000; i++) {
+          final long key = random.nextInt(writers * perWriter);
+          // odd keys are removed right after they are added, even keys are never removed
+          if (key % 2 == 1) {
+            set.get(key);
+          } else if (set.contains(key)) {
+            Assertions.assertTrue(set.contains(key));
+          }
+        }
+      }));
+      for (Future<?> future : futures) {
+        future.get();
+      }
+      threads.shutdown();
+      set.flush();
+      set.compactAsync(executor).get();
+
+      Assertions.assertEquals(1, set.runCount());
+      final List<Long> values = set.toList();
+      Assertions.assertEquals(writers * perWriter / 2, values.size());
+      for (int i = 0; i < values.size(); i++) {
+        Assertions.assertEquals(2L * i, values.get(i));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void invalidArguments_test() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new SortedRunSet<Integer>(Comparator.naturalOrder(), 0, 1, null));
+    Assertions.assertThrows(NullPointerException.class,
+        () -> new SortedRunSet<Integer>(Comparator.naturalOrder()).add(null));
+  }
+}
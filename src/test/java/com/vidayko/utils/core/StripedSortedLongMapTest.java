@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import java.util.concurrent.*;
+import org.junit.jupiter.api.*;
+
+class StripedSortedLongMapTest {
+
+  @Test
+  public void putGetRemove_test() {
+    final StripedSortedLongMap<String> map = new StripedSortedLongMap<>();
+    Assertions.assertTrue(map.isEmpty());
+    Assertions.assertNull(map.put(5, "five"));
+    Assertions.assertNull(map.put(Long.MIN_VALUE, "min"));
+    Assertions.assertNull(map.put(Long.MAX_VALUE, "max"));
+    Assertions.assertEquals("five", map.put(5, "FIVE"));
+    Assertions.assertEquals(3, map.size());
+    Assertions.assertEquals("FIVE", map.get(5));
+    Assertions.assertEquals("min", map.get(Long.MIN_VALUE));
+    Assertions.assertEquals("max", map.get(Long.MAX_VALUE));
+    Assertions.assertNull(map.get(6));
+    Assertions.assertTrue(map.containsKey(5));
+    Assertions.assertEquals("FIVE", map.remove(5));
+    Assertions.assertNull(map.remove(5));
+    Assertions.assertFalse(map.containsKey(5));
+    Assertions.assertEquals(2, map.size());
+    Assertions.assertThrows(NullPointerException.class, () -> map.put(1, null));
+  }
+
+  @Test
+  public void splitAndMerge_test() {
+    final StripedSortedLongMap<Long> map = new StripedSortedLongMap<>(16);
+    for (long key = 0; key < 1000; key++) {
+      map.put(key * 3, key);
+    }
+    Assertions.assertTrue(map.stripeCount() > 1000 / 16);
+    for (long key = 0; key < 1000; key++) {
+      Assertions.assertEquals(key, map.get(key * 3));
+      Assertions.assertNull(map.get(key * 3 + 1));
+    }
+    for (long key = 0; key < 990; key++) {
+      map.remove(key * 3);
+    }
+    Assertions.assertTrue(map.stripeCount() < 10);
+    Assertions.assertEquals(10, map.size());
+    final List<Long> keys = new ArrayList<>();
+    map.forEach((key, value) -> {
+      Assertions.assertEquals(key, value * 3);
+      keys.add(key);
+    });
+    Assertions.assertEquals(10, keys.size());
+    Assertions.assertEquals(990 * 3L, keys.get(0));
+  }
+
+  @Test
+  public void randomUpdates_test() {
+    final Random random = new Random(38);
+    final StripedSortedLongMap<Integer> map = new StripedSortedLongMap<>(8);
+    final TreeMap<Long, Integer> expected = new TreeMap<>();
+    for (int step = 0; step < 50000; step++) {
+      final long key = random.nextInt(2000) - 1000;
+      if (random.nextInt(3) == 0) {
+        Assertions.assertEquals(expected.remove(key), map.remove(key));
+      } else {
+        Assertions.assertEquals(expected.put(key, step), map.put(key, step));
+      }
+      final long probe = random.nextInt(2000) - 1000;
+      Assertions.assertEquals(expected.get(probe), map.get(probe));
+      if (step % 5000 == 0) {
+        final long from = random.nextInt(2000) - 1000, to = from + random.nextInt(500);
+        final List<Long> keys = new ArrayList<>();
+        map.forEach(from, to, (k, v) -> keys.add(k));
+        Assertions.assertEquals(new ArrayList<>(expected.subMap(from, true, to, true).keySet()),
+            keys);
+      }
+    }
+    Assertions.assertEquals(expected.size(), map.size());
+    final List<Long> keys = new ArrayList<>();
+    map.forEach((k, v) -> keys.add(k));
+    Assertions.assertEquals(new ArrayList<>(expected.keySet()), keys);
+  }
+
+  @Test
+  public void concurrentUpdates_test() throws Exception {
+    final StripedSortedLongMap<Long> map = new StripedSortedLongMap<>(64);
+    final int writers = 4, perWriter = 20000;
+    final ExecutorService threads = Executors.newFixedThreadPool(writers + 1);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int w = 0; w < writers; w++) {
+        final long offset = (long) w * perWriter;
+        futures.add(threads.submit(() -> {
+          for (long i = 0; i < perWriter; i++) {
+            map.put(offset + i, offset + i);
+            if (i % 2 == 1) {
+              map.remove(offset + i);
+            }
+          }
+        }));
+      }
+      futures.add(threads.submit(() -> {
+        final Random random = new Random(38);
+        for (int i = 0; i < 50000; i++) {
+          final long key = random.nextInt(writers * perWriter);
+          final Long value = map.get(key);
+          // a present key always maps to itself
+          Assertions.assertTrue(value == null || value == key);
+        }
+      }));
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      threads.shutdown();
+    }
+    Assertions.assertEquals(writers * perWriter / 2, map.size());
+    final long[] next = {0};
+    map.forEach((key, value) -> {
+      Assertions.assertEquals(next[0], key);
+      next[0] += 2;
+    });
+    Assertions.assertEquals(writers * perWriter, next[0]);
+  }
+
+  @Test
+  public void invalidArguments_test() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new StripedSortedLongMap<>(7));
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025 Roman Vidayko
+ * www.linkedin.com/in/roman-vidayko
+ */
+
+package com.vidayko.utils.core;
+
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+class WeightedSamplerTest {
+
+  private static final double[] WEIGHTS = {1, 0, 3, 6, 0, 0.5, 1.5, 0};
+
+  @Test
+  public void cumulative_test() {
+    final WeightedSampler.Cumulative sampler = WeightedSampler.cumulative(WEIGHTS);
+    Assertions.assertEquals(8, sampler.size());
+    Assertions.assertEquals(12.0, sampler.totalWeight());
+    Assertions.assertEquals(0.25, sampler.probability(2));
+    Assertions.assertEquals(0.0, sampler.probability(7));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sampler.probability(8));
+    checkFrequencies(sampler);
+
+    final int[] draws = new int[100_000];
+    sampler.sampleSorted(new Random(47), draws);
+    final double[] counts = new double[WEIGHTS.length];
+    for (int i = 0; i < draws.length; i++) {
+      Assertions.assertTrue(i == 0 || draws[i - 1] <= draws[i]);
+      counts[draws[i]]++;
+    }
+    for (int i = 0; i < WEIGHTS.length; i++) {
+      Assertions.assertEquals(WEIGHTS[i] / 12, counts[i] / draws.length, 0.005);
+    }
+
+    final WeightedSampler.Cumulative prefix = WeightedSampler.ofCumulativeWeights(
+        new double[]{0, 2, 2, 4});
+    final int[] sorted = new int[1000];
+    prefix.sampleSorted(new Random(47), sorted);
+    for (int index : sorted) {
+      Assertions.assertTrue(index == 1 || index == 3);
+    }
+  }
+
+  @Test
+  public void alias_test() {
+    final WeightedSampler.Alias sampler = WeightedSampler.alias(WEIGHTS);
+    Assertions.assertEquals(8, sampler.size());
+    checkFrequencies(sampler);
+    Assertions.assertEquals(0, WeightedSampler.alias(new double[]{5}).sample(new Random(47)));
+
+    final Random random = new Random(47);
+    final double[] weights = new double[1000];
+    for (int i = 0; i < weights.length; i++) {
+      weights[i] = random.nextInt(4) == 0 ? 0 : random.nextDouble();
+    }
+    final WeightedSampler alias = WeightedSampler.alias(weights);
+    final WeightedSampler.Cumulative cumulative = WeightedSampler.cumulative(weights);
+    final double[] aliasCounts = new double[weights.length];
+    final double[] cumulativeCounts = new double[weights.length];
+    for (int i = 0; i < 1_000_000; i++) {
+      aliasCounts[alias.sample(random)]++;
+      cumulativeCounts[cumulative.sample(random)]++;
+    }
+    for (int i = 0; i < weights.length; i++) {
+      Assertions.assertEquals(cumulative.probability(i), aliasCounts[i] / 1_000_000, 0.0007);
+      Assertions.assertEquals(cumulative.probability(i), cumulativeCounts[i] / 1_000_000, 0.0007);
+      if (weights[i] == 0) {
+        Assertions.assertEquals(0, aliasCounts[i]);
+        Assertions.assertEquals(0, cumulativeCounts[i]);
+      }
+    }
+  }
+
+  @Test
+  public void invalid_test() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> WeightedSampler.cumulative(new double[0]));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> WeightedSampler.alias(new double[]{0, 0}));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> WeightedSampler.alias(new double[]{1, -1}));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> WeightedSampler.cumulative(new double[]{1, Double.NaN}));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> WeightedSampler.alias(new double[]{Double.MAX_VALUE, Double.MAX_VALUE}));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> WeightedSampler.ofCumulativeWeights(new double[]{1, 3, 2}));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> WeightedSampler.ofCumulativeWeights(new double[]{-1, 3}));
+  }
+
+  private static void checkFrequencies(WeightedSampler sampler) {
+    final int[] draws = new int[200_000];
+    sampler.sample(new Random(47), draws);
+    final double[] counts = new double[WEIGHTS.length];
+    for (int draw : draws) {
+      counts[draw]++;
+    }
+    for (int i = 0; i < WEIGHTS.length; i++) {
+      Assertions.assertEquals(WEIGHTS[i] / 12, counts[i] / draws.length, 0.005);
+      if (WEIGHTS[i] == 0) {
+        Assertions.assertEquals(0, counts[i]);
+      }
+    }
+  }
+}